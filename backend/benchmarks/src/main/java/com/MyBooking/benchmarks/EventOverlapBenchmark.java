@@ -0,0 +1,86 @@
+package com.MyBooking.benchmarks;
+
+import com.MyBooking.event.service.EventService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventService.isTimeOverlapping, alone and in the per-installation scan that
+ * checkInstallationAvailability runs over every event of the installation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventOverlapBenchmark {
+
+    // Static final so the JIT can inline through the handle
+    private static final MethodHandle IS_TIME_OVERLAPPING;
+
+    static {
+        try {
+            IS_TIME_OVERLAPPING = MethodHandles.privateLookupIn(EventService.class, MethodHandles.lookup())
+                .findVirtual(EventService.class, "isTimeOverlapping", MethodType.methodType(boolean.class,
+                    LocalDateTime.class, LocalDateTime.class, LocalDateTime.class, LocalDateTime.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final EventService eventService = new EventService();
+    private final LocalDateTime eventStart = LocalDateTime.of(2024, 1, 1, 8, 0);
+    private final LocalDateTime eventEnd = eventStart.plusHours(2);
+    private final LocalDateTime probeStart = eventEnd.plusMinutes(30);
+    private final LocalDateTime probeEnd = probeStart.plusMinutes(30);
+
+    @State(Scope.Benchmark)
+    public static class Installation {
+        @Param({"1000", "100000"})
+        private int eventsPerInstallation;
+
+        private LocalDateTime[] starts;
+        private LocalDateTime[] ends;
+        private LocalDateTime probeStart;
+        private LocalDateTime probeEnd;
+
+        // Two-hour events every three hours; the probe falls after the last one (no conflict, full scan)
+        @Setup(Level.Trial)
+        public void setUp() {
+            LocalDateTime base = LocalDateTime.of(2024, 1, 1, 8, 0);
+            starts = new LocalDateTime[eventsPerInstallation];
+            ends = new LocalDateTime[eventsPerInstallation];
+            for (int i = 0; i < eventsPerInstallation; i++) {
+                starts[i] = base.plusHours(3L * i);
+                ends[i] = starts[i].plusHours(2);
+            }
+            probeStart = ends[eventsPerInstallation - 1].plusMinutes(30);
+            probeEnd = probeStart.plusMinutes(30);
+        }
+    }
+
+    @Benchmark
+    public boolean singleOverlapCheck() throws Throwable {
+        return (boolean) IS_TIME_OVERLAPPING.invokeExact(eventService, probeStart, probeEnd, eventStart, eventEnd);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean installationScan(Installation installation) throws Throwable {
+        LocalDateTime[] starts = installation.starts;
+        LocalDateTime[] ends = installation.ends;
+        for (int i = 0; i < starts.length; i++) {
+            if ((boolean) IS_TIME_OVERLAPPING.invokeExact(eventService, installation.probeStart, installation.probeEnd,
+                    starts[i], ends[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package com.MyBooking.benchmarks;
+
+import com.MyBooking.common.security.JwtService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService on the request path: every authenticated call validates the token and
+ * then parses it again for the username and role.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        jwtService = new JwtService();
+        setField(jwtService, "secretKey", "benchmark-secret-key-that-is-at-least-32-bytes");
+        setField(jwtService, "jwtExpiration", 86_400_000L);
+        validToken = jwtService.generateToken("client42@bench.local", "CLIENT");
+        // Flip one signature character (not the last one, whose low bits are padding)
+        int at = validToken.length() - 5;
+        char flipped = validToken.charAt(at) == 'A' ? 'B' : 'A';
+        tamperedToken = validToken.substring(0, at) + flipped + validToken.substring(at + 1);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtService.validateToken(tamperedToken);
+    }
+
+    /**
+     * What the authentication filter does per request today
+     */
+    @Benchmark
+    public String validateAndExtractClaims() {
+        if (!jwtService.validateToken(validToken)) {
+            return null;
+        }
+        return jwtService.extractUsername(validToken) + jwtService.extractRole(validToken);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("client42@bench.local", "CLIENT");
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
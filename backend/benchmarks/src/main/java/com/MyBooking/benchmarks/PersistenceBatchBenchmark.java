@@ -0,0 +1,160 @@
+package com.MyBooking.benchmarks;
+
+import com.MyBooking.auth.domain.Role;
+import com.MyBooking.auth.domain.User;
+import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.benchmarks.support.BenchmarkApplication;
+import com.MyBooking.event.domain.Event;
+import com.MyBooking.event.domain.EventBooking;
+import com.MyBooking.event.domain.EventBookingStatus;
+import com.MyBooking.event.domain.EventNotification;
+import com.MyBooking.event.domain.EventNotificationType;
+import com.MyBooking.event.domain.EventType;
+import com.MyBooking.event.repository.EventBookingRepository;
+import com.MyBooking.event.repository.EventNotificationRepository;
+import com.MyBooking.event.repository.EventRepository;
+import com.MyBooking.installation.domain.Installation;
+import com.MyBooking.installation.domain.InstallationType;
+import com.MyBooking.installation.repository.InstallationRepository;
+import com.MyBooking.reservation.domain.Reservation;
+import com.MyBooking.reservation.domain.ReservationStatus;
+import com.MyBooking.reservation.repository.ReservationRepository;
+import com.MyBooking.room.domain.Room;
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomType;
+import com.MyBooking.room.repository.RoomRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk inserts through JPA against a local Postgres: a group booking (one reservation per room, saved in
+ * one transaction) and an event notification run (one EventNotification per attendee). tuning=default
+ * boots with the stock persistence settings, tuning=perf adds the perf profile (JDBC batching,
+ * reWriteBatchedInserts, statement cache). Tables are created from the entities in a scratch schema
+ * ({@value #SCHEMA}, dropped on close), so the numbers do not depend on local data; rows written
+ * during an iteration are deleted after it.
+ * <p>
+ * java -jar target/benchmarks.jar PersistenceBatch -jvmArgsAppend "-Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/mybooking"
+ * (-Dbenchmark.postgres.username / .password, default mybooking / mybooking)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PersistenceBatchBenchmark {
+
+    private static final String SCHEMA = "batch_benchmark";
+
+    @Param({"default", "perf"})
+    private String tuning;
+
+    @Param({"20", "200"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private ReservationRepository reservationRepository;
+    private EventNotificationRepository eventNotificationRepository;
+
+    private User client;
+    private List<Room> rooms;
+    private EventBooking eventBooking;
+    private LocalDate nextCheckIn;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.postgres.url", "jdbc:postgresql://localhost:5432/mybooking");
+        String username = System.getProperty("benchmark.postgres.username", "mybooking");
+        String password = System.getProperty("benchmark.postgres.password", "mybooking");
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        }
+        String[] profiles = "perf".equals(tuning) ? new String[] { "perf" } : new String[0];
+        context = BenchmarkApplication.start(profiles,
+            "--spring.datasource.url=" + url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA,
+            "--spring.datasource.driver-class-name=org.postgresql.Driver",
+            "--spring.datasource.username=" + username,
+            "--spring.datasource.password=" + password);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        reservationRepository = context.getBean(ReservationRepository.class);
+        eventNotificationRepository = context.getBean(EventNotificationRepository.class);
+        transactionTemplate.executeWithoutResult(status -> seed());
+        nextCheckIn = LocalDate.now().plusYears(1);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM event_notification");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int groupBooking() {
+        LocalDate checkIn = nextCheckIn;
+        nextCheckIn = nextCheckIn.plusDays(3);
+        return transactionTemplate.execute(status -> {
+            List<Reservation> reservations = new ArrayList<>(rows);
+            for (Room room : rooms) {
+                reservations.add(new Reservation(checkIn, checkIn.plusDays(2), 2, new BigDecimal("200.00"), "USD",
+                    ReservationStatus.CONFIRMED, client, room));
+            }
+            return reservationRepository.saveAll(reservations).size();
+        });
+    }
+
+    @Benchmark
+    public int eventNotifications() {
+        return transactionTemplate.execute(status -> {
+            List<EventNotification> notifications = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                notifications.add(new EventNotification(eventBooking, client, "Reminder " + i + ": your session starts soon",
+                    EventNotificationType.BOOKING_CONFIRMATION));
+            }
+            return eventNotificationRepository.saveAll(notifications).size();
+        });
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void seed() {
+        client = context.getBean(UserRepository.class).save(new User("Batch", "Client", "batch@bench.local",
+            "not-a-login", "+10000000000", "1 Benchmark Street", LocalDate.of(1990, 1, 1), Role.CLIENT));
+        RoomRepository roomRepository = context.getBean(RoomRepository.class);
+        rooms = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            rooms.add(roomRepository.save(new Room("B" + i, RoomType.DOUBLE, 2, new BigDecimal("100.00"), "USD",
+                RoomStatus.AVAILABLE)));
+        }
+        Installation installation = context.getBean(InstallationRepository.class).save(new Installation("Hall",
+            InstallationType.CONFERENCE_ROOM, 100, new BigDecimal("50.00"), "USD"));
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        Event event = context.getBean(EventRepository.class).save(new Event("Batch benchmark", EventType.CONFERENCE,
+            start, start.plusHours(2), 100, new BigDecimal("10.00"), "USD", installation));
+        eventBooking = context.getBean(EventBookingRepository.class).save(new EventBooking(event, client, start, 2,
+            LocalDateTime.now(), 1, new BigDecimal("10.00"), EventBookingStatus.CONFIRMED));
+    }
+}
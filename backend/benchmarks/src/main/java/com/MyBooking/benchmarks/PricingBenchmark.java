@@ -0,0 +1,70 @@
+package com.MyBooking.benchmarks;
+
+import com.MyBooking.benchmarks.support.BenchmarkDataset;
+import com.MyBooking.reservation.service.ReservationService;
+import com.MyBooking.room.domain.Room;
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationService.calculateTotalPrice: a single quote, and quoting every stay of
+ * a generated dataset (as a repricing or statistics pass would).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingBenchmark {
+
+    private final ReservationService reservationService = new ReservationService();
+    private final Room room = room(0);
+    private final LocalDate checkIn = BenchmarkDataset.EPOCH;
+    private final LocalDate checkOut = checkIn.plusDays(7);
+
+    @State(Scope.Benchmark)
+    public static class Dataset {
+        @Param({"1000", "100000", "1000000"})
+        private int reservations;
+
+        private Room[] rooms;
+        private List<BenchmarkDataset.Stay> stays;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            BenchmarkDataset dataset = BenchmarkDataset.ofReservations(reservations);
+            stays = dataset.getStays();
+            rooms = new Room[dataset.getRoomCount()];
+            for (int i = 0; i < rooms.length; i++) {
+                rooms[i] = room(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public BigDecimal quoteSingleStay() {
+        return reservationService.calculateTotalPrice(room, checkIn, checkOut, 4);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void quoteDataset(Dataset dataset, Blackhole blackhole) {
+        for (BenchmarkDataset.Stay stay : dataset.stays) {
+            blackhole.consume(reservationService.calculateTotalPrice(dataset.rooms[stay.getRoomIndex()],
+                stay.getCheckIn(), stay.getCheckOut(), stay.getGuests()));
+        }
+    }
+
+    private static Room room(int index) {
+        return new Room("R" + index, RoomType.values()[index % RoomType.values().length], 4,
+            BigDecimal.valueOf(80 + (index % 5) * 20), "USD", RoomStatus.AVAILABLE);
+    }
+}
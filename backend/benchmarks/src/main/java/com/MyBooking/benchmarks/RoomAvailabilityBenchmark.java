@@ -0,0 +1,66 @@
+package com.MyBooking.benchmarks;
+
+import com.MyBooking.benchmarks.support.BenchmarkApplication;
+import com.MyBooking.benchmarks.support.BenchmarkDataset;
+import com.MyBooking.reservation.service.ReservationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Room availability against embedded H2 with the full Spring context.
+ * ReservationService.isRoomAvailable runs the same conflict query as the private
+ * checkRoomAvailability used during booking, inside its read-only transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RoomAvailabilityBenchmark {
+
+    private static final int REQUEST_COUNT = 4096;
+
+    @Param({"1000", "100000", "1000000"})
+    private int reservations;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private BenchmarkDataset dataset;
+    private List<BenchmarkDataset.Stay> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        dataset = BenchmarkDataset.ofReservations(reservations);
+        dataset.load(context.getBean(JdbcTemplate.class));
+        reservationService = context.getBean(ReservationService.class);
+        requests = dataset.sampleRequests(REQUEST_COUNT, 7L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        BenchmarkDataset.Stay advance(List<BenchmarkDataset.Stay> requests) {
+            next = (next + 1) % requests.size();
+            return requests.get(next);
+        }
+    }
+
+    @Benchmark
+    public boolean isRoomAvailable(Cursor cursor) {
+        BenchmarkDataset.Stay request = cursor.advance(requests);
+        return reservationService.isRoomAvailable(dataset.roomId(request.getRoomIndex()),
+            request.getCheckIn(), request.getCheckOut());
+    }
+}
@@ -0,0 +1,105 @@
+package com.MyBooking.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms (microseconds) plus outcome counters.
+ * 2xx = ok, 4xx = rejected (business rule, conflict), 5xx or I/O failure = error.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    public void record(String operation, long latencyNanos, int status) {
+        OperationStats stats = operations.computeIfAbsent(operation, name -> new OperationStats());
+        stats.recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, latencyNanos / 1_000)));
+        if (status >= 200 && status < 300) {
+            stats.ok.increment();
+        } else if (status >= 400 && status < 500) {
+            stats.rejected.increment();
+        } else {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Drop everything recorded so far (end of warm-up)
+     */
+    public void reset() {
+        operations.values().forEach(OperationStats::reset);
+    }
+
+    /**
+     * Print a summary table and write one .hgrm percentile file per operation (plus "all")
+     */
+    public void report(double elapsedSeconds, Path outputDirectory, PrintStream out) throws IOException {
+        Files.createDirectories(outputDirectory);
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalOk = 0, totalRejected = 0, totalErrors = 0;
+
+        out.printf("%-28s %9s %8s %8s %9s %9s %9s %9s %9s %9s%n", "Operation", "Requests", "Rejected", "Errors",
+            "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, OperationStats> entry : new TreeMap<>(operations).entrySet()) {
+            OperationStats stats = entry.getValue();
+            Histogram histogram = stats.recorder.getIntervalHistogram();
+            total.add(histogram);
+            totalOk += stats.ok.sum();
+            totalRejected += stats.rejected.sum();
+            totalErrors += stats.errors.sum();
+            printRow(out, entry.getKey(), histogram, stats.rejected.sum(), stats.errors.sum(), elapsedSeconds);
+            writeHgrm(outputDirectory.resolve(entry.getKey() + ".hgrm"), histogram);
+        }
+        printRow(out, "all", total, totalRejected, totalErrors, elapsedSeconds);
+        writeHgrm(outputDirectory.resolve("all.hgrm"), total);
+        out.println((totalOk + totalRejected + totalErrors) + " requests; histograms written to "
+            + outputDirectory.toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long rejected, long errors,
+                                 double elapsedSeconds) {
+        out.printf("%-28s %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(),
+            rejected, errors, histogram.getTotalCount() / elapsedSeconds,
+            millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+            millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()));
+    }
+
+    private static void writeHgrm(Path file, Histogram histogram) throws IOException {
+        try (PrintStream stream = new PrintStream(new FileOutputStream(file.toFile()))) {
+            // Scale to milliseconds, like HdrHistogram's plotter expects
+            histogram.outputPercentileDistribution(stream, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class OperationStats {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private void reset() {
+            recorder.reset();
+            ok.reset();
+            rejected.reset();
+            errors.reset();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.MyBooking.benchmarks.load;
+
+import com.MyBooking.benchmarks.support.BenchmarkDataset;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP client for the load driver, holding the JWTs of one admin and a pool of client sessions
+ */
+public class LoadClient {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String adminToken;
+    private final List<String> clientTokens = new ArrayList<>();
+
+    public LoadClient(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    /**
+     * Log in the admin and up to {@code sessions} seeded clients through /api/auth/login
+     */
+    public void login(int sessions, int clientCount) throws IOException, InterruptedException {
+        adminToken = login(SeedDataGenerator.ADMIN_EMAIL);
+        int count = Math.max(1, Math.min(sessions, clientCount));
+        int step = Math.max(1, clientCount / count);
+        for (int i = 0; i < count; i++) {
+            clientTokens.add(login(BenchmarkDataset.clientEmail(i * step)));
+        }
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", SeedDataGenerator.PASSWORD));
+        HttpResponse<String> response = httpClient.send(postJson("/api/auth/login", null, body).build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + email + ": HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    // ========== REQUESTS ==========
+
+    public HttpRequest.Builder get(String pathAndQuery, String token) {
+        return request(pathAndQuery, token).GET();
+    }
+
+    public HttpRequest.Builder postJson(String path, String token, String json) {
+        return request(path, token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+            .timeout(requestTimeout)
+            .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * Blocking send; returns the HTTP status, or 0 when the request failed
+     */
+    public int send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    public CompletableFuture<Integer> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .thenApply(HttpResponse::statusCode)
+            .exceptionally(failure -> 0);
+    }
+
+    public String adminToken() {
+        return adminToken;
+    }
+
+    public String clientToken(Random random) {
+        return clientTokens.get(random.nextInt(clientTokens.size()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.MyBooking.benchmarks.load;
+
+import com.MyBooking.benchmarks.support.BenchmarkDataset;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link TrafficMix} against the API in one of two models:
+ * <ul>
+ *   <li>closed: a fixed number of users, each sending the next request after the previous
+ *   response plus an exponential think time</li>
+ *   <li>open: requests are started on a fixed schedule regardless of how fast responses come back;
+ *   latency is measured from the intended start time so queueing behind a stalled server is not
+ *   hidden (coordinated omission)</li>
+ * </ul>
+ */
+public class LoadDriver {
+
+    private final LoadClient client;
+    private final BenchmarkDataset dataset;
+    private final TrafficMix mix;
+    private final LatencyRecorder recorder;
+    private final long seed;
+
+    public LoadDriver(LoadClient client, BenchmarkDataset dataset, TrafficMix mix, LatencyRecorder recorder, long seed) {
+        this.client = client;
+        this.dataset = dataset;
+        this.mix = mix;
+        this.recorder = recorder;
+        this.seed = seed;
+    }
+
+    // ========== CLOSED MODEL ==========
+
+    /**
+     * @return measured seconds (excluding warm-up)
+     */
+    public double runClosed(int users, Duration thinkTime, Duration warmup, Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + warmup.toNanos() + duration.toNanos();
+        double meanThinkNanos = thinkTime.toNanos();
+
+        List<Thread> threads = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            Random random = new Random(seed + i);
+            Thread thread = new Thread(() -> {
+                while (System.nanoTime() < end) {
+                    TrafficMix.Operation operation = mix.pick(random);
+                    HttpRequest request = operation.request(client, dataset, random);
+                    long sent = System.nanoTime();
+                    int status = client.send(request);
+                    recorder.record(operation.getName(), System.nanoTime() - sent, status);
+                    if (meanThinkNanos > 0) {
+                        LockSupport.parkNanos((long) (-Math.log(1 - random.nextDouble()) * meanThinkNanos));
+                    }
+                }
+            }, "load-user-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        long measuredFrom = awaitWarmup(start, warmup);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (System.nanoTime() - measuredFrom) / 1e9;
+    }
+
+    // ========== OPEN MODEL ==========
+
+    /**
+     * @return measured seconds (excluding warm-up)
+     */
+    public double runOpen(int ratePerSecond, int maxInFlight, Duration warmup, Duration duration) throws InterruptedException {
+        Random random = new Random(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        long start = System.nanoTime();
+        long warmupEnd = start + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        boolean warm = warmup.isZero();
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!warm && intended >= warmupEnd) {
+                recorder.reset();
+                warm = true;
+            }
+            TrafficMix.Operation operation = mix.pick(random);
+            long scheduledAt = intended;
+            if (!inFlight.tryAcquire()) {
+                // Client side saturated: count as an error rather than silently slowing the schedule
+                recorder.record(operation.getName(), System.nanoTime() - scheduledAt, 0);
+                continue;
+            }
+            client.sendAsync(operation.request(client, dataset, random)).whenComplete((status, failure) -> {
+                inFlight.release();
+                recorder.record(operation.getName(), System.nanoTime() - scheduledAt, status == null ? 0 : status);
+            });
+        }
+
+        // Let outstanding requests finish so their (possibly long) latencies are counted
+        inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS);
+        return (System.nanoTime() - Math.max(start, warmupEnd)) / 1e9;
+    }
+
+    private long awaitWarmup(long start, Duration warmup) throws InterruptedException {
+        if (!warmup.isZero()) {
+            TimeUnit.NANOSECONDS.sleep(start + warmup.toNanos() - System.nanoTime());
+            recorder.reset();
+        }
+        return System.nanoTime();
+    }
+}
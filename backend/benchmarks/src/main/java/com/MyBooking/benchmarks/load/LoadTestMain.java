@@ -0,0 +1,125 @@
+package com.MyBooking.benchmarks.load;
+
+import com.MyBooking.benchmarks.support.BenchmarkApplication;
+import com.MyBooking.benchmarks.support.BenchmarkDataset;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load-test entry point:
+ * <pre>
+ * java -cp benchmarks.jar com.MyBooking.benchmarks.load.LoadTestMain --mix=search-heavy --model=open --rate=300
+ * </pre>
+ * Without --target the backend is started in-process on a random port against H2 and seeded there;
+ * any --spring.* argument is handed to that embedded app (e.g. to point it at a local Postgres).
+ * With --target the API at that URL is used and seeded through --jdbc-url when given.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.")) {
+                springArgs.add(arg);
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+        }
+
+        TrafficMix mix = TrafficMix.parse(options.getOrDefault("mix", "search-heavy"));
+        String model = options.getOrDefault("model", "closed").toLowerCase(Locale.ROOT);
+        SeedDataGenerator.Scale scale = SeedDataGenerator.Scale.parse(options.getOrDefault("scale", "small"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Duration warmup = duration(options.getOrDefault("warmup", "15s"));
+        Duration duration = duration(options.getOrDefault("duration", "60s"));
+        Path outputDirectory = Paths.get(options.getOrDefault("out", "results/load/"
+            + mix.name().toLowerCase(Locale.ROOT).replace('_', '-') + "-" + model + "-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+
+        ConfigurableApplicationContext context = null;
+        try {
+            String target = options.get("target");
+            JdbcTemplate jdbcTemplate;
+            if (target == null) {
+                context = BenchmarkApplication.startWeb(springArgs.toArray(new String[0]));
+                target = "http://localhost:" + BenchmarkApplication.port(context);
+                jdbcTemplate = context.getBean(JdbcTemplate.class);
+            } else if (options.containsKey("jdbc-url")) {
+                jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(options.get("jdbc-url"),
+                    options.getOrDefault("jdbc-user", "postgres"), options.getOrDefault("jdbc-password", "")));
+            } else {
+                jdbcTemplate = null;
+            }
+
+            BenchmarkDataset dataset;
+            if (jdbcTemplate != null) {
+                SeedDataGenerator.SeedData seedData = new SeedDataGenerator(scale, seed).generate(jdbcTemplate);
+                System.out.println("Seeded " + seedData);
+                dataset = seedData.getDataset();
+            } else {
+                // Target already seeded by an earlier run with the same scale and seed
+                dataset = BenchmarkDataset.ofReservations(scale.getReservations(), seed);
+            }
+
+            LoadClient client = new LoadClient(target, duration(options.getOrDefault("timeout", "30s")));
+            client.login(Integer.parseInt(options.getOrDefault("sessions", "20")), dataset.getClientCount());
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            LoadDriver driver = new LoadDriver(client, dataset, mix, recorder, seed);
+            double elapsed;
+            if ("open".equals(model)) {
+                int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+                System.out.printf("Open model: %s at %d req/s against %s%n", mix, rate, target);
+                elapsed = driver.runOpen(rate, Integer.parseInt(options.getOrDefault("max-in-flight", "1000")),
+                    warmup, duration);
+            } else if ("closed".equals(model)) {
+                int users = Integer.parseInt(options.getOrDefault("users", "50"));
+                System.out.printf("Closed model: %s with %d users against %s%n", mix, users, target);
+                elapsed = driver.runClosed(users, duration(options.getOrDefault("think-time", "100ms")), warmup, duration);
+            } else {
+                throw new IllegalArgumentException("Unknown model " + model + " (expected closed or open)");
+            }
+
+            recorder.report(elapsed, outputDirectory, System.out);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Parse 500ms, 30s, 2m
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(text));
+    }
+}
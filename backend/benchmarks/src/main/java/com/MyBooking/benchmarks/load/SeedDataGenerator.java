@@ -0,0 +1,208 @@
+package com.MyBooking.benchmarks.load;
+
+import com.MyBooking.benchmarks.support.BenchmarkDataset;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Seeded generator for the load tests: clients, rooms and reservations (via
+ * {@link BenchmarkDataset}), an admin, installations with events around today,
+ * feedback on past stays and loyalty accounts with their earn history.
+ * Expects an empty schema (H2 create-drop, or a freshly migrated Postgres).
+ */
+public final class SeedDataGenerator {
+
+    public static final String PASSWORD = "Bench123@";
+    public static final String ADMIN_EMAIL = "admin@bench.local";
+
+    private static final int BATCH_SIZE = 5000;
+    private static final String[] INSTALLATION_TYPES = { "SPA_ROOM", "CONFERENCE_ROOM", "GYM", "POOL", "TENNIS_COURT", "WEDDING_ROOM" };
+    private static final String[] EVENT_TYPES = { "SPA", "CONFERENCE", "FITNESS", "YOGA_CLASS", "YOGA_CLASS", "WEDDING" };
+    // Skewed towards good ratings, as real reviews are
+    private static final int[] RATINGS = { 1, 2, 2, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 5, 5, 5, 5 };
+
+    public enum Scale {
+        SMALL(10_000, 6, 50),
+        MEDIUM(100_000, 12, 200),
+        LARGE(1_000_000, 24, 500);
+
+        private final int reservations;
+        private final int installations;
+        private final int eventsPerInstallation;
+
+        Scale(int reservations, int installations, int eventsPerInstallation) {
+            this.reservations = reservations;
+            this.installations = installations;
+            this.eventsPerInstallation = eventsPerInstallation;
+        }
+
+        public static Scale parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+
+        public int getReservations() { return reservations; }
+        public int getInstallations() { return installations; }
+        public int getEventsPerInstallation() { return eventsPerInstallation; }
+    }
+
+    private final Scale scale;
+    private final long seed;
+
+    public SeedDataGenerator(Scale scale, long seed) {
+        this.scale = scale;
+        this.seed = seed;
+    }
+
+    public SeedData generate(JdbcTemplate jdbcTemplate) {
+        long started = System.nanoTime();
+        Random random = new Random(seed);
+        String passwordHash = new BCryptPasswordEncoder(10).encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update("INSERT INTO app_user (first_name, last_name, email, password, phone, address, birth_date, " +
+            "role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", "Bench", "Admin", ADMIN_EMAIL,
+            passwordHash, "+10000000000", "1 Benchmark Street", Date.valueOf(LocalDate.of(1980, 1, 1)), "ADMIN", now, now);
+
+        BenchmarkDataset dataset = BenchmarkDataset.ofReservations(scale.reservations, seed);
+        dataset.load(jdbcTemplate, passwordHash);
+
+        int events = seedEvents(jdbcTemplate, random, now);
+        int feedback = seedFeedback(jdbcTemplate, random, dataset.getReservationCount() / 5);
+        int loyaltyAccounts = seedLoyalty(jdbcTemplate, random, dataset, now);
+
+        return new SeedData(dataset, events, feedback, loyaltyAccounts, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // ========== EVENTS ==========
+
+    /**
+     * Installations with events spread from 30 days ago to 90 days ahead
+     */
+    private int seedEvents(JdbcTemplate jdbcTemplate, Random random, Timestamp now) {
+        List<Object[]> installations = new ArrayList<>(scale.installations);
+        for (int i = 0; i < scale.installations; i++) {
+            installations.add(new Object[] { "Installation " + i, INSTALLATION_TYPES[i % INSTALLATION_TYPES.length],
+                20 + random.nextInt(180), BigDecimal.valueOf(50 + random.nextInt(200)), "USD", now, now });
+        }
+        batchInsert(jdbcTemplate, "INSERT INTO installation (name, installation_type, capacity, hourly_rate, currency, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", installations);
+        List<Long> installationIds = jdbcTemplate.queryForList(
+            "SELECT id FROM installation WHERE name LIKE 'Installation %' ORDER BY id", Long.class);
+
+        LocalDateTime windowStart = LocalDate.now().minusDays(30).atTime(8, 0);
+        List<Object[]> events = new ArrayList<>();
+        for (int i = 0; i < installationIds.size(); i++) {
+            // Non-overlapping slots per installation: 120 days x 4 slots of 3 hours
+            int slots = Math.min(scale.eventsPerInstallation, 480);
+            int stride = 480 / slots;
+            for (int e = 0; e < slots; e++) {
+                int slot = e * stride;
+                LocalDateTime startAt = windowStart.plusDays(slot / 4).plusHours(3L * (slot % 4));
+                events.add(new Object[] { "Event " + i + "-" + e, EVENT_TYPES[i % EVENT_TYPES.length],
+                    Timestamp.valueOf(startAt), Timestamp.valueOf(startAt.plusHours(2)), 10 + random.nextInt(40),
+                    BigDecimal.valueOf(10 + random.nextInt(90)), "USD", installationIds.get(i), now, now });
+            }
+        }
+        batchInsert(jdbcTemplate, "INSERT INTO event (name, event_type, start_at, end_at, capacity, price, currency, " +
+            "installation_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", events);
+        return events.size();
+    }
+
+    // ========== FEEDBACK ==========
+
+    private int seedFeedback(JdbcTemplate jdbcTemplate, Random random, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        jdbcTemplate.query("SELECT id, client_id FROM reservation WHERE status = 'CONFIRMED' ORDER BY id", rs -> {
+            if (rows.size() < count && random.nextInt(4) == 0) {
+                int rating = RATINGS[random.nextInt(RATINGS.length)];
+                String comment = random.nextBoolean() ? "Stay rated " + rating + " out of 5" : null;
+                rows.add(new Object[] { rs.getLong(1), rs.getLong(2), rating, comment, Timestamp.valueOf(LocalDateTime.now()) });
+            }
+        });
+        batchInsert(jdbcTemplate, "INSERT INTO feedback (reservation_id, user_id, rating, comment, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    // ========== LOYALTY ==========
+
+    /**
+     * Accounts for half of the clients, each with 1-10 earn transactions
+     */
+    private int seedLoyalty(JdbcTemplate jdbcTemplate, Random random, BenchmarkDataset dataset, Timestamp now) {
+        List<Object[]> accounts = new ArrayList<>();
+        List<int[]> earnings = new ArrayList<>();
+        for (int i = 0; i < dataset.getClientCount(); i += 2) {
+            int[] points = new int[1 + random.nextInt(10)];
+            int balance = 0;
+            for (int t = 0; t < points.length; t++) {
+                points[t] = 50 + random.nextInt(950);
+                balance += points[t];
+            }
+            String tier = balance >= 5000 ? "GOLD" : "SILVER";
+            accounts.add(new Object[] { dataset.clientId(i), balance, tier, now, now });
+            earnings.add(points);
+        }
+        batchInsert(jdbcTemplate, "INSERT INTO loyalty_account (user_id, balance, tier, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?)", accounts);
+
+        List<Long> accountIds = jdbcTemplate.queryForList("SELECT a.id FROM loyalty_account a " +
+            "JOIN app_user u ON u.id = a.user_id WHERE u.email LIKE 'client%@bench.local' ORDER BY a.user_id", Long.class);
+        List<Object[]> transactions = new ArrayList<>();
+        for (int a = 0; a < accountIds.size(); a++) {
+            for (int points : earnings.get(a)) {
+                transactions.add(new Object[] { accountIds.get(a), "EARN", points,
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(700))) });
+            }
+        }
+        batchInsert(jdbcTemplate, "INSERT INTO loyalty_transaction (account_id, type, points, created_at) " +
+            "VALUES (?, ?, ?, ?)", transactions);
+        return accounts.size();
+    }
+
+    private static void batchInsert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    // ========== INNER CLASSES ==========
+
+    public static final class SeedData {
+        private final BenchmarkDataset dataset;
+        private final int events;
+        private final int feedback;
+        private final int loyaltyAccounts;
+        private final long elapsedMs;
+
+        SeedData(BenchmarkDataset dataset, int events, int feedback, int loyaltyAccounts, long elapsedMs) {
+            this.dataset = dataset;
+            this.events = events;
+            this.feedback = feedback;
+            this.loyaltyAccounts = loyaltyAccounts;
+            this.elapsedMs = elapsedMs;
+        }
+
+        public BenchmarkDataset getDataset() { return dataset; }
+        public int getEvents() { return events; }
+        public int getFeedback() { return feedback; }
+        public int getLoyaltyAccounts() { return loyaltyAccounts; }
+
+        @Override
+        public String toString() {
+            return dataset.getClientCount() + " clients, " + dataset.getRoomCount() + " rooms, "
+                + dataset.getReservationCount() + " reservations, " + events + " events, " + feedback
+                + " feedback, " + loyaltyAccounts + " loyalty accounts in " + elapsedMs + " ms";
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.MyBooking.benchmarks.load;
+
+import com.MyBooking.benchmarks.support.BenchmarkDataset;
+
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Weighted request mixes modelled on the Postman collection's flows
+ */
+public enum TrafficMix {
+
+    // Guests browsing rooms and events before booking
+    SEARCH_HEAVY(List.of(
+        new Operation("rooms.list", 30, (client, data, random) ->
+            client.get("/api/rooms?page=" + random.nextInt(5) + "&size=20", client.clientToken(random))),
+        new Operation("rooms.availability", 30, (client, data, random) ->
+            client.get(availabilityPath(data, random), client.clientToken(random))),
+        new Operation("rooms.get", 10, (client, data, random) ->
+            client.get("/api/rooms/" + randomRoomId(data, random), client.clientToken(random))),
+        new Operation("events.upcoming", 15, (client, data, random) ->
+            client.get("/api/events/upcoming?page=0&size=20", client.clientToken(random))),
+        new Operation("events.search", 10, (client, data, random) ->
+            client.get("/api/events/search?eventType=" + randomEventType(random)
+                + "&page=0&size=20", client.clientToken(random))),
+        new Operation("feedback.search", 5, (client, data, random) ->
+            client.get("/api/feedback/search?minRating=4&page=0&size=20", client.clientToken(random))))),
+
+    // Promotion or holiday rush: availability checks immediately followed by bookings
+    BOOKING_BURST(List.of(
+        new Operation("rooms.availability", 35, (client, data, random) ->
+            client.get(availabilityPath(data, random), client.clientToken(random))),
+        new Operation("reservations.create", 35, (client, data, random) -> {
+            LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(365));
+            String body = "{\"roomId\":" + randomRoomId(data, random) + ",\"checkIn\":\"" + checkIn
+                + "\",\"checkOut\":\"" + checkIn.plusDays(1 + random.nextInt(6)) + "\",\"numberOfGuests\":"
+                + (1 + random.nextInt(2)) + ",\"currency\":\"USD\"}";
+            return client.postJson("/api/client/reservations", client.clientToken(random), body);
+        }),
+        new Operation("reservations.mine", 15, (client, data, random) ->
+            client.get("/api/client/reservations/my?page=0&size=10", client.clientToken(random))),
+        new Operation("loyalty.account", 15, (client, data, random) ->
+            client.get("/api/loyalty/account", client.clientToken(random))))),
+
+    // Back office refreshing dashboards and reports
+    ADMIN_DASHBOARD(List.of(
+        new Operation("analytics.dashboard", 25, (client, data, random) ->
+            client.get("/api/admin/analytics/dashboard", client.adminToken())),
+        new Operation("analytics.kpis", 15, (client, data, random) ->
+            client.get("/api/admin/analytics/kpis", client.adminToken())),
+        new Operation("analytics.occupancy", 10, (client, data, random) ->
+            client.get("/api/admin/analytics/occupancy?startDate=" + LocalDate.now().minusDays(30)
+                + "&endDate=" + LocalDate.now(), client.adminToken())),
+        new Operation("reservations.admin-list", 20, (client, data, random) ->
+            client.get("/api/admin/reservations?page=" + random.nextInt(10) + "&size=20", client.adminToken())),
+        new Operation("feedback.statistics", 10, (client, data, random) ->
+            client.get("/api/admin/feedback/statistics", client.adminToken())),
+        new Operation("loyalty.statistics", 10, (client, data, random) ->
+            client.get("/api/admin/loyalty/statistics", client.adminToken())),
+        new Operation("events.statistics", 10, (client, data, random) ->
+            client.get("/api/admin/events/statistics", client.adminToken()))));
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    TrafficMix(List<Operation> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::getWeight).sum();
+    }
+
+    public static TrafficMix parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public Operation pick(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.getWeight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    private static long randomRoomId(BenchmarkDataset data, Random random) {
+        return data.roomId(random.nextInt(data.getRoomCount()));
+    }
+
+    private static String randomEventType(Random random) {
+        String[] types = { "SPA", "CONFERENCE", "YOGA_CLASS", "FITNESS", "WEDDING" };
+        return types[random.nextInt(types.length)];
+    }
+
+    private static String availabilityPath(BenchmarkDataset data, Random random) {
+        LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(180));
+        return "/api/rooms/" + randomRoomId(data, random) + "/availability?checkIn=" + checkIn
+            + "&checkOut=" + checkIn.plusDays(1 + random.nextInt(7));
+    }
+
+    // ========== INNER CLASSES ==========
+
+    @FunctionalInterface
+    public interface RequestFactory {
+        HttpRequest.Builder create(LoadClient client, BenchmarkDataset data, Random random);
+    }
+
+    public static final class Operation {
+        private final String name;
+        private final int weight;
+        private final RequestFactory requestFactory;
+
+        Operation(String name, int weight, RequestFactory requestFactory) {
+            this.name = name;
+            this.weight = weight;
+            this.requestFactory = requestFactory;
+        }
+
+        public HttpRequest request(LoadClient client, BenchmarkDataset data, Random random) {
+            return requestFactory.create(client, data, random).build();
+        }
+
+        public String getName() { return name; }
+        public int getWeight() { return weight; }
+    }
+}
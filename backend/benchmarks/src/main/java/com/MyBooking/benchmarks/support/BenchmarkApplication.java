@@ -0,0 +1,85 @@
+package com.MyBooking.benchmarks.support;
+
+import com.MyBooking.hotel_management.HotelManagementApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the backend against an embedded H2 database (profile "benchmark")
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {}
+
+    public static ConfigurableApplicationContext start() {
+        return withIdDefaults(new SpringApplicationBuilder(HotelManagementApplication.class)
+            .profiles("benchmark")
+            .logStartupInfo(false)
+            .run());
+    }
+
+    /**
+     * Same as {@link #start()} but with the servlet container on a random port, for the load driver.
+     * Extra arguments (e.g. --spring.datasource.url=...) override the benchmark profile.
+     */
+    public static ConfigurableApplicationContext startWeb(String... args) {
+        String[] webArgs = new String[args.length + 2];
+        webArgs[0] = "--spring.main.web-application-type=servlet";
+        webArgs[1] = "--server.port=0";
+        System.arraycopy(args, 0, webArgs, 2, args.length);
+        return withIdDefaults(new SpringApplicationBuilder(HotelManagementApplication.class)
+            .profiles("benchmark")
+            .logStartupInfo(false)
+            .run(webArgs));
+    }
+
+    /**
+     * Same as {@link #start()} with extra profiles applied after "benchmark" (e.g. "perf") and
+     * arguments overriding the benchmark profile (e.g. --spring.datasource.url=...)
+     */
+    public static ConfigurableApplicationContext start(String[] profiles, String... args) {
+        String[] allProfiles = new String[profiles.length + 1];
+        allProfiles[0] = "benchmark";
+        System.arraycopy(profiles, 0, allProfiles, 1, profiles.length);
+        return withIdDefaults(new SpringApplicationBuilder(HotelManagementApplication.class)
+            .profiles(allProfiles)
+            .logStartupInfo(false)
+            .run(args));
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    /**
+     * A schema created by Hibernate has no default on sequence-generated id columns (Flyway's has one),
+     * so raw INSERTs that leave out the id (dataset loading, batch jobs) would fail. Default each such
+     * column to its sequence, as the migrations do.
+     */
+    private static ConfigurableApplicationContext withIdDefaults(ConfigurableApplicationContext context) {
+        if (!context.getEnvironment().getProperty("spring.jpa.hibernate.ddl-auto", "").startsWith("create")) {
+            return context;
+        }
+        SessionFactoryImplementor sessionFactory = context.getBean(EntityManagerFactory.class)
+            .unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && persister.getEntityName().equals(persister.getRootEntityName())
+                    && persister instanceof AbstractEntityPersister entity) {
+                String sequence = generator.getDatabaseStructure().getPhysicalName().render();
+                jdbcTemplate.execute("ALTER TABLE " + entity.getTableName() + " ALTER COLUMN "
+                    + entity.getIdentifierColumnNames()[0] + " SET DEFAULT "
+                    + dialect.getSequenceSupport().getSelectSequenceNextValString(sequence));
+            }
+        });
+        return context;
+    }
+}
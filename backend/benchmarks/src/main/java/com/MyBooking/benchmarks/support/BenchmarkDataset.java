@@ -0,0 +1,197 @@
+package com.MyBooking.benchmarks.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic dataset sized by reservation count (1k / 100k / 1M).
+ * Each room gets about 100 back-to-back stays of 1-7 nights with 0-3 day gaps, so
+ * availability queries see the same per-room density at every scale.
+ */
+public final class BenchmarkDataset {
+
+    public static final LocalDate EPOCH = LocalDate.of(2024, 1, 1);
+
+    private static final int RESERVATIONS_PER_ROOM = 100;
+    private static final int RESERVATIONS_PER_CLIENT = 20;
+    private static final int BATCH_SIZE = 5000;
+    private static final String[] ROOM_TYPES = { "SINGLE", "DOUBLE", "DELUXE", "FAMILY" };
+
+    private final int reservationCount;
+    private final int roomCount;
+    private final int clientCount;
+    private final long seed;
+    private final List<Stay> stays;
+    private long[] roomIds;
+    private long[] clientIds;
+
+    private BenchmarkDataset(int reservationCount, long seed) {
+        this.reservationCount = reservationCount;
+        this.roomCount = Math.max(10, reservationCount / RESERVATIONS_PER_ROOM);
+        this.clientCount = Math.max(10, reservationCount / RESERVATIONS_PER_CLIENT);
+        this.seed = seed;
+        this.stays = generateStays();
+    }
+
+    public static BenchmarkDataset ofReservations(int reservationCount) {
+        return new BenchmarkDataset(reservationCount, 42L);
+    }
+
+    public static BenchmarkDataset ofReservations(int reservationCount, long seed) {
+        return new BenchmarkDataset(reservationCount, seed);
+    }
+
+    public static String clientEmail(int clientIndex) {
+        return "client" + clientIndex + "@bench.local";
+    }
+
+    // ========== GENERATION ==========
+
+    private List<Stay> generateStays() {
+        Random random = new Random(seed);
+        List<Stay> result = new ArrayList<>(reservationCount);
+        LocalDate[] nextFree = new LocalDate[roomCount];
+        for (int i = 0; i < reservationCount; i++) {
+            int room = i % roomCount;
+            LocalDate checkIn = (nextFree[room] != null ? nextFree[room] : EPOCH).plusDays(random.nextInt(4));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(7));
+            nextFree[room] = checkOut;
+            result.add(new Stay(room, random.nextInt(clientCount), checkIn, checkOut,
+                1 + random.nextInt(4), random.nextInt(10) == 0));
+        }
+        return result;
+    }
+
+    /**
+     * Random stay requests inside the booked horizon, for lookups
+     */
+    public List<Stay> sampleRequests(int count, long requestSeed) {
+        Random random = new Random(requestSeed);
+        int horizonDays = Math.max(8, (RESERVATIONS_PER_ROOM * 11) / 2);
+        List<Stay> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate checkIn = EPOCH.plusDays(random.nextInt(horizonDays));
+            requests.add(new Stay(random.nextInt(roomCount), random.nextInt(clientCount), checkIn,
+                checkIn.plusDays(1 + random.nextInt(7)), 1 + random.nextInt(4), false));
+        }
+        return requests;
+    }
+
+    // ========== LOADING ==========
+
+    /**
+     * Insert clients, rooms and reservations with batched JDBC. Clients cannot log in.
+     */
+    public void load(JdbcTemplate jdbcTemplate) {
+        load(jdbcTemplate, "{noop}secret");
+    }
+
+    /**
+     * Same as {@link #load(JdbcTemplate)} with an encoded password shared by all clients
+     */
+    public void load(JdbcTemplate jdbcTemplate, String passwordHash) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> clients = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            clients.add(new Object[] { "Client", "No" + i, clientEmail(i), passwordHash,
+                "+10000000000", "1 Benchmark Street", Date.valueOf(LocalDate.of(1990, 1, 1)), "CLIENT", now, now });
+        }
+        batchInsert(jdbcTemplate, "INSERT INTO app_user (first_name, last_name, email, password, phone, address, " +
+            "birth_date, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", clients);
+        clientIds = jdbcTemplate.queryForList(
+                "SELECT id FROM app_user WHERE role = 'CLIENT' AND email LIKE 'client%@bench.local' ORDER BY id", Long.class)
+            .stream().mapToLong(Long::longValue).toArray();
+
+        List<Object[]> rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(new Object[] { "R" + i, ROOM_TYPES[i % ROOM_TYPES.length], 2 + i % 3,
+                BigDecimal.valueOf(80 + (i % 5) * 20), "USD", "AVAILABLE", now, now });
+        }
+        batchInsert(jdbcTemplate, "INSERT INTO room (number, room_type, capacity, price, currency, status, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rooms);
+        roomIds = jdbcTemplate.queryForList("SELECT id FROM room WHERE number LIKE 'R%' ORDER BY id", Long.class)
+            .stream().mapToLong(Long::longValue).toArray();
+
+        List<Object[]> reservations = new ArrayList<>(BATCH_SIZE);
+        for (Stay stay : stays) {
+            reservations.add(new Object[] { Date.valueOf(stay.checkIn), Date.valueOf(stay.checkOut), stay.guests,
+                BigDecimal.valueOf(100L * stay.nights()), "USD", stay.cancelled ? "CANCELLED" : "CONFIRMED",
+                clientIds[stay.clientIndex], roomIds[stay.roomIndex], now, now, 0, BigDecimal.ZERO });
+            if (reservations.size() == BATCH_SIZE) {
+                insertReservations(jdbcTemplate, reservations);
+                reservations.clear();
+            }
+        }
+        insertReservations(jdbcTemplate, reservations);
+    }
+
+    private void insertReservations(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        batchInsert(jdbcTemplate, "INSERT INTO reservation (check_in, check_out, number_of_guests, total_price, " +
+            "currency, status, client_id, room_id, created_at, updated_at, points_used, points_discount) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private static void batchInsert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    // ========== ACCESSORS ==========
+
+    public int getReservationCount() { return reservationCount; }
+    public int getRoomCount() { return roomCount; }
+    public int getClientCount() { return clientCount; }
+    public List<Stay> getStays() { return stays; }
+
+    /**
+     * Database ID of a generated room; only valid after {@link #load(JdbcTemplate)}
+     */
+    public long roomId(int roomIndex) {
+        return roomIds[roomIndex];
+    }
+
+    public long clientId(int clientIndex) {
+        return clientIds[clientIndex];
+    }
+
+    // ========== INNER CLASSES ==========
+
+    public static final class Stay {
+        private final int roomIndex;
+        private final int clientIndex;
+        private final LocalDate checkIn;
+        private final LocalDate checkOut;
+        private final int guests;
+        private final boolean cancelled;
+
+        Stay(int roomIndex, int clientIndex, LocalDate checkIn, LocalDate checkOut, int guests, boolean cancelled) {
+            this.roomIndex = roomIndex;
+            this.clientIndex = clientIndex;
+            this.checkIn = checkIn;
+            this.checkOut = checkOut;
+            this.guests = guests;
+            this.cancelled = cancelled;
+        }
+
+        public long nights() {
+            return checkOut.toEpochDay() - checkIn.toEpochDay();
+        }
+
+        public int getRoomIndex() { return roomIndex; }
+        public int getClientIndex() { return clientIndex; }
+        public LocalDate getCheckIn() { return checkIn; }
+        public LocalDate getCheckOut() { return checkOut; }
+        public int getGuests() { return guests; }
+        public boolean isCancelled() { return cancelled; }
+    }
+}
@@ -2,6 +2,7 @@ package com.MyBooking.analytics.service;
 
 import com.MyBooking.announcement.service.AnnouncementService;
 import com.MyBooking.auth.service.AuthService;
+import com.MyBooking.common.metrics.ServiceLatencySummary;
 import com.MyBooking.employee.service.EmployeeService;
 import com.MyBooking.event.service.EventService;
 import com.MyBooking.feedback.service.FeedbackService;
@@ -36,11 +37,13 @@ public class AnalyticsService {
     private final EmployeeService employeeService;
     private final AnnouncementService announcementService;
     private final FeedbackService feedbackService;
+    private final ServiceLatencySummary serviceLatencySummary;
 
     @Autowired
     public AnalyticsService(AuthService authService, RoomService roomService, ReservationService reservationService,
                            EventService eventService, InstallationService installationService, LoyaltyService loyaltyService,
-                           EmployeeService employeeService, AnnouncementService announcementService, FeedbackService feedbackService) {
+                           EmployeeService employeeService, AnnouncementService announcementService, FeedbackService feedbackService,
+                           ServiceLatencySummary serviceLatencySummary) {
         this.authService = authService;
         this.roomService = roomService;
         this.reservationService = reservationService;
@@ -50,6 +53,7 @@ public class AnalyticsService {
         this.employeeService = employeeService;
         this.announcementService = announcementService;
         this.feedbackService = feedbackService;
+        this.serviceLatencySummary = serviceLatencySummary;
     }
 
     // ==================== REVENUE ANALYTICS ====================
@@ -508,19 +512,13 @@ public class AnalyticsService {
     }
 
     private double calculateBookingSuccessRate() {
-        // This would integrate with ReservationService to calculate booking success rate
-        // For now, returning a placeholder
-        return 95.5;
+        // Measured by ServiceMetricsAspect since startup
+        return serviceLatencySummary.bookingSuccessRate();
     }
 
     private Map<String, Object> getServiceResponseMetrics() {
-        // This would integrate with various services to get response time metrics
-        // For now, returning placeholder data
-        Map<String, Object> metrics = new HashMap<>();
-        metrics.put("averageResponseTime", 1.2);
-        metrics.put("responseTime95thPercentile", 3.5);
-        metrics.put("serviceAvailability", 99.8);
-        return metrics;
+        // Real service-layer latencies (ms) from the mybooking.service timers
+        return serviceLatencySummary.summarize();
     }
 
     private Map<String, Object> getSystemHealthIndicators() {
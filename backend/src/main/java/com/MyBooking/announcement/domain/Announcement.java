@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
 public class Announcement {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Not pooled: never batch-inserted, and ids from per-node blocks would not follow insert order
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "announcement_id_seq")
+    @SequenceGenerator(name = "announcement_id_seq", sequenceName = "announcement_id_seq", allocationSize = 1)
     private Long id;
     
     @NotBlank(message = "Announcement title is required")
@@ -37,11 +39,19 @@ public class Announcement {
     @Column(name = "priority", nullable = false, length = 16)
     private AnnouncementPriority priority;
     
+    // Mirrors priority so the feed orders by an indexed column
+    @Column(name = "priority_rank", nullable = false)
+    private Integer priorityRank;
+    
     @NotNull(message = "Announcement status is required")
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 16)
     private AnnouncementStatus status;
     
+    // Position in publish order, taken under the publish counter lock (read watermarks compare it, not the id)
+    @Column(name = "publish_seq", updatable = false)
+    private Long publishSeq;
+    
     
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -58,7 +68,7 @@ public class Announcement {
         this.title = title;
         this.content = content;
         this.createdBy = createdBy;
-        this.priority = priority;
+        setPriority(priority);
         this.status = status;
     }
     
@@ -76,7 +86,15 @@ public class Announcement {
     public void setCreatedBy(User createdBy) { this.createdBy = createdBy; }
     
     public AnnouncementPriority getPriority() { return priority; }
-    public void setPriority(AnnouncementPriority priority) { this.priority = priority; }
+    public void setPriority(AnnouncementPriority priority) {
+        this.priority = priority;
+        this.priorityRank = priority != null ? priority.getRank() : null;
+    }
+    
+    public Integer getPriorityRank() { return priorityRank; }
+    
+    public Long getPublishSeq() { return publishSeq; }
+    public void setPublishSeq(Long publishSeq) { this.publishSeq = publishSeq; }
     
     public AnnouncementStatus getStatus() { return status; }
     public void setStatus(AnnouncementStatus status) { this.status = status; }
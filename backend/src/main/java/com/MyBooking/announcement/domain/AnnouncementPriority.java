@@ -1,8 +1,19 @@
 package com.MyBooking.announcement.domain;
 
 public enum AnnouncementPriority {
-    LOW,
-    MEDIUM,
-    HIGH,
-    URGENT
+    LOW(4),
+    MEDIUM(3),
+    HIGH(2),
+    URGENT(1);
+
+    // Feed order (1 first), stored in announcement.priority_rank
+    private final int rank;
+
+    AnnouncementPriority(int rank) {
+        this.rank = rank;
+    }
+
+    public int getRank() {
+        return rank;
+    }
 }
@@ -0,0 +1,38 @@
+package com.MyBooking.announcement.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Single row handing out announcement publish sequences. A publish locks it until commit, so
+ * announcements become visible in sequence order and read watermarks never skip one.
+ */
+@Entity
+@Table(name = "announcement_publish_counter")
+public class AnnouncementPublishCounter {
+    
+    public static final Integer SINGLETON_ID = 1;
+    
+    @Id
+    @Column(name = "id")
+    private Integer id;
+    
+    @NotNull(message = "Last sequence is required")
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq = 0L;
+    
+    // Constructors
+    public AnnouncementPublishCounter() {}
+    
+    public AnnouncementPublishCounter(Integer id, Long lastSeq) {
+        this.id = id;
+        this.lastSeq = lastSeq;
+    }
+    
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+    
+    public Long getLastSeq() { return lastSeq; }
+    public void setLastSeq(Long lastSeq) { this.lastSeq = lastSeq; }
+}
@@ -0,0 +1,53 @@
+package com.MyBooking.announcement.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user inbox watermark: announcements with a higher publish sequence than the last one seen are unread.
+ * The unread count is maintained on publish so the badge never has to count.
+ */
+@Entity
+@Table(name = "announcement_read_marker")
+public class AnnouncementReadMarker {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @NotNull(message = "Last seen publish sequence is required")
+    @Column(name = "last_seen_publish_seq", nullable = false)
+    private Long lastSeenPublishSeq = 0L;
+    
+    @NotNull(message = "Unread count is required")
+    @Column(name = "unread_count", nullable = false)
+    private Integer unreadCount = 0;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public AnnouncementReadMarker() {}
+    
+    public AnnouncementReadMarker(Long userId, Long lastSeenPublishSeq, Integer unreadCount) {
+        this.userId = userId;
+        this.lastSeenPublishSeq = lastSeenPublishSeq;
+        this.unreadCount = unreadCount;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public Long getLastSeenPublishSeq() { return lastSeenPublishSeq; }
+    public void setLastSeenPublishSeq(Long lastSeenPublishSeq) { this.lastSeenPublishSeq = lastSeenPublishSeq; }
+    
+    public Integer getUnreadCount() { return unreadCount; }
+    public void setUnreadCount(Integer unreadCount) { this.unreadCount = unreadCount; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class AnnouncementReply {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "announcement_reply_id_seq")
+    @SequenceGenerator(name = "announcement_reply_id_seq", sequenceName = "announcement_reply_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,55 @@
+package com.MyBooking.announcement.dto;
+
+import com.MyBooking.announcement.domain.AnnouncementPriority;
+import java.time.LocalDateTime;
+
+public class AnnouncementFeedItemDto {
+    private Long id;
+    private String title;
+    private String content;
+    private AnnouncementPriority priority;
+    private Long createdById;
+    private String createdByName;
+    private LocalDateTime createdAt;
+    private boolean unread;
+
+    // Constructors
+    public AnnouncementFeedItemDto() {}
+
+    public AnnouncementFeedItemDto(Long id, String title, String content, AnnouncementPriority priority,
+                                   Long createdById, String createdByName, LocalDateTime createdAt, boolean unread) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.priority = priority;
+        this.createdById = createdById;
+        this.createdByName = createdByName;
+        this.createdAt = createdAt;
+        this.unread = unread;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+
+    public AnnouncementPriority getPriority() { return priority; }
+    public void setPriority(AnnouncementPriority priority) { this.priority = priority; }
+
+    public Long getCreatedById() { return createdById; }
+    public void setCreatedById(Long createdById) { this.createdById = createdById; }
+
+    public String getCreatedByName() { return createdByName; }
+    public void setCreatedByName(String createdByName) { this.createdByName = createdByName; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public boolean isUnread() { return unread; }
+    public void setUnread(boolean unread) { this.unread = unread; }
+}
@@ -0,0 +1,21 @@
+package com.MyBooking.announcement.dto;
+
+public class AnnouncementUnreadDto {
+    private int unreadCount;
+    private Long lastSeenPublishSeq;
+
+    // Constructors
+    public AnnouncementUnreadDto() {}
+
+    public AnnouncementUnreadDto(int unreadCount, Long lastSeenPublishSeq) {
+        this.unreadCount = unreadCount;
+        this.lastSeenPublishSeq = lastSeenPublishSeq;
+    }
+
+    // Getters and Setters
+    public int getUnreadCount() { return unreadCount; }
+    public void setUnreadCount(int unreadCount) { this.unreadCount = unreadCount; }
+
+    public Long getLastSeenPublishSeq() { return lastSeenPublishSeq; }
+    public void setLastSeenPublishSeq(Long lastSeenPublishSeq) { this.lastSeenPublishSeq = lastSeenPublishSeq; }
+}
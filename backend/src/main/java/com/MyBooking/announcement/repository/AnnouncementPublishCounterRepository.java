@@ -0,0 +1,20 @@
+package com.MyBooking.announcement.repository;
+
+import com.MyBooking.announcement.domain.AnnouncementPublishCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AnnouncementPublishCounterRepository extends JpaRepository<AnnouncementPublishCounter, Integer> {
+
+    // Held until the publishing transaction ends: publishes are serialized in sequence order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM AnnouncementPublishCounter c WHERE c.id = :id")
+    Optional<AnnouncementPublishCounter> findByIdForUpdate(@Param("id") Integer id);
+}
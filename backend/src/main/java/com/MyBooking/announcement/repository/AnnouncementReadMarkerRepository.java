@@ -0,0 +1,28 @@
+package com.MyBooking.announcement.repository;
+
+import com.MyBooking.announcement.domain.AnnouncementReadMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnnouncementReadMarkerRepository extends JpaRepository<AnnouncementReadMarker, Long> {
+
+    // ==================== UNREAD COUNTERS ====================
+
+    // A new announcement is unread for everyone but its author (users without a marker count on first poll)
+    @Modifying
+    @Query("UPDATE AnnouncementReadMarker m SET m.unreadCount = m.unreadCount + 1 " +
+           "WHERE m.userId <> :authorId AND m.lastSeenPublishSeq < :publishSeq")
+    int incrementUnread(@Param("authorId") Long authorId, @Param("publishSeq") Long publishSeq);
+
+    // Recount every marker after an announcement was archived, restored or deleted
+    @Modifying
+    @Query(value = "UPDATE announcement_read_marker m SET unread_count = (" +
+                   "SELECT COUNT(*) FROM announcement a WHERE a.status = 'PUBLISHED' " +
+                   "AND a.publish_seq > m.last_seen_publish_seq AND a.created_by_user_id <> m.user_id)",
+           nativeQuery = true)
+    int recountAll();
+}
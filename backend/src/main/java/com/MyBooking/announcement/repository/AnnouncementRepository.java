@@ -12,6 +12,7 @@ import com.MyBooking.announcement.domain.AnnouncementStatus;
 import com.MyBooking.auth.domain.User;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
@@ -78,14 +79,33 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, Long
     
     // Find published announcements ordered by priority and creation date (business logic in repository)
     @Query("SELECT a FROM Announcement a WHERE a.status = 'PUBLISHED' ORDER BY " +
-           "CASE a.priority WHEN 'URGENT' THEN 1 WHEN 'HIGH' THEN 2 WHEN 'MEDIUM' THEN 3 WHEN 'LOW' THEN 4 END, " +
-           "a.createdAt DESC")
+           "a.priorityRank, a.createdAt DESC, a.id DESC")
     List<Announcement> findPublishedAnnouncementsOrderByPriorityAndDate();
     
     @Query("SELECT a FROM Announcement a WHERE a.status = 'PUBLISHED' ORDER BY " +
-           "CASE a.priority WHEN 'URGENT' THEN 1 WHEN 'HIGH' THEN 2 WHEN 'MEDIUM' THEN 3 WHEN 'LOW' THEN 4 END, " +
-           "a.createdAt DESC")
+           "a.priorityRank, a.createdAt DESC, a.id DESC")
     Page<Announcement> findPublishedAnnouncementsOrderByPriorityAndDate(Pageable pageable);
+
+    // Employee feed: same order with the author fetched (idx_announcement_feed); the pageable must be unsorted
+    @Query(value = "SELECT a FROM Announcement a JOIN FETCH a.createdBy WHERE a.status = 'PUBLISHED' " +
+                   "ORDER BY a.priorityRank, a.createdAt DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Announcement a WHERE a.status = 'PUBLISHED'")
+    Page<Announcement> findPublishedFeed(Pageable pageable);
+    
+    // Unread for a user: published after the watermark, not written by the user (idx_announcement_published_seq)
+    @Query("SELECT COUNT(a) FROM Announcement a WHERE a.status = 'PUBLISHED' AND a.publishSeq > :afterSeq AND a.createdBy.id <> :userId")
+    long countUnread(@Param("userId") Long userId, @Param("afterSeq") Long afterSeq);
+    
+    // Highest published sequence, the watermark for "mark all as read"
+    @Query("SELECT MAX(a.publishSeq) FROM Announcement a WHERE a.status = 'PUBLISHED'")
+    Long findLatestPublishSeq();
+    
+    // Highest sequence handed out so far, to seed a missing publish counter
+    @Query("SELECT MAX(a.publishSeq) FROM Announcement a")
+    Long findMaxPublishSeq();
+    
+    @Query("SELECT a.publishSeq FROM Announcement a WHERE a.id = :id")
+    Optional<Long> findPublishSeqById(@Param("id") Long id);
     
     // Find announcements by title containing text (business logic in repository)
     @Query("SELECT a FROM Announcement a WHERE LOWER(a.title) LIKE LOWER(CONCAT('%', :title, '%'))")
@@ -0,0 +1,233 @@
+//Inbox Feed - Published announcements in priority order (indexed priority_rank), each flagged unread or read
+//Read Marker - One watermark row per user (last publish sequence seen) instead of a delivery row per announcement
+//Publish Sequence - Taken from a locked counter row at publish time, so sequence order is commit order
+//Unread Counter - Stored on the marker, bumped on publish and mirrored in memory; the badge poll is a map lookup
+
+package com.MyBooking.announcement.service;
+
+import com.MyBooking.announcement.domain.Announcement;
+import com.MyBooking.announcement.domain.AnnouncementPublishCounter;
+import com.MyBooking.announcement.domain.AnnouncementReadMarker;
+import com.MyBooking.announcement.dto.AnnouncementFeedItemDto;
+import com.MyBooking.announcement.dto.AnnouncementUnreadDto;
+import com.MyBooking.announcement.repository.AnnouncementPublishCounterRepository;
+import com.MyBooking.announcement.repository.AnnouncementReadMarkerRepository;
+import com.MyBooking.announcement.repository.AnnouncementRepository;
+import com.MyBooking.auth.domain.User;
+import com.MyBooking.common.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class AnnouncementInboxService {
+
+    @Autowired
+    private AnnouncementRepository announcementRepository;
+
+    @Autowired
+    private AnnouncementReadMarkerRepository readMarkerRepository;
+
+    @Autowired
+    private AnnouncementPublishCounterRepository publishCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${announcement.inbox.counter-ttl-seconds:30}")
+    private long counterTtlSeconds = 30;
+
+    @Value("${announcement.inbox.max-entries:50000}")
+    private int maxEntries = 50000;
+
+    private final Map<Long, UnreadState> counters = new ConcurrentHashMap<>();
+
+    // ==================== BADGE & FEED ====================
+
+    /**
+     * Unread count for the portal badge; served from memory, the marker row is read at most once per TTL
+     */
+    public AnnouncementUnreadDto getUnread(Long userId) {
+        UnreadState state = getState(userId);
+        return new AnnouncementUnreadDto(state.getUnread(), state.getLastSeenPublishSeq());
+    }
+
+    /**
+     * Published announcements, most urgent first then newest, flagged unread above the user's watermark
+     */
+    @Transactional(readOnly = true)
+    public Page<AnnouncementFeedItemDto> getFeed(Long userId, Pageable pageable) {
+        long lastSeen = getState(userId).getLastSeenPublishSeq();
+        // The feed has a fixed order; a client sort would defeat idx_announcement_feed
+        Pageable page = pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : Pageable.unpaged();
+        return announcementRepository.findPublishedFeed(page).map(announcement -> {
+            User author = announcement.getCreatedBy();
+            Long publishSeq = announcement.getPublishSeq();
+            boolean unread = publishSeq != null && publishSeq > lastSeen && !author.getId().equals(userId);
+            return new AnnouncementFeedItemDto(announcement.getId(), announcement.getTitle(), announcement.getContent(),
+                announcement.getPriority(), author.getId(), author.getFirstName() + " " + author.getLastName(),
+                announcement.getCreatedAt(), unread);
+        });
+    }
+
+    /**
+     * Move the user's watermark up to an announcement (or the latest one) and recount what is left
+     */
+    @Transactional
+    public AnnouncementUnreadDto markRead(Long userId, Long upToAnnouncementId) {
+        Long target = upToAnnouncementId != null
+            ? announcementRepository.findPublishSeqById(upToAnnouncementId)
+                .orElseThrow(() -> new NotFoundException("Announcement not found with ID: " + upToAnnouncementId))
+            : announcementRepository.findLatestPublishSeq();
+        AnnouncementReadMarker marker = readMarkerRepository.findById(userId)
+            .orElseGet(() -> new AnnouncementReadMarker(userId, 0L, 0));
+        if (target != null && target > marker.getLastSeenPublishSeq()) {
+            marker.setLastSeenPublishSeq(target);
+        }
+        marker.setUnreadCount((int) announcementRepository.countUnread(userId, marker.getLastSeenPublishSeq()));
+        readMarkerRepository.save(marker);
+
+        UnreadState state = new UnreadState(marker.getLastSeenPublishSeq(), marker.getUnreadCount());
+        afterCommit(() -> remember(userId, state));
+        return new AnnouncementUnreadDto(state.getUnread(), state.getLastSeenPublishSeq());
+    }
+
+    // ==================== PUBLISH HOOKS ====================
+
+    /**
+     * Next publish sequence; the counter row stays locked until the publishing transaction ends,
+     * so a later sequence can never commit before an earlier one and be skipped by a watermark
+     */
+    @Transactional
+    public long nextPublishSeq() {
+        AnnouncementPublishCounter counter = publishCounterRepository.findByIdForUpdate(AnnouncementPublishCounter.SINGLETON_ID)
+            .orElseGet(() -> {
+                Long max = announcementRepository.findMaxPublishSeq();
+                return new AnnouncementPublishCounter(AnnouncementPublishCounter.SINGLETON_ID, max != null ? max : 0L);
+            });
+        counter.setLastSeq(counter.getLastSeq() + 1);
+        publishCounterRepository.save(counter);
+        return counter.getLastSeq();
+    }
+
+    /**
+     * A new announcement: one UPDATE over the markers, then the cached counters once committed
+     */
+    public void onPublished(Announcement announcement) {
+        Long authorId = announcement.getCreatedBy().getId();
+        Long publishSeq = announcement.getPublishSeq();
+        readMarkerRepository.incrementUnread(authorId, publishSeq);
+        afterCommit(() -> counters.forEach((userId, state) -> {
+            if (!userId.equals(authorId)) {
+                state.published(publishSeq);
+            }
+        }));
+    }
+
+    /**
+     * An announcement was archived, restored or deleted: recount all markers (rare, admin only)
+     */
+    public void onVisibilityChanged() {
+        readMarkerRepository.recountAll();
+        afterCommit(counters::clear);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private UnreadState getState(Long userId) {
+        UnreadState state = counters.get(userId);
+        if (state != null && !isExpired(state, System.currentTimeMillis())) {
+            return state;
+        }
+        AnnouncementReadMarker marker = loadMarker(userId);
+        state = new UnreadState(marker.getLastSeenPublishSeq(), marker.getUnreadCount());
+        remember(userId, state);
+        return state;
+    }
+
+    /**
+     * Read the user's marker, creating it on first use; runs in its own read-write transaction
+     */
+    private AnnouncementReadMarker loadMarker(Long userId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return transaction.execute(status -> readMarkerRepository.findById(userId)
+                .orElseGet(() -> readMarkerRepository.saveAndFlush(new AnnouncementReadMarker(
+                    userId, 0L, (int) announcementRepository.countUnread(userId, 0L)))));
+        } catch (DataIntegrityViolationException e) {
+            // Created by a concurrent first poll, or no such user
+            return transaction.execute(status -> readMarkerRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found with ID: " + userId)));
+        }
+    }
+
+    private void remember(Long userId, UnreadState state) {
+        if (counters.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            counters.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+            if (counters.size() >= maxEntries) {
+                counters.clear();
+            }
+        }
+        counters.put(userId, state);
+    }
+
+    private boolean isExpired(UnreadState state, long now) {
+        return now - state.getLoadedAt() > counterTtlSeconds * 1000;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // ========== INNER CLASSES ==========
+
+    /**
+     * Cached watermark and unread count of one user
+     */
+    static class UnreadState {
+        private final long lastSeenPublishSeq;
+        private final AtomicInteger unread;
+        private final long loadedAt;
+
+        UnreadState(long lastSeenPublishSeq, int unread) {
+            this.lastSeenPublishSeq = lastSeenPublishSeq;
+            this.unread = new AtomicInteger(unread);
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        void published(long publishSeq) {
+            if (publishSeq > lastSeenPublishSeq) {
+                unread.incrementAndGet();
+            }
+        }
+
+        long getLastSeenPublishSeq() { return lastSeenPublishSeq; }
+        int getUnread() { return unread.get(); }
+        long getLoadedAt() { return loadedAt; }
+    }
+}
@@ -6,6 +6,7 @@ import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
 import com.MyBooking.announcement.domain.*;
 import com.MyBooking.announcement.repository.*;
+import com.MyBooking.notification.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,6 +31,12 @@ public class AnnouncementService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private AnnouncementInboxService announcementInboxService;
+
     // ==================== ANNOUNCEMENT MANAGEMENT ====================
 
     /**
@@ -43,8 +50,12 @@ public class AnnouncementService {
 
         // Create announcement (always published immediately)
         Announcement announcement = new Announcement(title, content, createdBy, priority, AnnouncementStatus.PUBLISHED);
+        announcement.setPublishSeq(announcementInboxService.nextPublishSeq());
         
-        return announcementRepository.save(announcement);
+        Announcement saved = announcementRepository.save(announcement);
+        announcementInboxService.onPublished(saved);
+        notificationService.notifyAnnouncement(saved, false);
+        return saved;
     }
 
     /**
@@ -70,7 +81,9 @@ public class AnnouncementService {
             announcement.setPriority(priority);
         }
 
-        return announcementRepository.save(announcement);
+        Announcement saved = announcementRepository.save(announcement);
+        notificationService.notifyAnnouncement(saved, true);
+        return saved;
     }
 
     /**
@@ -85,7 +98,9 @@ public class AnnouncementService {
         }
 
         announcement.setStatus(AnnouncementStatus.ARCHIVED);
-        return announcementRepository.save(announcement);
+        Announcement saved = announcementRepository.save(announcement);
+        announcementInboxService.onVisibilityChanged();
+        return saved;
     }
 
     /**
@@ -100,7 +115,9 @@ public class AnnouncementService {
         }
 
         announcement.setStatus(AnnouncementStatus.PUBLISHED);
-        return announcementRepository.save(announcement);
+        Announcement saved = announcementRepository.save(announcement);
+        announcementInboxService.onVisibilityChanged();
+        return saved;
     }
 
     /**
@@ -115,6 +132,9 @@ public class AnnouncementService {
         }
 
         announcementRepository.delete(announcement);
+        if (announcement.getStatus() == AnnouncementStatus.PUBLISHED) {
+            announcementInboxService.onVisibilityChanged();
+        }
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.MyBooking.archive.controller;
+
+import com.MyBooking.archive.dto.ArchiveRunResultDto;
+import com.MyBooking.archive.dto.HistoryRollupDto;
+import com.MyBooking.archive.service.ArchivalService;
+import com.MyBooking.archive.service.ArchiveQueryService;
+import com.MyBooking.event.dto.EventResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controller for cold-data archival (Admin access)
+ * Archived reservations are also reachable through /api/admin/reservations with includeArchived=true
+ */
+@RestController
+@RequestMapping("/api/admin/archive")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminArchiveController {
+
+    private final ArchivalService archivalService;
+    private final ArchiveQueryService archiveQueryService;
+
+    @Autowired
+    public AdminArchiveController(ArchivalService archivalService, ArchiveQueryService archiveQueryService) {
+        this.archivalService = archivalService;
+        this.archiveQueryService = archiveQueryService;
+    }
+
+    // ==================== ADMIN ARCHIVE ENDPOINTS ====================
+
+    /**
+     * ADMIN: Move reservations and events past their retention to the archive schema
+     */
+    @PostMapping("/run")
+    public ResponseEntity<ArchiveRunResultDto> runArchival(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        ArchiveRunResultDto response = archivalService.runArchival(asOfDate != null ? asOfDate : LocalDate.now());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * ADMIN: Archived events starting within [from, to)
+     */
+    @GetMapping("/events")
+    public ResponseEntity<List<EventResponseDto>> getArchivedEvents(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(archiveQueryService.getArchivedEvents(from, to));
+    }
+
+    /**
+     * ADMIN: Monthly totals of archived reservations and event bookings
+     */
+    @GetMapping("/rollups")
+    public ResponseEntity<List<HistoryRollupDto>> getRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(archiveQueryService.getRollups(from, to));
+    }
+}
@@ -0,0 +1,110 @@
+package com.MyBooking.archive.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the outcome of a cold-data archival run
+ */
+public class ArchiveRunResultDto {
+
+    private LocalDate reservationCutoff;
+
+    private LocalDate eventCutoff;
+
+    private long reservationsArchived;
+
+    private long eventsArchived;
+
+    private int chunks;
+
+    private boolean complete;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Constructors
+    public ArchiveRunResultDto() {}
+
+    public ArchiveRunResultDto(LocalDate reservationCutoff, LocalDate eventCutoff, long reservationsArchived,
+                               long eventsArchived, int chunks, boolean complete,
+                               LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.reservationCutoff = reservationCutoff;
+        this.eventCutoff = eventCutoff;
+        this.reservationsArchived = reservationsArchived;
+        this.eventsArchived = eventsArchived;
+        this.chunks = chunks;
+        this.complete = complete;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // Getters and Setters
+    public LocalDate getReservationCutoff() {
+        return reservationCutoff;
+    }
+
+    public void setReservationCutoff(LocalDate reservationCutoff) {
+        this.reservationCutoff = reservationCutoff;
+    }
+
+    public LocalDate getEventCutoff() {
+        return eventCutoff;
+    }
+
+    public void setEventCutoff(LocalDate eventCutoff) {
+        this.eventCutoff = eventCutoff;
+    }
+
+    public long getReservationsArchived() {
+        return reservationsArchived;
+    }
+
+    public void setReservationsArchived(long reservationsArchived) {
+        this.reservationsArchived = reservationsArchived;
+    }
+
+    public long getEventsArchived() {
+        return eventsArchived;
+    }
+
+    public void setEventsArchived(long eventsArchived) {
+        this.eventsArchived = eventsArchived;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * False when the run stopped at {@code archive.max-chunks-per-run}; the next run continues
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,96 @@
+package com.MyBooking.archive.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for one month of archived reservations or event bookings
+ * (quantity is nights for reservations, participants for event bookings)
+ */
+public class HistoryRollupDto {
+
+    private LocalDate periodMonth;
+
+    private String recordType;
+
+    private String status;
+
+    private String currency;
+
+    private long recordCount;
+
+    private long quantity;
+
+    private BigDecimal revenue;
+
+    // Constructors
+    public HistoryRollupDto() {}
+
+    public HistoryRollupDto(LocalDate periodMonth, String recordType, String status, String currency,
+                            long recordCount, long quantity, BigDecimal revenue) {
+        this.periodMonth = periodMonth;
+        this.recordType = recordType;
+        this.status = status;
+        this.currency = currency;
+        this.recordCount = recordCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    // Getters and Setters
+    public LocalDate getPeriodMonth() {
+        return periodMonth;
+    }
+
+    public void setPeriodMonth(LocalDate periodMonth) {
+        this.periodMonth = periodMonth;
+    }
+
+    public String getRecordType() {
+        return recordType;
+    }
+
+    public void setRecordType(String recordType) {
+        this.recordType = recordType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(long recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
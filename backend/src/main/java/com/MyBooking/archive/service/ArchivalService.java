@@ -0,0 +1,276 @@
+//Reservation Archival - Move reservations whose stay ended before the retention window (with feedback) to the archive schema
+//Event Archival - Move finished events and their bookings to the archive schema
+//Rollups - Add every archived chunk to history_rollup before it leaves the hot tables
+
+package com.MyBooking.archive.service;
+
+import com.MyBooking.archive.dto.ArchiveRunResultDto;
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.web.CatalogResponseCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+/**
+ * Keeps the reservation and event tables bounded by moving closed rows into the "archive" schema (V13).
+ * Each chunk runs in its own transaction: rollup, copy, then delete, so a failed run leaves no row in
+ * both places and the next run picks up where it stopped. Postgres only; other databases are skipped.
+ */
+@Service
+public class ArchivalService {
+
+    private static final String ROLLUP_UPSERT =
+        " ON CONFLICT (period_month, record_type, status, currency) DO UPDATE SET " +
+        "record_count = history_rollup.record_count + EXCLUDED.record_count, " +
+        "quantity = history_rollup.quantity + EXCLUDED.quantity, " +
+        "revenue = history_rollup.revenue + EXCLUDED.revenue, updated_at = NOW()";
+
+    // ==================== reservations ====================
+
+    private static final String SELECT_RESERVATION_CHUNK_SQL =
+        "SELECT id FROM reservation WHERE check_out < :cutoff ORDER BY check_out, id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String ROLLUP_RESERVATIONS_SQL =
+        "INSERT INTO history_rollup (period_month, record_type, status, currency, record_count, quantity, revenue) " +
+        "SELECT CAST(date_trunc('month', check_in) AS DATE), 'RESERVATION', status, currency, " +
+        "COUNT(*), SUM(check_out - check_in), SUM(total_price) " +
+        "FROM reservation WHERE id IN (:ids) GROUP BY 1, 3, 4" + ROLLUP_UPSERT;
+
+    private static final String ARCHIVE_RESERVATIONS_SQL =
+        "INSERT INTO archive.reservation (id, client_id, room_id, check_in, check_out, number_of_guests, total_price, " +
+        "currency, status, points_used, points_discount, created_at, updated_at) " +
+        "SELECT id, client_id, room_id, check_in, check_out, number_of_guests, total_price, " +
+        "currency, status, points_used, points_discount, created_at, updated_at " +
+        "FROM reservation WHERE id IN (:ids)";
+
+    private static final String ARCHIVE_FEEDBACK_SQL =
+        "INSERT INTO archive.feedback (id, reservation_id, user_id, rating, comment, created_at) " +
+        "SELECT id, reservation_id, user_id, rating, comment, created_at FROM feedback WHERE reservation_id IN (:ids)";
+
+    private static final String ARCHIVE_FEEDBACK_REPLIES_SQL =
+        "INSERT INTO archive.feedback_reply (id, feedback_id, admin_user_id, message, created_at) " +
+        "SELECT r.id, r.feedback_id, r.admin_user_id, r.message, r.created_at " +
+        "FROM feedback_reply r JOIN feedback f ON f.id = r.feedback_id WHERE f.reservation_id IN (:ids)";
+
+    private static final String ARCHIVE_RESERVATION_LINKS_SQL =
+        "INSERT INTO archive.reservation_link (reservation_id, source_table, source_id) " +
+        "SELECT reservation_id, 'loyalty_transaction', id FROM loyalty_transaction WHERE reservation_id IN (:ids) " +
+        "UNION ALL " +
+        "SELECT reservation_id, 'event_booking', id FROM event_booking WHERE reservation_id IN (:ids)";
+
+    // Cascades to feedback and feedback_reply, nulls the ledger and event booking references
+    private static final String DELETE_RESERVATIONS_SQL = "DELETE FROM reservation WHERE id IN (:ids)";
+
+    // ==================== events ====================
+
+    private static final String SELECT_EVENT_CHUNK_SQL =
+        "SELECT id FROM event WHERE end_at < :cutoff ORDER BY end_at, id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String ROLLUP_EVENT_BOOKINGS_SQL =
+        "INSERT INTO history_rollup (period_month, record_type, status, currency, record_count, quantity, revenue) " +
+        "SELECT CAST(date_trunc('month', e.start_at) AS DATE), 'EVENT_BOOKING', b.status, e.currency, " +
+        "COUNT(*), SUM(b.number_of_participants), SUM(b.total_price) " +
+        "FROM event_booking b JOIN event e ON e.id = b.event_id WHERE b.event_id IN (:ids) GROUP BY 1, 3, 4" + ROLLUP_UPSERT;
+
+    private static final String ARCHIVE_EVENTS_SQL =
+        "INSERT INTO archive.event (id, name, description, event_type, start_at, end_at, capacity, price, currency, " +
+        "installation_id, created_at, updated_at) " +
+        "SELECT id, name, description, event_type, start_at, end_at, capacity, price, currency, " +
+        "installation_id, created_at, updated_at FROM event WHERE id IN (:ids)";
+
+    private static final String ARCHIVE_EVENT_BOOKINGS_SQL =
+        "INSERT INTO archive.event_booking (id, event_id, client_user_id, reservation_id, event_date_time, duration_hours, " +
+        "booking_date, number_of_participants, total_price, status, created_at, updated_at) " +
+        "SELECT id, event_id, client_user_id, reservation_id, event_date_time, duration_hours, " +
+        "booking_date, number_of_participants, total_price, status, created_at, updated_at " +
+        "FROM event_booking WHERE event_id IN (:ids)";
+
+    // Cascades to event_notification
+    private static final String DELETE_EVENT_BOOKINGS_SQL = "DELETE FROM event_booking WHERE event_id IN (:ids)";
+
+    private static final String DELETE_EVENTS_SQL = "DELETE FROM event WHERE id IN (:ids)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${archive.reservation-retention-months:24}")
+    private int reservationRetentionMonths = 24;
+
+    @Value("${archive.event-retention-months:12}")
+    private int eventRetentionMonths = 12;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${archive.max-chunks-per-run:200}")
+    private int maxChunksPerRun = 200;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // ========== ENTRY POINTS ==========
+
+    /**
+     * Nightly run; skipped on databases without the archive schema (H2 tests and benchmarks)
+     */
+    @Scheduled(cron = "${archive.cron:0 45 4 * * *}")
+    public void runScheduledArchival() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        try {
+            ArchiveRunResultDto result = runArchival(LocalDate.now());
+            if (result.getReservationsArchived() > 0 || result.getEventsArchived() > 0) {
+                System.out.println("Archival: " + result.getReservationsArchived() + " reservations and "
+                    + result.getEventsArchived() + " events moved to the archive schema"
+                    + (result.isComplete() ? "" : " (chunk limit reached, continuing next run)"));
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Archival failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Archive reservations that checked out and events that ended before their retention window, as of the given date
+     */
+    public ArchiveRunResultDto runArchival(LocalDate asOfDate) {
+        if (asOfDate == null) {
+            throw new BusinessRuleException("As-of date is required");
+        }
+        if (asOfDate.isAfter(LocalDate.now())) {
+            // A future cutoff would move live and upcoming reservations and events out of the hot tables
+            throw new BusinessRuleException("As-of date cannot be in the future");
+        }
+        if (!isPostgres()) {
+            throw new BusinessRuleException("Archival requires the PostgreSQL archive schema");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessRuleException("Archival is already running");
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDate reservationCutoff = asOfDate.minusMonths(reservationRetentionMonths);
+            LocalDate eventCutoff = asOfDate.minusMonths(eventRetentionMonths);
+
+            Progress reservations = drain(() -> archiveReservationChunk(reservationCutoff));
+            Progress events = drain(() -> archiveEventChunk(eventCutoff));
+            if (events.rows > 0) {
+                // Rows left behind the JPA listeners
+                catalogResponseCache.invalidate(CatalogResponseCache.EVENTS);
+            }
+
+            return new ArchiveRunResultDto(reservationCutoff, eventCutoff, reservations.rows, events.rows,
+                reservations.chunks + events.chunks, reservations.complete && events.complete,
+                startedAt, LocalDateTime.now());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ========== CHUNK PROCESSING ==========
+
+    /**
+     * Move the oldest {@code archive.batch-size} reservations with check-out before the cutoff; returns how many moved
+     */
+    int archiveReservationChunk(LocalDate cutoff) {
+        Integer archived = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> ids = namedParameterJdbcTemplate.queryForList(SELECT_RESERVATION_CHUNK_SQL,
+                Map.of("cutoff", Date.valueOf(cutoff), "limit", batchSize), Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            Map<String, Object> chunk = Map.of("ids", ids);
+            namedParameterJdbcTemplate.update(ROLLUP_RESERVATIONS_SQL, chunk);
+            namedParameterJdbcTemplate.update(ARCHIVE_RESERVATIONS_SQL, chunk);
+            namedParameterJdbcTemplate.update(ARCHIVE_FEEDBACK_SQL, chunk);
+            namedParameterJdbcTemplate.update(ARCHIVE_FEEDBACK_REPLIES_SQL, chunk);
+            namedParameterJdbcTemplate.update(ARCHIVE_RESERVATION_LINKS_SQL, chunk);
+            namedParameterJdbcTemplate.update(DELETE_RESERVATIONS_SQL, chunk);
+            return ids.size();
+        });
+        return archived != null ? archived : 0;
+    }
+
+    /**
+     * Move the oldest {@code archive.batch-size} events that ended before the cutoff, with their bookings
+     */
+    int archiveEventChunk(LocalDate cutoff) {
+        Integer archived = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> ids = namedParameterJdbcTemplate.queryForList(SELECT_EVENT_CHUNK_SQL,
+                Map.of("cutoff", Timestamp.valueOf(cutoff.atStartOfDay()), "limit", batchSize), Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            Map<String, Object> chunk = Map.of("ids", ids);
+            namedParameterJdbcTemplate.update(ROLLUP_EVENT_BOOKINGS_SQL, chunk);
+            namedParameterJdbcTemplate.update(ARCHIVE_EVENTS_SQL, chunk);
+            namedParameterJdbcTemplate.update(ARCHIVE_EVENT_BOOKINGS_SQL, chunk);
+            namedParameterJdbcTemplate.update(DELETE_EVENT_BOOKINGS_SQL, chunk);
+            namedParameterJdbcTemplate.update(DELETE_EVENTS_SQL, chunk);
+            return ids.size();
+        });
+        return archived != null ? archived : 0;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Run chunks until one comes back short or {@code archive.max-chunks-per-run} is reached
+     */
+    private Progress drain(IntSupplier chunk) {
+        Progress progress = new Progress();
+        while (progress.chunks < maxChunksPerRun) {
+            int archived = chunk.getAsInt();
+            if (archived > 0) {
+                progress.rows += archived;
+                progress.chunks++;
+            }
+            if (archived < batchSize) {
+                progress.complete = true;
+                break;
+            }
+        }
+        return progress;
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    // ========== INNER CLASSES ==========
+
+    private static final class Progress {
+        private long rows;
+        private int chunks;
+        private boolean complete;
+    }
+}
@@ -0,0 +1,231 @@
+//Include Archived - Reservation history across the hot table and archive.reservation, for audits
+//Archived Events - Finished events that were moved out of the catalog
+//Rollups - Monthly totals left behind by the archival job
+
+package com.MyBooking.archive.service;
+
+import com.MyBooking.archive.dto.HistoryRollupDto;
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.event.domain.EventType;
+import com.MyBooking.event.dto.EventResponseDto;
+import com.MyBooking.reservation.domain.ReservationStatus;
+import com.MyBooking.reservation.dto.ReservationResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read paths over the "archive" schema (V13). Archived rows keep their ids, so a reservation
+ * is found under the same id before and after archival.
+ */
+@Service
+public class ArchiveQueryService {
+
+    private static final String RESERVATION_COLUMNS =
+        "r.id, r.client_id, r.room_id, r.check_in, r.check_out, r.number_of_guests, r.total_price, " +
+        "r.currency, r.status, r.created_at, r.updated_at";
+
+    // {0} is the filter on alias r, applied to both sides of the union
+    private static final String RESERVATION_HISTORY_SQL =
+        "SELECT h.*, u.first_name, u.last_name, u.email, rm.number AS room_number, rm.room_type FROM (" +
+        "SELECT " + RESERVATION_COLUMNS + ", FALSE AS archived FROM reservation r WHERE {0} " +
+        "UNION ALL " +
+        "SELECT " + RESERVATION_COLUMNS + ", TRUE AS archived FROM archive.reservation r WHERE {0}" +
+        ") h LEFT JOIN app_user u ON u.id = h.client_id LEFT JOIN room rm ON rm.id = h.room_id ";
+
+    private static final String RESERVATION_HISTORY_COUNT_SQL =
+        "SELECT (SELECT COUNT(*) FROM reservation r WHERE {0}) + (SELECT COUNT(*) FROM archive.reservation r WHERE {0})";
+
+    private static final String ARCHIVED_EVENTS_SQL =
+        "SELECT e.*, i.name AS installation_name, i.installation_type FROM archive.event e " +
+        "LEFT JOIN installation i ON i.id = e.installation_id " +
+        "WHERE e.start_at >= :from AND e.start_at < :to ORDER BY e.start_at, e.id";
+
+    private static final String ROLLUPS_SQL =
+        "SELECT period_month, record_type, status, currency, record_count, quantity, revenue FROM history_rollup " +
+        "WHERE period_month >= :from AND period_month <= :to ORDER BY period_month, record_type, status, currency";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile Boolean archiveAvailable;
+
+    // ========== RESERVATION HISTORY ==========
+
+    /**
+     * False on databases without the archive schema; "include archived" callers then read the hot table only
+     */
+    public boolean isArchiveAvailable() {
+        Boolean available = archiveAvailable;
+        if (available == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            available = "PostgreSQL".equalsIgnoreCase(product);
+            archiveAvailable = available;
+        }
+        return available;
+    }
+
+    /**
+     * Hot and archived reservations of a client, newest check-in first (the pageable's sort is not applied)
+     */
+    @Transactional(readOnly = true)
+    public Page<ReservationResponseDto> getClientReservationHistory(Long clientId, Pageable pageable) {
+        return findReservationHistory("r.client_id = :id", clientId, pageable);
+    }
+
+    /**
+     * Hot and archived reservations of a room, newest check-in first (the pageable's sort is not applied)
+     */
+    @Transactional(readOnly = true)
+    public Page<ReservationResponseDto> getRoomReservationHistory(Long roomId, Pageable pageable) {
+        return findReservationHistory("r.room_id = :id", roomId, pageable);
+    }
+
+    /**
+     * Reservation by id from either table
+     */
+    @Transactional(readOnly = true)
+    public ReservationResponseDto getReservationFromHistory(Long id) {
+        requireArchive();
+        List<ReservationResponseDto> found = namedParameterJdbcTemplate.query(
+            format(RESERVATION_HISTORY_SQL, "r.id = :id"), new MapSqlParameterSource("id", id), RESERVATION_MAPPER);
+        if (found.isEmpty()) {
+            throw new NotFoundException("Reservation not found with id: " + id);
+        }
+        return found.get(0);
+    }
+
+    // ========== ARCHIVED EVENTS AND ROLLUPS ==========
+
+    /**
+     * Archived events starting within [from, to)
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponseDto> getArchivedEvents(LocalDateTime from, LocalDateTime to) {
+        requireArchive();
+        validateRange(from, to);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("from", Timestamp.valueOf(from))
+            .addValue("to", Timestamp.valueOf(to));
+        return namedParameterJdbcTemplate.query(ARCHIVED_EVENTS_SQL, params, EVENT_MAPPER);
+    }
+
+    /**
+     * Monthly rollups of archived rows for months from {@code from} to {@code to}, inclusive
+     */
+    @Transactional(readOnly = true)
+    public List<HistoryRollupDto> getRollups(LocalDate from, LocalDate to) {
+        requireArchive();
+        validateRange(from, to);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("from", Date.valueOf(from.withDayOfMonth(1)))
+            .addValue("to", Date.valueOf(to.withDayOfMonth(1)));
+        return namedParameterJdbcTemplate.query(ROLLUPS_SQL, params, (rs, rowNum) -> new HistoryRollupDto(
+            rs.getDate("period_month").toLocalDate(),
+            rs.getString("record_type"),
+            rs.getString("status"),
+            rs.getString("currency"),
+            rs.getLong("record_count"),
+            rs.getLong("quantity"),
+            rs.getBigDecimal("revenue")));
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private Page<ReservationResponseDto> findReservationHistory(String filter, Long id, Pageable pageable) {
+        requireArchive();
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id);
+        Long total = namedParameterJdbcTemplate.queryForObject(format(RESERVATION_HISTORY_COUNT_SQL, filter), params, Long.class);
+        String sql = format(RESERVATION_HISTORY_SQL, filter) + "ORDER BY h.check_in DESC, h.id DESC";
+        if (pageable.isPaged()) {
+            sql += " LIMIT :limit OFFSET :offset";
+            params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        }
+        List<ReservationResponseDto> content = namedParameterJdbcTemplate.query(sql, params, RESERVATION_MAPPER);
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    private void requireArchive() {
+        if (!isArchiveAvailable()) {
+            throw new BusinessRuleException("Archived data requires the PostgreSQL archive schema");
+        }
+    }
+
+    private static void validateRange(Object from, Object to) {
+        if (from == null || to == null) {
+            throw new BusinessRuleException("Both from and to are required");
+        }
+    }
+
+    private static String format(String template, String filter) {
+        return template.replace("{0}", filter);
+    }
+
+    private static final RowMapper<ReservationResponseDto> RESERVATION_MAPPER = (rs, rowNum) -> {
+        ReservationResponseDto dto = new ReservationResponseDto();
+        dto.setId(rs.getLong("id"));
+        dto.setCheckIn(rs.getDate("check_in").toLocalDate());
+        dto.setCheckOut(rs.getDate("check_out").toLocalDate());
+        dto.setNumberOfGuests(rs.getInt("number_of_guests"));
+        dto.setTotalPrice(rs.getBigDecimal("total_price"));
+        dto.setCurrency(rs.getString("currency"));
+        dto.setStatus(ReservationStatus.valueOf(rs.getString("status")));
+        dto.setClientId(rs.getLong("client_id"));
+        if (rs.getString("email") != null) {
+            dto.setClientName(rs.getString("first_name") + " " + rs.getString("last_name"));
+            dto.setClientEmail(rs.getString("email"));
+        }
+        dto.setRoomId(rs.getLong("room_id"));
+        dto.setRoomNumber(rs.getString("room_number"));
+        dto.setRoomType(rs.getString("room_type"));
+        dto.setCreatedAt(toLocalDateTime(rs, "created_at"));
+        dto.setUpdatedAt(toLocalDateTime(rs, "updated_at"));
+        dto.setArchived(rs.getBoolean("archived"));
+        return dto;
+    };
+
+    private static final RowMapper<EventResponseDto> EVENT_MAPPER = (rs, rowNum) -> {
+        EventResponseDto dto = new EventResponseDto();
+        dto.setId(rs.getLong("id"));
+        dto.setName(rs.getString("name"));
+        dto.setDescription(rs.getString("description"));
+        dto.setEventType(EventType.valueOf(rs.getString("event_type")));
+        dto.setStartAt(toLocalDateTime(rs, "start_at"));
+        dto.setEndAt(toLocalDateTime(rs, "end_at"));
+        dto.setCapacity(rs.getInt("capacity"));
+        dto.setPrice(rs.getBigDecimal("price"));
+        dto.setCurrency(rs.getString("currency"));
+        dto.setInstallationId(rs.getLong("installation_id"));
+        dto.setInstallationName(rs.getString("installation_name"));
+        dto.setInstallationType(rs.getString("installation_type"));
+        dto.setCreatedAt(toLocalDateTime(rs, "created_at"));
+        dto.setUpdatedAt(toLocalDateTime(rs, "updated_at"));
+        return dto;
+    };
+
+    private static LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class NotificationPreference {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_preference_id_seq")
+    @SequenceGenerator(name = "notification_preference_id_seq", sequenceName = "notification_preference_id_seq", allocationSize = 50)
     private Long id;
     
     @NotNull(message = "User is required")
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -141,6 +142,11 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
     @Query("SELECT np FROM NotificationPreference np WHERE np.user.id = :userId AND np.notificationType IN :types AND np.isActive = true")
     List<NotificationPreference> findByUserIdAndNotificationTypes(@Param("userId") Long userId, @Param("types") List<String> notificationTypes);
 
+    // Channel flags of many users at once (notification dispatch): userId, type, email, sms, push, active
+    @Query("SELECT np.user.id, np.notificationType, np.emailEnabled, np.smsEnabled, np.pushEnabled, np.isActive " +
+           "FROM NotificationPreference np WHERE np.user.id IN :userIds")
+    List<Object[]> findChannelFlagsByUserIds(@Param("userIds") Collection<Long> userIds);
+
     // ==================== COUNT QUERIES ====================
 
     // Count by user
@@ -150,6 +150,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Page<User> findByRoleIn(List<Role> roles, Pageable pageable);
 
+    /**
+     * Find the IDs of users with specific roles.
+     * Used for notification fan-out without loading the users.
+     * 
+     * @param roles list of roles to search for
+     * @return IDs of users with any of the specified roles
+     */
+    @Query("SELECT u.id FROM User u WHERE u.role IN :roles")
+    List<Long> findIdsByRoleIn(@Param("roles") List<Role> roles);
+
     /**
      * Find users by email domain.
      * Used for organization-based queries.
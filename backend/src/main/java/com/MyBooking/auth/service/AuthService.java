@@ -18,6 +18,7 @@ import com.MyBooking.common.security.JwtService;
 import com.MyBooking.employee.domain.Employee;
 import com.MyBooking.employee.domain.EmployeeStatus;
 import com.MyBooking.employee.repository.EmployeeRepository;
+import com.MyBooking.notification.service.NotificationPreferenceCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -47,6 +48,9 @@ public class AuthService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private NotificationPreferenceCache notificationPreferenceCache;
+
     /**
      * Register a new user with default CLIENT role
      */
@@ -171,16 +175,20 @@ public class AuthService {
         Optional<NotificationPreference> existing = notificationPreferenceRepository
             .findByUserAndNotificationType(user, notificationType);
         
+        NotificationPreference saved;
         if (existing.isPresent()) {
             NotificationPreference preference = existing.get();
             preference.setEmailEnabled(emailEnabled);
             preference.setSmsEnabled(smsEnabled);
             preference.setPushEnabled(pushEnabled);
-            return notificationPreferenceRepository.save(preference);
+            saved = notificationPreferenceRepository.save(preference);
         } else {
             NotificationPreference preference = new NotificationPreference(user, notificationType, emailEnabled, smsEnabled, pushEnabled);
-            return notificationPreferenceRepository.save(preference);
+            saved = notificationPreferenceRepository.save(preference);
         }
+        // Evicted after commit, so dispatch batches reload the new channels
+        notificationPreferenceCache.invalidate(user.getId());
+        return saved;
     }
 
 
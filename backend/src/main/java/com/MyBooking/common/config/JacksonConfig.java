@@ -0,0 +1,36 @@
+package com.MyBooking.common.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Wire format tuning for the REST API.
+ * <p>
+ * Spring Boot registers every {@link Module} bean on its ObjectMapper, so the Blackbird module
+ * (property access through generated lambdas instead of reflection) applies to all JSON responses;
+ * {@code jackson.blackbird.enabled=false} turns it off where runtime class generation is unwanted.
+ * The CBOR converter shares Boot's Jackson settings and is only used by endpoints that list
+ * {@code application/cbor} in {@code produces}, for clients that send {@code Accept: application/cbor}.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "jackson.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder.createXmlMapper(false).factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+}
@@ -0,0 +1,37 @@
+package com.MyBooking.common.config;
+
+import com.MyBooking.common.metrics.ServiceMetricsAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Micrometer setup: service timers publish a percentile histogram (Prometheus histogram_quantile and
+ * {@link com.MyBooking.common.metrics.ServiceLatencySummary}). Hibernate statistics (hibernate-micrometer)
+ * and HikariCP pool metrics are registered by Spring Boot itself.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static MeterFilter serviceTimerHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals(ServiceMetricsAspect.SERVICE_TIMER)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                    .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                    .build()
+                    .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.MyBooking.common.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Reflection, proxy and resource hints for the native image (mvn -Pnative package).
+ * <p>
+ * Spring AOT already covers the beans themselves (controllers, services, repositories, MapStruct's
+ * Spring-component mappers and their proxies). What it cannot see are the types reached reflectively at
+ * runtime: entities, enums and DTOs that Hibernate, Jackson and springdoc introspect (including DTOs nested
+ * in controllers and returned as {@code ResponseEntity<?>}), the jjwt implementation classes that jjwt-api
+ * loads by name, the JDK proxy of {@link com.MyBooking.common.jdbc.ConcurrencyLimitedDataSource} and
+ * the Swagger UI webjar. Registered at build time only; on the JVM this class does nothing.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationHints.class)
+public class NativeHintsConfig {
+
+    static final String BASE_PACKAGE = "com.MyBooking";
+
+    // Loaded through io.jsonwebtoken.lang.Classes.newInstance(String) by Jwts, Keys and the Jackson bridge
+    static final List<String> JJWT_TYPES = List.of(
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+        "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+        "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyOperations",
+        "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardCurves",
+        "io.jsonwebtoken.impl.security.KeysBridge",
+        "io.jsonwebtoken.jackson.io.JacksonSerializer",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class ApplicationHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String className : modelTypes(classLoader)) {
+                hints.reflection().registerType(TypeReference.of(className),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+            }
+            for (String className : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            hints.proxies().registerJdkProxy(Connection.class);
+
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+            hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+        }
+    }
+
+    /**
+     * Every application class that is not a Spring component: entities, embeddables, enums, DTOs,
+     * events and the Hibernate StatementInspector configured by class name
+     */
+    static List<String> modelTypes(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                AnnotationMetadata metadata = beanDefinition.getMetadata();
+                return metadata.isIndependent() && !metadata.isInterface()
+                    && !metadata.hasAnnotation(Component.class.getName())
+                    && !metadata.hasMetaAnnotation(Component.class.getName());
+            }
+        };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        if (classLoader != null) {
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        }
+        return scanner.findCandidateComponents(BASE_PACKAGE).stream()
+            .map(BeanDefinition::getBeanClassName)
+            .filter(className -> !className.contains("$$") && !className.contains("__"))   // CGLIB and AOT output
+            .sorted()
+            .toList();
+    }
+}
@@ -0,0 +1,178 @@
+package com.MyBooking.common.config;
+
+import com.MyBooking.common.jdbc.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Read replicas for {@code @Transactional(readOnly = true)} work.
+ * <p>
+ * With {@code jdbc.routing.enabled} and {@code jdbc.routing.replica-urls} (env DB_REPLICA_URLS, comma separated)
+ * the primary DataSource bean is replaced by a lazy proxy over {@link ReplicaRoutingDataSource}.
+ * Replica pools reuse the primary credentials and are opened read-only. Hibernate then releases
+ * connections after each transaction so open-in-view does not pin a request to the first data source used.
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+        + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectProvider<DataSource> dataSource;
+
+    private volatile ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public static BeanPostProcessor readReplicaRouting(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource primary) || !"dataSource".equals(beanName) || !enabled(environment)) {
+                    return bean;
+                }
+                Map<String, DataSource> replicas = new LinkedHashMap<>();
+                List<String> urls = replicaUrls(environment);
+                for (int i = 0; i < urls.size(); i++) {
+                    replicas.put("replica-" + (i + 1), replica("replica-" + (i + 1), urls.get(i), primary, environment));
+                }
+                ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+                    environment.getProperty("jdbc.routing.max-lag-ms", Long.class, 5000L),
+                    environment.getProperty("jdbc.routing.sticky-ms", Long.class, 5000L),
+                    environment.getProperty("jdbc.routing.lag-query", POSTGRES_LAG_QUERY));
+                return new RoutingDataSourceProxy(routing);
+            }
+        };
+    }
+
+    /**
+     * Connections are looked up per transaction; holding one for the whole session would keep
+     * a request on whichever data source its first transaction used
+     */
+    @Bean
+    public static HibernatePropertiesCustomizer readReplicaConnectionHandling(Environment environment) {
+        return properties -> {
+            if (enabled(environment)) {
+                properties.put("hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+            }
+        };
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void bindReplicaRouting() throws SQLException {
+        DataSource current = dataSource.getIfAvailable();
+        if (current == null || !current.isWrapperFor(ReplicaRoutingDataSource.class)) {
+            return;
+        }
+        ReplicaRoutingDataSource routing = current.unwrap(ReplicaRoutingDataSource.class);
+        routing.refreshReplicaLag();
+        routingDataSource = routing;
+
+        counter("read_write", routing, ReplicaRoutingDataSource::getReadWriteConnections);
+        counter("replica", routing, ReplicaRoutingDataSource::getReplicaReads);
+        counter("primary_fallback", routing, ReplicaRoutingDataSource::getPrimaryReads);
+        counter("sticky", routing, ReplicaRoutingDataSource::getStickyReads);
+        for (ReplicaRoutingDataSource.Replica replica : routing.getReplicas()) {
+            Gauge.builder("mybooking.jdbc.replica.lag", replica, ReplicaRoutingDataSource.Replica::getLagMillis)
+                .tag("replica", replica.getName()).baseUnit("milliseconds")
+                .description("Last measured replication lag, -1 when unreachable").register(meterRegistry);
+            Gauge.builder("mybooking.jdbc.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                .tag("replica", replica.getName()).register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jdbc.routing.lag-check-interval-ms:2000}")
+    public void refreshReplicaLag() {
+        ReplicaRoutingDataSource routing = routingDataSource;
+        if (routing != null) {
+            routing.refreshReplicaLag();
+        }
+    }
+
+    private void counter(String target, ReplicaRoutingDataSource routing, ToDoubleFunction<ReplicaRoutingDataSource> count) {
+        FunctionCounter.builder("mybooking.jdbc.routing.connections", routing, count)
+            .tag("target", target).description("Connections handed out by the read/write router")
+            .register(meterRegistry);
+    }
+
+    private static boolean enabled(Environment environment) {
+        return environment.getProperty("jdbc.routing.enabled", Boolean.class, false) && !replicaUrls(environment).isEmpty();
+    }
+
+    private static List<String> replicaUrls(Environment environment) {
+        return Arrays.stream(environment.getProperty("jdbc.routing.replica-urls", "").split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .toList();
+    }
+
+    private static HikariDataSource replica(String name, String url, HikariDataSource primary, Environment environment) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName(name);
+        replica.setJdbcUrl(url);
+        replica.setUsername(primary.getUsername());
+        replica.setPassword(primary.getPassword());
+        if (primary.getDriverClassName() != null) {
+            replica.setDriverClassName(primary.getDriverClassName());
+        }
+        // Same driver tuning as the primary (statement cache, batch rewriting)
+        replica.setDataSourceProperties(primary.getDataSourceProperties());
+        replica.setMaximumPoolSize(environment.getProperty("jdbc.routing.replica-pool-size", Integer.class, 10));
+        replica.setReadOnly(true);
+        // Let the app start while a replica is down; the lag check keeps it out of rotation
+        replica.setInitializationFailTimeout(-1);
+        return replica;
+    }
+
+    /**
+     * Lazy proxy that also closes the routed pools on shutdown
+     */
+    private static final class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+        private final ReplicaRoutingDataSource routing;
+
+        private RoutingDataSourceProxy(ReplicaRoutingDataSource routing) {
+            super(routing);
+            this.routing = routing;
+        }
+
+        @Override
+        public void close() throws Exception {
+            routing.close();
+        }
+    }
+
+    /**
+     * Runs before the JDBC concurrency limiter so the limiter wraps the routed DataSource
+     */
+    private abstract static class OrderedBeanPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
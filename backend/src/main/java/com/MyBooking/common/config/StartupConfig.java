@@ -0,0 +1,101 @@
+package com.MyBooking.common.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup shortcuts for production restarts.
+ * <p>
+ * With {@code startup.lazy-admin.enabled}, admin-only beans are created on first use instead of at boot:
+ * REST controllers mapped under {@value #ADMIN_PATH} and every bean in {@code startup.lazy-packages}.
+ * Request mappings are still registered at boot (Spring MVC reads them from the bean type), so the
+ * first admin request pays for the instantiation. Beans with @Scheduled methods stay eager, since the
+ * scheduler only sees beans that exist. A bean also injected into an eager one is created anyway.
+ */
+@Configuration
+public class StartupConfig {
+
+    static final String ADMIN_PATH = "/api/admin";
+
+    @Bean
+    public static BeanFactoryPostProcessor adminLazyInitialization(Environment environment) {
+        return beanFactory -> {
+            if (!environment.getProperty("startup.lazy-admin.enabled", Boolean.class, false)) {
+                return;
+            }
+            List<String> lazyPackages = List.of(environment.getProperty("startup.lazy-packages", String[].class, new String[0]));
+            int count = 0;
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                Class<?> beanClass = beanClass(definition, beanFactory.getBeanClassLoader());
+                if (beanClass == null || !isAdminOnly(beanClass, lazyPackages)
+                        || hasScheduledMethods(beanClass)) {
+                    continue;
+                }
+                definition.setLazyInit(true);
+                count++;
+            }
+            System.out.println("Startup: " + count + " admin-only beans initialize on first use");
+        };
+    }
+
+    static boolean isAdminOnly(Class<?> beanClass, List<String> lazyPackages) {
+        String packageName = beanClass.getPackageName();
+        for (String lazyPackage : lazyPackages) {
+            if (packageName.equals(lazyPackage.trim()) || packageName.startsWith(lazyPackage.trim() + ".")) {
+                return true;
+            }
+        }
+        if (!AnnotatedElementUtils.hasAnnotation(beanClass, RestController.class)) {
+            return false;
+        }
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(beanClass, RequestMapping.class);
+        if (mapping == null || mapping.path().length == 0) {
+            return false;
+        }
+        for (String path : mapping.path()) {
+            if (!path.startsWith(ADMIN_PATH)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean hasScheduledMethods(Class<?> beanClass) {
+        AtomicBoolean scheduled = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanClass,
+            method -> scheduled.set(true),
+            method -> !scheduled.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return scheduled.get();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Only plain component/class definitions qualify; factory-method beans are left alone
+     */
+    private static Class<?> beanClass(BeanDefinition definition, ClassLoader classLoader) {
+        String className = definition.getBeanClassName();
+        if (className == null || definition.getFactoryMethodName() != null
+                || !className.startsWith("com.MyBooking.")) {
+            return null;
+        }
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+}
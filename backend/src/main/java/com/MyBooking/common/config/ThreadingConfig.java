@@ -0,0 +1,83 @@
+package com.MyBooking.common.config;
+
+import com.MyBooking.common.jdbc.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Request and @Async execution model.
+ * <p>
+ * {@code spring.threads.virtual.enabled} (env VIRTUAL_THREADS) switches Tomcat, the @Async executor and
+ * the scheduler to virtual threads; Spring Boot only honours it on Java 21+, so on the Java 17 baseline
+ * the platform pools stay in place. {@code jdbc.limiter.enabled} (env JDBC_LIMITER, off by default) puts a
+ * fair semaphore sized to the Hikari pool in front of the DataSource so that, with virtual threads, the extra
+ * concurrency queues instead of timing out inside the pool. It is a separate switch because the virtual
+ * threads flag is a no-op on Java 17, where the limiter would only add a lock to every connection.
+ */
+@Configuration
+@EnableAsync
+public class ThreadingConfig {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectProvider<DataSource> dataSource;
+
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || !environment.getProperty("jdbc.limiter.enabled", Boolean.class, false)) {
+                    return bean;
+                }
+                int maxConcurrent = environment.getProperty("jdbc.limiter.max-concurrent", Integer.class, 0);
+                if (maxConcurrent <= 0) {
+                    maxConcurrent = primaryPoolSize((DataSource) bean);
+                }
+                long timeoutMillis = environment.getProperty("jdbc.limiter.acquire-timeout-ms", Long.class, 30000L);
+                return new ConcurrencyLimitedDataSource((DataSource) bean, maxConcurrent, timeoutMillis);
+            }
+        };
+    }
+
+    private static int primaryPoolSize(DataSource dataSource) {
+        try {
+            // Unwraps the read/write router to the primary pool outside a transaction
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() : 10;
+        } catch (SQLException e) {
+            return 10;
+        }
+    }
+
+    /**
+     * Limiter gauges; bound after startup like the Hibernate meters (the DataSource is instrumented itself)
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void bindJdbcLimiterMetrics() {
+        if (dataSource.getIfAvailable() instanceof ConcurrencyLimitedDataSource limited) {
+            Gauge.builder("mybooking.jdbc.limiter.active", limited, ConcurrencyLimitedDataSource::getActive)
+                .description("Threads holding a JDBC permit").register(meterRegistry);
+            Gauge.builder("mybooking.jdbc.limiter.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                .description("Threads queued for a JDBC permit").register(meterRegistry);
+            Gauge.builder("mybooking.jdbc.limiter.max", limited, ConcurrencyLimitedDataSource::getMaxConcurrent)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.MyBooking.common.events;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Change of a domain object, published as a Spring application event by the owning service.
+ * Listeners that push it outside the process must wait for the commit
+ * ({@code @TransactionalEventListener}); the payload is a small snapshot, never an entity.
+ */
+public class DomainEvent {
+
+    public static final String ROOMS = "rooms";
+    public static final String RESERVATIONS = "reservations";
+
+    private final String topic;
+    private final String type;
+    private final Long entityId;
+    private final Map<String, Object> data;
+    private final LocalDateTime occurredAt;
+
+    public DomainEvent(String topic, String type, Long entityId, Map<String, Object> data) {
+        this.topic = topic;
+        this.type = type;
+        this.entityId = entityId;
+        this.data = Collections.unmodifiableMap(new LinkedHashMap<>(data));
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public String getTopic() { return topic; }
+    public String getType() { return type; }
+    public Long getEntityId() { return entityId; }
+    public Map<String, Object> getData() { return data; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    @Override
+    public String toString() {
+        return "DomainEvent{" + topic + "/" + type + " #" + entityId + "}";
+    }
+}
@@ -0,0 +1,155 @@
+//Default Partitions - Move rows that landed in a _default partition into their month's partition
+//Future Partitions - Keep monthly partitions created a few months ahead of the write head
+//Cold Partitions - Detach partitions past their retention into the "archive" schema
+
+package com.MyBooking.common.jdbc;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintenance of the monthly range partitions created by V12 (Postgres only; other databases are skipped).
+ * Rows written to a month without a partition land in the table's _default partition; the nightly run
+ * gives those months their partition (V19) so the default partition stays empty.
+ * room_status_update is history and is detached after its retention; loyalty_transaction keeps every
+ * partition attached by default because the expiry batch sums the whole ledger.
+ */
+@Service
+public class PartitionMaintenanceService {
+
+    private static final String DRAIN_DEFAULT_SQL = "SELECT drain_default_partition(?)";
+
+    private static final String CREATE_SQL = "SELECT create_monthly_partitions(?, ?, ?)";
+
+    private static final String LIST_PARTITIONS_SQL =
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+        "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname";
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("^([a-z_]+)_p(\\d{6})$");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${partitions.months-ahead:3}")
+    private int monthsAhead = 3;
+
+    @Value("${partitions.retention-months.room-status-update:24}")
+    private int roomStatusUpdateRetentionMonths = 24;
+
+    @Value("${partitions.retention-months.loyalty-transaction:0}")
+    private int loyaltyTransactionRetentionMonths = 0;
+
+    // ========== ENTRY POINTS ==========
+
+    /**
+     * Nightly run; skipped on databases without declarative partitioning (H2 tests and benchmarks)
+     */
+    @Scheduled(cron = "${partitions.cron:0 15 4 * * *}")
+    public void runScheduledMaintenance() {
+        if (!isPostgres()) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            int created = drainDefaultPartitions() + createFuturePartitions(today);
+            List<String> detached = detachColdPartitions(today);
+            if (created > 0 || !detached.isEmpty()) {
+                System.out.println("Partition maintenance: " + created + " partitions created, detached " + detached);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Partition maintenance failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Create the partition of every month that has rows in a _default partition and move those rows into it;
+     * returns how many partitions were created
+     */
+    public int drainDefaultPartitions() {
+        int created = 0;
+        for (String table : retentionMonths().keySet()) {
+            Integer count = jdbcTemplate.queryForObject(DRAIN_DEFAULT_SQL, Integer.class, table);
+            created += count != null ? count : 0;
+        }
+        return created;
+    }
+
+    /**
+     * Create the missing partitions from the current month to {@code partitions.months-ahead} months ahead
+     */
+    public int createFuturePartitions(LocalDate today) {
+        LocalDate from = today.withDayOfMonth(1);
+        LocalDate to = from.plusMonths(monthsAhead);
+        int created = 0;
+        for (String table : retentionMonths().keySet()) {
+            Integer count = jdbcTemplate.queryForObject(CREATE_SQL, Integer.class, table, Date.valueOf(from), Date.valueOf(to));
+            created += count != null ? count : 0;
+        }
+        return created;
+    }
+
+    /**
+     * Detach monthly partitions that ended before the retention window and move them to the archive schema,
+     * where they stay queryable until dumped and dropped
+     */
+    public List<String> detachColdPartitions(LocalDate today) {
+        List<String> detached = new ArrayList<>();
+        for (Map.Entry<String, Integer> table : retentionMonths().entrySet()) {
+            if (table.getValue() <= 0) {
+                continue;
+            }
+            YearMonth oldestKept = YearMonth.from(today).minusMonths(table.getValue());
+            for (String partition : jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, table.getKey())) {
+                YearMonth month = partitionMonth(table.getKey(), partition);
+                if (month != null && month.isBefore(oldestKept)) {
+                    jdbcTemplate.execute("ALTER TABLE \"" + table.getKey() + "\" DETACH PARTITION \"" + partition + "\"");
+                    jdbcTemplate.execute("ALTER TABLE \"" + partition + "\" SET SCHEMA archive");
+                    detached.add(partition);
+                }
+            }
+        }
+        return detached;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private Map<String, Integer> retentionMonths() {
+        Map<String, Integer> tables = new LinkedHashMap<>();
+        tables.put("room_status_update", roomStatusUpdateRetentionMonths);
+        tables.put("loyalty_transaction", loyaltyTransactionRetentionMonths);
+        return tables;
+    }
+
+    /**
+     * Month of a {@code <table>_pYYYYMM} partition, null for the default partition or foreign names
+     */
+    static YearMonth partitionMonth(String table, String partition) {
+        Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+        if (!matcher.matches() || !matcher.group(1).equals(table)) {
+            return null;
+        }
+        return YearMonth.parse(matcher.group(2), PARTITION_MONTH);
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
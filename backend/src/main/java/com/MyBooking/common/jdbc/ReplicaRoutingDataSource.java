@@ -0,0 +1,186 @@
+package com.MyBooking.common.jdbc;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The lookup key is decided when the first statement needs a connection, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} (the transaction's read-only
+ * flag is only bound after begin). Replicas are picked round-robin among those whose last lag check
+ * succeeded within {@code maxLagMillis}; with none left reads fall back to the primary.
+ * After a committed write the current user's reads stay on the primary for {@code stickyMillis}
+ * (read-your-writes), so a client who just booked sees the reservation.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long stickyMillis;
+    private final String lagQuery;
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong readWriteConnections = new AtomicLong();
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+    private final AtomicLong stickyReads = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+                                    long maxLagMillis, long stickyMillis, String lagQuery) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<Replica> replicaList = new ArrayList<>();
+        replicaDataSources.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            replicaList.add(new Replica(name, dataSource));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.replicas = Collections.unmodifiableList(replicaList);
+        this.maxLagMillis = maxLagMillis;
+        this.stickyMillis = stickyMillis;
+        this.lagQuery = lagQuery;
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readWriteConnections.incrementAndGet();
+            rememberWrite();
+            return PRIMARY;
+        }
+        String user = currentUser();
+        if (user != null && isSticky(user)) {
+            stickyReads.incrementAndGet();
+            return PRIMARY;
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (replica.available) {
+                replicaReads.incrementAndGet();
+                return replica.name;
+            }
+        }
+        primaryReads.incrementAndGet();
+        return PRIMARY;
+    }
+
+    /**
+     * Run the lag query on every replica; unreachable or lagging replicas stop receiving reads
+     */
+    public void refreshReplicaLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                replica.lagMillis = resultSet.next() ? resultSet.getLong(1) : 0L;
+                replica.available = replica.lagMillis <= maxLagMillis;
+            } catch (Exception e) {
+                if (replica.available) {
+                    System.err.println("Read replica " + replica.name + " unavailable, reading from primary: " + e.getMessage());
+                }
+                replica.lagMillis = -1L;
+                replica.available = false;
+            }
+        }
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until < now);
+    }
+
+    /**
+     * Keep the user's reads on the primary for the sticky window
+     */
+    public void markWrite(String user) {
+        stickyUntil.put(user, System.currentTimeMillis() + stickyMillis);
+    }
+
+    public boolean isSticky(String user) {
+        Long until = stickyUntil.get(user);
+        return until != null && until >= System.currentTimeMillis();
+    }
+
+    /**
+     * Close the primary and replica pools
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource target : getResolvedDataSources().values()) {
+            if (target instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getReadWriteConnections() { return readWriteConnections.get(); }
+    public long getReplicaReads() { return replicaReads.get(); }
+    public long getPrimaryReads() { return primaryReads.get(); }
+    public long getStickyReads() { return stickyReads.get(); }
+
+    private void rememberWrite() {
+        String user = currentUser();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWrite(user);
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    // ========== INNER CLASSES ==========
+
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        // Unknown until the first lag check
+        private volatile boolean available = false;
+        private volatile long lagMillis = -1L;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() { return name; }
+        public boolean isAvailable() { return available; }
+        public long getLagMillis() { return lagMillis; }
+    }
+}
@@ -1,6 +1,9 @@
 package com.MyBooking.common.mapper;
 
+import org.springframework.data.domain.Page;
+
 import java.util.List;
+import java.util.function.Function;
 
 public class PageResponse<T> {
     private List<T> content;
@@ -20,6 +23,15 @@ public class PageResponse<T> {
         this.number = number;
     }
     
+    /**
+     * Lean page envelope for list endpoints: the mapped rows plus the paging numbers,
+     * without PageImpl's pageable/sort objects
+     */
+    public static <E, T> PageResponse<T> from(Page<E> page, Function<? super E, ? extends T> mapper) {
+        List<T> content = page.getContent().stream().<T>map(mapper).toList();
+        return new PageResponse<>(content, page.getTotalElements(), page.getTotalPages(), page.getSize(), page.getNumber());
+    }
+    
     // Getters and setters
     public List<T> getContent() { return content; }
     public void setContent(List<T> content) { this.content = content; }
@@ -0,0 +1,130 @@
+package com.MyBooking.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the {@link ServiceMetricsAspect#SERVICE_TIMER} timers back out of the registry.
+ * Every timer shares the same percentile-histogram buckets, so overall percentiles are computed by
+ * summing bucket counts across timers (cumulative since startup, bucket upper bound). Needs a registry
+ * that keeps histogram buckets, i.e. Prometheus; SimpleMeterRegistry reports zeros.
+ */
+@Component
+public class ServiceLatencySummary {
+
+    private static final int SLOWEST_OPERATIONS = 5;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Overall call count, mean and p50/p95/p99 in milliseconds, error rate, availability and the
+     * operations with the highest p99
+     */
+    public Map<String, Object> summarize() {
+        Collection<Timer> timers = meterRegistry.find(ServiceMetricsAspect.SERVICE_TIMER).timers();
+        long calls = 0, errors = 0;
+        double totalMillis = 0;
+        TreeMap<Double, Double> buckets = new TreeMap<>();
+        Map<String, List<HistogramSnapshot>> byOperation = new HashMap<>();
+
+        for (Timer timer : timers) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            calls += snapshot.count();
+            totalMillis += snapshot.total(TimeUnit.MILLISECONDS);
+            if (ServiceMetricsAspect.OUTCOME_ERROR.equals(timer.getId().getTag("outcome"))) {
+                errors += snapshot.count();
+            }
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                buckets.merge(bucket.bucket(TimeUnit.MILLISECONDS), bucket.count(), Double::sum);
+            }
+            String operation = timer.getId().getTag("service") + "." + timer.getId().getTag("method");
+            byOperation.computeIfAbsent(operation, key -> new ArrayList<>()).add(snapshot);
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("totalCalls", calls);
+        metrics.put("averageResponseTime", calls == 0 ? 0.0 : round(totalMillis / calls));
+        metrics.put("responseTime50thPercentile", percentile(buckets, calls, 0.50));
+        metrics.put("responseTime95thPercentile", percentile(buckets, calls, 0.95));
+        metrics.put("responseTime99thPercentile", percentile(buckets, calls, 0.99));
+        double errorRate = calls == 0 ? 0.0 : (double) errors / calls;
+        metrics.put("errorRate", round(errorRate * 100));
+        metrics.put("serviceAvailability", round((1 - errorRate) * 100));
+        metrics.put("slowestOperations", slowestOperations(byOperation));
+        return metrics;
+    }
+
+    /**
+     * Share of booking attempts that succeeded (business rejections count as failures), 100 when none yet
+     */
+    public double bookingSuccessRate() {
+        long attempts = 0, succeeded = 0;
+        for (Timer timer : meterRegistry.find(ServiceMetricsAspect.SERVICE_TIMER).tag("service", "ReservationService").timers()) {
+            String method = timer.getId().getTag("method");
+            if ("createReservation".equals(method) || "createReservationWithPoints".equals(method)) {
+                attempts += timer.count();
+                if (ServiceMetricsAspect.OUTCOME_SUCCESS.equals(timer.getId().getTag("outcome"))) {
+                    succeeded += timer.count();
+                }
+            }
+        }
+        return attempts == 0 ? 100.0 : round(100.0 * succeeded / attempts);
+    }
+
+    private List<Map<String, Object>> slowestOperations(Map<String, List<HistogramSnapshot>> byOperation) {
+        List<Map<String, Object>> operations = new ArrayList<>();
+        for (Map.Entry<String, List<HistogramSnapshot>> entry : byOperation.entrySet()) {
+            long calls = 0;
+            TreeMap<Double, Double> buckets = new TreeMap<>();
+            for (HistogramSnapshot snapshot : entry.getValue()) {
+                calls += snapshot.count();
+                for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                    buckets.merge(bucket.bucket(TimeUnit.MILLISECONDS), bucket.count(), Double::sum);
+                }
+            }
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("operation", entry.getKey());
+            operation.put("calls", calls);
+            operation.put("p50", percentile(buckets, calls, 0.50));
+            operation.put("p99", percentile(buckets, calls, 0.99));
+            operations.add(operation);
+        }
+        operations.sort(Comparator.comparingDouble((Map<String, Object> operation) -> (Double) operation.get("p99")).reversed());
+        return operations.subList(0, Math.min(SLOWEST_OPERATIONS, operations.size()));
+    }
+
+    /**
+     * Upper bound (ms) of the first bucket whose cumulative count reaches the quantile
+     */
+    static double percentile(TreeMap<Double, Double> cumulativeBuckets, long count, double quantile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        double rank = Math.ceil(quantile * count);
+        for (Map.Entry<Double, Double> bucket : cumulativeBuckets.entrySet()) {
+            if (bucket.getValue() >= rank) {
+                return round(bucket.getKey());
+            }
+        }
+        return cumulativeBuckets.isEmpty() ? 0.0 : round(cumulativeBuckets.lastKey());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
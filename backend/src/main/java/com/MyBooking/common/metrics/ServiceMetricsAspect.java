@@ -0,0 +1,74 @@
+package com.MyBooking.common.metrics;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.exception.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@value #SERVICE_TIMER} (tags: service, method, outcome) around every public method of a
+ * {@code *Service} bean. Outcome is "success", "rejected" (business rule / not found) or "error".
+ * Calls a service makes on itself are not proxied, so only the outer call is timed.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String SERVICE_TIMER = "mybooking.service";
+    public static final String BOOKINGS_COUNTER = "mybooking.bookings";
+    public static final String LOYALTY_LEDGER_COUNTER = "mybooking.loyalty.ledger.writes";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_ERROR = "error";
+
+    /** Successful calls that also increment a business counter, keyed by Service.method */
+    private static final Map<String, String> BUSINESS_COUNTERS = Map.of(
+        "ReservationService.createReservation", BOOKINGS_COUNTER,
+        "ReservationService.createReservationWithPoints", BOOKINGS_COUNTER,
+        "LoyaltyService.earnPoints", LOYALTY_LEDGER_COUNTER,
+        "LoyaltyService.redeemPoints", LOYALTY_LEDGER_COUNTER,
+        "LoyaltyService.processReservationPoints", LOYALTY_LEDGER_COUNTER,
+        "LoyaltyService.refundReservationPoints", LOYALTY_LEDGER_COUNTER);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.MyBooking..*Service.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String outcome = OUTCOME_ERROR;
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } catch (BusinessRuleException | NotFoundException e) {
+            outcome = OUTCOME_REJECTED;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder(SERVICE_TIMER)
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+            String counter = BUSINESS_COUNTERS.get(service + "." + method);
+            if (counter != null && OUTCOME_SUCCESS.equals(outcome)) {
+                Counter.builder(counter).tag("method", method).register(meterRegistry).increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.MyBooking.common.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Thread-bound count of the SQL statements Hibernate prepares, grouped by statement shape.
+ * A scope is opened per HTTP request by {@link SqlStatementFilter} (or around an operation in tests);
+ * statements outside an open scope are not counted. JdbcTemplate SQL does not go through Hibernate
+ * and is therefore not included.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /** "in (?, ?, ?)" and "values (?, ?), (?, ?)" collapse so batch sizes do not create new shapes */
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)(\\s*,\\s*\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\))*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementCounter() {}
+
+    /**
+     * Open a scope on the current thread; returns the enclosing scope (if any) to restore with {@link #stop}
+     */
+    public static Scope start() {
+        Scope previous = CURRENT.get();
+        CURRENT.set(new Scope());
+        return previous;
+    }
+
+    /**
+     * Close the current scope and return what it counted
+     */
+    public static Stats stop(Scope previous) {
+        Scope scope = CURRENT.get();
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+            if (scope != null) {
+                scope.shapes.forEach((shape, count) -> previous.shapes.merge(shape, count, Integer::sum));
+                previous.total += scope.total;
+            }
+        }
+        return scope == null ? new Stats(0, Collections.emptyMap()) : new Stats(scope.total, scope.shapes);
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.total++;
+            scope.shapes.merge(shape(sql), 1, Integer::sum);
+        }
+    }
+
+    static String shape(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(normalized).replaceAll("(?)");
+    }
+
+    // ========== INNER CLASSES ==========
+
+    public static final class Scope {
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int total;
+
+        private Scope() {}
+    }
+
+    public static final class Stats {
+        private final int total;
+        private final Map<String, Integer> shapes;
+
+        Stats(int total, Map<String, Integer> shapes) {
+            this.total = total;
+            this.shapes = Collections.unmodifiableMap(new LinkedHashMap<>(shapes));
+        }
+
+        /**
+         * Shapes executed at least {@code threshold} times, most repeated first (N+1 candidates)
+         */
+        public Map<String, Integer> repeatedShapes(int threshold) {
+            return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+        }
+
+        public int getTotal() { return total; }
+        public Map<String, Integer> getShapes() { return shapes; }
+    }
+}
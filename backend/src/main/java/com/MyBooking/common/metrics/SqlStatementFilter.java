@@ -0,0 +1,102 @@
+package com.MyBooking.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the Hibernate statements of each request and records them per endpoint
+ * ({@value #STATEMENTS_SUMMARY}). Shapes repeated at least {@code sql.inspector.repeat-threshold} times
+ * in one request are reported as likely N+1 ({@value #REPEATED_COUNTER} and a warning).
+ * With {@code sql.inspector.header-enabled} (dev profile) the counts are also returned as response
+ * headers; the body is buffered for that, so keep it off in production. Streamed responses are never
+ * buffered: server-sent events, and paths under {@code sql.inspector.unbuffered-paths} (set by the
+ * modules that stream files, e.g. photos).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_SUMMARY = "mybooking.http.sql.statements";
+    public static final String REPEATED_COUNTER = "mybooking.http.sql.repeated";
+    public static final String COUNT_HEADER = "X-SQL-Statement-Count";
+    public static final String REPEATED_HEADER = "X-SQL-Repeated-Statements";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sql.inspector.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Value("${sql.inspector.header-enabled:false}")
+    private boolean headerEnabled;
+
+    @Value("${sql.inspector.unbuffered-paths:}")
+    private List<String> unbufferedPaths = List.of();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Never buffer streamed responses (server-sent events, files handed to sendfile)
+        boolean streaming = String.valueOf(request.getHeader("Accept")).contains("text/event-stream")
+            || isUnbufferedPath(request.getRequestURI());
+        ContentCachingResponseWrapper buffered = headerEnabled && !streaming ? new ContentCachingResponseWrapper(response) : null;
+        SqlStatementCounter.Scope previous = SqlStatementCounter.start();
+        SqlStatementCounter.Stats stats;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            stats = SqlStatementCounter.stop(previous);
+        }
+
+        String endpoint = endpoint(request);
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+            .tag("method", request.getMethod())
+            .tag("uri", endpoint)
+            .register(meterRegistry)
+            .record(stats.getTotal());
+
+        Map<String, Integer> repeated = stats.repeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder(REPEATED_COUNTER)
+                .tag("method", request.getMethod())
+                .tag("uri", endpoint)
+                .register(meterRegistry)
+                .increment();
+            Map.Entry<String, Integer> worst = repeated.entrySet().iterator().next();
+            System.err.println("Possible N+1 on " + request.getMethod() + " " + endpoint + ": " + worst.getValue()
+                + "x " + worst.getKey() + " (" + stats.getTotal() + " statements in request)");
+        }
+
+        if (buffered != null) {
+            buffered.setHeader(COUNT_HEADER, String.valueOf(stats.getTotal()));
+            buffered.setHeader(REPEATED_HEADER, String.valueOf(repeated.values().stream().mapToInt(Integer::intValue).sum()));
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private boolean isUnbufferedPath(String uri) {
+        return unbufferedPaths.stream().anyMatch(prefix -> !prefix.isBlank() && uri.startsWith(prefix.trim()));
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
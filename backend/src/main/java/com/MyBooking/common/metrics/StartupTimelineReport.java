@@ -0,0 +1,61 @@
+package com.MyBooking.common.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Prints how long the application took to become ready and, when the startup was recorded
+ * (STARTUP_TIMELINE=true, see HotelManagementApplication), its slowest steps: bean instantiations,
+ * context refresh phases, etc. The full timeline stays available at /actuator/startup (ADMIN).
+ */
+@Component
+public class StartupTimelineReport {
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${startup.timeline.top:15}")
+    private int top = 15;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        long jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.out.println("Startup: ready in " + event.getTimeTaken().toMillis() + " ms (JVM up " + jvmUptime + " ms)");
+        ApplicationStartup startup = applicationContext.getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering) {
+            slowestSteps(buffering.getBufferedTimeline(), top).forEach(line -> System.out.println("  " + line));
+        }
+    }
+
+    /**
+     * The n longest recorded steps, formatted as "duration name tags"
+     */
+    static List<String> slowestSteps(StartupTimeline timeline, int n) {
+        return timeline.getEvents().stream()
+            .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+            .limit(n)
+            .map(StartupTimelineReport::format)
+            .toList();
+    }
+
+    private static String format(StartupTimeline.TimelineEvent event) {
+        StringBuilder line = new StringBuilder(String.format("%6d ms  %s", event.getDuration().toMillis(),
+            event.getStartupStep().getName()));
+        for (StartupStep.Tag tag : event.getStartupStep().getTags()) {
+            line.append(' ').append(tag.getKey()).append('=').append(tag.getValue());
+        }
+        return line.toString();
+    }
+}
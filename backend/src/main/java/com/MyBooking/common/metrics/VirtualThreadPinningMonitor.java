@@ -0,0 +1,85 @@
+package com.MyBooking.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Streams the JFR {@value #PINNED_EVENT} event (Java 21+) and reports virtual threads that blocked
+ * while pinned to their carrier, e.g. inside a synchronized block of a JDBC driver or our own code.
+ * Each occurrence increments {@value #PINNED_COUNTER} tagged with the first com.MyBooking frame
+ * (or the top frame) and is logged with that location.
+ */
+@Component
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    public static final String PINNED_COUNTER = "mybooking.threads.pinned";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${threads.pinning-monitor.enabled:false}")
+    private boolean enabled;
+
+    @Value("${threads.pinning-monitor.threshold-ms:20}")
+    private long thresholdMillis;
+
+    private RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (Runtime.version().feature() < 21) {
+            System.err.println("Virtual thread pinning monitor needs Java 21+, running on " + Runtime.version());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    void onPinned(RecordedEvent event) {
+        String location = location(event.getStackTrace());
+        Counter.builder(PINNED_COUNTER).tag("location", location).register(meterRegistry).increment();
+        System.err.println("Virtual thread pinned for " + event.getDuration().toMillis() + "ms at " + location);
+    }
+
+    static String location(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("com.MyBooking.")) {
+                return describe(frame);
+            }
+        }
+        return describe(top);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
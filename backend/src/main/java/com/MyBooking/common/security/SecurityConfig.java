@@ -1,7 +1,9 @@
 package com.MyBooking.common.security; 
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean; 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -31,6 +33,11 @@ public class SecurityConfig {
                 .requestMatchers("/api/rooms").permitAll() // Allow public access to rooms list
                 .requestMatchers("/api/events").permitAll() // Allow public access to events list
                 .requestMatchers("/api/announcements").permitAll() // Allow public access to announcements
+                .requestMatchers(HttpMethod.GET, "/api/photos/**").permitAll() // Photo files are loaded by <img> tags
+                .requestMatchers(HttpMethod.HEAD, "/api/photos/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // Probes and Prometheus scrape
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // Completion of already authorized SSE streams
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
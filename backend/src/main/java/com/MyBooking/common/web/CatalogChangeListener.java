@@ -0,0 +1,28 @@
+package com.MyBooking.common.web;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA listener that drops the cached responses of the entity's {@link CatalogRegion}.
+ * Instantiated by Hibernate through Spring, so the cache is optional (absent in JPA slice tests).
+ */
+public class CatalogChangeListener {
+
+    @Autowired
+    private ObjectProvider<CatalogResponseCache> catalogResponseCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        CatalogRegion region = entity.getClass().getAnnotation(CatalogRegion.class);
+        CatalogResponseCache cache = catalogResponseCache != null ? catalogResponseCache.getIfAvailable() : null;
+        if (region != null && cache != null) {
+            cache.invalidate(region.value());
+        }
+    }
+}
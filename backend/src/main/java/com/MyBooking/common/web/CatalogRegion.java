@@ -0,0 +1,16 @@
+package com.MyBooking.common.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity whose writes invalidate a {@link CatalogResponseCache} region.
+ * Use together with {@code @EntityListeners(CatalogChangeListener.class)}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogRegion {
+    String value();
+}
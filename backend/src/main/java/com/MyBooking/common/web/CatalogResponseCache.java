@@ -0,0 +1,291 @@
+package com.MyBooking.common.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Conditional GET and serialized-response cache for the public catalog (rooms, events).
+ * <p>
+ * Each region has a version derived from its tables (row count + latest updated_at), memoized for
+ * {@code catalog.cache.version-ttl-ms} and dropped by {@link CatalogChangeListener} on every write.
+ * The strong ETag is that version plus a hash of the request path and sorted query parameters, so
+ * a matching If-None-Match is answered with 304 without loading anything. Otherwise the JSON bytes
+ * are served from memory while the region version is unchanged, or rebuilt and stored. Bodies of at
+ * least {@code catalog.cache.gzip-min-bytes} also keep a gzipped copy, made once per version and sent
+ * to clients that accept gzip, so hot lists are not recompressed by the connector on every request.
+ * The gzipped copy has its own strong ETag (suffix "-gz"), as each content-coding needs a distinct one.
+ * Call it after authorization (inside the @PreAuthorize controller method).
+ */
+@Component
+public class CatalogResponseCache {
+
+    public static final String ROOMS = "rooms";
+    public static final String EVENTS = "events";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${catalog.cache.version-ttl-ms:1000}")
+    private long versionTtlMillis = 1000;
+
+    @Value("${catalog.cache.max-entries:2000}")
+    private int maxEntries = 2000;
+
+    @Value("${catalog.cache.gzip-min-bytes:2048}")
+    private int gzipMinBytes = 2048;
+
+    private final Map<String, RegionVersion> versions = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Answer a catalog GET: 304 when the client's ETag is current, cached bytes when available,
+     * otherwise load, serialize and cache the body
+     */
+    public ResponseEntity<?> respond(HttpServletRequest request, String region, CacheControl cacheControl,
+                                     Supplier<String> versionLoader, Supplier<?> bodyLoader) {
+        String version = version(region, versionLoader);
+        String key = key(region, request);
+        String etag = etag(version, key);
+
+        String matched = matchingEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag);
+        if (matched != null) {
+            count(region, "not_modified");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.etag.equals(etag)) {
+            count(region, "hit");
+            return ok(request, cached, cacheControl);
+        }
+
+        count(region, "miss");
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(bodyLoader.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + region + " response", e);
+        }
+        if (responses.size() >= maxEntries) {
+            responses.clear();
+        }
+        cached = new CachedResponse(etag, body);
+        responses.put(key, cached);
+        return ok(request, cached, cacheControl);
+    }
+
+    /**
+     * Forget the region's version now and again after the surrounding transaction completes,
+     * so a version read by a concurrent request before commit cannot outlive the write
+     */
+    public void invalidate(String region) {
+        versions.remove(region);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.remove(region);
+                }
+            });
+        }
+    }
+
+    /**
+     * Compact version string from a repository version row (counts and timestamps)
+     */
+    public static String versionOf(List<Object[]> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return "0";
+        }
+        StringBuilder version = new StringBuilder();
+        for (Object part : rows.get(0)) {
+            if (version.length() > 0) {
+                version.append('.');
+            }
+            if (part instanceof LocalDateTime timestamp) {
+                version.append(Long.toString(timestamp.toInstant(ZoneOffset.UTC).toEpochMilli(), 36));
+            } else if (part instanceof Number number) {
+                version.append(Long.toString(number.longValue(), 36));
+            } else {
+                version.append(part == null ? "0" : part.toString());
+            }
+        }
+        return version.toString();
+    }
+
+    public int size() {
+        return responses.size();
+    }
+
+    private String version(String region, Supplier<String> versionLoader) {
+        long now = System.currentTimeMillis();
+        RegionVersion current = versions.get(region);
+        if (current == null || now - current.loadedAt > versionTtlMillis) {
+            current = new RegionVersion(versionLoader.get(), now);
+            versions.put(region, current);
+        }
+        return current.version;
+    }
+
+    static String key(String region, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(region).append('|').append(request.getRequestURI());
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    static String etag(String version, String key) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return "\"" + version + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    /**
+     * ETag of the gzipped variant: "<version>-<crc>" becomes "<version>-<crc>-gz"
+     */
+    static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    /**
+     * The ETag (identity or gzip variant) matched by If-None-Match, to send back with the 304; null if none
+     */
+    static String matchingEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String gzipEtag = gzipEtag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return etag;
+            }
+            if (value.equals(gzipEtag)) {
+                return gzipEtag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Accept-Encoding lists gzip (or *) without q=0
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+                    refused = true;
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private ResponseEntity<byte[]> ok(HttpServletRequest request, CachedResponse cached, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .cacheControl(cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (cached.body.length >= gzipMinBytes && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            byte[] gzipped = cached.gzipped;
+            if (gzipped == null) {
+                // Racing requests may both compress; either result is identical
+                gzipped = gzip(cached.body);
+                cached.gzipped = gzipped;
+            }
+            return response.eTag(gzipEtag(cached.etag)).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+        }
+        return response.eTag(cached.etag).body(cached.body);
+    }
+
+    private void count(String region, String result) {
+        Counter.builder("mybooking.catalog.cache").tag("region", region).tag("result", result)
+            .register(meterRegistry).increment();
+    }
+
+    // ========== INNER CLASSES ==========
+
+    private static final class RegionVersion {
+        private final String version;
+        private final long loadedAt;
+
+        private RegionVersion(String version, long loadedAt) {
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private static final class CachedResponse {
+        private final String etag;
+        private final byte[] body;
+        private volatile byte[] gzipped;
+
+        private CachedResponse(String etag, byte[] body) {
+            this.etag = etag;
+            this.body = body;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.MyBooking.employee.controller;
 
+import com.MyBooking.auth.domain.User;
 import com.MyBooking.employee.dto.*;
+import com.MyBooking.employee.service.EmployeeAvailabilityService;
 import com.MyBooking.employee.service.EmployeeService;
+import com.MyBooking.employee.service.ShiftRosterService;
+import com.MyBooking.employee.service.TaskDispatchService;
 import com.MyBooking.employee.domain.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -24,6 +30,15 @@ public class AdminEmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private ShiftRosterService shiftRosterService;
+
+    @Autowired
+    private EmployeeAvailabilityService employeeAvailabilityService;
+
+    @Autowired
+    private TaskDispatchService taskDispatchService;
+
     // ==================== EMPLOYEE MANAGEMENT ====================
 
     @PostMapping
@@ -121,6 +136,26 @@ public class AdminEmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    // ==================== TASK DISPATCH ====================
+
+    @PostMapping("/tasks/dispatch")
+    public ResponseEntity<TaskDispatchResultDto> enqueueTasks(@Valid @RequestBody TaskEnqueueRequestDto request) {
+        TaskDispatchResultDto response = taskDispatchService.enqueueTasks(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/tasks/dispatch/auto-assign")
+    public ResponseEntity<TaskDispatchResultDto> autoAssignTasks() {
+        TaskDispatchResultDto response = taskDispatchService.autoAssign();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/tasks/dispatch/queues")
+    public ResponseEntity<List<TaskQueueStatsDto>> getTaskQueueStats() {
+        List<TaskQueueStatsDto> response = taskDispatchService.getQueueStats();
+        return ResponseEntity.ok(response);
+    }
+
     // ==================== LEAVE REQUEST MANAGEMENT ====================
 
     @PutMapping("/leave-requests/{requestId}/approve")
@@ -273,6 +308,20 @@ public class AdminEmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    // ==================== ROSTER PLANNING ====================
+
+    @PostMapping("/roster/plan")
+    public ResponseEntity<RosterPlanResponseDto> planRoster(@Valid @RequestBody RosterPlanRequestDto request) {
+        RosterPlanResponseDto response = shiftRosterService.planRoster(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/roster/apply")
+    public ResponseEntity<RosterPlanResponseDto> applyRoster(@Valid @RequestBody RosterPlanRequestDto request) {
+        RosterPlanResponseDto response = shiftRosterService.applyRoster(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     // ==================== STATISTICS ====================
 
     @GetMapping("/statistics")
@@ -283,6 +332,16 @@ public class AdminEmployeeController {
 
     // ==================== AVAILABILITY CHECKS ====================
 
+    // JSON by default, CBOR for clients sending Accept: application/cbor
+    @GetMapping(value = "/availability", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<EmployeeAvailabilityCalendarDto> getAvailabilityCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String jobTitle) {
+        EmployeeAvailabilityCalendarDto response = employeeAvailabilityService.getAvailability(startDate, endDate, jobTitle);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{employeeId}/availability")
     public ResponseEntity<EmployeeAvailabilityDto> checkEmployeeAvailability(@PathVariable Long employeeId) {
         boolean available = employeeService.isEmployeeAvailableForTask(employeeId);
@@ -326,11 +385,12 @@ public class AdminEmployeeController {
     }
 
     private TaskResponseDto convertToTaskResponseDto(EmployeeTask task) {
-        return new TaskResponseDto(
+        User employee = task.getEmployee(); // null while queued
+        TaskResponseDto dto = new TaskResponseDto(
                 task.getId(),
-                task.getEmployee().getId(),
-                task.getEmployee().getFirstName() + " " + task.getEmployee().getLastName(),
-                task.getEmployee().getEmail(),
+                employee != null ? employee.getId() : null,
+                employee != null ? employee.getFirstName() + " " + employee.getLastName() : null,
+                employee != null ? employee.getEmail() : null,
                 task.getTitle(),
                 task.getDescription(),
                 task.getStatus(),
@@ -339,6 +399,11 @@ public class AdminEmployeeController {
                 task.getCreatedAt(),
                 task.getUpdatedAt()
         );
+        dto.setQueue(task.getQueue());
+        dto.setPriority(task.getPriority());
+        dto.setDueAt(task.getDueAt());
+        dto.setAssignedAt(task.getAssignedAt());
+        return dto;
     }
 
     private LeaveRequestResponseDto convertToLeaveRequestResponseDto(LeaveRequest request) {
@@ -1,7 +1,12 @@
 package com.MyBooking.employee.controller;
 
+import com.MyBooking.announcement.dto.AnnouncementFeedItemDto;
+import com.MyBooking.announcement.dto.AnnouncementUnreadDto;
+import com.MyBooking.announcement.service.AnnouncementInboxService;
+import com.MyBooking.auth.domain.User;
 import com.MyBooking.employee.dto.*;
 import com.MyBooking.employee.service.EmployeeService;
+import com.MyBooking.employee.service.TaskDispatchService;
 import com.MyBooking.employee.domain.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -23,6 +28,12 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private TaskDispatchService taskDispatchService;
+
+    @Autowired
+    private AnnouncementInboxService announcementInboxService;
+
     // ==================== EMPLOYEE PROFILE ====================
 
     @GetMapping("/profile")
@@ -62,6 +73,36 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/tasks/claim")
+    public ResponseEntity<TaskResponseDto> claimNextTask(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam String queue) {
+        EmployeeTask task = taskDispatchService.claimNextTask(userId, queue);
+        TaskResponseDto response = convertToTaskResponseDto(task);
+        return ResponseEntity.ok(response);
+    }
+
+    // ==================== ANNOUNCEMENTS ====================
+
+    @GetMapping("/announcements")
+    public ResponseEntity<Page<AnnouncementFeedItemDto>> getAnnouncementFeed(
+            @RequestHeader("X-User-Id") Long userId,
+            Pageable pageable) {
+        return ResponseEntity.ok(announcementInboxService.getFeed(userId, pageable));
+    }
+
+    @GetMapping("/announcements/unread-count")
+    public ResponseEntity<AnnouncementUnreadDto> getUnreadAnnouncementCount(@RequestHeader("X-User-Id") Long userId) {
+        return ResponseEntity.ok(announcementInboxService.getUnread(userId));
+    }
+
+    @PostMapping("/announcements/read")
+    public ResponseEntity<AnnouncementUnreadDto> markAnnouncementsRead(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam(required = false) Long upTo) {
+        return ResponseEntity.ok(announcementInboxService.markRead(userId, upTo));
+    }
+
     // ==================== LEAVE REQUEST MANAGEMENT ====================
 
     @PostMapping("/leave-requests")
@@ -161,11 +202,12 @@ public class EmployeeController {
     }
 
     private TaskResponseDto convertToTaskResponseDto(EmployeeTask task) {
-        return new TaskResponseDto(
+        User employee = task.getEmployee(); // null while queued
+        TaskResponseDto dto = new TaskResponseDto(
                 task.getId(),
-                task.getEmployee().getId(),
-                task.getEmployee().getFirstName() + " " + task.getEmployee().getLastName(),
-                task.getEmployee().getEmail(),
+                employee != null ? employee.getId() : null,
+                employee != null ? employee.getFirstName() + " " + employee.getLastName() : null,
+                employee != null ? employee.getEmail() : null,
                 task.getTitle(),
                 task.getDescription(),
                 task.getStatus(),
@@ -174,6 +216,11 @@ public class EmployeeController {
                 task.getCreatedAt(),
                 task.getUpdatedAt()
         );
+        dto.setQueue(task.getQueue());
+        dto.setPriority(task.getPriority());
+        dto.setDueAt(task.getDueAt());
+        dto.setAssignedAt(task.getAssignedAt());
+        return dto;
     }
 
     private LeaveRequestResponseDto convertToLeaveRequestResponseDto(LeaveRequest request) {
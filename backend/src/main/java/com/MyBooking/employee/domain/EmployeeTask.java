@@ -12,12 +12,13 @@ import java.time.LocalDateTime;
 public class EmployeeTask {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_task_id_seq")
+    @SequenceGenerator(name = "employee_task_id_seq", sequenceName = "employee_task_id_seq", allocationSize = 50)
     private Long id;
     
+    // Null while the task waits in a dispatch queue
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "employee_user_id", nullable = false)
-    @NotNull(message = "Employee is required")
+    @JoinColumn(name = "employee_user_id")
     private User employee;
     
     @NotBlank(message = "Task title is required")
@@ -42,6 +43,24 @@ public class EmployeeTask {
     @Column(name = "photo_url", length = 500)
     private String photoUrl;
     
+    @Size(max = 64, message = "Queue must not exceed 64 characters")
+    @Column(name = "queue", length = 64)
+    private String queue;
+    
+    @NotNull(message = "Task priority is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 16)
+    private TaskPriority priority = TaskPriority.NORMAL;
+    
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+    
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+    
+    @Column(name = "sla_breached_at")
+    private LocalDateTime slaBreachedAt;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -82,6 +101,21 @@ public class EmployeeTask {
     public String getPhotoUrl() { return photoUrl; }
     public void setPhotoUrl(String photoUrl) { this.photoUrl = photoUrl; }
     
+    public String getQueue() { return queue; }
+    public void setQueue(String queue) { this.queue = queue; }
+    
+    public TaskPriority getPriority() { return priority; }
+    public void setPriority(TaskPriority priority) { this.priority = priority; }
+    
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+    
+    public LocalDateTime getAssignedAt() { return assignedAt; }
+    public void setAssignedAt(LocalDateTime assignedAt) { this.assignedAt = assignedAt; }
+    
+    public LocalDateTime getSlaBreachedAt() { return slaBreachedAt; }
+    public void setSlaBreachedAt(LocalDateTime slaBreachedAt) { this.slaBreachedAt = slaBreachedAt; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public class Shift {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shift_id_seq")
+    @SequenceGenerator(name = "shift_id_seq", sequenceName = "shift_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
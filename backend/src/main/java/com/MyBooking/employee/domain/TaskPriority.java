@@ -0,0 +1,27 @@
+package com.MyBooking.employee.domain;
+
+public enum TaskPriority {
+    URGENT("Urgent", 30),
+    HIGH("High", 60),
+    NORMAL("Normal", 240),
+    LOW("Low", 1440);
+    
+    private final String description;
+    private final int slaMinutes;
+    
+    TaskPriority(String description, int slaMinutes) {
+        this.description = description;
+        this.slaMinutes = slaMinutes;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    /**
+     * Time allowed between queueing and completion before the task breaches its SLA
+     */
+    public int getSlaMinutes() {
+        return slaMinutes;
+    }
+}
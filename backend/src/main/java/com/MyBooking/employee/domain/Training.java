@@ -11,7 +11,8 @@ import java.time.LocalDate;
 public class Training {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_id_seq")
+    @SequenceGenerator(name = "training_id_seq", sequenceName = "training_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Training title is required")
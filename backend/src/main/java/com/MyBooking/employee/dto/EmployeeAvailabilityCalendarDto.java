@@ -0,0 +1,35 @@
+package com.MyBooking.employee.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class EmployeeAvailabilityCalendarDto {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int dayCount;
+    private List<EmployeeDayAvailabilityDto> employees;
+
+    // Constructors
+    public EmployeeAvailabilityCalendarDto() {}
+
+    public EmployeeAvailabilityCalendarDto(LocalDate startDate, LocalDate endDate, int dayCount,
+                                           List<EmployeeDayAvailabilityDto> employees) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.dayCount = dayCount;
+        this.employees = employees;
+    }
+
+    // Getters and Setters
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public int getDayCount() { return dayCount; }
+    public void setDayCount(int dayCount) { this.dayCount = dayCount; }
+
+    public List<EmployeeDayAvailabilityDto> getEmployees() { return employees; }
+    public void setEmployees(List<EmployeeDayAvailabilityDto> employees) { this.employees = employees; }
+}
@@ -0,0 +1,31 @@
+package com.MyBooking.employee.dto;
+
+public class EmployeeDayAvailabilityDto {
+    private Long employeeId;
+    private String jobTitle;
+    private String dayBitmap; // one character per day from startDate: '1' available, '0' on leave or in training
+    private int availableDayCount;
+
+    // Constructors
+    public EmployeeDayAvailabilityDto() {}
+
+    public EmployeeDayAvailabilityDto(Long employeeId, String jobTitle, String dayBitmap, int availableDayCount) {
+        this.employeeId = employeeId;
+        this.jobTitle = jobTitle;
+        this.dayBitmap = dayBitmap;
+        this.availableDayCount = availableDayCount;
+    }
+
+    // Getters and Setters
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public String getJobTitle() { return jobTitle; }
+    public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
+
+    public String getDayBitmap() { return dayBitmap; }
+    public void setDayBitmap(String dayBitmap) { this.dayBitmap = dayBitmap; }
+
+    public int getAvailableDayCount() { return availableDayCount; }
+    public void setAvailableDayCount(int availableDayCount) { this.availableDayCount = availableDayCount; }
+}
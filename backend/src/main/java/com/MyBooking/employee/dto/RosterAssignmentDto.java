@@ -0,0 +1,33 @@
+package com.MyBooking.employee.dto;
+
+import java.time.LocalDateTime;
+
+public class RosterAssignmentDto {
+    private Long employeeId;
+    private String jobTitle;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    // Constructors
+    public RosterAssignmentDto() {}
+
+    public RosterAssignmentDto(Long employeeId, String jobTitle, LocalDateTime startAt, LocalDateTime endAt) {
+        this.employeeId = employeeId;
+        this.jobTitle = jobTitle;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    // Getters and Setters
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public String getJobTitle() { return jobTitle; }
+    public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
+
+    public LocalDateTime getStartAt() { return startAt; }
+    public void setStartAt(LocalDateTime startAt) { this.startAt = startAt; }
+
+    public LocalDateTime getEndAt() { return endAt; }
+    public void setEndAt(LocalDateTime endAt) { this.endAt = endAt; }
+}
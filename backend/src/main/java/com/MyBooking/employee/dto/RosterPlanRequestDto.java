@@ -0,0 +1,47 @@
+package com.MyBooking.employee.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.List;
+
+public class RosterPlanRequestDto {
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @Min(value = 1, message = "Max hours per week must be at least 1")
+    private Integer maxHoursPerWeek; // null = configured default
+
+    @NotEmpty(message = "At least one coverage requirement is required")
+    @Valid
+    private List<RosterRequirementDto> requirements;
+
+    // Constructors
+    public RosterPlanRequestDto() {}
+
+    public RosterPlanRequestDto(LocalDate startDate, LocalDate endDate, Integer maxHoursPerWeek,
+                                List<RosterRequirementDto> requirements) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.maxHoursPerWeek = maxHoursPerWeek;
+        this.requirements = requirements;
+    }
+
+    // Getters and Setters
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public Integer getMaxHoursPerWeek() { return maxHoursPerWeek; }
+    public void setMaxHoursPerWeek(Integer maxHoursPerWeek) { this.maxHoursPerWeek = maxHoursPerWeek; }
+
+    public List<RosterRequirementDto> getRequirements() { return requirements; }
+    public void setRequirements(List<RosterRequirementDto> requirements) { this.requirements = requirements; }
+}
@@ -0,0 +1,61 @@
+package com.MyBooking.employee.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class RosterPlanResponseDto {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int employeesConsidered;
+    private int requiredShifts;
+    private int assignedShifts;
+    private boolean persisted;
+    private long planningTimeMs;
+    private List<RosterAssignmentDto> assignments;
+    private List<RosterShortageDto> shortages;
+
+    // Constructors
+    public RosterPlanResponseDto() {}
+
+    public RosterPlanResponseDto(LocalDate startDate, LocalDate endDate, int employeesConsidered,
+                                 int requiredShifts, int assignedShifts, boolean persisted, long planningTimeMs,
+                                 List<RosterAssignmentDto> assignments, List<RosterShortageDto> shortages) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.employeesConsidered = employeesConsidered;
+        this.requiredShifts = requiredShifts;
+        this.assignedShifts = assignedShifts;
+        this.persisted = persisted;
+        this.planningTimeMs = planningTimeMs;
+        this.assignments = assignments;
+        this.shortages = shortages;
+    }
+
+    // Getters and Setters
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public int getEmployeesConsidered() { return employeesConsidered; }
+    public void setEmployeesConsidered(int employeesConsidered) { this.employeesConsidered = employeesConsidered; }
+
+    public int getRequiredShifts() { return requiredShifts; }
+    public void setRequiredShifts(int requiredShifts) { this.requiredShifts = requiredShifts; }
+
+    public int getAssignedShifts() { return assignedShifts; }
+    public void setAssignedShifts(int assignedShifts) { this.assignedShifts = assignedShifts; }
+
+    public boolean isPersisted() { return persisted; }
+    public void setPersisted(boolean persisted) { this.persisted = persisted; }
+
+    public long getPlanningTimeMs() { return planningTimeMs; }
+    public void setPlanningTimeMs(long planningTimeMs) { this.planningTimeMs = planningTimeMs; }
+
+    public List<RosterAssignmentDto> getAssignments() { return assignments; }
+    public void setAssignments(List<RosterAssignmentDto> assignments) { this.assignments = assignments; }
+
+    public List<RosterShortageDto> getShortages() { return shortages; }
+    public void setShortages(List<RosterShortageDto> shortages) { this.shortages = shortages; }
+}
@@ -0,0 +1,56 @@
+package com.MyBooking.employee.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+public class RosterRequirementDto {
+    @NotBlank(message = "Job title is required")
+    private String jobTitle;
+
+    @NotNull(message = "Shift start time is required")
+    private LocalTime shiftStart;
+
+    @NotNull(message = "Shift length is required")
+    @Min(value = 1, message = "Shift length must be at least 1 hour")
+    @Max(value = 24, message = "Shift length must not exceed 24 hours")
+    private Integer shiftHours;
+
+    @NotNull(message = "Required headcount is required")
+    @Min(value = 1, message = "Required headcount must be at least 1")
+    private Integer requiredCount;
+
+    private Set<DayOfWeek> daysOfWeek; // null or empty = every day
+
+    // Constructors
+    public RosterRequirementDto() {}
+
+    public RosterRequirementDto(String jobTitle, LocalTime shiftStart, Integer shiftHours, Integer requiredCount,
+                                Set<DayOfWeek> daysOfWeek) {
+        this.jobTitle = jobTitle;
+        this.shiftStart = shiftStart;
+        this.shiftHours = shiftHours;
+        this.requiredCount = requiredCount;
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    // Getters and Setters
+    public String getJobTitle() { return jobTitle; }
+    public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
+
+    public LocalTime getShiftStart() { return shiftStart; }
+    public void setShiftStart(LocalTime shiftStart) { this.shiftStart = shiftStart; }
+
+    public Integer getShiftHours() { return shiftHours; }
+    public void setShiftHours(Integer shiftHours) { this.shiftHours = shiftHours; }
+
+    public Integer getRequiredCount() { return requiredCount; }
+    public void setRequiredCount(Integer requiredCount) { this.requiredCount = requiredCount; }
+
+    public Set<DayOfWeek> getDaysOfWeek() { return daysOfWeek; }
+    public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) { this.daysOfWeek = daysOfWeek; }
+}
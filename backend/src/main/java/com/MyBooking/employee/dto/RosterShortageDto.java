@@ -0,0 +1,33 @@
+package com.MyBooking.employee.dto;
+
+import java.time.LocalDateTime;
+
+public class RosterShortageDto {
+    private String jobTitle;
+    private LocalDateTime startAt;
+    private int required;
+    private int assigned;
+
+    // Constructors
+    public RosterShortageDto() {}
+
+    public RosterShortageDto(String jobTitle, LocalDateTime startAt, int required, int assigned) {
+        this.jobTitle = jobTitle;
+        this.startAt = startAt;
+        this.required = required;
+        this.assigned = assigned;
+    }
+
+    // Getters and Setters
+    public String getJobTitle() { return jobTitle; }
+    public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
+
+    public LocalDateTime getStartAt() { return startAt; }
+    public void setStartAt(LocalDateTime startAt) { this.startAt = startAt; }
+
+    public int getRequired() { return required; }
+    public void setRequired(int required) { this.required = required; }
+
+    public int getAssigned() { return assigned; }
+    public void setAssigned(int assigned) { this.assigned = assigned; }
+}
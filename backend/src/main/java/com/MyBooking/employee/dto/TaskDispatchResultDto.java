@@ -0,0 +1,31 @@
+package com.MyBooking.employee.dto;
+
+public class TaskDispatchResultDto {
+    private int enqueued;
+    private int assigned;
+    private int slaBreached;
+    private long elapsedMs;
+
+    // Constructors
+    public TaskDispatchResultDto() {}
+
+    public TaskDispatchResultDto(int enqueued, int assigned, int slaBreached, long elapsedMs) {
+        this.enqueued = enqueued;
+        this.assigned = assigned;
+        this.slaBreached = slaBreached;
+        this.elapsedMs = elapsedMs;
+    }
+
+    // Getters and Setters
+    public int getEnqueued() { return enqueued; }
+    public void setEnqueued(int enqueued) { this.enqueued = enqueued; }
+
+    public int getAssigned() { return assigned; }
+    public void setAssigned(int assigned) { this.assigned = assigned; }
+
+    public int getSlaBreached() { return slaBreached; }
+    public void setSlaBreached(int slaBreached) { this.slaBreached = slaBreached; }
+
+    public long getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(long elapsedMs) { this.elapsedMs = elapsedMs; }
+}
@@ -0,0 +1,41 @@
+package com.MyBooking.employee.dto;
+
+import com.MyBooking.employee.domain.TaskPriority;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class TaskEnqueueRequestDto {
+    // Skill (matched against employee job titles), optionally with a zone: "Housekeeper" or "Housekeeper@Floor-3"
+    @NotBlank(message = "Queue is required")
+    @Size(max = 64, message = "Queue must not exceed 64 characters")
+    private String queue;
+
+    private TaskPriority priority; // null = NORMAL
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 10000, message = "At most 10000 tasks can be queued at once")
+    @Valid
+    private List<TaskEnqueueItemDto> tasks;
+
+    // Constructors
+    public TaskEnqueueRequestDto() {}
+
+    public TaskEnqueueRequestDto(String queue, TaskPriority priority, List<TaskEnqueueItemDto> tasks) {
+        this.queue = queue;
+        this.priority = priority;
+        this.tasks = tasks;
+    }
+
+    // Getters and Setters
+    public String getQueue() { return queue; }
+    public void setQueue(String queue) { this.queue = queue; }
+
+    public TaskPriority getPriority() { return priority; }
+    public void setPriority(TaskPriority priority) { this.priority = priority; }
+
+    public List<TaskEnqueueItemDto> getTasks() { return tasks; }
+    public void setTasks(List<TaskEnqueueItemDto> tasks) { this.tasks = tasks; }
+}
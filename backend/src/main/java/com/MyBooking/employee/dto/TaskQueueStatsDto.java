@@ -0,0 +1,44 @@
+package com.MyBooking.employee.dto;
+
+import java.time.LocalDateTime;
+
+public class TaskQueueStatsDto {
+    private String queue;
+    private long waiting;
+    private long inProgress;
+    private long slaBreached;
+    private int buffered;
+    private LocalDateTime oldestDueAt;
+
+    // Constructors
+    public TaskQueueStatsDto() {}
+
+    public TaskQueueStatsDto(String queue, long waiting, long inProgress, long slaBreached, int buffered,
+                             LocalDateTime oldestDueAt) {
+        this.queue = queue;
+        this.waiting = waiting;
+        this.inProgress = inProgress;
+        this.slaBreached = slaBreached;
+        this.buffered = buffered;
+        this.oldestDueAt = oldestDueAt;
+    }
+
+    // Getters and Setters
+    public String getQueue() { return queue; }
+    public void setQueue(String queue) { this.queue = queue; }
+
+    public long getWaiting() { return waiting; }
+    public void setWaiting(long waiting) { this.waiting = waiting; }
+
+    public long getInProgress() { return inProgress; }
+    public void setInProgress(long inProgress) { this.inProgress = inProgress; }
+
+    public long getSlaBreached() { return slaBreached; }
+    public void setSlaBreached(long slaBreached) { this.slaBreached = slaBreached; }
+
+    public int getBuffered() { return buffered; }
+    public void setBuffered(int buffered) { this.buffered = buffered; }
+
+    public LocalDateTime getOldestDueAt() { return oldestDueAt; }
+    public void setOldestDueAt(LocalDateTime oldestDueAt) { this.oldestDueAt = oldestDueAt; }
+}
@@ -1,5 +1,6 @@
 package com.MyBooking.employee.dto;
 
+import com.MyBooking.employee.domain.TaskPriority;
 import com.MyBooking.employee.domain.TaskStatus;
 import java.time.LocalDateTime;
 
@@ -13,6 +14,10 @@ public class TaskResponseDto {
     private TaskStatus status;
     private String note;
     private String photoUrl;
+    private String queue;
+    private TaskPriority priority;
+    private LocalDateTime dueAt;
+    private LocalDateTime assignedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -63,6 +68,18 @@ public class TaskResponseDto {
     public String getPhotoUrl() { return photoUrl; }
     public void setPhotoUrl(String photoUrl) { this.photoUrl = photoUrl; }
 
+    public String getQueue() { return queue; }
+    public void setQueue(String queue) { this.queue = queue; }
+
+    public TaskPriority getPriority() { return priority; }
+    public void setPriority(TaskPriority priority) { this.priority = priority; }
+
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+
+    public LocalDateTime getAssignedAt() { return assignedAt; }
+    public void setAssignedAt(LocalDateTime assignedAt) { this.assignedAt = assignedAt; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -2,6 +2,7 @@ package com.MyBooking.employee.repository;
 
 import com.MyBooking.employee.domain.Employee;
 import com.MyBooking.employee.domain.EmployeeStatus;
+import com.MyBooking.employee.domain.TrainingStatus;
 import com.MyBooking.auth.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -62,6 +64,14 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query("SELECT e FROM Employee e WHERE e.status = 'ACTIVE'")
     List<Employee> findActiveEmployees();
     
+    /**
+     * Find employees with a training in the given status covering a date, in one query
+     */
+    @Query("SELECT DISTINCT e FROM Employee e, EmployeeTraining et " +
+           "WHERE et.employee.id = e.userId AND et.status = :status " +
+           "AND et.training.startDate <= :date AND et.training.endDate >= :date")
+    List<Employee> findEmployeesInTrainingOn(@Param("status") TrainingStatus status, @Param("date") LocalDate date);
+    
     /**
      * Find inactive employees
      */
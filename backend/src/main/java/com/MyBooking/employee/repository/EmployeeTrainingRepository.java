@@ -10,7 +10,9 @@ import com.MyBooking.employee.domain.EmployeeTraining;
 import com.MyBooking.employee.domain.TrainingStatus;
 import com.MyBooking.auth.domain.User;
 import com.MyBooking.employee.domain.Training;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -82,6 +84,13 @@ public interface EmployeeTrainingRepository extends JpaRepository<EmployeeTraini
                                                            @Param("startDate") LocalDateTime startDate, 
                                                            @Param("endDate") LocalDateTime endDate);
     
+    // Employee ID, start date and end date of trainings with one of the statuses overlapping a date range
+    @Query("SELECT et.employee.id, t.startDate, t.endDate FROM EmployeeTraining et JOIN et.training t " +
+           "WHERE et.status IN :statuses AND t.startDate <= :endDate AND t.endDate >= :startDate")
+    List<Object[]> findTrainingRangesByStatusesOverlapping(@Param("statuses") Collection<TrainingStatus> statuses,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+    
     // ==================== EXISTENCE CHECKS ====================
     
     // Check if employee has specific training
@@ -89,6 +89,15 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
                                                                 @Param("startDate") LocalDate startDate, 
                                                                 @Param("endDate") LocalDate endDate);
     
+    /**
+     * Employee ID, from date and to date of leave requests with a status overlapping a date range.
+     * Returns plain tuples so roster planning can load a whole period in one query.
+     */
+    @Query("SELECT lr.employee.id, lr.fromDate, lr.toDate FROM LeaveRequest lr WHERE lr.status = :status AND lr.fromDate <= :endDate AND lr.toDate >= :startDate")
+    List<Object[]> findLeaveRangesByStatusOverlapping(@Param("status") LeaveRequestStatus status,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+    
     // ==================== STATUS AND EMPLOYEE COMBINATIONS ====================
     
     /**
@@ -48,6 +48,11 @@ public interface ShiftRepository extends JpaRepository<Shift, Long> {
                                                   @Param("endTime") LocalDateTime endTime, 
                                                   @Param("employeeId") Long employeeId);
     
+    // Employee ID, start and end of all shifts overlapping a time window (roster planning)
+    @Query("SELECT s.employee.id, s.startAt, s.endAt FROM Shift s WHERE s.startAt < :endTime AND s.endAt > :startTime")
+    List<Object[]> findShiftWindowsOverlapping(@Param("startTime") LocalDateTime startTime,
+                                               @Param("endTime") LocalDateTime endTime);
+    
     // ==================== EMPLOYEE AND TIME COMBINED QUERIES ====================
     
     List<Shift> findByEmployeeAndStartAtAfter(User employee, LocalDateTime startTime);
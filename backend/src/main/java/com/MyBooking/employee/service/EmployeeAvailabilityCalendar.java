@@ -0,0 +1,154 @@
+//Availability Calendar - Per-employee day bitmaps for a date range
+//Bit i of a bitmap is day startDate + i
+
+package com.MyBooking.employee.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeAvailabilityCalendar {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int dayCount;
+    private final Map<Long, EmployeeDays> employees = new LinkedHashMap<>();
+
+    public EmployeeAvailabilityCalendar(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+
+    public void addEmployee(Long employeeId, String jobTitle) {
+        employees.put(employeeId, new EmployeeDays(employeeId, jobTitle, dayCount));
+    }
+
+    /**
+     * Mark [fromDate, toDate] as leave for an employee, clipped to the calendar range
+     */
+    public void markLeave(Long employeeId, LocalDate fromDate, LocalDate toDate) {
+        EmployeeDays days = employees.get(employeeId);
+        if (days != null) {
+            mark(days.leaveDays, fromDate, toDate);
+        }
+    }
+
+    /**
+     * Mark [fromDate, toDate] as training for an employee, clipped to the calendar range
+     */
+    public void markTraining(Long employeeId, LocalDate fromDate, LocalDate toDate) {
+        EmployeeDays days = employees.get(employeeId);
+        if (days != null) {
+            mark(days.trainingDays, fromDate, toDate);
+        }
+    }
+
+    public int dayIndex(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(startDate, date);
+    }
+
+    public boolean isAvailable(Long employeeId, LocalDate date) {
+        EmployeeDays days = employees.get(employeeId);
+        int day = dayIndex(date);
+        return days != null && day >= 0 && day < dayCount && days.availableDays().get(day);
+    }
+
+    /**
+     * Employees available on every day between fromDate and toDate (inclusive)
+     */
+    public List<Long> availableThroughout(LocalDate fromDate, LocalDate toDate) {
+        int from = Math.max(0, dayIndex(fromDate));
+        int to = Math.min(dayCount - 1, dayIndex(toDate));
+        List<Long> available = new ArrayList<>();
+        for (EmployeeDays days : employees.values()) {
+            BitSet busy = days.unavailableDays();
+            int next = busy.nextSetBit(from);
+            if (from <= to && (next < 0 || next > to)) {
+                available.add(days.employeeId);
+            }
+        }
+        return available;
+    }
+
+    public List<EmployeeDays> getEmployees() {
+        List<EmployeeDays> ordered = new ArrayList<>(employees.values());
+        ordered.sort(Comparator.comparing(EmployeeDays::getEmployeeId));
+        return ordered;
+    }
+
+    public EmployeeDays getEmployee(Long employeeId) {
+        return employees.get(employeeId);
+    }
+
+    private void mark(BitSet bits, LocalDate fromDate, LocalDate toDate) {
+        int from = Math.max(0, dayIndex(fromDate));
+        int to = Math.min(dayCount - 1, dayIndex(toDate));
+        if (from <= to) {
+            bits.set(from, to + 1);
+        }
+    }
+
+    // Getters
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public int getDayCount() { return dayCount; }
+
+    // ========== INNER CLASSES ==========
+
+    public static class EmployeeDays {
+        private final Long employeeId;
+        private final String jobTitle;
+        private final int dayCount;
+        private final BitSet leaveDays;
+        private final BitSet trainingDays;
+
+        private EmployeeDays(Long employeeId, String jobTitle, int dayCount) {
+            this.employeeId = employeeId;
+            this.jobTitle = jobTitle;
+            this.dayCount = dayCount;
+            this.leaveDays = new BitSet(dayCount);
+            this.trainingDays = new BitSet(dayCount);
+        }
+
+        /**
+         * Days on leave or in training (fresh copy)
+         */
+        public BitSet unavailableDays() {
+            BitSet unavailable = (BitSet) leaveDays.clone();
+            unavailable.or(trainingDays);
+            return unavailable;
+        }
+
+        /**
+         * Days neither on leave nor in training (fresh copy)
+         */
+        public BitSet availableDays() {
+            BitSet available = unavailableDays();
+            available.flip(0, dayCount);
+            return available;
+        }
+
+        /**
+         * Bitmap as a string, one character per day: '1' available, '0' not
+         */
+        public String toBitmap() {
+            BitSet available = availableDays();
+            StringBuilder bitmap = new StringBuilder(dayCount);
+            for (int day = 0; day < dayCount; day++) {
+                bitmap.append(available.get(day) ? '1' : '0');
+            }
+            return bitmap.toString();
+        }
+
+        public Long getEmployeeId() { return employeeId; }
+        public String getJobTitle() { return jobTitle; }
+        public BitSet getLeaveDays() { return leaveDays; }
+        public BitSet getTrainingDays() { return trainingDays; }
+    }
+}
@@ -0,0 +1,106 @@
+//Bulk Availability - Who is available between two dates, for all active employees at once
+//Two range queries (approved leave, open trainings) plus the active employee list, regardless of headcount
+
+package com.MyBooking.employee.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.employee.domain.Employee;
+import com.MyBooking.employee.domain.EmployeeStatus;
+import com.MyBooking.employee.domain.LeaveRequestStatus;
+import com.MyBooking.employee.domain.TrainingStatus;
+import com.MyBooking.employee.dto.EmployeeAvailabilityCalendarDto;
+import com.MyBooking.employee.dto.EmployeeDayAvailabilityDto;
+import com.MyBooking.employee.repository.EmployeeRepository;
+import com.MyBooking.employee.repository.EmployeeTrainingRepository;
+import com.MyBooking.employee.repository.LeaveRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class EmployeeAvailabilityService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    // Trainings that still block the employee on their scheduled days
+    private static final List<TrainingStatus> BLOCKING_TRAINING_STATUSES =
+        List.of(TrainingStatus.ASSIGNED, TrainingStatus.IN_PROGRESS);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private EmployeeTrainingRepository employeeTrainingRepository;
+
+    /**
+     * Load the availability calendar of all active employees between two dates (inclusive).
+     * An employee is unavailable on days covered by approved leave or by an assigned or
+     * in-progress training.
+     */
+    public EmployeeAvailabilityCalendar loadCalendar(LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+
+        EmployeeAvailabilityCalendar calendar = new EmployeeAvailabilityCalendar(startDate, endDate);
+        for (Employee employee : employeeRepository.findByStatus(EmployeeStatus.ACTIVE)) {
+            calendar.addEmployee(employee.getUserId(), employee.getJobTitle());
+        }
+
+        for (Object[] row : leaveRequestRepository.findLeaveRangesByStatusOverlapping(
+                LeaveRequestStatus.APPROVED, startDate, endDate)) {
+            calendar.markLeave((Long) row[0], (LocalDate) row[1], (LocalDate) row[2]);
+        }
+
+        for (Object[] row : employeeTrainingRepository.findTrainingRangesByStatusesOverlapping(
+                BLOCKING_TRAINING_STATUSES, startDate, endDate)) {
+            calendar.markTraining((Long) row[0], (LocalDate) row[1], (LocalDate) row[2]);
+        }
+
+        return calendar;
+    }
+
+    /**
+     * Per-employee day bitmaps, optionally restricted to a job title
+     */
+    public EmployeeAvailabilityCalendarDto getAvailability(LocalDate startDate, LocalDate endDate, String jobTitle) {
+        EmployeeAvailabilityCalendar calendar = loadCalendar(startDate, endDate);
+
+        List<EmployeeDayAvailabilityDto> employees = new ArrayList<>();
+        for (EmployeeAvailabilityCalendar.EmployeeDays days : calendar.getEmployees()) {
+            if (jobTitle != null && !jobTitle.isBlank() && !jobTitle.trim().equalsIgnoreCase(days.getJobTitle())) {
+                continue;
+            }
+            employees.add(new EmployeeDayAvailabilityDto(days.getEmployeeId(), days.getJobTitle(),
+                days.toBitmap(), days.availableDays().cardinality()));
+        }
+
+        return new EmployeeAvailabilityCalendarDto(startDate, endDate, calendar.getDayCount(), employees);
+    }
+
+    /**
+     * IDs of active employees available on every day between two dates (inclusive)
+     */
+    public List<Long> getEmployeesAvailableBetween(LocalDate startDate, LocalDate endDate) {
+        return loadCalendar(startDate, endDate).availableThroughout(startDate, endDate);
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new BusinessRuleException("Start and end dates are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_RANGE_DAYS) {
+            throw new BusinessRuleException("Availability range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
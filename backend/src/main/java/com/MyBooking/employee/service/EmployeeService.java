@@ -390,16 +390,7 @@ public class EmployeeService {
      */
     @Transactional(readOnly = true)
     public List<Employee> getEmployeesInTraining(LocalDate date) {
-        List<EmployeeTraining> inProgressTrainings = employeeTrainingRepository.findByStatus(TrainingStatus.IN_PROGRESS);
-        
-        return inProgressTrainings.stream()
-            .filter(training -> {
-                Training t = training.getTraining();
-                return !date.isBefore(t.getStartDate()) && !date.isAfter(t.getEndDate());
-            })
-            .map(training -> employeeRepository.findByUser(training.getEmployee()).orElse(null))
-            .filter(employee -> employee != null)
-            .toList();
+        return employeeRepository.findEmployeesInTrainingOn(TrainingStatus.IN_PROGRESS, date);
     }
 
     /**
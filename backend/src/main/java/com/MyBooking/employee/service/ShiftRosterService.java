@@ -0,0 +1,226 @@
+//Roster Planning - Staff a period from per-day/per-role coverage requirements
+//Availability - Calendar from EmployeeAvailabilityService plus existing shifts, as per-employee bitsets
+//Apply - Persist a planned roster as shifts in one batch
+
+package com.MyBooking.employee.service;
+
+import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.employee.domain.Shift;
+import com.MyBooking.employee.dto.RosterAssignmentDto;
+import com.MyBooking.employee.dto.RosterPlanRequestDto;
+import com.MyBooking.employee.dto.RosterPlanResponseDto;
+import com.MyBooking.employee.dto.RosterRequirementDto;
+import com.MyBooking.employee.dto.RosterShortageDto;
+import com.MyBooking.employee.repository.ShiftRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+public class ShiftRosterService {
+
+    private static final int MAX_PERIOD_DAYS = 93;
+
+    @Autowired
+    private EmployeeAvailabilityService employeeAvailabilityService;
+
+    @Autowired
+    private ShiftRepository shiftRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${employee.roster.max-hours-per-week:40}")
+    private int defaultMaxHoursPerWeek = 40;
+
+    @Value("${employee.roster.parallelism:4}")
+    private int parallelism = 4;
+
+    // ==================== PLANNING ====================
+
+    /**
+     * Plan a roster without persisting it
+     */
+    @Transactional(readOnly = true)
+    public RosterPlanResponseDto planRoster(RosterPlanRequestDto request) {
+        return toResponse(request, solve(request), false);
+    }
+
+    /**
+     * Plan a roster and save every assignment as a shift
+     */
+    public RosterPlanResponseDto applyRoster(RosterPlanRequestDto request) {
+        if (request.getStartDate() != null && request.getStartDate().isBefore(LocalDate.now())) {
+            throw new BusinessRuleException("Cannot apply a roster starting in the past");
+        }
+
+        Plan plan = solve(request);
+        List<Shift> shifts = new ArrayList<>(plan.result.getAssignments().size());
+        for (ShiftRosterSolver.Assignment assignment : plan.result.getAssignments()) {
+            LocalDateTime startAt = plan.startAt(assignment.getSlot());
+            shifts.add(new Shift(userRepository.getReferenceById(assignment.getEmployeeId()),
+                startAt, startAt.plusHours(assignment.getSlot().getHours())));
+        }
+        shiftRepository.saveAll(shifts);
+
+        return toResponse(request, plan, true);
+    }
+
+    private Plan solve(RosterPlanRequestDto request) {
+        validateRequest(request);
+        long started = System.nanoTime();
+
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        int dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        int weekOffset = startDate.getDayOfWeek().getValue() - 1;
+        int weekCount = (weekOffset + dayCount + 6) / 7;
+        int maxHoursPerWeek = request.getMaxHoursPerWeek() != null ? request.getMaxHoursPerWeek() : defaultMaxHoursPerWeek;
+
+        List<ShiftRosterSolver.Candidate> candidates = loadCandidates(startDate, endDate, dayCount, weekOffset, weekCount);
+
+        // Slot start times stay here, the solver only needs day and hours
+        List<ShiftRosterSolver.Slot> slots = new ArrayList<>();
+        List<RosterRequirementDto> requirementBySlot = new ArrayList<>();
+        for (int day = 0; day < dayCount; day++) {
+            DayOfWeek dayOfWeek = startDate.plusDays(day).getDayOfWeek();
+            for (RosterRequirementDto requirement : request.getRequirements()) {
+                if (requirement.getDaysOfWeek() != null && !requirement.getDaysOfWeek().isEmpty()
+                        && !requirement.getDaysOfWeek().contains(dayOfWeek)) {
+                    continue;
+                }
+                slots.add(new ShiftRosterSolver.Slot(slots.size(), day, requirement.getJobTitle(),
+                    requirement.getShiftHours(), requirement.getRequiredCount()));
+                requirementBySlot.add(requirement);
+            }
+        }
+
+        ShiftRosterSolver.Result result = new ShiftRosterSolver(parallelism)
+            .solve(candidates, slots, dayCount, weekOffset, maxHoursPerWeek);
+
+        int requiredShifts = slots.stream().mapToInt(ShiftRosterSolver.Slot::getRequired).sum();
+        return new Plan(startDate, candidates.size(), requiredShifts, result, requirementBySlot,
+            (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Build one availability bitset per active employee (bit set = day not available)
+     * together with the hours already scheduled per week. Range queries for the whole
+     * period instead of per-employee, per-day checks.
+     */
+    List<ShiftRosterSolver.Candidate> loadCandidates(LocalDate startDate, LocalDate endDate,
+                                                      int dayCount, int weekOffset, int weekCount) {
+        EmployeeAvailabilityCalendar calendar = employeeAvailabilityService.loadCalendar(startDate, endDate);
+
+        Map<Long, ShiftRosterSolver.Candidate> candidates = new HashMap<>();
+        for (EmployeeAvailabilityCalendar.EmployeeDays days : calendar.getEmployees()) {
+            if (days.getJobTitle() == null || days.getJobTitle().isBlank()) {
+                continue;
+            }
+            candidates.put(days.getEmployeeId(), new ShiftRosterSolver.Candidate(
+                days.getEmployeeId(), days.getJobTitle(), days.unavailableDays(), new int[weekCount]));
+        }
+
+        // Existing shifts: the day is taken and the hours count towards the week, including
+        // shifts in the partial weeks just outside the period
+        LocalDateTime windowStart = startDate.minusDays(weekOffset).atStartOfDay();
+        LocalDateTime windowEnd = windowStart.plusDays(weekCount * 7L);
+        for (Object[] row : shiftRepository.findShiftWindowsOverlapping(windowStart, windowEnd)) {
+            ShiftRosterSolver.Candidate candidate = candidates.get((Long) row[0]);
+            if (candidate == null) {
+                continue;
+            }
+            LocalDateTime shiftStart = (LocalDateTime) row[1];
+            LocalDateTime shiftEnd = (LocalDateTime) row[2];
+            int day = (int) ChronoUnit.DAYS.between(startDate, shiftStart.toLocalDate());
+            if (day >= 0 && day < dayCount) {
+                candidate.getUnavailableDays().set(day);
+            }
+            int week = Math.floorDiv(weekOffset + day, 7);
+            if (week >= 0 && week < weekCount) {
+                candidate.getWeeklyHours()[week] += (int) Math.ceil(Duration.between(shiftStart, shiftEnd).toMinutes() / 60.0);
+            }
+        }
+
+        List<ShiftRosterSolver.Candidate> ordered = new ArrayList<>(candidates.values());
+        ordered.sort(Comparator.comparing(ShiftRosterSolver.Candidate::getEmployeeId));
+        return ordered;
+    }
+
+    private void validateRequest(RosterPlanRequestDto request) {
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            throw new BusinessRuleException("Roster start and end dates are required");
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BusinessRuleException("Roster end date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1 > MAX_PERIOD_DAYS) {
+            throw new BusinessRuleException("Roster period cannot exceed " + MAX_PERIOD_DAYS + " days");
+        }
+        if (request.getRequirements() == null || request.getRequirements().isEmpty()) {
+            throw new BusinessRuleException("At least one coverage requirement is required");
+        }
+    }
+
+    private RosterPlanResponseDto toResponse(RosterPlanRequestDto request, Plan plan, boolean persisted) {
+        List<RosterAssignmentDto> assignments = new ArrayList<>(plan.result.getAssignments().size());
+        for (ShiftRosterSolver.Assignment assignment : plan.result.getAssignments()) {
+            LocalDateTime startAt = plan.startAt(assignment.getSlot());
+            assignments.add(new RosterAssignmentDto(assignment.getEmployeeId(), assignment.getSlot().getJobTitle(),
+                startAt, startAt.plusHours(assignment.getSlot().getHours())));
+        }
+        assignments.sort(Comparator.comparing(RosterAssignmentDto::getStartAt)
+            .thenComparing(RosterAssignmentDto::getJobTitle)
+            .thenComparing(RosterAssignmentDto::getEmployeeId));
+
+        List<RosterShortageDto> shortages = new ArrayList<>(plan.result.getShortages().size());
+        for (ShiftRosterSolver.Shortage shortage : plan.result.getShortages()) {
+            shortages.add(new RosterShortageDto(shortage.getSlot().getJobTitle(), plan.startAt(shortage.getSlot()),
+                shortage.getSlot().getRequired(), shortage.getAssigned()));
+        }
+        shortages.sort(Comparator.comparing(RosterShortageDto::getStartAt)
+            .thenComparing(RosterShortageDto::getJobTitle));
+
+        return new RosterPlanResponseDto(request.getStartDate(), request.getEndDate(), plan.employeesConsidered,
+            plan.requiredShifts, assignments.size(), persisted, plan.planningTimeMs, assignments, shortages);
+    }
+
+    // ==================== INNER CLASSES ====================
+
+    private static final class Plan {
+        private final LocalDate startDate;
+        private final int employeesConsidered;
+        private final int requiredShifts;
+        private final ShiftRosterSolver.Result result;
+        private final List<RosterRequirementDto> requirementBySlot;
+        private final long planningTimeMs;
+
+        private Plan(LocalDate startDate, int employeesConsidered, int requiredShifts, ShiftRosterSolver.Result result,
+                     List<RosterRequirementDto> requirementBySlot, long planningTimeMs) {
+            this.startDate = startDate;
+            this.employeesConsidered = employeesConsidered;
+            this.requiredShifts = requiredShifts;
+            this.result = result;
+            this.requirementBySlot = requirementBySlot;
+            this.planningTimeMs = planningTimeMs;
+        }
+
+        private LocalDateTime startAt(ShiftRosterSolver.Slot slot) {
+            return startDate.plusDays(slot.getDay()).atTime(requirementBySlot.get(slot.getIndex()).getShiftStart());
+        }
+    }
+}
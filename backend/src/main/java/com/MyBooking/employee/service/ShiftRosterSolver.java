@@ -0,0 +1,219 @@
+//Roster Solver - Greedy shift assignment over per-day availability bitsets
+//Partitions are independent per job title and are solved in parallel
+
+package com.MyBooking.employee.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class ShiftRosterSolver {
+
+    private final int parallelism;
+
+    public ShiftRosterSolver(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Assign candidates to slots.
+     *
+     * @param candidates     employees with their unavailable days and hours already scheduled per week
+     * @param slots          coverage requirements, one per (day, job title, shift)
+     * @param weekOffset     index of the first planned day within its week (0 = Monday)
+     * @param maxHoursPerWeek upper bound of scheduled hours per employee and week
+     */
+    public Result solve(List<Candidate> candidates, List<Slot> slots, int dayCount, int weekOffset, int maxHoursPerWeek) {
+        Map<String, List<Candidate>> candidatesByRole = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            candidatesByRole.computeIfAbsent(candidate.getRoleKey(), key -> new ArrayList<>()).add(candidate);
+        }
+        Map<String, List<Slot>> slotsByRole = new LinkedHashMap<>();
+        for (Slot slot : slots) {
+            slotsByRole.computeIfAbsent(slot.getRoleKey(), key -> new ArrayList<>()).add(slot);
+        }
+
+        List<Callable<Result>> tasks = new ArrayList<>();
+        for (Map.Entry<String, List<Slot>> entry : slotsByRole.entrySet()) {
+            List<Candidate> roleCandidates = candidatesByRole.getOrDefault(entry.getKey(), List.of());
+            tasks.add(() -> solvePartition(roleCandidates, entry.getValue(), dayCount, weekOffset, maxHoursPerWeek));
+        }
+
+        Result result = new Result();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<Result> future : pool.invokeAll(tasks)) {
+                Result partial = future.get();
+                result.assignments.addAll(partial.assignments);
+                result.shortages.addAll(partial.shortages);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessRuleException("Roster planning was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new BusinessRuleException("Roster planning failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        return result;
+    }
+
+    /**
+     * Fill the slots of one job title. Slots with the least slack (free candidates minus
+     * required headcount) are filled first; within a slot the candidate with the fewest
+     * hours assigned so far is picked, which spreads the load evenly.
+     */
+    Result solvePartition(List<Candidate> candidates, List<Slot> slots, int dayCount, int weekOffset, int maxHoursPerWeek) {
+        int size = candidates.size();
+
+        // Transpose the per-employee bitsets into one bitset of free candidates per day
+        BitSet[] freeByDay = new BitSet[dayCount];
+        for (int day = 0; day < dayCount; day++) {
+            freeByDay[day] = new BitSet(size);
+        }
+        int[][] weeklyHours = new int[size][];
+        int[] assignedHours = new int[size];
+        for (int i = 0; i < size; i++) {
+            Candidate candidate = candidates.get(i);
+            for (int day = candidate.getUnavailableDays().nextClearBit(0); day < dayCount;
+                 day = candidate.getUnavailableDays().nextClearBit(day + 1)) {
+                freeByDay[day].set(i);
+            }
+            weeklyHours[i] = candidate.getWeeklyHours().clone();
+        }
+
+        List<Slot> ordered = new ArrayList<>(slots);
+        ordered.sort(Comparator
+            .comparingInt((Slot slot) -> freeByDay[slot.getDay()].cardinality() - slot.getRequired())
+            .thenComparingInt(Slot::getDay)
+            .thenComparingInt(Slot::getIndex));
+
+        Result result = new Result();
+        for (Slot slot : ordered) {
+            BitSet free = freeByDay[slot.getDay()];
+            int week = (weekOffset + slot.getDay()) / 7;
+            int filled = 0;
+
+            while (filled < slot.getRequired()) {
+                int best = -1;
+                for (int i = free.nextSetBit(0); i >= 0; i = free.nextSetBit(i + 1)) {
+                    if (weeklyHours[i][week] + slot.getHours() > maxHoursPerWeek) {
+                        continue;
+                    }
+                    if (best < 0 || assignedHours[i] < assignedHours[best]) {
+                        best = i;
+                    }
+                }
+                if (best < 0) {
+                    break;
+                }
+
+                // One shift per employee and day
+                free.clear(best);
+                weeklyHours[best][week] += slot.getHours();
+                assignedHours[best] += slot.getHours();
+                result.assignments.add(new Assignment(slot, candidates.get(best).getEmployeeId()));
+                filled++;
+            }
+
+            if (filled < slot.getRequired()) {
+                result.shortages.add(new Shortage(slot, filled));
+            }
+        }
+        return result;
+    }
+
+    static String roleKey(String jobTitle) {
+        return jobTitle == null ? "" : jobTitle.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ========== INNER CLASSES ==========
+
+    public static class Candidate {
+        private final Long employeeId;
+        private final String roleKey;
+        private final BitSet unavailableDays;
+        private final int[] weeklyHours;
+
+        public Candidate(Long employeeId, String jobTitle, BitSet unavailableDays, int[] weeklyHours) {
+            this.employeeId = employeeId;
+            this.roleKey = roleKey(jobTitle);
+            this.unavailableDays = unavailableDays;
+            this.weeklyHours = weeklyHours;
+        }
+
+        public Long getEmployeeId() { return employeeId; }
+        public String getRoleKey() { return roleKey; }
+        public BitSet getUnavailableDays() { return unavailableDays; }
+        public int[] getWeeklyHours() { return weeklyHours; }
+    }
+
+    public static class Slot {
+        private final int index;
+        private final int day;
+        private final String jobTitle;
+        private final String roleKey;
+        private final int hours;
+        private final int required;
+
+        public Slot(int index, int day, String jobTitle, int hours, int required) {
+            this.index = index;
+            this.day = day;
+            this.jobTitle = jobTitle;
+            this.roleKey = roleKey(jobTitle);
+            this.hours = hours;
+            this.required = required;
+        }
+
+        public int getIndex() { return index; }
+        public int getDay() { return day; }
+        public String getJobTitle() { return jobTitle; }
+        public String getRoleKey() { return roleKey; }
+        public int getHours() { return hours; }
+        public int getRequired() { return required; }
+    }
+
+    public static class Assignment {
+        private final Slot slot;
+        private final Long employeeId;
+
+        public Assignment(Slot slot, Long employeeId) {
+            this.slot = slot;
+            this.employeeId = employeeId;
+        }
+
+        public Slot getSlot() { return slot; }
+        public Long getEmployeeId() { return employeeId; }
+    }
+
+    public static class Shortage {
+        private final Slot slot;
+        private final int assigned;
+
+        public Shortage(Slot slot, int assigned) {
+            this.slot = slot;
+            this.assigned = assigned;
+        }
+
+        public Slot getSlot() { return slot; }
+        public int getAssigned() { return assigned; }
+    }
+
+    public static class Result {
+        private final List<Assignment> assignments = new ArrayList<>();
+        private final List<Shortage> shortages = new ArrayList<>();
+
+        public List<Assignment> getAssignments() { return assignments; }
+        public List<Shortage> getShortages() { return shortages; }
+    }
+}
@@ -0,0 +1,81 @@
+//Dispatch Buffer - In-memory priority queue of unassigned tasks for one queue (skill or zone)
+//Ordered by SLA deadline, then ID; a bounded prefetch of the employee_task rows, which stay authoritative
+
+package com.MyBooking.employee.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+
+public class TaskDispatchQueue {
+
+    private static final Comparator<QueuedTask> DEADLINE_ORDER = Comparator
+        .comparing(QueuedTask::getDueAt, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(QueuedTask::getTaskId);
+
+    private final String name;
+    private final PriorityBlockingQueue<QueuedTask> tasks = new PriorityBlockingQueue<>(64, DEADLINE_ORDER);
+    private final Set<Long> taskIds = ConcurrentHashMap.newKeySet();
+
+    public TaskDispatchQueue(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Add a task unless it is already buffered
+     */
+    public void offer(Long taskId, LocalDateTime dueAt) {
+        if (taskIds.add(taskId)) {
+            tasks.offer(new QueuedTask(taskId, dueAt));
+        }
+    }
+
+    /**
+     * Take the most urgent buffered task, or null if empty
+     */
+    public QueuedTask poll() {
+        QueuedTask task = tasks.poll();
+        if (task != null) {
+            taskIds.remove(task.getTaskId());
+        }
+        return task;
+    }
+
+    /**
+     * Drop tasks claimed elsewhere (auto-assignment, another node)
+     */
+    public void removeAll(Collection<Long> claimedIds) {
+        if (claimedIds.isEmpty()) {
+            return;
+        }
+        taskIds.removeAll(claimedIds);
+        tasks.removeIf(task -> claimedIds.contains(task.getTaskId()));
+    }
+
+    public void clear() {
+        tasks.clear();
+        taskIds.clear();
+    }
+
+    public String getName() { return name; }
+    public int size() { return tasks.size(); }
+    public boolean isEmpty() { return tasks.isEmpty(); }
+
+    // ========== INNER CLASSES ==========
+
+    public static class QueuedTask {
+        private final Long taskId;
+        private final LocalDateTime dueAt;
+
+        public QueuedTask(Long taskId, LocalDateTime dueAt) {
+            this.taskId = taskId;
+            this.dueAt = dueAt;
+        }
+
+        public Long getTaskId() { return taskId; }
+        public LocalDateTime getDueAt() { return dueAt; }
+    }
+}
@@ -0,0 +1,361 @@
+//Task Dispatch - Queue unassigned tasks per skill/zone, ordered by priority SLA deadline
+//Claiming - Employees pull the most urgent task under a lock on their row (open-task limit); a compare-and-set update keeps claims exclusive across nodes
+//Auto-Assignment - Periodically spread waiting tasks over available employees by current load
+//SLA Tracking - Stamp tasks still open past their deadline
+
+package com.MyBooking.employee.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.employee.domain.Employee;
+import com.MyBooking.employee.domain.EmployeeTask;
+import com.MyBooking.employee.domain.TaskPriority;
+import com.MyBooking.employee.dto.TaskDispatchResultDto;
+import com.MyBooking.employee.dto.TaskEnqueueItemDto;
+import com.MyBooking.employee.dto.TaskEnqueueRequestDto;
+import com.MyBooking.employee.dto.TaskQueueStatsDto;
+import com.MyBooking.employee.repository.EmployeeTaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class TaskDispatchService {
+
+    private static final String INSERT_TASK_SQL =
+        "INSERT INTO employee_task (title, description, status, queue, priority, due_at, created_at, updated_at) " +
+        "VALUES (?, ?, 'TODO', ?, ?, ?, ?, ?)";
+
+    private static final String LOAD_QUEUE_SQL =
+        "SELECT id, due_at FROM employee_task " +
+        "WHERE queue = ? AND status = 'TODO' AND employee_user_id IS NULL " +
+        "ORDER BY due_at, id LIMIT ?";
+
+    private static final String LOCK_NEXT_SQL =
+        "SELECT id FROM employee_task " +
+        "WHERE queue = ? AND status = 'TODO' AND employee_user_id IS NULL " +
+        "ORDER BY due_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    // Only succeeds while the task is still unclaimed
+    private static final String CLAIM_SQL =
+        "UPDATE employee_task SET employee_user_id = ?, assigned_at = ?, updated_at = ? " +
+        "WHERE id = ? AND status = 'TODO' AND employee_user_id IS NULL";
+
+    private static final String OPEN_LOAD_SQL =
+        "SELECT employee_user_id, COUNT(*) FROM employee_task " +
+        "WHERE employee_user_id IS NOT NULL AND status <> 'DONE' GROUP BY employee_user_id";
+
+    // Serializes claims by the same employee, so the open-task check and the claim cannot interleave
+    private static final String LOCK_EMPLOYEE_SQL =
+        "SELECT user_id FROM employee WHERE user_id = ? FOR UPDATE";
+
+    private static final String OPEN_COUNT_SQL =
+        "SELECT COUNT(*) FROM employee_task WHERE employee_user_id = ? AND status <> 'DONE'";
+
+    private static final String WAITING_QUEUES_SQL =
+        "SELECT DISTINCT queue FROM employee_task " +
+        "WHERE queue IS NOT NULL AND status = 'TODO' AND employee_user_id IS NULL";
+
+    private static final String MARK_BREACHED_SQL =
+        "UPDATE employee_task SET sla_breached_at = ? " +
+        "WHERE status <> 'DONE' AND sla_breached_at IS NULL AND due_at < ?";
+
+    private static final String STATS_SQL =
+        "SELECT queue, " +
+        "SUM(CASE WHEN status = 'TODO' AND employee_user_id IS NULL THEN 1 ELSE 0 END) AS waiting, " +
+        "SUM(CASE WHEN status <> 'DONE' AND employee_user_id IS NOT NULL THEN 1 ELSE 0 END) AS in_progress, " +
+        "SUM(CASE WHEN status <> 'DONE' AND sla_breached_at IS NOT NULL THEN 1 ELSE 0 END) AS sla_breached, " +
+        "MIN(CASE WHEN status = 'TODO' AND employee_user_id IS NULL THEN due_at END) AS oldest_due_at " +
+        "FROM employee_task WHERE queue IS NOT NULL GROUP BY queue ORDER BY queue";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeAvailabilityService employeeAvailabilityService;
+
+    @Autowired
+    private EmployeeTaskRepository employeeTaskRepository;
+
+    @Value("${task.dispatch.buffer-size:200}")
+    private int bufferSize = 200;
+
+    @Value("${task.dispatch.max-open-tasks-per-employee:8}")
+    private int maxOpenTasksPerEmployee = 8;
+
+    private final Map<String, TaskDispatchQueue> buffers = new ConcurrentHashMap<>();
+    private final AtomicBoolean autoAssigning = new AtomicBoolean(false);
+
+    // ==================== ENQUEUE ====================
+
+    /**
+     * Queue a batch of unassigned tasks. The deadline is taken from the priority's SLA.
+     */
+    public TaskDispatchResultDto enqueueTasks(TaskEnqueueRequestDto request) {
+        long started = System.nanoTime();
+        String queue = normalizeQueue(request.getQueue());
+        if (request.getTasks() == null || request.getTasks().isEmpty()) {
+            throw new BusinessRuleException("At least one task is required");
+        }
+        TaskPriority priority = request.getPriority() != null ? request.getPriority() : TaskPriority.NORMAL;
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        Timestamp dueAt = Timestamp.valueOf(now.plusMinutes(priority.getSlaMinutes()));
+        List<Object[]> rows = new ArrayList<>(request.getTasks().size());
+        for (TaskEnqueueItemDto item : request.getTasks()) {
+            rows.add(new Object[] { item.getTitle(), item.getDescription(), queue, priority.name(),
+                dueAt, createdAt, createdAt });
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_TASK_SQL, rows));
+        refill(queue);
+
+        return new TaskDispatchResultDto(rows.size(), 0, 0, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // ==================== CLAIMING ====================
+
+    /**
+     * Hand the most urgent waiting task of a queue to the employee
+     */
+    public EmployeeTask claimNextTask(Long employeeId, String queue) {
+        String queueName = normalizeQueue(queue);
+        Employee employee = employeeService.getEmployeeByUserId(employeeId);
+        if (!employeeService.isEmployeeAvailableForTask(employeeId)) {
+            throw new BusinessRuleException("Employee is not available for tasks");
+        }
+        if (!ShiftRosterSolver.roleKey(skillOf(queueName)).equals(ShiftRosterSolver.roleKey(employee.getJobTitle()))) {
+            throw new BusinessRuleException("Employee cannot take tasks from queue " + queueName);
+        }
+
+        // The limit is checked and the task claimed in one transaction holding the employee row lock
+        Long taskId = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.queryForList(LOCK_EMPLOYEE_SQL, Long.class, employeeId);
+            Long open = jdbcTemplate.queryForObject(OPEN_COUNT_SQL, Long.class, employeeId);
+            if (open != null && open >= maxOpenTasksPerEmployee) {
+                throw new BusinessRuleException("Employee already has " + open + " open tasks");
+            }
+            Long claimed = claimFromBuffer(employeeId, queueName);
+            return claimed != null ? claimed : claimFromDatabase(employeeId, queueName);
+        });
+        if (taskId == null) {
+            throw new NotFoundException("No waiting tasks in queue " + queueName);
+        }
+
+        Long claimedId = taskId;
+        return employeeTaskRepository.findById(claimedId)
+            .orElseThrow(() -> new NotFoundException("Task not found with ID: " + claimedId));
+    }
+
+    /**
+     * Try buffered tasks in deadline order. Stale entries (claimed elsewhere) lose the
+     * compare-and-set and are dropped.
+     */
+    private Long claimFromBuffer(Long employeeId, String queue) {
+        TaskDispatchQueue buffer = buffer(queue);
+        if (buffer.isEmpty()) {
+            refill(queue);
+        }
+        TaskDispatchQueue.QueuedTask candidate;
+        while ((candidate = buffer.poll()) != null) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            if (jdbcTemplate.update(CLAIM_SQL, employeeId, now, now, candidate.getTaskId()) == 1) {
+                return candidate.getTaskId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Buffer drained by competing claims: lock the head of the queue directly (runs in the claim transaction)
+     */
+    private Long claimFromDatabase(Long employeeId, String queue) {
+        List<Long> ids = jdbcTemplate.queryForList(LOCK_NEXT_SQL, Long.class, queue, 1);
+        if (ids.isEmpty()) {
+            return null;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(CLAIM_SQL, employeeId, now, now, ids.get(0));
+        return ids.get(0);
+    }
+
+    // ==================== AUTO-ASSIGNMENT ====================
+
+    @Scheduled(fixedDelayString = "${task.dispatch.auto-assign-interval-ms:15000}")
+    public void runScheduledAutoAssign() {
+        try {
+            autoAssign();
+        } catch (BusinessRuleException e) {
+            System.err.println("Skipping scheduled task auto-assignment: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Assign waiting tasks of every queue to employees whose job title matches the queue
+     * skill and who are available today, least-loaded first, up to the open-task limit.
+     */
+    public TaskDispatchResultDto autoAssign() {
+        if (!autoAssigning.compareAndSet(false, true)) {
+            throw new BusinessRuleException("Task auto-assignment is already running");
+        }
+
+        try {
+            long started = System.nanoTime();
+            List<String> queues = jdbcTemplate.queryForList(WAITING_QUEUES_SQL, String.class);
+            if (queues.isEmpty()) {
+                return new TaskDispatchResultDto(0, 0, 0, (System.nanoTime() - started) / 1_000_000);
+            }
+
+            LocalDate today = LocalDate.now();
+            EmployeeAvailabilityCalendar calendar = employeeAvailabilityService.loadCalendar(today, today);
+            Map<Long, Integer> openLoad = new HashMap<>();
+            jdbcTemplate.query(OPEN_LOAD_SQL, rs -> {
+                openLoad.put(rs.getLong(1), rs.getInt(2));
+            });
+
+            int assigned = 0;
+            for (String queue : queues) {
+                assigned += assignQueue(queue, calendar, today, openLoad);
+            }
+            return new TaskDispatchResultDto(0, assigned, 0, (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            autoAssigning.set(false);
+        }
+    }
+
+    /**
+     * Assign one queue in a single transaction. Rows are locked with SKIP LOCKED, so
+     * concurrent claims and other nodes never block on or double-assign the same task.
+     */
+    int assignQueue(String queue, EmployeeAvailabilityCalendar calendar, LocalDate today, Map<Long, Integer> openLoad) {
+        String skill = ShiftRosterSolver.roleKey(skillOf(queue));
+
+        // Least-loaded employee first, ties by ID for a stable order
+        PriorityQueue<long[]> employees = new PriorityQueue<>(
+            Comparator.<long[]>comparingLong(entry -> entry[1]).thenComparingLong(entry -> entry[0]));
+        int capacity = 0;
+        for (EmployeeAvailabilityCalendar.EmployeeDays days : calendar.getEmployees()) {
+            if (!skill.equals(ShiftRosterSolver.roleKey(days.getJobTitle()))
+                    || !calendar.isAvailable(days.getEmployeeId(), today)) {
+                continue;
+            }
+            int load = openLoad.getOrDefault(days.getEmployeeId(), 0);
+            if (load < maxOpenTasksPerEmployee) {
+                employees.add(new long[] { days.getEmployeeId(), load });
+                capacity += maxOpenTasksPerEmployee - load;
+            }
+        }
+        if (capacity == 0) {
+            return 0;
+        }
+
+        int limit = capacity;
+        List<Long> assignedIds = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(LOCK_NEXT_SQL, Long.class, queue, limit);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                long[] employee = employees.poll();
+                rows.add(new Object[] { employee[0], now, now, id });
+                employee[1]++;
+                openLoad.put(employee[0], (int) employee[1]);
+                if (employee[1] < maxOpenTasksPerEmployee) {
+                    employees.add(employee);
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(CLAIM_SQL, rows);
+            }
+            return ids;
+        });
+
+        buffer(queue).removeAll(assignedIds);
+        return assignedIds.size();
+    }
+
+    // ==================== SLA TRACKING ====================
+
+    @Scheduled(fixedDelayString = "${task.dispatch.sla-check-interval-ms:60000}")
+    public void runScheduledSlaCheck() {
+        markSlaBreaches();
+    }
+
+    /**
+     * Stamp every open task past its deadline; each task is stamped once
+     */
+    public TaskDispatchResultDto markSlaBreaches() {
+        long started = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int breached = jdbcTemplate.update(MARK_BREACHED_SQL, now, now);
+        return new TaskDispatchResultDto(0, 0, breached, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // ==================== STATISTICS ====================
+
+    public List<TaskQueueStatsDto> getQueueStats() {
+        return jdbcTemplate.query(STATS_SQL, (rs, rowNum) -> {
+            String queue = rs.getString("queue");
+            Timestamp oldestDueAt = rs.getTimestamp("oldest_due_at");
+            TaskDispatchQueue buffer = buffers.get(queue);
+            return new TaskQueueStatsDto(queue, rs.getLong("waiting"), rs.getLong("in_progress"),
+                rs.getLong("sla_breached"), buffer != null ? buffer.size() : 0,
+                oldestDueAt != null ? oldestDueAt.toLocalDateTime() : null);
+        });
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Prefetch the head of a queue into its in-memory buffer
+     */
+    void refill(String queue) {
+        TaskDispatchQueue buffer = buffer(queue);
+        jdbcTemplate.query(LOAD_QUEUE_SQL, rs -> {
+            Timestamp dueAt = rs.getTimestamp("due_at");
+            buffer.offer(rs.getLong("id"), dueAt != null ? dueAt.toLocalDateTime() : null);
+        }, queue, bufferSize);
+    }
+
+    TaskDispatchQueue buffer(String queue) {
+        return buffers.computeIfAbsent(queue, TaskDispatchQueue::new);
+    }
+
+    private String normalizeQueue(String queue) {
+        if (queue == null || queue.isBlank()) {
+            throw new BusinessRuleException("Queue is required");
+        }
+        return queue.trim();
+    }
+
+    /**
+     * "Housekeeper@Floor-3" -> "Housekeeper"
+     */
+    static String skillOf(String queue) {
+        int zone = queue.indexOf('@');
+        return zone >= 0 ? queue.substring(0, zone) : queue;
+    }
+}
@@ -85,8 +85,7 @@ public class AdminEventController {
      */
     @GetMapping("/statistics")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Object> getEventStatistics() {
-        // This would return event statistics - for now return a simple response
-        return ResponseEntity.ok().body("Event statistics endpoint - to be implemented");
+    public ResponseEntity<EventService.EventStatistics> getEventStatistics() {
+        return ResponseEntity.ok(eventService.getEventStatistics());
     }
 }
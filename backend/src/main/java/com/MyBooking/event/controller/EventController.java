@@ -4,20 +4,30 @@ import com.MyBooking.event.dto.EventResponseDto;
 import com.MyBooking.event.dto.EventSearchCriteriaDto;
 import com.MyBooking.event.domain.EventType;
 import com.MyBooking.event.service.EventService;
+import com.MyBooking.common.web.CatalogResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/events")
 public class EventController {
     
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(60)).cachePrivate();
+    
     private final EventService eventService;
+    private final CatalogResponseCache catalogResponseCache;
     
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, CatalogResponseCache catalogResponseCache) {
         this.eventService = eventService;
+        this.catalogResponseCache = catalogResponseCache;
     }
     
     /**
@@ -26,9 +36,9 @@ public class EventController {
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
-    public ResponseEntity<Page<EventResponseDto>> getAllEvents(Pageable pageable) {
-        Page<EventResponseDto> events = eventService.getAllEventsAsDto(pageable);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<?> getAllEvents(Pageable pageable, HttpServletRequest request) {
+        return catalogResponseCache.respond(request, CatalogResponseCache.EVENTS, LIST_CACHE_CONTROL,
+            eventService::getCatalogVersion, () -> eventService.getAllEventsAsDto(pageable));
     }
     
     /**
@@ -37,9 +47,9 @@ public class EventController {
      */
     @GetMapping("/{eventId}")
     @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
-    public ResponseEntity<EventResponseDto> getEventById(@PathVariable Long eventId) {
-        EventResponseDto event = eventService.getEventByIdAsDto(eventId);
-        return ResponseEntity.ok(event);
+    public ResponseEntity<?> getEventById(@PathVariable Long eventId, HttpServletRequest request) {
+        return catalogResponseCache.respond(request, CatalogResponseCache.EVENTS, DETAIL_CACHE_CONTROL,
+            eventService::getCatalogVersion, () -> eventService.getEventByIdAsDto(eventId));
     }
     
     /**
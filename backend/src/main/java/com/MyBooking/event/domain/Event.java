@@ -1,5 +1,8 @@
 package com.MyBooking.event.domain;
 
+import com.MyBooking.common.web.CatalogChangeListener;
+import com.MyBooking.common.web.CatalogRegion;
+import com.MyBooking.common.web.CatalogResponseCache;
 import com.MyBooking.installation.domain.Installation;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -10,11 +13,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
+@CatalogRegion(CatalogResponseCache.EVENTS)
 @Table(name = "event")
 public class Event {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_id_seq")
+    @SequenceGenerator(name = "event_id_seq", sequenceName = "event_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Event name is required")
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class EventBooking {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_booking_id_seq")
+    @SequenceGenerator(name = "event_booking_id_seq", sequenceName = "event_booking_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class EventNotification {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_notification_id_seq")
+    @SequenceGenerator(name = "event_notification_id_seq", sequenceName = "event_notification_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
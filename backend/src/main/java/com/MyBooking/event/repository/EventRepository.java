@@ -6,6 +6,7 @@ import com.MyBooking.installation.domain.Installation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,7 +21,7 @@ import java.util.Optional;
  * Provides data access methods for event management, filtering, and search functionality.
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
 
     // ==================== BASIC FINDER METHODS ====================
     
@@ -274,6 +275,21 @@ public interface EventRepository extends JpaRepository<Event, Long> {
            "(e.startAt >= :startTime AND e.endAt <= :endTime)")
     List<Event> checkEventAvailability(@Param("startTime") LocalDateTime startTime, 
                                     @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Check whether an installation has an event overlapping [startTime, endTime).
+     * Same overlap rule as {@link #checkEventAvailability}, answered by idx_event_installation.
+     *
+     * @param installationId the installation ID
+     * @param startTime start time
+     * @param endTime end time
+     * @return true if the installation is booked during the window
+     */
+    @Query("SELECT COUNT(e) > 0 FROM Event e WHERE e.installation.id = :installationId " +
+           "AND e.startAt < :endTime AND e.endAt > :startTime")
+    boolean existsOverlappingEvent(@Param("installationId") Long installationId,
+                                   @Param("startTime") LocalDateTime startTime,
+                                   @Param("endTime") LocalDateTime endTime);
     
     /**
      * Find events created between specified dates.
@@ -517,4 +533,37 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                               @Param("minCapacity") Integer minCapacity,
                               @Param("currency") String currency,
                               Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Row count and latest update of events, plus the latest installation update
+     * (event responses embed the installation name and type).
+     * Used as the version of cached event responses.
+     *
+     * @return single row of [count, max(event.updatedAt), max(installation.updatedAt)]
+     */
+    @Query("SELECT COUNT(e), MAX(e.updatedAt), (SELECT MAX(i.updatedAt) FROM Installation i) FROM Event e")
+    List<Object[]> findCatalogVersion();
+
+    // ==================== AGGREGATES ====================
+
+    /**
+     * Event statistics computed by the database.
+     * Used by the admin statistics endpoint.
+     *
+     * @param now start of "upcoming"
+     * @return single row of [count, upcoming count, sum(price)]
+     */
+    @Query("SELECT COUNT(e), COALESCE(SUM(CASE WHEN e.startAt >= :now THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(e.price), 0) FROM Event e")
+    List<Object[]> getEventStatisticsSummary(@Param("now") LocalDateTime now);
+
+    /**
+     * Sum of event prices in a currency.
+     * Used for revenue reporting.
+     *
+     * @param currency the currency code
+     * @return total price of the currency's events, zero when none
+     */
+    @Query("SELECT COALESCE(SUM(e.price), 0) FROM Event e WHERE e.currency = :currency")
+    BigDecimal sumPriceByCurrency(@Param("currency") String currency);
+}
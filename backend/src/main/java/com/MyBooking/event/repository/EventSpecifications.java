@@ -0,0 +1,100 @@
+package com.MyBooking.event.repository;
+
+import com.MyBooking.event.domain.Event;
+import com.MyBooking.event.domain.EventType;
+import com.MyBooking.installation.domain.InstallationType;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for {@link EventRepository#findAll(Specification)}.
+ * A null argument yields a specification without predicate, so optional criteria can be chained with {@code and}.
+ * Range predicates hit idx_event_time, type and installation predicates idx_event_type / idx_event_installation.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    // ==================== TIME ====================
+
+    /**
+     * Events starting within [from, to], both inclusive
+     */
+    public static Specification<Event> startsBetween(LocalDateTime from, LocalDateTime to) {
+        return startsFrom(from).and(startsUntil(to));
+    }
+
+    public static Specification<Event> startsFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("startAt"), from);
+    }
+
+    public static Specification<Event> startsUntil(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThanOrEqualTo(root.get("startAt"), to);
+    }
+
+    // ==================== TYPE & INSTALLATION ====================
+
+    public static Specification<Event> hasEventType(EventType eventType) {
+        return (root, query, cb) -> eventType == null ? null : cb.equal(root.get("eventType"), eventType);
+    }
+
+    public static Specification<Event> atInstallation(Long installationId) {
+        return (root, query, cb) -> installationId == null ? null : cb.equal(root.get("installation").get("id"), installationId);
+    }
+
+    public static Specification<Event> hasInstallationType(InstallationType installationType) {
+        return (root, query, cb) -> installationType == null ? null
+            : cb.equal(root.join("installation").get("installationType"), installationType);
+    }
+
+    /**
+     * Load the installation in the same select (DTOs read its name and type); skipped for count queries
+     */
+    public static Specification<Event> fetchInstallation() {
+        return (root, query, cb) -> {
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("installation", JoinType.INNER);
+            }
+            return null;
+        };
+    }
+
+    // ==================== PRICE, CAPACITY & TEXT ====================
+
+    public static Specification<Event> priceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        Specification<Event> min = (root, query, cb) -> minPrice == null ? null : cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+        Specification<Event> max = (root, query, cb) -> maxPrice == null ? null : cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+        return min.and(max);
+    }
+
+    public static Specification<Event> minCapacity(Integer minCapacity) {
+        return (root, query, cb) -> minCapacity == null ? null : cb.greaterThanOrEqualTo(root.get("capacity"), minCapacity);
+    }
+
+    public static Specification<Event> hasCurrency(String currency) {
+        return (root, query, cb) -> currency == null ? null : cb.equal(root.get("currency"), currency);
+    }
+
+    public static Specification<Event> nameContains(String name) {
+        return (root, query, cb) -> name == null || name.isBlank() ? null
+            : cb.like(root.get("name"), "%" + name + "%");
+    }
+
+    /**
+     * All search criteria of the event search endpoint; nulls are ignored
+     */
+    public static Specification<Event> matching(String name, EventType eventType, Long installationId,
+                                                BigDecimal minPrice, BigDecimal maxPrice,
+                                                Integer minCapacity, String currency) {
+        return nameContains(name)
+            .and(hasEventType(eventType))
+            .and(atInstallation(installationId))
+            .and(priceBetween(minPrice, maxPrice))
+            .and(minCapacity(minCapacity))
+            .and(hasCurrency(currency));
+    }
+}
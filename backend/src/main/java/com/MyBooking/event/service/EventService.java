@@ -12,6 +12,7 @@ import com.MyBooking.event.domain.EventBooking;
 import com.MyBooking.event.domain.EventBookingStatus;
 import com.MyBooking.event.repository.EventRepository;
 import com.MyBooking.event.repository.EventBookingRepository;
+import com.MyBooking.event.repository.EventSpecifications;
 import com.MyBooking.installation.domain.Installation;
 import com.MyBooking.installation.domain.InstallationType;
 import com.MyBooking.installation.repository.InstallationRepository;
@@ -21,9 +22,13 @@ import com.MyBooking.reservation.domain.Reservation;
 import com.MyBooking.reservation.repository.ReservationRepository;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.common.web.CatalogResponseCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,6 +58,8 @@ public class EventService {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    private static final Sort BY_START = Sort.by("startAt").and(Sort.by("id"));
+
     // ========== EVENT MANAGEMENT ==========
 
     /**
@@ -162,6 +169,14 @@ public class EventService {
         eventRepository.delete(event);
     }
 
+    /**
+     * Version of the event catalog including installations, used for response ETags
+     */
+    @Transactional(readOnly = true)
+    public String getCatalogVersion() {
+        return CatalogResponseCache.versionOf(eventRepository.findCatalogVersion());
+    }
+
     /**
      * Get event by ID
      */
@@ -287,37 +302,16 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public boolean isInstallationAvailable(Long installationId, LocalDateTime startAt, LocalDateTime endAt) {
-        List<Event> installationEvents = eventRepository.findByInstallationId(installationId);
-        
-        for (Event event : installationEvents) {
-            if (isTimeOverlapping(startAt, endAt, event.getStartAt(), event.getEndAt())) {
-                return false;
-            }
-        }
-        return true;
+        return !eventRepository.existsOverlappingEvent(installationId, startAt, endAt);
     }
 
     /**
-     * Get available installations for a time range
+     * Get available installations for a time range, in one anti-join query
      */
     @Transactional(readOnly = true)
     public List<Installation> getAvailableInstallations(LocalDateTime startAt, LocalDateTime endAt, 
                                                        Integer requiredCapacity, InstallationType installationType) {
-        // Get all installations
-        List<Installation> allInstallations = installationRepository.findAll();
-        
-        // Filter by type if specified
-        if (installationType != null) {
-            allInstallations = allInstallations.stream()
-                .filter(installation -> installation.getInstallationType() == installationType)
-                .toList();
-        }
-        
-        // Filter by capacity and availability
-        return allInstallations.stream()
-            .filter(installation -> installation.getCapacity() >= requiredCapacity)
-            .filter(installation -> isInstallationAvailable(installation.getId(), startAt, endAt))
-            .toList();
+        return installationRepository.findAvailableForWindow(startAt, endAt, requiredCapacity, installationType);
     }
 
     /**
@@ -337,8 +331,24 @@ public class EventService {
     public Page<Event> searchEvents(String name, EventType eventType, Long installationId,
                                   BigDecimal minPrice, BigDecimal maxPrice, String currency,
                                   Integer minCapacity, Pageable pageable) {
-        return eventRepository.findByCriteria(name, eventType, installationId, minPrice, maxPrice,
-            minCapacity, currency, pageable);
+        return findEvents(EventSpecifications.matching(name, eventType, installationId, minPrice, maxPrice,
+            minCapacity, currency), pageable);
+    }
+
+    /**
+     * Find events matching a filter composed from {@link EventSpecifications}, installation fetched in the same query
+     */
+    @Transactional(readOnly = true)
+    public Page<Event> findEvents(Specification<Event> filter, Pageable pageable) {
+        return eventRepository.findAll(filter.and(EventSpecifications.fetchInstallation()), pageable);
+    }
+
+    /**
+     * Find all events matching a filter, ordered by start time
+     */
+    @Transactional(readOnly = true)
+    public List<Event> findEvents(Specification<Event> filter) {
+        return eventRepository.findAll(filter.and(EventSpecifications.fetchInstallation()), BY_START);
     }
 
     /**
@@ -378,11 +388,15 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public List<Event> getEventsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        // Get all events and filter by date range manually
-        List<Event> allEvents = eventRepository.findAll();
-        return allEvents.stream()
-            .filter(event -> !event.getStartAt().isBefore(startDate) && !event.getStartAt().isAfter(endDate))
-            .toList();
+        return findEvents(EventSpecifications.startsBetween(startDate, endDate));
+    }
+
+    /**
+     * Get events by date range with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<Event> getEventsByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        return findEvents(EventSpecifications.startsBetween(startDate, endDate), pageable);
     }
 
     /**
@@ -390,11 +404,17 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public List<Event> getUpcomingEvents() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Event> allEvents = eventRepository.findAll();
-        return allEvents.stream()
-            .filter(event -> !event.getStartAt().isBefore(now))
-            .toList();
+        return findEvents(EventSpecifications.startsFrom(LocalDateTime.now()));
+    }
+
+    /**
+     * Get upcoming events with pagination (soonest first unless the pageable is sorted)
+     */
+    @Transactional(readOnly = true)
+    public Page<Event> getUpcomingEvents(Pageable pageable) {
+        Pageable sorted = pageable.getSort().isSorted() || pageable.isUnpaged() ? pageable
+            : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), BY_START);
+        return findEvents(EventSpecifications.startsFrom(LocalDateTime.now()), sorted);
     }
 
     /**
@@ -438,10 +458,7 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public List<Event> getEventsByInstallationType(InstallationType installationType) {
-        List<Event> allEvents = eventRepository.findAll();
-        return allEvents.stream()
-            .filter(event -> event.getInstallation().getInstallationType() == installationType)
-            .toList();
+        return findEvents(EventSpecifications.hasInstallationType(installationType));
     }
 
     /**
@@ -449,12 +466,7 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<Event> getEventsByInstallationType(InstallationType installationType, Pageable pageable) {
-        List<Event> filteredEvents = getEventsByInstallationType(installationType);
-        // Simple pagination implementation
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filteredEvents.size());
-        List<Event> pageContent = filteredEvents.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, filteredEvents.size());
+        return findEvents(EventSpecifications.hasInstallationType(installationType), pageable);
     }
 
     // ========== STATISTICS & ANALYTICS ==========
@@ -464,18 +476,12 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public EventStatistics getEventStatistics() {
-        List<Event> allEvents = eventRepository.findAll();
-        long totalEvents = allEvents.size();
-        
-        LocalDateTime now = LocalDateTime.now();
-        long upcomingEvents = allEvents.stream()
-            .filter(event -> !event.getStartAt().isBefore(now))
-            .count();
+        // Single row: [count, upcoming count, sum(price)]
+        Object[] summary = eventRepository.getEventStatisticsSummary(LocalDateTime.now()).get(0);
+        long totalEvents = ((Number) summary[0]).longValue();
+        long upcomingEvents = ((Number) summary[1]).longValue();
         long pastEvents = totalEvents - upcomingEvents;
-        
-        BigDecimal totalRevenue = allEvents.stream()
-            .map(Event::getPrice)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalRevenue = toBigDecimal(summary[2]);
         
         BigDecimal averagePrice = totalEvents > 0 ? 
             totalRevenue.divide(BigDecimal.valueOf(totalEvents), 2, RoundingMode.HALF_UP) : 
@@ -484,15 +490,20 @@ public class EventService {
         return new EventStatistics(totalEvents, upcomingEvents, pastEvents, totalRevenue, averagePrice);
     }
 
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return value != null ? new BigDecimal(value.toString()) : BigDecimal.ZERO;
+    }
+
     /**
      * Get revenue by currency
      */
     @Transactional(readOnly = true)
     public BigDecimal getRevenueByCurrency(String currency) {
-        List<Event> events = eventRepository.findByCurrency(currency);
-        return events.stream()
-            .map(Event::getPrice)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal revenue = eventRepository.sumPriceByCurrency(currency);
+        return revenue != null ? revenue : BigDecimal.ZERO;
     }
 
     /**
@@ -626,9 +637,8 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Page<com.MyBooking.event.dto.EventResponseDto> getUpcomingEventsAsDto(Pageable pageable) {
-        // For now, get all events and filter - in a real app, this should be a repository method
-        Page<Event> allEvents = getAllEvents(pageable);
-        return allEvents.map(this::convertToResponseDto);
+        Page<Event> events = getUpcomingEvents(pageable);
+        return events.map(this::convertToResponseDto);
     }
     
     /**
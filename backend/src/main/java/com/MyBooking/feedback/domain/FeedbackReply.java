@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class FeedbackReply {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feedback_reply_id_seq")
+    @SequenceGenerator(name = "feedback_reply_id_seq", sequenceName = "feedback_reply_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
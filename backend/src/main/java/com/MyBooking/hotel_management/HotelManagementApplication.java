@@ -3,6 +3,7 @@ package com.MyBooking.hotel_management;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication(scanBasePackages = "com.MyBooking")
@@ -10,8 +11,15 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EntityScan(basePackages = "com.MyBooking")
 public class HotelManagementApplication {
 
+	// Startup steps kept for StartupTimelineReport and /actuator/startup
+	private static final int STARTUP_STEP_CAPACITY = 20000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(HotelManagementApplication.class, args);
+		SpringApplication application = new SpringApplication(HotelManagementApplication.class);
+		if (Boolean.parseBoolean(System.getProperty("startup.timeline", System.getenv("STARTUP_TIMELINE")))) {
+			application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		}
+		application.run(args);
 	}
 
 }
@@ -1,5 +1,8 @@
 package com.MyBooking.installation.domain;
 
+import com.MyBooking.common.web.CatalogChangeListener;
+import com.MyBooking.common.web.CatalogRegion;
+import com.MyBooking.common.web.CatalogResponseCache;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -11,11 +14,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
+@CatalogRegion(CatalogResponseCache.EVENTS)
 @Table(name = "installation")
 public class Installation {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "installation_id_seq")
+    @SequenceGenerator(name = "installation_id_seq", sequenceName = "installation_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Installation name is required")
@@ -123,6 +123,18 @@ public interface InstallationRepository extends JpaRepository<Installation, Long
     @Query("SELECT i FROM Installation i WHERE i.capacity >= :participants ORDER BY i.capacity ASC")
     Page<Installation> findSuitableForParticipants(@Param("participants") Integer participants, Pageable pageable);
 
+    // Find installations free over [startTime, endTime): capacity and type filters plus an anti-join on overlapping events
+    @Query("SELECT i FROM Installation i WHERE " +
+           "(:participants IS NULL OR i.capacity >= :participants) AND " +
+           "(:installationType IS NULL OR i.installationType = :installationType) AND " +
+           "NOT EXISTS (SELECT 1 FROM Event e WHERE e.installation = i " +
+           "AND e.startAt < :endTime AND e.endAt > :startTime) " +
+           "ORDER BY i.capacity ASC, i.id ASC")
+    List<Installation> findAvailableForWindow(@Param("startTime") LocalDateTime startTime,
+                                              @Param("endTime") LocalDateTime endTime,
+                                              @Param("participants") Integer participants,
+                                              @Param("installationType") InstallationType installationType);
+
     // Find installations by type ordered by capacity descending
     @Query("SELECT i FROM Installation i WHERE i.installationType = :type ORDER BY i.capacity DESC")
     List<Installation> findByTypeOrderByCapacityDesc(@Param("type") InstallationType type);
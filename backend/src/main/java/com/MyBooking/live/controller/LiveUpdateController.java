@@ -0,0 +1,77 @@
+package com.MyBooking.live.controller;
+
+import com.MyBooking.common.events.DomainEvent;
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.live.dto.LiveStatsDto;
+import com.MyBooking.live.service.LiveUpdateHub;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Controller for live updates pushed to staff screens over server-sent events
+ */
+@RestController
+@RequestMapping("/api/live")
+public class LiveUpdateController {
+
+    private static final List<String> TOPICS = List.of(DomainEvent.ROOMS, DomainEvent.RESERVATIONS);
+
+    private final LiveUpdateHub liveUpdateHub;
+
+    @Autowired
+    public LiveUpdateController(LiveUpdateHub liveUpdateHub) {
+        this.liveUpdateHub = liveUpdateHub;
+    }
+
+    // ==================== LIVE STREAM ====================
+
+    /**
+     * EMPLOYEE/ADMIN: Stream of room status and booking changes, e.g. ?topics=rooms,reservations.
+     * Reconnects send Last-Event-ID and receive what they missed (or a "resync" event).
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public SseEmitter stream(@RequestHeader(value = "X-User-Id", required = false) Long userId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                             @RequestParam(required = false) List<String> topics,
+                             HttpServletResponse response) {
+        // Keeps reverse proxies (nginx) from buffering the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        return liveUpdateHub.subscribe(userId, resolveTopics(topics), lastEventId);
+    }
+
+    /**
+     * ADMIN: Open streams, buffered events and delivery counters since startup
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LiveStatsDto> getStats() {
+        return ResponseEntity.ok(liveUpdateHub.getStats());
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private Set<String> resolveTopics(List<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return Set.copyOf(TOPICS);
+        }
+        Set<String> topics = new LinkedHashSet<>();
+        for (String topic : requested) {
+            String normalized = topic.trim().toLowerCase();
+            if (!TOPICS.contains(normalized)) {
+                throw new BusinessRuleException("Unknown live topic: " + topic + " (expected one of " + TOPICS + ")");
+            }
+            topics.add(normalized);
+        }
+        return Set.copyOf(topics);
+    }
+}
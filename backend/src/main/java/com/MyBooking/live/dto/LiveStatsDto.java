@@ -0,0 +1,41 @@
+package com.MyBooking.live.dto;
+
+public class LiveStatsDto {
+    private int subscribers;
+    private int buffered;
+    private long lastEventId;
+    private long published;
+    private long delivered;
+    private long overflows;
+
+    // Constructors
+    public LiveStatsDto() {}
+
+    public LiveStatsDto(int subscribers, int buffered, long lastEventId, long published, long delivered, long overflows) {
+        this.subscribers = subscribers;
+        this.buffered = buffered;
+        this.lastEventId = lastEventId;
+        this.published = published;
+        this.delivered = delivered;
+        this.overflows = overflows;
+    }
+
+    // Getters and Setters
+    public int getSubscribers() { return subscribers; }
+    public void setSubscribers(int subscribers) { this.subscribers = subscribers; }
+
+    public int getBuffered() { return buffered; }
+    public void setBuffered(int buffered) { this.buffered = buffered; }
+
+    public long getLastEventId() { return lastEventId; }
+    public void setLastEventId(long lastEventId) { this.lastEventId = lastEventId; }
+
+    public long getPublished() { return published; }
+    public void setPublished(long published) { this.published = published; }
+
+    public long getDelivered() { return delivered; }
+    public void setDelivered(long delivered) { this.delivered = delivered; }
+
+    public long getOverflows() { return overflows; }
+    public void setOverflows(long overflows) { this.overflows = overflows; }
+}
@@ -0,0 +1,105 @@
+package com.MyBooking.live.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open stream: its topics, a bounded buffer of pending events and the emitter they are written to.
+ * Writes are serialized by the {@code draining} flag, so at most one executor task per client is
+ * queued or running and an idle connection holds no thread.
+ */
+class LiveSubscriber {
+
+    private final Long userId;
+    private final Set<String> topics;
+    private final SseEmitter emitter;
+    private final BlockingQueue<LiveUpdateHub.LiveEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean resyncPending = new AtomicBoolean();
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+    private volatile boolean closed;
+
+    LiveSubscriber(Long userId, Set<String> topics, SseEmitter emitter, int bufferSize) {
+        this.userId = userId;
+        this.topics = topics;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    boolean wants(String topic) {
+        return topics.contains(topic);
+    }
+
+    /**
+     * Buffer an event; when the client is too slow the backlog is dropped for a single resync
+     * @return false if the buffer overflowed
+     */
+    boolean offer(LiveUpdateHub.LiveEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        buffer.clear();
+        resyncPending.set(true);
+        return false;
+    }
+
+    void requestHeartbeat() {
+        heartbeatPending.set(true);
+    }
+
+    /**
+     * Start a drain task unless one is already queued or running
+     */
+    void schedule(Executor executor, LiveUpdateHub hub) {
+        if (!closed && hasPending() && draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(executor, hub));
+        }
+    }
+
+    private void drain(Executor executor, LiveUpdateHub hub) {
+        try {
+            if (resyncPending.getAndSet(false)) {
+                emitter.send(SseEmitter.event().name(LiveUpdateHub.RESYNC).data("{}"));
+                hub.countDelivered(1);
+            }
+            int sent = 0;
+            LiveUpdateHub.LiveEvent event;
+            while (!closed && (event = buffer.poll()) != null) {
+                emitter.send(SseEmitter.event().id(String.valueOf(event.getId())).name(event.getType()).data(event.getJson()));
+                sent++;
+            }
+            hub.countDelivered(sent);
+            if (heartbeatPending.getAndSet(false) && sent == 0) {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the async request already completed
+            hub.remove(this);
+            return;
+        } finally {
+            draining.set(false);
+        }
+        // Events offered while the flag was still set would otherwise wait for the next one
+        schedule(executor, hub);
+    }
+
+    private boolean hasPending() {
+        return !buffer.isEmpty() || resyncPending.get() || heartbeatPending.get();
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    Long getUserId() { return userId; }
+    Set<String> getTopics() { return topics; }
+    SseEmitter getEmitter() { return emitter; }
+    int getBuffered() { return buffer.size(); }
+}
@@ -0,0 +1,228 @@
+//Live Updates - Server-sent event streams for front-desk and housekeeping screens, one per open page
+//Fan-out - Committed domain events (room status, bookings) pushed to every subscriber of their topic
+//Backpressure - Bounded buffer per client; a client that falls behind gets one "resync" instead of the backlog
+//Reconnect - Recent events kept in a replay window so a Last-Event-ID reconnect misses nothing
+
+package com.MyBooking.live.service;
+
+import com.MyBooking.common.events.DomainEvent;
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.live.dto.LiveStatsDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class LiveUpdateHub {
+
+    public static final String READY = "ready";
+    public static final String RESYNC = "resync";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor executor;
+
+    @Value("${live.buffer-size:256}")
+    private int bufferSize = 256;
+
+    @Value("${live.replay-size:1000}")
+    private int replaySize = 1000;
+
+    @Value("${live.max-subscribers:10000}")
+    private int maxSubscribers = 10000;
+
+    @Value("${live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs = 1800000;
+
+    private final Set<LiveSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<LiveEvent> replay = new ArrayDeque<>();
+    // Seeded from the clock so ids keep growing across restarts and a stale Last-Event-ID means resync
+    private long lastEventId = System.currentTimeMillis();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+
+    // ==================== SUBSCRIPTIONS ====================
+
+    /**
+     * Open a stream for the given topics; with a Last-Event-ID the missed events are replayed first,
+     * or a resync is sent when they already left the replay window
+     */
+    public SseEmitter subscribe(Long userId, Set<String> topics, Long lastSeenEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new BusinessRuleException("Too many live connections, retry later");
+        }
+        SseEmitter emitter = createEmitter(emitterTimeoutMs);
+        LiveSubscriber subscriber = new LiveSubscriber(userId, topics, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        synchronized (replay) {
+            // Registered under the same lock as publish: nothing is both replayed and delivered live
+            subscriber.offer(new LiveEvent(lastEventId, null, READY, toJson(Map.of("topics", topics))));
+            if (lastSeenEventId != null && lastSeenEventId != lastEventId) {
+                replayTo(subscriber, lastSeenEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule(executor, this);
+        return emitter;
+    }
+
+    // ==================== FAN-OUT ====================
+
+    /**
+     * Push a committed domain event to the subscribers of its topic; never blocks the committing thread
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        String json = toJson(payload(event));
+        if (json == null) {
+            return;
+        }
+        List<LiveSubscriber> wake = new ArrayList<>();
+        synchronized (replay) {
+            LiveEvent liveEvent = new LiveEvent(++lastEventId, event.getTopic(), event.getType(), json);
+            replay.addLast(liveEvent);
+            while (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (LiveSubscriber subscriber : subscribers) {
+                if (subscriber.wants(event.getTopic())) {
+                    if (!subscriber.offer(liveEvent)) {
+                        overflows.incrementAndGet();
+                    }
+                    wake.add(subscriber);
+                }
+            }
+        }
+        published.incrementAndGet();
+        wake.forEach(subscriber -> subscriber.schedule(executor, this));
+    }
+
+    /**
+     * Comment line on idle streams so proxies keep them open and dead clients are detected
+     */
+    @Scheduled(fixedDelayString = "${live.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        for (LiveSubscriber subscriber : subscribers) {
+            subscriber.requestHeartbeat();
+            subscriber.schedule(executor, this);
+        }
+    }
+
+    public LiveStatsDto getStats() {
+        int buffered = 0;
+        for (LiveSubscriber subscriber : subscribers) {
+            buffered += subscriber.getBuffered();
+        }
+        long lastId;
+        synchronized (replay) {
+            lastId = lastEventId;
+        }
+        return new LiveStatsDto(subscribers.size(), buffered, lastId, published.get(), delivered.get(), overflows.get());
+    }
+
+    // ========== PACKAGE-PRIVATE CALLBACKS ==========
+
+    void remove(LiveSubscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.close();
+            try {
+                subscriber.getEmitter().complete();
+            } catch (IllegalStateException ignored) {
+                // Already completed by the container
+            }
+        }
+    }
+
+    void countDelivered(int count) {
+        delivered.addAndGet(count);
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void replayTo(LiveSubscriber subscriber, long lastSeenEventId) {
+        LiveEvent oldest = replay.peekFirst();
+        if (oldest == null || oldest.getId() > lastSeenEventId + 1 || lastSeenEventId > lastEventId) {
+            // Missed more than the window holds (or the server restarted): re-query once
+            subscriber.offer(new LiveEvent(lastEventId, null, RESYNC, "{}"));
+            return;
+        }
+        for (LiveEvent event : replay) {
+            if (event.getId() > lastSeenEventId && subscriber.wants(event.getTopic()) && !subscriber.offer(event)) {
+                overflows.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            System.err.println("Live update skipped, cannot serialize " + value + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, Object> payload(DomainEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("topic", event.getTopic());
+        payload.put("type", event.getType());
+        payload.put("entityId", event.getEntityId());
+        payload.put("occurredAt", event.getOccurredAt());
+        payload.put("data", event.getData());
+        return payload;
+    }
+
+    // ========== INNER CLASSES ==========
+
+    /**
+     * A domain event with its stream id, serialized once for every subscriber
+     */
+    static class LiveEvent {
+        private final long id;
+        private final String topic;
+        private final String type;
+        private final String json;
+
+        LiveEvent(long id, String topic, String type, String json) {
+            this.id = id;
+            this.topic = topic;
+            this.type = type;
+            this.json = json;
+        }
+
+        long getId() { return id; }
+        String getTopic() { return topic; }
+        String getType() { return type; }
+        String getJson() { return json; }
+    }
+}
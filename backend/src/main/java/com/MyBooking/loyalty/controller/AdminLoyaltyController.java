@@ -1,10 +1,12 @@
 package com.MyBooking.loyalty.controller;
 
 import com.MyBooking.loyalty.dto.*;
+import com.MyBooking.loyalty.service.LoyaltyBatchService;
 import com.MyBooking.loyalty.service.LoyaltyService;
 import com.MyBooking.loyalty.domain.LoyaltyTxType;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -13,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * Controller for loyalty management (Admin access)
@@ -23,10 +26,12 @@ import java.math.BigDecimal;
 public class AdminLoyaltyController {
 
     private final LoyaltyService loyaltyService;
+    private final LoyaltyBatchService loyaltyBatchService;
 
     @Autowired
-    public AdminLoyaltyController(LoyaltyService loyaltyService) {
+    public AdminLoyaltyController(LoyaltyService loyaltyService, LoyaltyBatchService loyaltyBatchService) {
         this.loyaltyService = loyaltyService;
+        this.loyaltyBatchService = loyaltyBatchService;
     }
 
     // ==================== ADMIN LOYALTY ACCOUNT ENDPOINTS ====================
@@ -173,4 +178,17 @@ public class AdminLoyaltyController {
         PointsCalculationDto response = loyaltyService.calculatePointsAsDto(amount);
         return ResponseEntity.ok(response);
     }
+
+    // ==================== ADMIN BATCH ENDPOINTS ====================
+
+    /**
+     * ADMIN: Expire old points and recompute tiers (resumes a partially completed run for the same date)
+     */
+    @PostMapping("/batch/expire-and-tier")
+    public ResponseEntity<LoyaltyBatchResultDto> runExpiryAndTiering(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        LoyaltyBatchResultDto response = loyaltyBatchService.runExpiryAndTiering(
+                asOfDate != null ? asOfDate : LocalDate.now());
+        return ResponseEntity.ok(response);
+    }
 }
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class LoyaltyAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loyalty_account_id_seq")
+    @SequenceGenerator(name = "loyalty_account_id_seq", sequenceName = "loyalty_account_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -26,6 +27,10 @@ public class LoyaltyAccount {
     @Column(name = "balance", nullable = false)
     private Integer balance = 0;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tier", nullable = false, length = 16)
+    private LoyaltyTier tier = LoyaltyTier.SILVER;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -57,6 +62,9 @@ public class LoyaltyAccount {
     public Integer getBalance() { return balance; }
     public void setBalance(Integer balance) { this.balance = balance; }
 
+    public LoyaltyTier getTier() { return tier; }
+    public void setTier(LoyaltyTier tier) { this.tier = tier; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
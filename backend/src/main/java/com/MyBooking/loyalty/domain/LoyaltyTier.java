@@ -0,0 +1,17 @@
+package com.MyBooking.loyalty.domain;
+
+public enum LoyaltyTier {
+    SILVER("Silver member"),
+    GOLD("Gold member"),
+    PLATINUM("Platinum member");
+
+    private final String description;
+
+    LoyaltyTier(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class LoyaltyTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loyalty_transaction_id_seq")
+    @SequenceGenerator(name = "loyalty_transaction_id_seq", sequenceName = "loyalty_transaction_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,7 +2,8 @@ package com.MyBooking.loyalty.domain;
 
 public enum LoyaltyTxType {
     EARN("Earn points"),
-    REDEEM("Redeem points");
+    REDEEM("Redeem points"),
+    EXPIRE("Expire points");
     
     private final String description;
     
@@ -1,5 +1,7 @@
 package com.MyBooking.loyalty.dto;
 
+import com.MyBooking.loyalty.domain.LoyaltyTier;
+
 import java.time.LocalDateTime;
 
 /**
@@ -17,6 +19,8 @@ public class LoyaltyAccountResponseDto {
 
     private Integer balance;
 
+    private LoyaltyTier tier;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -76,6 +80,14 @@ public class LoyaltyAccountResponseDto {
         this.balance = balance;
     }
 
+    public LoyaltyTier getTier() {
+        return tier;
+    }
+
+    public void setTier(LoyaltyTier tier) {
+        this.tier = tier;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -100,6 +112,7 @@ public class LoyaltyAccountResponseDto {
                 ", userName='" + userName + '\'' +
                 ", userEmail='" + userEmail + '\'' +
                 ", balance=" + balance +
+                ", tier=" + tier +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
@@ -0,0 +1,144 @@
+package com.MyBooking.loyalty.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the outcome of a loyalty expiry / tier recalculation run
+ */
+public class LoyaltyBatchResultDto {
+
+    private String runKey;
+
+    private int totalChunks;
+
+    private int processedChunks;
+
+    private int skippedChunks;
+
+    private long accountsProcessed;
+
+    private long accountsExpired;
+
+    private long pointsExpired;
+
+    private long tierChanges;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Constructors
+    public LoyaltyBatchResultDto() {}
+
+    public LoyaltyBatchResultDto(String runKey, int totalChunks, int processedChunks, int skippedChunks,
+                                 long accountsProcessed, long accountsExpired, long pointsExpired,
+                                 long tierChanges, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.runKey = runKey;
+        this.totalChunks = totalChunks;
+        this.processedChunks = processedChunks;
+        this.skippedChunks = skippedChunks;
+        this.accountsProcessed = accountsProcessed;
+        this.accountsExpired = accountsExpired;
+        this.pointsExpired = pointsExpired;
+        this.tierChanges = tierChanges;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // Getters and Setters
+    public String getRunKey() {
+        return runKey;
+    }
+
+    public void setRunKey(String runKey) {
+        this.runKey = runKey;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    public void setTotalChunks(int totalChunks) {
+        this.totalChunks = totalChunks;
+    }
+
+    public int getProcessedChunks() {
+        return processedChunks;
+    }
+
+    public void setProcessedChunks(int processedChunks) {
+        this.processedChunks = processedChunks;
+    }
+
+    public int getSkippedChunks() {
+        return skippedChunks;
+    }
+
+    public void setSkippedChunks(int skippedChunks) {
+        this.skippedChunks = skippedChunks;
+    }
+
+    public long getAccountsProcessed() {
+        return accountsProcessed;
+    }
+
+    public void setAccountsProcessed(long accountsProcessed) {
+        this.accountsProcessed = accountsProcessed;
+    }
+
+    public long getAccountsExpired() {
+        return accountsExpired;
+    }
+
+    public void setAccountsExpired(long accountsExpired) {
+        this.accountsExpired = accountsExpired;
+    }
+
+    public long getPointsExpired() {
+        return pointsExpired;
+    }
+
+    public void setPointsExpired(long pointsExpired) {
+        this.pointsExpired = pointsExpired;
+    }
+
+    public long getTierChanges() {
+        return tierChanges;
+    }
+
+    public void setTierChanges(long tierChanges) {
+        this.tierChanges = tierChanges;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "LoyaltyBatchResultDto{" +
+                "runKey='" + runKey + '\'' +
+                ", totalChunks=" + totalChunks +
+                ", processedChunks=" + processedChunks +
+                ", skippedChunks=" + skippedChunks +
+                ", accountsProcessed=" + accountsProcessed +
+                ", accountsExpired=" + accountsExpired +
+                ", pointsExpired=" + pointsExpired +
+                ", tierChanges=" + tierChanges +
+                ", startedAt=" + startedAt +
+                ", finishedAt=" + finishedAt +
+                '}';
+    }
+}
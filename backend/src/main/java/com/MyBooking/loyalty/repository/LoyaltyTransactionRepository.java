@@ -122,6 +122,10 @@ public interface LoyaltyTransactionRepository extends JpaRepository<LoyaltyTrans
     @Query("SELECT lt FROM LoyaltyTransaction lt WHERE lt.account.id = :accountId ORDER BY lt.createdAt DESC")
     Page<LoyaltyTransaction> findByAccountIdOrderByCreatedAtDesc(@Param("accountId") Long accountId, Pageable pageable);
 
+    // Find an account's transactions since a date (bounded on created_at so only recent partitions are scanned)
+    @Query("SELECT lt FROM LoyaltyTransaction lt WHERE lt.account.id = :accountId AND lt.createdAt >= :since ORDER BY lt.createdAt DESC")
+    List<LoyaltyTransaction> findByAccountIdSince(@Param("accountId") Long accountId, @Param("since") LocalDateTime since);
+
     // Find transactions by type ordered by creation date (business logic in repository)
     @Query("SELECT lt FROM LoyaltyTransaction lt WHERE lt.type = :type ORDER BY lt.createdAt DESC")
     List<LoyaltyTransaction> findByTypeOrderByCreatedAtDesc(@Param("type") LoyaltyTxType type);
@@ -0,0 +1,334 @@
+//Points Expiry - Expire earned points older than the configured window (FIFO against redemptions)
+//Tier Recalculation - Recompute SILVER/GOLD/PLATINUM from trailing 12-month earn totals
+//Batch Engine - Chunked by account-id ranges, processed in parallel, resumable from checkpoints
+
+package com.MyBooking.loyalty.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.loyalty.domain.LoyaltyTier;
+import com.MyBooking.loyalty.domain.LoyaltyTxType;
+import com.MyBooking.loyalty.dto.LoyaltyBatchResultDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class LoyaltyBatchService {
+
+    private static final String AGGREGATE_SQL =
+        "SELECT a.id, a.balance, a.tier, " +
+        "COALESCE(SUM(CASE WHEN t.type = 'EARN' AND t.created_at < ? THEN t.points ELSE 0 END), 0) AS earned_before_cutoff, " +
+        "COALESCE(SUM(CASE WHEN t.type IN ('REDEEM', 'EXPIRE') THEN t.points ELSE 0 END), 0) AS consumed, " +
+        "COALESCE(SUM(CASE WHEN t.type = 'EARN' AND t.created_at >= ? THEN t.points ELSE 0 END), 0) AS trailing_earned " +
+        "FROM loyalty_account a LEFT JOIN loyalty_transaction t ON t.account_id = a.id " +
+        "WHERE a.id >= ? AND a.id < ? " +
+        "GROUP BY a.id, a.balance, a.tier";
+
+    private static final String INSERT_EXPIRE_SQL =
+        "INSERT INTO loyalty_transaction (account_id, type, points, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_ACCOUNT_SQL =
+        "UPDATE loyalty_account SET balance = GREATEST(balance - ?, 0), tier = ?, updated_at = ? WHERE id = ?";
+
+    private static final String INSERT_CHECKPOINT_SQL =
+        "INSERT INTO loyalty_batch_checkpoint (run_key, range_start, range_end, accounts_processed, points_expired, completed_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LoyaltySnapshotCache loyaltySnapshotCache;
+
+    @Value("${loyalty.expiry.months:24}")
+    private int expiryMonths = 24;
+
+    @Value("${loyalty.batch.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    @Value("${loyalty.batch.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${loyalty.tier.gold-threshold:5000}")
+    private long goldThreshold = 5000;
+
+    @Value("${loyalty.tier.platinum-threshold:20000}")
+    private long platinumThreshold = 20000;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // ========== ENTRY POINTS ==========
+
+    /**
+     * Nightly run for today's date
+     */
+    @Scheduled(cron = "${loyalty.batch.cron:0 30 3 * * *}")
+    public void runScheduledExpiryAndTiering() {
+        try {
+            runExpiryAndTiering(LocalDate.now());
+        } catch (BusinessRuleException e) {
+            System.err.println("Skipping scheduled loyalty batch: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Expire points and recompute tiers as of the given date.
+     * Re-running with the same date resumes from the recorded checkpoints.
+     */
+    public LoyaltyBatchResultDto runExpiryAndTiering(LocalDate asOfDate) {
+        if (asOfDate == null) {
+            throw new BusinessRuleException("As-of date is required");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessRuleException("Loyalty expiry batch is already running");
+        }
+
+        try {
+            String runKey = "expiry-tier:" + asOfDate;
+            LocalDateTime runStartedAt = LocalDateTime.now();
+            LocalDateTime expiryCutoff = asOfDate.minusMonths(expiryMonths).atStartOfDay();
+            LocalDateTime tierWindowStart = asOfDate.minusMonths(12).atStartOfDay();
+
+            List<long[]> ranges = planRanges();
+            NavigableMap<Long, Long> completed = findCompletedRanges(runKey);
+
+            List<Callable<ChunkResult>> tasks = new ArrayList<>();
+            int skippedChunks = 0;
+            for (long[] range : ranges) {
+                List<long[]> pending = pendingRanges(range, completed);
+                if (pending.isEmpty()) {
+                    skippedChunks++;
+                }
+                for (long[] part : pending) {
+                    tasks.add(() -> processChunk(runKey, part[0], part[1], expiryCutoff, tierWindowStart));
+                }
+            }
+
+            long accountsProcessed = 0;
+            long pointsExpired = 0;
+            long accountsExpired = 0;
+            long tierChanges = 0;
+
+            ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+            try {
+                for (Future<ChunkResult> future : pool.invokeAll(tasks)) {
+                    ChunkResult result = future.get();
+                    accountsProcessed += result.accountsProcessed;
+                    pointsExpired += result.pointsExpired;
+                    accountsExpired += result.accountsExpired;
+                    tierChanges += result.tierChanges;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessRuleException("Loyalty expiry batch was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new BusinessRuleException("Loyalty expiry batch failed: " + e.getCause().getMessage(), e.getCause());
+            } finally {
+                pool.shutdown();
+                // Balances and tiers were rewritten behind the service layer
+                loyaltySnapshotCache.invalidateAll();
+            }
+
+            return new LoyaltyBatchResultDto(runKey, ranges.size(), tasks.size(), skippedChunks,
+                accountsProcessed, accountsExpired, pointsExpired, tierChanges,
+                runStartedAt, LocalDateTime.now());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ========== CHUNK PROCESSING ==========
+
+    /**
+     * Process one account-id range [rangeStart, rangeEnd) in its own transaction.
+     * The checkpoint row is written in the same transaction, so a chunk is applied exactly once per run.
+     */
+    ChunkResult processChunk(String runKey, long rangeStart, long rangeEnd,
+                             LocalDateTime expiryCutoff, LocalDateTime tierWindowStart) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            List<AccountLedger> ledgers = jdbcTemplate.query(AGGREGATE_SQL,
+                (rs, rowNum) -> new AccountLedger(
+                    rs.getLong("id"),
+                    rs.getInt("balance"),
+                    rs.getString("tier"),
+                    rs.getLong("earned_before_cutoff"),
+                    rs.getLong("consumed"),
+                    rs.getLong("trailing_earned")),
+                Timestamp.valueOf(expiryCutoff), Timestamp.valueOf(tierWindowStart), rangeStart, rangeEnd);
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> expireRows = new ArrayList<>();
+            List<Object[]> accountRows = new ArrayList<>();
+            ChunkResult result = new ChunkResult();
+
+            for (AccountLedger ledger : ledgers) {
+                int expired = calculateExpiredPoints(ledger.balance, ledger.earnedBeforeCutoff, ledger.consumed);
+                LoyaltyTier tier = resolveTier(ledger.trailingEarned);
+                boolean tierChanged = !tier.name().equals(ledger.tier);
+
+                if (expired > 0) {
+                    expireRows.add(new Object[] { ledger.accountId, LoyaltyTxType.EXPIRE.name(), expired, now });
+                    result.accountsExpired++;
+                    result.pointsExpired += expired;
+                }
+                if (expired > 0 || tierChanged) {
+                    accountRows.add(new Object[] { expired, tier.name(), now, ledger.accountId });
+                }
+                if (tierChanged) {
+                    result.tierChanges++;
+                }
+                result.accountsProcessed++;
+            }
+
+            if (!expireRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_EXPIRE_SQL, expireRows);
+            }
+            if (!accountRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_ACCOUNT_SQL, accountRows);
+            }
+            jdbcTemplate.update(INSERT_CHECKPOINT_SQL, runKey, rangeStart, rangeEnd,
+                result.accountsProcessed, result.pointsExpired, now);
+
+            return result;
+        });
+    }
+
+    // ========== BUSINESS RULES ==========
+
+    /**
+     * Points to expire under FIFO consumption: redemptions and earlier expiries are taken
+     * from the oldest earned points first, so only the unconsumed part of the earns older
+     * than the cutoff expires. Never more than the current balance.
+     */
+    public int calculateExpiredPoints(int balance, long earnedBeforeCutoff, long consumed) {
+        long expirable = earnedBeforeCutoff - consumed;
+        if (expirable <= 0 || balance <= 0) {
+            return 0;
+        }
+        return (int) Math.min(expirable, balance);
+    }
+
+    /**
+     * Tier from points earned over the trailing 12 months
+     */
+    public LoyaltyTier resolveTier(long trailingEarnedPoints) {
+        if (trailingEarnedPoints >= platinumThreshold) {
+            return LoyaltyTier.PLATINUM;
+        }
+        if (trailingEarnedPoints >= goldThreshold) {
+            return LoyaltyTier.GOLD;
+        }
+        return LoyaltyTier.SILVER;
+    }
+
+    // ========== PLANNING & CHECKPOINTS ==========
+
+    /**
+     * Split the account-id space into half-open ranges of chunkSize ids
+     */
+    List<long[]> planRanges() {
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM loyalty_account", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM loyalty_account", Long.class);
+
+        List<long[]> ranges = new ArrayList<>();
+        if (minId == null || maxId == null) {
+            return ranges;
+        }
+
+        long step = Math.max(1, chunkSize);
+        for (long start = minId; start <= maxId; start += step) {
+            ranges.add(new long[] { start, Math.min(start + step, maxId + 1) });
+        }
+        return ranges;
+    }
+
+    /**
+     * Parts of a planned range not yet covered by a checkpoint of this run. A resume may plan other
+     * ranges than the failed run (accounts created or deleted in between moves MIN/MAX(id)), so
+     * checkpoints are matched by the ids they cover, not by their start alone.
+     */
+    List<long[]> pendingRanges(long[] range, NavigableMap<Long, Long> completed) {
+        List<long[]> pending = new ArrayList<>();
+        long cursor = range[0];
+        while (cursor < range[1]) {
+            Map.Entry<Long, Long> covering = completed.floorEntry(cursor);
+            if (covering != null && covering.getValue() > cursor) {
+                cursor = covering.getValue();
+                continue;
+            }
+            Long nextCheckpoint = completed.higherKey(cursor);
+            long end = nextCheckpoint == null ? range[1] : Math.min(range[1], nextCheckpoint);
+            pending.add(new long[] { cursor, end });
+            cursor = end;
+        }
+        return pending;
+    }
+
+    /**
+     * Checkpointed ranges of a run, range_start to range_end
+     */
+    private NavigableMap<Long, Long> findCompletedRanges(String runKey) {
+        NavigableMap<Long, Long> completed = new TreeMap<>();
+        for (long[] range : jdbcTemplate.query(
+                "SELECT range_start, range_end FROM loyalty_batch_checkpoint WHERE run_key = ?",
+                (rs, rowNum) -> new long[] { rs.getLong("range_start"), rs.getLong("range_end") }, runKey)) {
+            completed.put(range[0], range[1]);
+        }
+        return completed;
+    }
+
+    // ========== INNER CLASSES ==========
+
+    private static final class AccountLedger {
+        private final long accountId;
+        private final int balance;
+        private final String tier;
+        private final long earnedBeforeCutoff;
+        private final long consumed;
+        private final long trailingEarned;
+
+        private AccountLedger(long accountId, int balance, String tier,
+                              long earnedBeforeCutoff, long consumed, long trailingEarned) {
+            this.accountId = accountId;
+            this.balance = balance;
+            this.tier = tier;
+            this.earnedBeforeCutoff = earnedBeforeCutoff;
+            this.consumed = consumed;
+            this.trailingEarned = trailingEarned;
+        }
+    }
+
+    static final class ChunkResult {
+        private long accountsProcessed;
+        private long accountsExpired;
+        private long pointsExpired;
+        private long tierChanges;
+
+        long getAccountsProcessed() { return accountsProcessed; }
+        long getAccountsExpired() { return accountsExpired; }
+        long getPointsExpired() { return pointsExpired; }
+        long getTierChanges() { return tierChanges; }
+    }
+}
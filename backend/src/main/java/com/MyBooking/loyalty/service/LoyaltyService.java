@@ -14,6 +14,7 @@ import com.MyBooking.loyalty.domain.LoyaltyTransaction;
 import com.MyBooking.loyalty.domain.LoyaltyTxType;
 import com.MyBooking.loyalty.repository.LoyaltyAccountRepository;
 import com.MyBooking.loyalty.repository.LoyaltyTransactionRepository;
+import com.MyBooking.loyalty.service.LoyaltySnapshotCache.LoyaltySnapshot;
 import com.MyBooking.reservation.domain.Reservation;
 import com.MyBooking.reservation.repository.ReservationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +45,9 @@ public class LoyaltyService {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private LoyaltySnapshotCache loyaltySnapshotCache;
+
     // ========== CORE ACCOUNT MANAGEMENT ==========
 
     /**
@@ -60,6 +64,7 @@ public class LoyaltyService {
         }
 
         LoyaltyAccount account = new LoyaltyAccount(user);
+        loyaltySnapshotCache.invalidate(userId);
         return loyaltyAccountRepository.save(account);
     }
 
@@ -92,6 +97,7 @@ public class LoyaltyService {
             throw new NotFoundException("Loyalty account not found with ID: " + account.getId());
         }
 
+        invalidateSnapshot(account);
         return loyaltyAccountRepository.save(account);
     }
 
@@ -107,6 +113,9 @@ public class LoyaltyService {
             throw new BusinessRuleException("Cannot delete loyalty account with existing transactions");
         }
 
+        if (account.getUser() != null) {
+            loyaltySnapshotCache.forget(account.getUser().getId());
+        }
         loyaltyAccountRepository.delete(account);
     }
 
@@ -145,6 +154,7 @@ public class LoyaltyService {
         // Update account balance
         account.setBalance(account.getBalance() + points);
         loyaltyAccountRepository.save(account);
+        loyaltySnapshotCache.invalidate(userId);
 
         return savedTransaction;
     }
@@ -158,8 +168,9 @@ public class LoyaltyService {
             throw new BusinessRuleException("Points must be positive");
         }
 
-        // Get loyalty account
-        LoyaltyAccount account = getLoyaltyAccountByUserId(userId);
+        // Get loyalty account (always the persisted row, never the snapshot)
+        LoyaltyAccount account = findLoyaltyAccount(userId)
+            .orElseThrow(() -> new NotFoundException("Loyalty account not found for user ID: " + userId));
 
         // Validate redemption
         validateRedemptionRequest(account, points);
@@ -171,6 +182,7 @@ public class LoyaltyService {
         // Update account balance
         account.setBalance(account.getBalance() - points);
         loyaltyAccountRepository.save(account);
+        loyaltySnapshotCache.invalidate(userId);
 
         return savedTransaction;
     }
@@ -211,10 +223,7 @@ public class LoyaltyService {
     public List<LoyaltyTransaction> getRecentTransactions(Long userId, int days) {
         LoyaltyAccount account = getLoyaltyAccountByUserId(userId);
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return loyaltyTransactionRepository.findByAccountIdOrderByCreatedAtDesc(account.getId())
-            .stream()
-            .filter(transaction -> transaction.getCreatedAt().isAfter(since))
-            .toList();
+        return loyaltyTransactionRepository.findByAccountIdSince(account.getId(), since);
     }
 
     // ========== BUSINESS OPERATIONS ==========
@@ -268,7 +277,7 @@ public class LoyaltyService {
             return 0;
         }
         
-        Integer availablePoints = getAvailablePoints(userId);
+        Integer availablePoints = getLoyaltySnapshot(userId).getBalance();
         Integer maxPointsByAmount = maxAmount.multiply(new BigDecimal("100")).intValue(); // $1 = 100 points
         Integer maxPointsByBusinessRule = 10000; // Business rule: max 10,000 points per transaction
         
@@ -284,12 +293,12 @@ public class LoyaltyService {
             throw new BusinessRuleException("Points must be positive");
         }
 
-        LoyaltyAccount account = getLoyaltyAccountByUserId(userId);
+        LoyaltySnapshot snapshot = getLoyaltySnapshot(userId);
         
         // Check if user has enough points
-        if (account.getBalance() < points) {
+        if (snapshot.getBalance() < points) {
             throw new BusinessRuleException("Insufficient points. Available: " + 
-                account.getBalance() + ", Requested: " + points);
+                snapshot.getBalance() + ", Requested: " + points);
         }
 
         // Business rule: minimum redemption of 100 points
@@ -347,10 +356,54 @@ public class LoyaltyService {
      * Get or create loyalty account for user
      */
     private LoyaltyAccount getOrCreateLoyaltyAccount(Long userId) {
-        return loyaltyAccountRepository.findByUserId(userId)
+        return findLoyaltyAccount(userId)
             .orElseGet(() -> createLoyaltyAccount(userId));
     }
 
+    /**
+     * Load the account row, by primary key when the account ID of the user is already known
+     * (served from the persistence context when the same transaction loaded it before)
+     */
+    private Optional<LoyaltyAccount> findLoyaltyAccount(Long userId) {
+        Long accountId = loyaltySnapshotCache.getAccountId(userId);
+        if (accountId != null) {
+            Optional<LoyaltyAccount> account = loyaltyAccountRepository.findById(accountId);
+            if (account.isPresent()) {
+                return account;
+            }
+        }
+        Optional<LoyaltyAccount> account = loyaltyAccountRepository.findByUserId(userId);
+        account.ifPresent(found -> loyaltySnapshotCache.rememberAccountId(userId, found.getId()));
+        return account;
+    }
+
+    private void invalidateSnapshot(LoyaltyAccount account) {
+        if (account.getUser() != null) {
+            loyaltySnapshotCache.invalidate(account.getUser().getId());
+        }
+    }
+
+    // ========== CHECKOUT SNAPSHOT ==========
+
+    /**
+     * Get the loyalty snapshot (balance, tier, redeemable cap) for a user.
+     * Repeated checkout reads within the snapshot TTL do not touch the loyalty tables.
+     */
+    @Transactional(readOnly = true)
+    public LoyaltySnapshot getLoyaltySnapshot(Long userId) {
+        LoyaltySnapshot snapshot = loyaltySnapshotCache.get(userId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        LoyaltyAccount account = getLoyaltyAccountByUserId(userId);
+        int balance = account.getBalance();
+        snapshot = new LoyaltySnapshot(userId, account.getId(), balance, account.getTier(),
+            Math.min(balance, 10000)); // Business rule: max 10,000 points per transaction
+        loyaltySnapshotCache.put(snapshot);
+        return snapshot;
+    }
+
     // ========== ADMIN OPERATIONS ==========
 
     /**
@@ -637,6 +690,7 @@ public class LoyaltyService {
         dto.setUserName(account.getUser().getFirstName() + " " + account.getUser().getLastName());
         dto.setUserEmail(account.getUser().getEmail());
         dto.setBalance(account.getBalance());
+        dto.setTier(account.getTier());
         dto.setCreatedAt(account.getCreatedAt());
         dto.setUpdatedAt(account.getUpdatedAt());
         return dto;
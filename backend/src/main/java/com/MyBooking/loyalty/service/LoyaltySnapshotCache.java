@@ -0,0 +1,164 @@
+//Snapshot Cache - Short-lived per-user view of the loyalty account (balance, tier, redeemable cap)
+//Used by read-only checkout paths; every ledger write evicts the user's entry
+
+package com.MyBooking.loyalty.service;
+
+import com.MyBooking.loyalty.domain.LoyaltyTier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class LoyaltySnapshotCache {
+
+    @Value("${loyalty.snapshot.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    @Value("${loyalty.snapshot.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    private final Map<Long, LoyaltySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    // user ID -> account ID never changes while the account exists, so it survives balance writes
+    private final Map<Long, Long> accountIds = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cached snapshot for a user, or null if absent or expired
+     */
+    public LoyaltySnapshot get(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        LoyaltySnapshot snapshot = snapshots.get(userId);
+        if (snapshot == null) {
+            return null;
+        }
+        if (isExpired(snapshot, System.currentTimeMillis())) {
+            snapshots.remove(userId, snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Store a snapshot for a user
+     */
+    public void put(LoyaltySnapshot snapshot) {
+        if (snapshot == null || snapshot.getUserId() == null) {
+            return;
+        }
+        if (snapshots.size() >= maxEntries) {
+            evictExpired();
+            if (snapshots.size() >= maxEntries) {
+                snapshots.clear();
+            }
+        }
+        snapshots.put(snapshot.getUserId(), snapshot);
+        rememberAccountId(snapshot.getUserId(), snapshot.getAccountId());
+    }
+
+    /**
+     * Get the known account ID for a user, or null
+     */
+    public Long getAccountId(Long userId) {
+        return userId != null ? accountIds.get(userId) : null;
+    }
+
+    /**
+     * Remember the account ID of a user
+     */
+    public void rememberAccountId(Long userId, Long accountId) {
+        if (userId == null || accountId == null) {
+            return;
+        }
+        if (accountIds.size() >= maxEntries) {
+            accountIds.clear();
+        }
+        accountIds.put(userId, accountId);
+    }
+
+    /**
+     * Evict a user's snapshot now and again once the surrounding transaction completes,
+     * so a snapshot read by a concurrent request before commit cannot outlive the write
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        snapshots.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshots.remove(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Forget everything about a user, including the account ID (account deleted)
+     */
+    public void forget(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        accountIds.remove(userId);
+        invalidate(userId);
+    }
+
+    /**
+     * Drop every cached snapshot (e.g. after a batch run rewrote balances)
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        snapshots.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+    }
+
+    private boolean isExpired(LoyaltySnapshot snapshot, long now) {
+        return now - snapshot.getLoadedAt() > ttlSeconds * 1000;
+    }
+
+    // ========== INNER CLASSES ==========
+
+    /**
+     * Immutable loyalty account snapshot
+     */
+    public static class LoyaltySnapshot {
+        private final Long userId;
+        private final Long accountId;
+        private final int balance;
+        private final LoyaltyTier tier;
+        private final int redeemableCap;
+        private final long loadedAt;
+
+        public LoyaltySnapshot(Long userId, Long accountId, int balance, LoyaltyTier tier, int redeemableCap) {
+            this.userId = userId;
+            this.accountId = accountId;
+            this.balance = balance;
+            this.tier = tier;
+            this.redeemableCap = redeemableCap;
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        // Getters
+        public Long getUserId() { return userId; }
+        public Long getAccountId() { return accountId; }
+        public int getBalance() { return balance; }
+        public LoyaltyTier getTier() { return tier; }
+        public int getRedeemableCap() { return redeemableCap; }
+        public long getLoadedAt() { return loadedAt; }
+    }
+}
@@ -0,0 +1,43 @@
+package com.MyBooking.notification.controller;
+
+import com.MyBooking.notification.dto.NotificationDispatchStatsDto;
+import com.MyBooking.notification.service.NotificationDispatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for the notification dispatch pipeline (Admin access)
+ */
+@RestController
+@RequestMapping("/api/admin/notifications")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminNotificationController {
+
+    private final NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    public AdminNotificationController(NotificationDispatcher notificationDispatcher) {
+        this.notificationDispatcher = notificationDispatcher;
+    }
+
+    // ==================== ADMIN NOTIFICATION ENDPOINTS ====================
+
+    /**
+     * ADMIN: Queue depth, pending retries and delivery counters since startup
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<NotificationDispatchStatsDto> getStats() {
+        return ResponseEntity.ok(notificationDispatcher.getStats());
+    }
+
+    /**
+     * ADMIN: Deliver everything queued now instead of waiting for the next flush
+     */
+    @PostMapping("/flush")
+    public ResponseEntity<NotificationDispatchStatsDto> flush() {
+        notificationDispatcher.flush();
+        return ResponseEntity.ok(notificationDispatcher.getStats());
+    }
+}
@@ -0,0 +1,7 @@
+package com.MyBooking.notification.domain;
+
+public enum NotificationChannelType {
+    EMAIL,
+    SMS,
+    PUSH
+}
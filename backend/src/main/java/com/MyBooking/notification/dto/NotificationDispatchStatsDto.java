@@ -0,0 +1,63 @@
+package com.MyBooking.notification.dto;
+
+public class NotificationDispatchStatsDto {
+    private int queued;
+    private int queueCapacity;
+    private int pendingRetryBatches;
+    private long submitted;
+    private long rejected;
+    private long coalesced;
+    private long skipped;
+    private long delivered;
+    private long retried;
+    private long failed;
+
+    // Constructors
+    public NotificationDispatchStatsDto() {}
+
+    public NotificationDispatchStatsDto(int queued, int queueCapacity, int pendingRetryBatches, long submitted,
+                                        long rejected, long coalesced, long skipped, long delivered,
+                                        long retried, long failed) {
+        this.queued = queued;
+        this.queueCapacity = queueCapacity;
+        this.pendingRetryBatches = pendingRetryBatches;
+        this.submitted = submitted;
+        this.rejected = rejected;
+        this.coalesced = coalesced;
+        this.skipped = skipped;
+        this.delivered = delivered;
+        this.retried = retried;
+        this.failed = failed;
+    }
+
+    // Getters and Setters
+    public int getQueued() { return queued; }
+    public void setQueued(int queued) { this.queued = queued; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getPendingRetryBatches() { return pendingRetryBatches; }
+    public void setPendingRetryBatches(int pendingRetryBatches) { this.pendingRetryBatches = pendingRetryBatches; }
+
+    public long getSubmitted() { return submitted; }
+    public void setSubmitted(long submitted) { this.submitted = submitted; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public long getCoalesced() { return coalesced; }
+    public void setCoalesced(long coalesced) { this.coalesced = coalesced; }
+
+    public long getSkipped() { return skipped; }
+    public void setSkipped(long skipped) { this.skipped = skipped; }
+
+    public long getDelivered() { return delivered; }
+    public void setDelivered(long delivered) { this.delivered = delivered; }
+
+    public long getRetried() { return retried; }
+    public void setRetried(long retried) { this.retried = retried; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+}
@@ -0,0 +1,49 @@
+//Log Channel - Local stand-in for the email/SMS/push providers
+//Appends one line per delivery to notification.log-channel.path, or prints a batch summary when no path is set
+
+package com.MyBooking.notification.service;
+
+import com.MyBooking.notification.domain.NotificationChannelType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LogNotificationChannel implements NotificationChannel {
+
+    @Value("${notification.log-channel.path:}")
+    private String path = "";
+
+    @Override
+    public boolean supports(NotificationChannelType type) {
+        return true;
+    }
+
+    @Override
+    public synchronized void deliver(NotificationChannelType type, List<NotificationMessage> batch) throws IOException {
+        if (path == null || path.isBlank()) {
+            System.out.println("Notification batch delivered: " + type + " x" + batch.size());
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try (BufferedWriter writer = Files.newBufferedWriter(Path.of(path), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (NotificationMessage message : batch) {
+                writer.write(now + " " + type + " user=" + message.getUserId() + " [" + message.getNotificationType()
+                    + "] " + message.getTitle());
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.MyBooking.notification.service;
+
+import com.MyBooking.notification.domain.NotificationChannelType;
+
+import java.util.List;
+
+/**
+ * Delivery provider for one or more channel types. Beans are tried in {@code @Order}; the first one
+ * supporting a type receives its batches. {@link LogNotificationChannel} is the catch-all stand-in.
+ */
+public interface NotificationChannel {
+
+    boolean supports(NotificationChannelType type);
+
+    /**
+     * Deliver a batch; throwing makes the dispatcher retry the whole batch with backoff
+     */
+    void deliver(NotificationChannelType type, List<NotificationMessage> batch) throws Exception;
+}
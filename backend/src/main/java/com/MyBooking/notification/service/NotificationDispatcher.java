@@ -0,0 +1,274 @@
+//Notification Dispatch - Bounded in-memory queue between producers (announcement fan-out) and delivery channels
+//Backpressure - Producers wait up to notification.offer-timeout-ms for room, then messages are rejected and counted
+//Coalescing - Messages for one user and type queued within a flush interval become a single digest
+//Delivery - Channels resolved in bulk from the preference cache, sent in batches per channel, retried with backoff
+
+package com.MyBooking.notification.service;
+
+import com.MyBooking.notification.domain.NotificationChannelType;
+import com.MyBooking.notification.dto.NotificationDispatchStatsDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class NotificationDispatcher {
+
+    @Autowired
+    private NotificationPreferenceCache preferenceCache;
+
+    @Autowired
+    private List<NotificationChannel> channels;
+
+    @Value("${notification.offer-timeout-ms:50}")
+    private long offerTimeoutMs = 50;
+
+    @Value("${notification.max-drain:5000}")
+    private int maxDrain = 5000;
+
+    @Value("${notification.delivery-batch-size:500}")
+    private int deliveryBatchSize = 500;
+
+    @Value("${notification.retry.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${notification.retry.backoff-ms:1000}")
+    private long backoffMs = 1000;
+
+    private final int queueCapacity;
+    private final BlockingQueue<NotificationMessage> queue;
+    private final DelayQueue<RetryBatch> retries = new DelayQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public NotificationDispatcher(@Value("${notification.queue-capacity:50000}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // ==================== SUBMISSION ====================
+
+    /**
+     * Queue one message; false if the queue stayed full for the offer timeout
+     */
+    public boolean submit(NotificationMessage message) {
+        return submitAll(List.of(message)) == 1;
+    }
+
+    /**
+     * Queue a fan-out. The offer timeout bounds the whole call, not each message, so a full queue
+     * costs the producer at most that long; messages that did not fit are dropped and counted.
+     *
+     * @return number of messages accepted
+     */
+    public int submitAll(List<NotificationMessage> messages) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        int accepted = 0;
+        try {
+            for (NotificationMessage message : messages) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                if (!queue.offer(message, remaining, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                accepted++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        submitted.addAndGet(accepted);
+        if (accepted < messages.size()) {
+            rejected.addAndGet(messages.size() - accepted);
+            System.err.println("Notification queue full: rejected " + (messages.size() - accepted) + " of "
+                + messages.size() + " messages");
+        }
+        return accepted;
+    }
+
+    // ==================== DISPATCH ====================
+
+    /**
+     * Send the retries that are due, then drain the queue in chunks of notification.max-drain
+     */
+    @Scheduled(fixedDelayString = "${notification.flush-interval-ms:250}")
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            RetryBatch retry;
+            while ((retry = retries.poll()) != null) {
+                send(retry.type, retry.messages, retry.attempt);
+            }
+            List<NotificationMessage> drained = new ArrayList<>();
+            while (queue.drainTo(drained, maxDrain) > 0) {
+                try {
+                    dispatch(drained);
+                } catch (RuntimeException e) {
+                    // Preferences could not be read; the chunk is lost rather than blocking the queue
+                    failed.addAndGet(drained.size());
+                    System.err.println("Notification dispatch failed for " + drained.size() + " messages: " + e.getMessage());
+                }
+                drained.clear();
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /**
+     * Coalesce, resolve channels and deliver one drained chunk
+     */
+    void dispatch(List<NotificationMessage> drained) {
+        List<NotificationMessage> messages = coalesce(drained);
+        Map<Long, NotificationPreferenceCache.UserChannels> preferences =
+            preferenceCache.getAll(messages.stream().map(NotificationMessage::getUserId).distinct().toList());
+
+        Map<NotificationChannelType, List<NotificationMessage>> byChannel = new EnumMap<>(NotificationChannelType.class);
+        for (NotificationMessage message : messages) {
+            NotificationPreferenceCache.UserChannels userChannels = preferences.get(message.getUserId());
+            Set<NotificationChannelType> enabled = userChannels != null
+                ? userChannels.channelsFor(message.getNotificationType())
+                : NotificationPreferenceCache.DEFAULT_CHANNELS;
+            if (enabled.isEmpty()) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            for (NotificationChannelType type : enabled) {
+                byChannel.computeIfAbsent(type, t -> new ArrayList<>()).add(message);
+            }
+        }
+
+        byChannel.forEach((type, batch) -> {
+            for (int from = 0; from < batch.size(); from += deliveryBatchSize) {
+                send(type, batch.subList(from, Math.min(from + deliveryBatchSize, batch.size())), 1);
+            }
+        });
+    }
+
+    /**
+     * Collapse messages of the same user and type: repeated references keep only the latest,
+     * several distinct ones become a digest
+     */
+    List<NotificationMessage> coalesce(List<NotificationMessage> drained) {
+        Map<String, Map<String, NotificationMessage>> groups = new LinkedHashMap<>();
+        int sequence = 0;
+        for (NotificationMessage message : drained) {
+            String groupKey = message.getUserId() + "|" + message.getNotificationType();
+            String reference = message.getReference() != null ? message.getReference() : "#" + sequence++;
+            Map<String, NotificationMessage> group = groups.computeIfAbsent(groupKey, key -> new LinkedHashMap<>());
+            group.remove(reference);
+            group.put(reference, message);
+        }
+
+        List<NotificationMessage> result = new ArrayList<>(groups.size());
+        for (Map<String, NotificationMessage> group : groups.values()) {
+            List<NotificationMessage> latest = new ArrayList<>(group.values());
+            if (latest.size() == 1) {
+                result.add(latest.get(0));
+            } else {
+                result.add(toDigest(latest));
+            }
+        }
+        coalesced.addAndGet(drained.size() - result.size());
+        return result;
+    }
+
+    // ==================== STATISTICS ====================
+
+    public NotificationDispatchStatsDto getStats() {
+        return new NotificationDispatchStatsDto(queue.size(), queueCapacity, retries.size(), submitted.get(),
+            rejected.get(), coalesced.get(), skipped.get(), delivered.get(), retried.get(), failed.get());
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void send(NotificationChannelType type, List<NotificationMessage> batch, int attempt) {
+        try {
+            channelFor(type).deliver(type, batch);
+            delivered.addAndGet(batch.size());
+        } catch (Exception e) {
+            if (attempt >= maxAttempts) {
+                failed.addAndGet(batch.size());
+                System.err.println("Notification batch dropped after " + attempt + " attempts: " + type + " x"
+                    + batch.size() + " (" + e.getMessage() + ")");
+                return;
+            }
+            retried.addAndGet(batch.size());
+            long delayMs = backoffMs << (attempt - 1);
+            retries.add(new RetryBatch(type, new ArrayList<>(batch), attempt + 1, System.currentTimeMillis() + delayMs));
+        }
+    }
+
+    private NotificationChannel channelFor(NotificationChannelType type) {
+        for (NotificationChannel channel : channels) {
+            if (channel.supports(type)) {
+                return channel;
+            }
+        }
+        throw new IllegalStateException("No notification channel for " + type);
+    }
+
+    private static NotificationMessage toDigest(List<NotificationMessage> messages) {
+        NotificationMessage first = messages.get(0);
+        StringBuilder body = new StringBuilder();
+        int sourceCount = 0;
+        for (NotificationMessage message : messages) {
+            if (body.length() > 0) {
+                body.append('\n');
+            }
+            body.append("- ").append(message.getTitle());
+            sourceCount += message.getSourceCount();
+        }
+        String title = messages.size() + " new " + first.getNotificationType().toLowerCase() + " notifications";
+        return new NotificationMessage(first.getUserId(), first.getNotificationType(), null, title, body.toString(),
+            messages.get(messages.size() - 1).getCreatedAt(), sourceCount);
+    }
+
+    // ========== INNER CLASSES ==========
+
+    private static class RetryBatch implements Delayed {
+        private final NotificationChannelType type;
+        private final List<NotificationMessage> messages;
+        private final int attempt;
+        private final long dueAtMillis;
+
+        RetryBatch(NotificationChannelType type, List<NotificationMessage> messages, int attempt, long dueAtMillis) {
+            this.type = type;
+            this.messages = messages;
+            this.attempt = attempt;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+//Queued Notification - One message for one user, as produced by a fan-out or after coalescing into a digest
+
+package com.MyBooking.notification.service;
+
+import java.time.LocalDateTime;
+
+public class NotificationMessage {
+
+    private final Long userId;
+    private final String notificationType;
+    // e.g. "announcement:42"; queued messages with the same reference collapse to the latest
+    private final String reference;
+    private final String title;
+    private final String body;
+    private final LocalDateTime createdAt;
+    private final int sourceCount;
+
+    public NotificationMessage(Long userId, String notificationType, String reference, String title, String body) {
+        this(userId, notificationType, reference, title, body, LocalDateTime.now(), 1);
+    }
+
+    public NotificationMessage(Long userId, String notificationType, String reference, String title, String body,
+                               LocalDateTime createdAt, int sourceCount) {
+        this.userId = userId;
+        this.notificationType = notificationType;
+        this.reference = reference;
+        this.title = title;
+        this.body = body;
+        this.createdAt = createdAt;
+        this.sourceCount = sourceCount;
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public String getNotificationType() { return notificationType; }
+    public String getReference() { return reference; }
+    public String getTitle() { return title; }
+    public String getBody() { return body; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public int getSourceCount() { return sourceCount; }
+
+    public boolean isDigest() {
+        return sourceCount > 1;
+    }
+}
@@ -0,0 +1,171 @@
+//Preference Cache - Per-user notification channels (by notification type), loaded in bulk for a dispatch batch
+//Misses are read with one IN query per chunk of users; preference updates evict the user's entry after commit
+
+package com.MyBooking.notification.service;
+
+import com.MyBooking.auth.repository.NotificationPreferenceRepository;
+import com.MyBooking.notification.domain.NotificationChannelType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class NotificationPreferenceCache {
+
+    // Same channels AuthService gives new users by default
+    static final Set<NotificationChannelType> DEFAULT_CHANNELS = EnumSet.of(NotificationChannelType.PUSH);
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private NotificationPreferenceRepository notificationPreferenceRepository;
+
+    @Value("${notification.preference-cache.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    @Value("${notification.preference-cache.max-entries:50000}")
+    private int maxEntries = 50000;
+
+    private final Map<Long, UserChannels> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Channels of every given user, loading the missing or expired ones from the database
+     */
+    public Map<Long, UserChannels> getAll(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, UserChannels> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            UserChannels cached = entries.get(userId);
+            if (cached != null && !isExpired(cached, now)) {
+                result.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, UserChannels> loaded = load(missing);
+            store(loaded);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * Evict a user's entry once the surrounding transaction commits (now when there is none); evicting
+     * earlier would let a concurrent batch reload and cache the uncommitted, old channels for the full TTL
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.remove(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.remove(userId);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private Map<Long, UserChannels> load(Set<Long> userIds) {
+        Map<Long, Map<String, Set<NotificationChannelType>>> byUser = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            for (Object[] row : notificationPreferenceRepository.findChannelFlagsByUserIds(chunk)) {
+                byUser.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .put((String) row[1], toChannels((Boolean) row[2], (Boolean) row[3], (Boolean) row[4], (Boolean) row[5]));
+            }
+        }
+        Map<Long, UserChannels> loaded = new HashMap<>();
+        for (Long userId : userIds) {
+            // Users without any row are cached too, so they are not looked up again on every batch
+            loaded.put(userId, new UserChannels(byUser.getOrDefault(userId, Map.of())));
+        }
+        return loaded;
+    }
+
+    private void store(Map<Long, UserChannels> loaded) {
+        if (entries.size() + loaded.size() > maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+            if (entries.size() + loaded.size() > maxEntries) {
+                entries.clear();
+            }
+        }
+        if (loaded.size() <= maxEntries) {
+            entries.putAll(loaded);
+        }
+    }
+
+    private static Set<NotificationChannelType> toChannels(Boolean email, Boolean sms, Boolean push, Boolean active) {
+        Set<NotificationChannelType> channels = EnumSet.noneOf(NotificationChannelType.class);
+        if (!Boolean.TRUE.equals(active)) {
+            return channels;
+        }
+        if (Boolean.TRUE.equals(email)) {
+            channels.add(NotificationChannelType.EMAIL);
+        }
+        if (Boolean.TRUE.equals(sms)) {
+            channels.add(NotificationChannelType.SMS);
+        }
+        if (Boolean.TRUE.equals(push)) {
+            channels.add(NotificationChannelType.PUSH);
+        }
+        return channels;
+    }
+
+    private boolean isExpired(UserChannels channels, long now) {
+        return now - channels.getLoadedAt() > ttlSeconds * 1000;
+    }
+
+    // ========== INNER CLASSES ==========
+
+    /**
+     * Immutable channels of one user by notification type
+     */
+    public static class UserChannels {
+        private final Map<String, Set<NotificationChannelType>> byType;
+        private final long loadedAt;
+
+        public UserChannels(Map<String, Set<NotificationChannelType>> byType) {
+            this.byType = byType;
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        /**
+         * Enabled channels for a type; an inactive preference disables all, a missing one means the defaults
+         */
+        public Set<NotificationChannelType> channelsFor(String notificationType) {
+            return byType.getOrDefault(notificationType, DEFAULT_CHANNELS);
+        }
+
+        public long getLoadedAt() { return loadedAt; }
+    }
+}
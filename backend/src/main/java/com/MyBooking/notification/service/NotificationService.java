@@ -0,0 +1,72 @@
+//Announcement Fan-out - Notify every employee and admin when an announcement is published or updated
+//Recipients are read inside the caller's transaction; messages are queued only once it commits
+
+package com.MyBooking.notification.service;
+
+import com.MyBooking.announcement.domain.Announcement;
+import com.MyBooking.auth.domain.Role;
+import com.MyBooking.auth.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class NotificationService {
+
+    public static final String ANNOUNCEMENT = "ANNOUNCEMENT";
+
+    private static final int MAX_BODY_LENGTH = 200;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    // ==================== ANNOUNCEMENTS ====================
+
+    /**
+     * Queue one notification per employee and admin (except the author) for a published or updated announcement
+     */
+    public void notifyAnnouncement(Announcement announcement, boolean updated) {
+        Long authorId = announcement.getCreatedBy() != null ? announcement.getCreatedBy().getId() : null;
+        List<Long> recipientIds = userRepository.findIdsByRoleIn(List.of(Role.EMPLOYEE, Role.ADMIN));
+
+        String reference = "announcement:" + announcement.getId();
+        String title = (updated ? "Updated: " : "") + announcement.getTitle();
+        String body = abbreviate(announcement.getContent());
+        List<NotificationMessage> messages = new ArrayList<>(recipientIds.size());
+        for (Long userId : recipientIds) {
+            if (!userId.equals(authorId)) {
+                messages.add(new NotificationMessage(userId, ANNOUNCEMENT, reference, title, body));
+            }
+        }
+        afterCommit(() -> notificationDispatcher.submitAll(messages));
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String abbreviate(String content) {
+        if (content == null || content.length() <= MAX_BODY_LENGTH) {
+            return content;
+        }
+        return content.substring(0, MAX_BODY_LENGTH - 3) + "...";
+    }
+}
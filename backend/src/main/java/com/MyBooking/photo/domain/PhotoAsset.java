@@ -0,0 +1,90 @@
+package com.MyBooking.photo.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.LocalDateTime;
+
+/**
+ * An uploaded image, addressed by the SHA-256 of its bytes. The same file uploaded twice
+ * (or attached to several rooms) is stored once.
+ */
+@Entity
+@Table(name = "photo_asset")
+public class PhotoAsset {
+
+    @Id
+    @Size(min = 64, max = 64, message = "Hash must be a hex SHA-256")
+    @Column(name = "hash", nullable = false, length = 64)
+    private String hash;
+
+    @NotBlank(message = "Content type is required")
+    @Size(max = 50, message = "Content type must not exceed 50 characters")
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    @NotNull(message = "File size is required")
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @NotNull(message = "Width is required")
+    @Column(name = "width", nullable = false)
+    private Integer width;
+
+    @NotNull(message = "Height is required")
+    @Column(name = "height", nullable = false)
+    private Integer height;
+
+    @NotNull(message = "Status is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private PhotoAssetStatus status = PhotoAssetStatus.PENDING;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // Constructors
+    public PhotoAsset() {}
+
+    public PhotoAsset(String hash, String contentType, Long fileSize, Integer width, Integer height) {
+        this.hash = hash;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.width = width;
+        this.height = height;
+    }
+
+    // Getters and Setters
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public Long getFileSize() { return fileSize; }
+    public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+
+    public Integer getWidth() { return width; }
+    public void setWidth(Integer width) { this.width = width; }
+
+    public Integer getHeight() { return height; }
+    public void setHeight(Integer height) { this.height = height; }
+
+    public PhotoAssetStatus getStatus() { return status; }
+    public void setStatus(PhotoAssetStatus status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+
+    // Business methods
+    public boolean isReady() {
+        return status == PhotoAssetStatus.READY;
+    }
+}
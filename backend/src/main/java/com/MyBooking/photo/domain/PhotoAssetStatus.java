@@ -0,0 +1,7 @@
+package com.MyBooking.photo.domain;
+
+public enum PhotoAssetStatus {
+    PENDING,   // original stored, thumbnails not generated yet
+    READY,     // every configured thumbnail width is on disk
+    FAILED     // the original could not be decoded
+}
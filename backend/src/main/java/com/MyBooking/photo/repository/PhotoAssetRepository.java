@@ -0,0 +1,29 @@
+package com.MyBooking.photo.repository;
+
+import com.MyBooking.photo.domain.PhotoAsset;
+import com.MyBooking.photo.domain.PhotoAssetStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PhotoAssetRepository extends JpaRepository<PhotoAsset, String> {
+
+    // Assets whose thumbnails were never generated (e.g. the server stopped mid-queue), oldest first
+    @Query("SELECT a.hash FROM PhotoAsset a WHERE a.status = :status AND a.createdAt < :cutoff ORDER BY a.createdAt")
+    List<String> findHashesByStatusCreatedBefore(@Param("status") PhotoAssetStatus status,
+                                                 @Param("cutoff") LocalDateTime cutoff,
+                                                 Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE PhotoAsset a SET a.status = :status, a.processedAt = :processedAt WHERE a.hash = :hash")
+    int updateStatus(@Param("hash") String hash,
+                     @Param("status") PhotoAssetStatus status,
+                     @Param("processedAt") LocalDateTime processedAt);
+}
@@ -0,0 +1,303 @@
+//Photo Assets - Upload, deduplication by content hash and thumbnail generation
+//Uploads - Streamed to disk while hashed, probed with ImageIO (JPEG/PNG only), then stored once per hash
+//Thumbnails - Generated in the background, one image at a time, for every photos.thumbnail-widths entry
+//Recovery - Assets still PENDING after a restart are re-queued by a scheduled sweep
+
+package com.MyBooking.photo.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.photo.domain.PhotoAsset;
+import com.MyBooking.photo.domain.PhotoAssetStatus;
+import com.MyBooking.photo.repository.PhotoAssetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class PhotoAssetService {
+
+    public static final String URL_PREFIX = "/api/photos/";
+
+    private static final Map<String, String> EXTENSIONS = Map.of("jpeg", "jpg", "png", "png");
+    private static final Map<String, String> CONTENT_TYPES = Map.of("jpg", "image/jpeg", "png", "image/png");
+
+    @Autowired
+    private PhotoAssetRepository photoAssetRepository;
+
+    @Autowired
+    private PhotoStorage photoStorage;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor executor;
+
+    @Value("${photos.thumbnail-widths:160,480,1024}")
+    private List<Integer> thumbnailWidths = List.of(160, 480, 1024);
+
+    @Value("${photos.listing-width:480}")
+    private int listingWidth = 480;
+
+    @Value("${photos.max-upload-bytes:10485760}")
+    private long maxUploadBytes = 10485760;
+
+    @Value("${photos.max-pixels:40000000}")
+    private long maxPixels = 40000000;
+
+    @Value("${photos.jpeg-quality:0.82}")
+    private float jpegQuality = 0.82f;
+
+    @Value("${photos.recovery-batch-size:100}")
+    private int recoveryBatchSize = 100;
+
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * A stored file ready to be served
+     */
+    public static class PhotoFile {
+        private final Path path;
+        private final String contentType;
+        private final String etag;
+        private final boolean immutable;
+
+        PhotoFile(Path path, String contentType, String etag, boolean immutable) {
+            this.path = path;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.immutable = immutable;
+        }
+
+        public Path getPath() { return path; }
+        public String getContentType() { return contentType; }
+        public String getEtag() { return etag; }
+
+        /**
+         * False when a thumbnail was asked for but the original is served until it is generated
+         */
+        public boolean isImmutable() { return immutable; }
+    }
+
+    // ==================== UPLOAD ====================
+
+    /**
+     * Store an uploaded image under its SHA-256 and queue its thumbnails.
+     * Uploading a file that is already stored returns the existing asset.
+     */
+    public PhotoAsset ingest(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessRuleException("A photo file is required");
+        }
+        PhotoStorage.ReceivedFile received;
+        try (InputStream in = file.getInputStream()) {
+            received = photoStorage.receive(in, maxUploadBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the uploaded photo", e);
+        }
+        try {
+            ImageScaler.ImageInfo info = ImageScaler.probe(received.getFile());
+            String extension = info == null ? null : EXTENSIONS.get(info.format);
+            if (extension == null) {
+                throw new BusinessRuleException("Unsupported photo format, expected JPEG or PNG");
+            }
+            if ((long) info.width * info.height > maxPixels) {
+                throw new BusinessRuleException("Photo is too large: " + info.width + "x" + info.height);
+            }
+            photoStorage.storeOriginal(received, extension);
+            PhotoAsset asset = findOrCreate(new PhotoAsset(received.getHash(), CONTENT_TYPES.get(extension),
+                received.getSize(), info.width, info.height));
+            if (asset.getStatus() == PhotoAssetStatus.PENDING) {
+                enqueue(asset.getHash());
+            }
+            return asset;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store the uploaded photo", e);
+        } finally {
+            photoStorage.discard(received);
+        }
+    }
+
+    // ==================== URLS ====================
+
+    public String originalUrl(String hash) {
+        return URL_PREFIX + hash;
+    }
+
+    public String thumbnailUrl(String hash, int width) {
+        return URL_PREFIX + hash + "?w=" + width;
+    }
+
+    /**
+     * Thumbnail used on room listing pages
+     */
+    public String listingUrl(String hash) {
+        return thumbnailUrl(hash, listingWidth);
+    }
+
+    public Map<Integer, String> thumbnailUrls(String hash) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (Integer width : thumbnailWidths) {
+            urls.put(width, thumbnailUrl(hash, width));
+        }
+        return urls;
+    }
+
+    // ==================== SERVING ====================
+
+    /**
+     * Resolve a photo URL to a file without touching the database. A thumbnail that is not
+     * generated yet falls back to the original, marked as not immutable so it is revalidated.
+     */
+    public PhotoFile resolve(String hash, Integer width) {
+        if (!PhotoStorage.isValidHash(hash)) {
+            throw new NotFoundException("Photo not found: " + hash);
+        }
+        if (width != null && !thumbnailWidths.contains(width)) {
+            throw new BusinessRuleException("Unsupported thumbnail width " + width + " (expected one of " + thumbnailWidths + ")");
+        }
+        if (width != null) {
+            Path thumbnail = photoStorage.thumbnail(hash, width);
+            if (Files.isRegularFile(thumbnail)) {
+                return new PhotoFile(thumbnail, "image/jpeg", "\"" + hash + "-w" + width + "\"", true);
+            }
+        }
+        Path original = photoStorage.original(hash);
+        if (original == null) {
+            throw new NotFoundException("Photo not found: " + hash);
+        }
+        String extension = original.getFileName().toString().endsWith(".png") ? "png" : "jpg";
+        return new PhotoFile(original, CONTENT_TYPES.get(extension), "\"" + hash + "\"", width == null);
+    }
+
+    // ==================== THUMBNAILS ====================
+
+    /**
+     * Re-queue assets whose thumbnails were never generated, e.g. because the server stopped
+     */
+    @Scheduled(cron = "${photos.recovery-cron:0 */10 * * * *}")
+    public void requeuePending() {
+        try {
+            List<String> hashes = photoAssetRepository.findHashesByStatusCreatedBefore(PhotoAssetStatus.PENDING,
+                LocalDateTime.now().minusMinutes(1), PageRequest.of(0, recoveryBatchSize));
+            hashes.forEach(this::enqueue);
+            if (!hashes.isEmpty()) {
+                System.out.println("Photo thumbnails: re-queued " + hashes.size() + " pending assets");
+            }
+        } catch (Exception e) {
+            System.err.println("Photo thumbnail recovery failed: " + e.getMessage());
+        }
+    }
+
+    void enqueue(String hash) {
+        if (queued.add(hash)) {
+            pending.add(hash);
+            schedule();
+        }
+    }
+
+    /**
+     * Render every configured width that is missing, then mark the asset READY (or FAILED if the
+     * original cannot be decoded). Files are written before the status, so READY implies they exist.
+     */
+    void generateThumbnails(String hash) {
+        PhotoAssetStatus outcome;
+        try {
+            Path original = photoStorage.original(hash);
+            if (original == null) {
+                throw new IOException("Original missing for " + hash);
+            }
+            BufferedImage source = null;
+            for (Integer width : thumbnailWidths) {
+                Path target = photoStorage.thumbnail(hash, width);
+                if (Files.isRegularFile(target)) {
+                    continue;
+                }
+                if (source == null) {
+                    source = ImageScaler.read(original);
+                }
+                BufferedImage scaled = ImageScaler.scaleToWidth(source, width);
+                photoStorage.write(target, out -> ImageScaler.writeJpeg(scaled, out, jpegQuality));
+            }
+            outcome = PhotoAssetStatus.READY;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Photo thumbnails failed for " + hash + ": " + e.getMessage());
+            outcome = PhotoAssetStatus.FAILED;
+        }
+        PhotoAssetStatus status = outcome;
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx ->
+            photoAssetRepository.updateStatus(hash, status, LocalDateTime.now()));
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private PhotoAsset findOrCreate(PhotoAsset candidate) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return transaction.execute(status -> photoAssetRepository.findById(candidate.getHash())
+                .orElseGet(() -> photoAssetRepository.saveAndFlush(candidate)));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent upload of the same file inserted it first
+            return photoAssetRepository.findById(candidate.getHash()).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Start a drain task unless one is already queued or running; decoding is memory-heavy,
+     * so thumbnails are rendered one image at a time
+     */
+    private void schedule() {
+        if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            String hash;
+            while ((hash = pending.poll()) != null) {
+                try {
+                    generateThumbnails(hash);
+                } catch (RuntimeException e) {
+                    System.err.println("Photo thumbnails: could not record status for " + hash + ": " + e.getMessage());
+                } finally {
+                    queued.remove(hash);
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+        // Hashes queued while the flag was still set would otherwise wait for the next upload
+        schedule();
+    }
+}
@@ -0,0 +1,185 @@
+//Photo Storage - Content-addressed files on the local filesystem
+//Layout - <storage-dir>/<first 2 hex chars>/<sha256>/original.(jpg|png) and w<width>.jpg per thumbnail
+//Writes - Every file is written under <storage-dir>/tmp and moved into place, so readers never see a partial file
+
+package com.MyBooking.photo.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Component
+public class PhotoStorage {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final List<String> ORIGINAL_EXTENSIONS = List.of("jpg", "png");
+
+    @Value("${photos.storage-dir:./data/photos}")
+    private String storageDir = "./data/photos";
+
+    /**
+     * Writes one file; the stream is closed by the storage
+     */
+    @FunctionalInterface
+    public interface FileWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An upload copied to a temp file, with its hash and size
+     */
+    public static class ReceivedFile {
+        private final Path file;
+        private final String hash;
+        private final long size;
+
+        ReceivedFile(Path file, String hash, long size) {
+            this.file = file;
+            this.hash = hash;
+            this.size = size;
+        }
+
+        public Path getFile() { return file; }
+        public String getHash() { return hash; }
+        public long getSize() { return size; }
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Copy an upload to a temp file while hashing it; rejects it as soon as it exceeds maxBytes
+     */
+    public ReceivedFile receive(InputStream in, long maxBytes) throws IOException {
+        Path temp = newTempFile();
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxBytes) {
+                    throw new BusinessRuleException("Photo exceeds the maximum size of " + maxBytes + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return new ReceivedFile(temp, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * Move a received file to its content address; a copy that is already stored wins and the temp file is dropped
+     */
+    public Path storeOriginal(ReceivedFile received, String extension) throws IOException {
+        Path existing = original(received.getHash());
+        if (existing != null) {
+            Files.deleteIfExists(received.getFile());
+            return existing;
+        }
+        Path target = assetDir(received.getHash()).resolve("original." + extension);
+        moveIntoPlace(received.getFile(), target);
+        return target;
+    }
+
+    /**
+     * Write a derived file (thumbnail) through a temp file
+     */
+    public void write(Path target, FileWriter writer) throws IOException {
+        Path temp = newTempFile();
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public void discard(ReceivedFile received) {
+        try {
+            Files.deleteIfExists(received.getFile());
+        } catch (IOException e) {
+            System.err.println("Could not delete temp upload " + received.getFile() + ": " + e.getMessage());
+        }
+    }
+
+    // ==================== LOOKUPS ====================
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    /**
+     * Stored original for a hash, or null
+     */
+    public Path original(String hash) {
+        Path dir = assetDir(hash);
+        for (String extension : ORIGINAL_EXTENSIONS) {
+            Path candidate = dir.resolve("original." + extension);
+            if (Files.isRegularFile(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public Path thumbnail(String hash, int width) {
+        return assetDir(hash).resolve("w" + width + ".jpg");
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private Path assetDir(String hash) {
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("Not a photo hash: " + hash);
+        }
+        return root().resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path root() {
+        return Paths.get(storageDir).toAbsolutePath().normalize();
+    }
+
+    private Path newTempFile() throws IOException {
+        Path tempDir = root().resolve("tmp");
+        Files.createDirectories(tempDir);
+        return tempDir.resolve(UUID.randomUUID() + ".part");
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
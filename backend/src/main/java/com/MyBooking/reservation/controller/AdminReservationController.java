@@ -80,13 +80,15 @@ public class AdminReservationController {
 
     /**
      * Get reservation by ID (admin can view any reservation)
-     * GET /api/admin/reservations/{id}
+     * GET /api/admin/reservations/{id}?includeArchived=true
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ReservationResponseDto> getReservation(@PathVariable Long id) {
+    public ResponseEntity<ReservationResponseDto> getReservation(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            ReservationResponseDto reservation = reservationService.getReservationByIdAsDto(id);
+            ReservationResponseDto reservation = reservationService.getReservationByIdAsDto(id, includeArchived);
             return ResponseEntity.ok(reservation);
         } catch (com.MyBooking.common.exception.NotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -158,15 +160,16 @@ public class AdminReservationController {
 
     /**
      * Get reservations by client ID
-     * GET /api/admin/reservations/client/{clientId}
+     * GET /api/admin/reservations/client/{clientId}?includeArchived=true
      */
     @GetMapping("/client/{clientId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<ReservationResponseDto>> getReservationsByClient(
             @PathVariable Long clientId,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
             Pageable pageable) {
         try {
-            Page<ReservationResponseDto> reservations = reservationService.getReservationsByClientId(clientId, pageable);
+            Page<ReservationResponseDto> reservations = reservationService.getReservationsByClientId(clientId, pageable, includeArchived);
             return ResponseEntity.ok(reservations);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -175,15 +178,16 @@ public class AdminReservationController {
 
     /**
      * Get reservations by room ID
-     * GET /api/admin/reservations/room/{roomId}
+     * GET /api/admin/reservations/room/{roomId}?includeArchived=true
      */
     @GetMapping("/room/{roomId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<ReservationResponseDto>> getReservationsByRoom(
             @PathVariable Long roomId,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
             Pageable pageable) {
         try {
-            Page<ReservationResponseDto> reservations = reservationService.getReservationsByRoomId(roomId, pageable);
+            Page<ReservationResponseDto> reservations = reservationService.getReservationsByRoomId(roomId, pageable, includeArchived);
             return ResponseEntity.ok(reservations);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
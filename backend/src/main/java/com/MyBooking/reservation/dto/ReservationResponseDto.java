@@ -26,6 +26,7 @@ public class ReservationResponseDto {
     private String roomType;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private boolean archived;
     
     // Constructors
     public ReservationResponseDto() {}
@@ -173,6 +174,17 @@ public class ReservationResponseDto {
         this.updatedAt = updatedAt;
     }
     
+    /**
+     * True when read from the archive schema ("include archived" audit queries)
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+    
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+    
     @Override
     public String toString() {
         return "ReservationResponseDto{" +
@@ -191,6 +203,7 @@ public class ReservationResponseDto {
                 ", roomType='" + roomType + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", archived=" + archived +
                 '}';
     }
 }
@@ -4,6 +4,7 @@ import com.MyBooking.reservation.domain.Reservation;
 import com.MyBooking.reservation.domain.ReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +19,20 @@ import java.util.Optional;
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
+    // ==================== LISTING QUERIES ====================
+
+    /**
+     * Find all reservations with pagination.
+     * The paged finders below that feed the DTO listings load client and room with the page
+     * (one join instead of two lookups per row).
+     * 
+     * @param pageable Pagination information
+     * @return Page of reservations
+     */
+    @Override
+    @EntityGraph(attributePaths = {"client", "room"})
+    Page<Reservation> findAll(Pageable pageable);
+
     // ==================== CLIENT-BASED QUERIES ====================
     
     /**
@@ -35,6 +50,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @param pageable Pagination information
      * @return Page of reservations for the client
      */
+    @EntityGraph(attributePaths = {"client", "room"})
     Page<Reservation> findByClientId(Long clientId, Pageable pageable);
     
     /**
@@ -80,6 +96,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @param pageable Pagination information
      * @return Page of reservations for the room
      */
+    @EntityGraph(attributePaths = {"client", "room"})
     Page<Reservation> findByRoomId(Long roomId, Pageable pageable);
     
     /**
@@ -125,6 +142,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @param pageable Pagination information
      * @return Page of reservations with the status
      */
+    @EntityGraph(attributePaths = {"client", "room"})
     Page<Reservation> findByStatus(ReservationStatus status, Pageable pageable);
     
     /**
@@ -163,6 +181,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @param pageable Pagination information
      * @return Page of reservations with check-in in the date range
      */
+    @EntityGraph(attributePaths = {"client", "room"})
     Page<Reservation> findByCheckInBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
     
     /**
@@ -357,6 +376,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @param pageable Pagination information
      * @return Page of reservations matching the criteria
      */
+    @EntityGraph(attributePaths = {"client", "room"})
     @Query("SELECT r FROM Reservation r WHERE " +
            "(:clientId IS NULL OR r.client.id = :clientId) AND " +
            "(:roomId IS NULL OR r.room.id = :roomId) AND " +
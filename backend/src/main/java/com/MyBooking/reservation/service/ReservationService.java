@@ -6,6 +6,7 @@
 
 package com.MyBooking.reservation.service;
 
+import com.MyBooking.archive.service.ArchiveQueryService;
 import com.MyBooking.reservation.domain.Reservation;
 import com.MyBooking.reservation.domain.ReservationStatus;
 import com.MyBooking.reservation.repository.ReservationRepository;
@@ -18,9 +19,11 @@ import com.MyBooking.auth.domain.User;
 import com.MyBooking.auth.domain.Role;
 import com.MyBooking.auth.repository.UserRepository;
 import com.MyBooking.loyalty.service.LoyaltyService;
+import com.MyBooking.common.events.DomainEvent;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,7 +33,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -52,6 +57,12 @@ public class ReservationService {
     @Autowired
     private LoyaltyService loyaltyService;
 
+    @Autowired
+    private ArchiveQueryService archiveQueryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // ========== RESERVATION MANAGEMENT ==========
 
     /**
@@ -104,6 +115,7 @@ public class ReservationService {
         // Update room status to occupied for the entire reservation period
         roomService.updateRoomStatusAutomatically(roomId, RoomStatus.OCCUPIED, 
             "Reservation created for " + checkIn + " to " + checkOut);
+        publishReservationChange(savedReservation, "RESERVATION_CREATED");
         
         return savedReservation;
     }
@@ -195,6 +207,7 @@ public class ReservationService {
         // Update room status to occupied for the entire reservation period
         roomService.updateRoomStatusAutomatically(roomId, RoomStatus.OCCUPIED, 
             "Reservation created for " + checkIn + " to " + checkOut);
+        publishReservationChange(savedReservation, "RESERVATION_CREATED");
         
         return savedReservation;
     }
@@ -368,7 +381,9 @@ public class ReservationService {
         BigDecimal newTotalPrice = calculateTotalPrice(reservation.getRoom(), newCheckIn, newCheckOut, newNumberOfGuests);
         reservation.setTotalPrice(newTotalPrice);
         
-        return reservationRepository.save(reservation);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        publishReservationChange(reservation, "RESERVATION_UPDATED");
+        return savedReservation;
     }
 
     /**
@@ -400,6 +415,7 @@ public class ReservationService {
         // Update room status back to available when reservation is cancelled
         roomService.updateRoomStatusAutomatically(reservation.getRoom().getId(), RoomStatus.AVAILABLE, 
             "Reservation cancelled: " + reason);
+        publishReservationChange(reservation, "RESERVATION_CANCELLED");
     }
 
     /**
@@ -417,6 +433,23 @@ public class ReservationService {
         }
     }
 
+    /**
+     * Tell live front-desk screens about a booking change (delivered after commit)
+     */
+    private void publishReservationChange(Reservation reservation, String type) {
+        if (reservation == null) {
+            return;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("reservationId", reservation.getId());
+        data.put("roomId", reservation.getRoom() != null ? reservation.getRoom().getId() : null);
+        data.put("clientId", reservation.getClient() != null ? reservation.getClient().getId() : null);
+        data.put("status", reservation.getStatus());
+        data.put("checkIn", reservation.getCheckIn());
+        data.put("checkOut", reservation.getCheckOut());
+        eventPublisher.publishEvent(new DomainEvent(DomainEvent.RESERVATIONS, type, reservation.getId(), data));
+    }
+
     // ========== AVAILABILITY & SEARCH ==========
 
     /**
@@ -485,7 +518,9 @@ public class ReservationService {
         }
         
         reservation.setStatus(ReservationStatus.CONFIRMED);
-        return reservationRepository.save(reservation);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        publishReservationChange(reservation, "RESERVATION_CONFIRMED");
+        return savedReservation;
     }
 
     // ========== SEARCH & FILTERING ==========
@@ -641,6 +676,17 @@ public class ReservationService {
         return reservations.map(this::convertToResponseDto);
     }
 
+    /**
+     * Get reservations by client ID, optionally including archived ones (audits)
+     */
+    @Transactional(readOnly = true)
+    public Page<ReservationResponseDto> getReservationsByClientId(Long clientId, Pageable pageable, boolean includeArchived) {
+        if (includeArchived && archiveQueryService.isArchiveAvailable()) {
+            return archiveQueryService.getClientReservationHistory(clientId, pageable);
+        }
+        return getReservationsByClientId(clientId, pageable);
+    }
+
     /**
      * Get reservation by ID and client ID (Client can only see their own)
      */
@@ -715,6 +761,17 @@ public class ReservationService {
         return convertToResponseDto(reservation);
     }
 
+    /**
+     * Get reservation by ID, falling back to the archive when requested (audits)
+     */
+    @Transactional(readOnly = true)
+    public ReservationResponseDto getReservationByIdAsDto(Long id, boolean includeArchived) {
+        if (includeArchived && archiveQueryService.isArchiveAvailable()) {
+            return archiveQueryService.getReservationFromHistory(id);
+        }
+        return getReservationByIdAsDto(id);
+    }
+
     /**
      * Search reservations with criteria DTO
      */
@@ -757,6 +814,7 @@ public class ReservationService {
         // Update reservation
         reservation.setRoom(newRoom);
         Reservation updatedReservation = reservationRepository.save(reservation);
+        publishReservationChange(reservation, "RESERVATION_REASSIGNED");
         
         return convertToResponseDto(updatedReservation);
     }
@@ -770,6 +828,17 @@ public class ReservationService {
         return reservations.map(this::convertToResponseDto);
     }
 
+    /**
+     * Get reservations by room ID, optionally including archived ones (audits)
+     */
+    @Transactional(readOnly = true)
+    public Page<ReservationResponseDto> getReservationsByRoomId(Long roomId, Pageable pageable, boolean includeArchived) {
+        if (includeArchived && archiveQueryService.isArchiveAvailable()) {
+            return archiveQueryService.getRoomReservationHistory(roomId, pageable);
+        }
+        return getReservationsByRoomId(roomId, pageable);
+    }
+
     /**
      * Get reservations by status with pagination (returns DTOs)
      */
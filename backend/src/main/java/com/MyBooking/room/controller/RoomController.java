@@ -2,24 +2,40 @@ package com.MyBooking.room.controller;
 
 import com.MyBooking.room.domain.*;
 import com.MyBooking.room.dto.RoomCreateRequestDto;
+import com.MyBooking.room.dto.RoomPhotoDto;
+import com.MyBooking.room.dto.RoomStatusDurationDto;
+import com.MyBooking.room.dto.RoomStatusIntervalDto;
+import com.MyBooking.room.dto.RoomSummaryDto;
+import com.MyBooking.room.dto.RoomTimelineCompactionResultDto;
 import com.MyBooking.room.service.RoomService;
+import com.MyBooking.room.service.RoomStatusTimelineService;
 import com.MyBooking.auth.domain.User;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.common.mapper.PageResponse;
 import com.MyBooking.common.security.JwtService;
+import com.MyBooking.common.web.CatalogResponseCache;
+import com.MyBooking.photo.domain.PhotoAsset;
+import com.MyBooking.photo.service.PhotoAssetService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -32,28 +48,41 @@ public class RoomController {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Autowired
+    private RoomStatusTimelineService roomStatusTimelineService;
+
+    @Autowired
+    private PhotoAssetService photoAssetService;
+
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(60)).cachePrivate();
+
     // ========== CLIENT & ADMIN ENDPOINTS ==========
 
     /**
      * GET /api/rooms - List/filter rooms with proper pagination (CLIENT & ADMIN ONLY)
      * Supports filtering by: roomType, capacity, price range, status, dates
+     * Rows are RoomSummaryDto in a lean PageResponse envelope
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
-    public ResponseEntity<Page<Room>> getRooms(
+    public ResponseEntity<?> getRooms(
             @RequestParam(required = false) RoomType roomType,
             @RequestParam(required = false) Integer minCapacity,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) RoomStatus status,
             @RequestParam(required = false) LocalDate checkIn,
             @RequestParam(required = false) LocalDate checkOut,
-            Pageable pageable) {
+            Pageable pageable,
+            HttpServletRequest request) {
         
         try {
-            Page<Room> rooms;
-            
             // If dates are provided, get available rooms for date range WITH PROPER PAGINATION
             if (checkIn != null && checkOut != null) {
+                Page<Room> rooms;
                 if (roomType != null || minCapacity != null) {
                     // Use filtered availability search with pagination
                     rooms = roomService.getAvailableRoomsForDateRangeWithFilters(
@@ -62,12 +91,14 @@ public class RoomController {
                     // Use basic availability search with pagination
                     rooms = roomService.getAvailableRoomsForDateRange(checkIn, checkOut, pageable);
                 }
-            } else {
-                // Use criteria-based filtering with pagination
-                rooms = roomService.getRoomsByCriteria(roomType, minCapacity, maxPrice, status, pageable);
+                return ResponseEntity.ok(PageResponse.from(rooms, roomService::toSummaryDto));
             }
-            
-            return ResponseEntity.ok(rooms);
+
+            // Use criteria-based filtering with pagination, served through the catalog ETag cache
+            return catalogResponseCache.respond(request, CatalogResponseCache.ROOMS, LIST_CACHE_CONTROL,
+                roomService::getCatalogVersion,
+                () -> PageResponse.from(roomService.getRoomsByCriteria(roomType, minCapacity, maxPrice, status, pageable),
+                    roomService::toSummaryDto));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -78,10 +109,10 @@ public class RoomController {
      */
     @GetMapping("/{roomId}")
     @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
-    public ResponseEntity<Room> getRoomById(@PathVariable Long roomId) {
+    public ResponseEntity<?> getRoomById(@PathVariable Long roomId, HttpServletRequest request) {
         try {
-            Room room = roomService.getRoomById(roomId);
-            return ResponseEntity.ok(room);
+            return catalogResponseCache.respond(request, CatalogResponseCache.ROOMS, DETAIL_CACHE_CONTROL,
+                roomService::getCatalogVersion, () -> roomService.getRoomById(roomId));
         } catch (NotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -190,10 +221,11 @@ public class RoomController {
 
     /**
      * GET /api/rooms/employee/search - Search rooms by number/status (EMPLOYEE only)
+     * Rows are RoomSummaryDto in a lean PageResponse envelope
      */
     @GetMapping("/employee/search")
     @PreAuthorize("hasRole('EMPLOYEE')")
-    public ResponseEntity<Page<Room>> searchRooms(
+    public ResponseEntity<PageResponse<RoomSummaryDto>> searchRooms(
             @RequestParam(required = false) String number,
             @RequestParam(required = false) RoomStatus status,
             @RequestParam(required = false) RoomType roomType,
@@ -217,7 +249,7 @@ public class RoomController {
                 rooms = roomService.getAllRooms(pageable);
             }
             
-            return ResponseEntity.ok(rooms);
+            return ResponseEntity.ok(PageResponse.from(rooms, roomService::toSummaryDto));
         } catch (NotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -258,6 +290,132 @@ public class RoomController {
         }
     }
 
+    // ========== STATUS TIMELINE ENDPOINTS ==========
+
+    /**
+     * GET /api/rooms/{roomId}/status-at?at= - Room status at a point in time (EMPLOYEE & ADMIN)
+     */
+    @GetMapping("/{roomId}/status-at")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<RoomStatusIntervalDto> getStatusAt(
+            @PathVariable Long roomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        try {
+            return ResponseEntity.ok(roomStatusTimelineService.getStatusAt(roomId, at));
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (BusinessRuleException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /api/rooms/{roomId}/status-durations?from=&to= - Time spent in each status (EMPLOYEE & ADMIN)
+     */
+    @GetMapping("/{roomId}/status-durations")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<RoomStatusDurationDto> getStatusDurations(
+            @PathVariable Long roomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(roomStatusTimelineService.getStatusDurations(roomId, from, to));
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (BusinessRuleException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /api/rooms/{roomId}/status-timeline?from=&to= - Compacted status intervals (EMPLOYEE & ADMIN)
+     * JSON by default, CBOR with Accept: application/cbor
+     */
+    @GetMapping(value = "/{roomId}/status-timeline",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<List<RoomStatusIntervalDto>> getStatusTimeline(
+            @PathVariable Long roomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(roomStatusTimelineService.getTimeline(roomId, from, to));
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (BusinessRuleException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/rooms/status-timeline/compact - Run the timeline compaction now (ADMIN only)
+     */
+    @PostMapping("/status-timeline/compact")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RoomTimelineCompactionResultDto> compactStatusTimeline() {
+        return ResponseEntity.ok(roomStatusTimelineService.compact());
+    }
+
+    // ========== PHOTO ENDPOINTS ==========
+
+    /**
+     * POST /api/rooms/{roomId}/photos - Upload a JPEG/PNG photo (ADMIN only, multipart "file")
+     * Thumbnails are generated in the background; until then their URLs serve the original.
+     */
+    @PostMapping(value = "/{roomId}/photos", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RoomPhotoDto> uploadRoomPhoto(
+            @PathVariable Long roomId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String caption,
+            @RequestParam(defaultValue = "false") boolean primary) {
+        // Fails fast on an unknown room before the upload is stored
+        roomService.getRoomById(roomId);
+        PhotoAsset asset = photoAssetService.ingest(file);
+        RoomPhoto photo = roomService.addUploadedRoomPhoto(roomId, asset, file.getOriginalFilename(), caption, primary);
+        return ResponseEntity.status(HttpStatus.CREATED).body(roomService.toPhotoDto(photo));
+    }
+
+    /**
+     * GET /api/rooms/{roomId}/photos - Room photos with thumbnail URLs (CLIENT, EMPLOYEE & ADMIN)
+     */
+    @GetMapping("/{roomId}/photos")
+    @PreAuthorize("hasAnyRole('CLIENT', 'EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<List<RoomPhotoDto>> getRoomPhotos(@PathVariable Long roomId) {
+        try {
+            return ResponseEntity.ok(roomService.getRoomPhotoDtos(roomId));
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * PUT /api/rooms/photos/{photoId}/primary - Make a photo the room's primary (listing) photo (ADMIN only)
+     */
+    @PutMapping("/photos/{photoId}/primary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RoomPhotoDto> setPrimaryPhoto(@PathVariable Long photoId) {
+        try {
+            return ResponseEntity.ok(roomService.toPhotoDto(roomService.setPrimaryPhoto(photoId)));
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * DELETE /api/rooms/photos/{photoId} - Remove a photo from its room (ADMIN only)
+     */
+    @DeleteMapping("/photos/{photoId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> removeRoomPhoto(@PathVariable Long photoId) {
+        try {
+            roomService.removeRoomPhoto(photoId);
+            return ResponseEntity.noContent().build();
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     // ========== HELPER METHODS ==========
 
     /**
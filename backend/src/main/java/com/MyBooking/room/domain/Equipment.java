@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class Equipment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipment_id_seq")
+    @SequenceGenerator(name = "equipment_id_seq", sequenceName = "equipment_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Equipment name is required")
@@ -1,5 +1,8 @@
 package com.MyBooking.room.domain;
 
+import com.MyBooking.common.web.CatalogChangeListener;
+import com.MyBooking.common.web.CatalogRegion;
+import com.MyBooking.common.web.CatalogResponseCache;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -8,11 +11,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
+@CatalogRegion(CatalogResponseCache.ROOMS)
 @Table(name = "room")
 public class Room {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_id_seq")
+    @SequenceGenerator(name = "room_id_seq", sequenceName = "room_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Room number is required")
@@ -54,6 +60,11 @@ public class Room {
     @Column(name = "equipment", length = 255)
     private String equipment;
     
+    // Listing thumbnail of the primary photo, so room lists never load full-size images
+    @Size(max = 500, message = "Thumbnail URL must not exceed 500 characters")
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -103,6 +114,9 @@ public class Room {
     public String getEquipment() { return equipment; }
     public void setEquipment(String equipment) { this.equipment = equipment; }
     
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class RoomPhoto {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_photo_id_seq")
+    @SequenceGenerator(name = "room_photo_id_seq", sequenceName = "room_photo_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Photo URL is required")
@@ -52,6 +53,11 @@ public class RoomPhoto {
     @Column(name = "file_name", length = 100)
     private String fileName;
     
+    // SHA-256 of an uploaded photo asset; null for photos given as an external URL
+    @Size(max = 64, message = "Asset hash must not exceed 64 characters")
+    @Column(name = "asset_hash", length = 64)
+    private String assetHash;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -101,6 +107,9 @@ public class RoomPhoto {
     public String getFileName() { return fileName; }
     public void setFileName(String fileName) { this.fileName = fileName; }
     
+    public String getAssetHash() { return assetHash; }
+    public void setAssetHash(String assetHash) { this.assetHash = assetHash; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -115,4 +124,8 @@ public class RoomPhoto {
     public boolean isActivePhoto() {
         return Boolean.TRUE.equals(isActive);
     }
+    
+    public boolean isUploaded() {
+        return assetHash != null;
+    }
 }
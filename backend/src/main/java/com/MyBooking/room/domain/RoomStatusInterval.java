@@ -0,0 +1,83 @@
+package com.MyBooking.room.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Compacted room status timeline: the room had {@code status} from {@code validFrom} until {@code validTo}
+ * (open while null). Consecutive updates to the same status are folded into one interval.
+ */
+@Entity
+@Table(name = "room_status_interval")
+public class RoomStatusInterval {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_status_interval_id_seq")
+    @SequenceGenerator(name = "room_status_interval_id_seq", sequenceName = "room_status_interval_id_seq", allocationSize = 50)
+    private Long id;
+    
+    @NotNull(message = "Room is required")
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+    
+    @NotNull(message = "Status is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 32)
+    private RoomStatus status;
+    
+    @NotNull(message = "Start is required")
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+    
+    @Column(name = "valid_to")
+    private LocalDateTime validTo;
+    
+    @NotNull(message = "Transition count is required")
+    @Column(name = "transitions", nullable = false)
+    private Integer transitions = 1;
+    
+    // Constructors
+    public RoomStatusInterval() {}
+    
+    public RoomStatusInterval(Long roomId, RoomStatus status, LocalDateTime validFrom, Integer transitions) {
+        this.roomId = roomId;
+        this.status = status;
+        this.validFrom = validFrom;
+        this.transitions = transitions;
+    }
+    
+    // Business methods
+    public boolean isOpen() {
+        return validTo == null;
+    }
+    
+    /**
+     * Seconds of this interval inside [from, to); an open interval runs until {@code to}
+     */
+    public long overlapSeconds(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = validFrom.isAfter(from) ? validFrom : from;
+        LocalDateTime end = validTo == null || validTo.isAfter(to) ? to : validTo;
+        return end.isAfter(start) ? Duration.between(start, end).getSeconds() : 0;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+    
+    public RoomStatus getStatus() { return status; }
+    public void setStatus(RoomStatus status) { this.status = status; }
+    
+    public LocalDateTime getValidFrom() { return validFrom; }
+    public void setValidFrom(LocalDateTime validFrom) { this.validFrom = validFrom; }
+    
+    public LocalDateTime getValidTo() { return validTo; }
+    public void setValidTo(LocalDateTime validTo) { this.validTo = validTo; }
+    
+    public Integer getTransitions() { return transitions; }
+    public void setTransitions(Integer transitions) { this.transitions = transitions; }
+}
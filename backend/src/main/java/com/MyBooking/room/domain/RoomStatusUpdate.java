@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class RoomStatusUpdate {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_status_update_id_seq")
+    @SequenceGenerator(name = "room_status_update_id_seq", sequenceName = "room_status_update_id_seq", allocationSize = 50)
     private Long id;
     
     @NotNull(message = "Room is required")
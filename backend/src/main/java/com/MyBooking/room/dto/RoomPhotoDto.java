@@ -0,0 +1,71 @@
+package com.MyBooking.room.dto;
+
+import java.util.Map;
+
+/**
+ * DTO for a room photo: the full-size URL plus one URL per thumbnail width (empty for external URLs)
+ */
+public class RoomPhotoDto {
+
+    private Long id;
+
+    private Long roomId;
+
+    private String url;
+
+    private Map<Integer, String> thumbnailUrls;
+
+    private String caption;
+
+    private Integer displayOrder;
+
+    private boolean primary;
+
+    private String contentType;
+
+    private Long fileSize;
+
+    // Constructors
+    public RoomPhotoDto() {}
+
+    public RoomPhotoDto(Long id, Long roomId, String url, Map<Integer, String> thumbnailUrls, String caption,
+                        Integer displayOrder, boolean primary, String contentType, Long fileSize) {
+        this.id = id;
+        this.roomId = roomId;
+        this.url = url;
+        this.thumbnailUrls = thumbnailUrls;
+        this.caption = caption;
+        this.displayOrder = displayOrder;
+        this.primary = primary;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+
+    public Map<Integer, String> getThumbnailUrls() { return thumbnailUrls; }
+    public void setThumbnailUrls(Map<Integer, String> thumbnailUrls) { this.thumbnailUrls = thumbnailUrls; }
+
+    public String getCaption() { return caption; }
+    public void setCaption(String caption) { this.caption = caption; }
+
+    public Integer getDisplayOrder() { return displayOrder; }
+    public void setDisplayOrder(Integer displayOrder) { this.displayOrder = displayOrder; }
+
+    public boolean isPrimary() { return primary; }
+    public void setPrimary(boolean primary) { this.primary = primary; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public Long getFileSize() { return fileSize; }
+    public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+}
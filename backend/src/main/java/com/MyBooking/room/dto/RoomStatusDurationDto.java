@@ -0,0 +1,55 @@
+package com.MyBooking.room.dto;
+
+import com.MyBooking.room.domain.RoomStatus;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for the time a room spent in each status over a period, in seconds
+ */
+public class RoomStatusDurationDto {
+
+    private Long roomId;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private Map<RoomStatus, Long> secondsByStatus;
+
+    private long untrackedSeconds;
+
+    private int transitions;
+
+    // Constructors
+    public RoomStatusDurationDto() {}
+
+    public RoomStatusDurationDto(Long roomId, LocalDateTime from, LocalDateTime to, Map<RoomStatus, Long> secondsByStatus,
+                                 long untrackedSeconds, int transitions) {
+        this.roomId = roomId;
+        this.from = from;
+        this.to = to;
+        this.secondsByStatus = secondsByStatus;
+        this.untrackedSeconds = untrackedSeconds;
+        this.transitions = transitions;
+    }
+
+    // Getters and Setters
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public Map<RoomStatus, Long> getSecondsByStatus() { return secondsByStatus; }
+    public void setSecondsByStatus(Map<RoomStatus, Long> secondsByStatus) { this.secondsByStatus = secondsByStatus; }
+
+    public long getUntrackedSeconds() { return untrackedSeconds; }
+    public void setUntrackedSeconds(long untrackedSeconds) { this.untrackedSeconds = untrackedSeconds; }
+
+    public int getTransitions() { return transitions; }
+    public void setTransitions(int transitions) { this.transitions = transitions; }
+}
@@ -0,0 +1,48 @@
+package com.MyBooking.room.dto;
+
+import com.MyBooking.room.domain.RoomStatus;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one interval of a room's status timeline (validTo is null while it is the current status)
+ */
+public class RoomStatusIntervalDto {
+
+    private Long roomId;
+
+    private RoomStatus status;
+
+    private LocalDateTime validFrom;
+
+    private LocalDateTime validTo;
+
+    private int transitions;
+
+    // Constructors
+    public RoomStatusIntervalDto() {}
+
+    public RoomStatusIntervalDto(Long roomId, RoomStatus status, LocalDateTime validFrom, LocalDateTime validTo,
+                                 int transitions) {
+        this.roomId = roomId;
+        this.status = status;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+        this.transitions = transitions;
+    }
+
+    // Getters and Setters
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public RoomStatus getStatus() { return status; }
+    public void setStatus(RoomStatus status) { this.status = status; }
+
+    public LocalDateTime getValidFrom() { return validFrom; }
+    public void setValidFrom(LocalDateTime validFrom) { this.validFrom = validFrom; }
+
+    public LocalDateTime getValidTo() { return validTo; }
+    public void setValidTo(LocalDateTime validTo) { this.validTo = validTo; }
+
+    public int getTransitions() { return transitions; }
+    public void setTransitions(int transitions) { this.transitions = transitions; }
+}
@@ -0,0 +1,86 @@
+package com.MyBooking.room.dto;
+
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.math.BigDecimal;
+
+/**
+ * DTO for one row of a room list: only what the listing cards show (no audit timestamps),
+ * null fields omitted. Full details stay on GET /api/rooms/{roomId}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "number", "roomType", "capacity", "price", "currency", "status",
+    "thumbnailUrl", "description", "equipment"})
+public class RoomSummaryDto {
+
+    private Long id;
+
+    private String number;
+
+    private RoomType roomType;
+
+    private Integer capacity;
+
+    private BigDecimal price;
+
+    private String currency;
+
+    private RoomStatus status;
+
+    private String thumbnailUrl;
+
+    private String description;
+
+    private String equipment;
+
+    // Constructors
+    public RoomSummaryDto() {}
+
+    public RoomSummaryDto(Long id, String number, RoomType roomType, Integer capacity, BigDecimal price,
+                          String currency, RoomStatus status, String thumbnailUrl, String description,
+                          String equipment) {
+        this.id = id;
+        this.number = number;
+        this.roomType = roomType;
+        this.capacity = capacity;
+        this.price = price;
+        this.currency = currency;
+        this.status = status;
+        this.thumbnailUrl = thumbnailUrl;
+        this.description = description;
+        this.equipment = equipment;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getNumber() { return number; }
+    public void setNumber(String number) { this.number = number; }
+
+    public RoomType getRoomType() { return roomType; }
+    public void setRoomType(RoomType roomType) { this.roomType = roomType; }
+
+    public Integer getCapacity() { return capacity; }
+    public void setCapacity(Integer capacity) { this.capacity = capacity; }
+
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public RoomStatus getStatus() { return status; }
+    public void setStatus(RoomStatus status) { this.status = status; }
+
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getEquipment() { return equipment; }
+    public void setEquipment(String equipment) { this.equipment = equipment; }
+}
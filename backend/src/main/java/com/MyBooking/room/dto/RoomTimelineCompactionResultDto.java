@@ -0,0 +1,53 @@
+package com.MyBooking.room.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the outcome of a room status timeline compaction run
+ */
+public class RoomTimelineCompactionResultDto {
+
+    private int roomsBackfilled;
+
+    private int roomsReconciled;
+
+    private long rawUpdatesPurged;
+
+    private LocalDateTime purgeCutoff;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Constructors
+    public RoomTimelineCompactionResultDto() {}
+
+    public RoomTimelineCompactionResultDto(int roomsBackfilled, int roomsReconciled, long rawUpdatesPurged,
+                                           LocalDateTime purgeCutoff, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.roomsBackfilled = roomsBackfilled;
+        this.roomsReconciled = roomsReconciled;
+        this.rawUpdatesPurged = rawUpdatesPurged;
+        this.purgeCutoff = purgeCutoff;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // Getters and Setters
+    public int getRoomsBackfilled() { return roomsBackfilled; }
+    public void setRoomsBackfilled(int roomsBackfilled) { this.roomsBackfilled = roomsBackfilled; }
+
+    public int getRoomsReconciled() { return roomsReconciled; }
+    public void setRoomsReconciled(int roomsReconciled) { this.roomsReconciled = roomsReconciled; }
+
+    public long getRawUpdatesPurged() { return rawUpdatesPurged; }
+    public void setRawUpdatesPurged(long rawUpdatesPurged) { this.rawUpdatesPurged = rawUpdatesPurged; }
+
+    public LocalDateTime getPurgeCutoff() { return purgeCutoff; }
+    public void setPurgeCutoff(LocalDateTime purgeCutoff) { this.purgeCutoff = purgeCutoff; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
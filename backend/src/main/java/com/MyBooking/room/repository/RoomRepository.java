@@ -3,9 +3,11 @@ package com.MyBooking.room.repository;
 import com.MyBooking.room.domain.Room;
 import com.MyBooking.room.domain.RoomStatus;
 import com.MyBooking.room.domain.RoomType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -32,6 +34,17 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     Optional<Room> findByNumber(String number);
 
+    /**
+     * Find room by id and lock its row until the transaction ends.
+     * Used to serialize writes to the room's status timeline.
+     * 
+     * @param id the room id
+     * @return Optional containing the locked room if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * Check if a room exists with the given number.
      * Used for room number validation during creation.
@@ -342,4 +355,13 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     @Query("SELECT r FROM Room r ORDER BY r.price DESC, id ASC LIMIT 1")
     Optional<Room> findMostExpensiveRoom();
+
+    /**
+     * Row count and latest update of the room catalog.
+     * Used as the version of cached room responses.
+     *
+     * @return single row of [count, max(updatedAt)]
+     */
+    @Query("SELECT COUNT(r), MAX(r.updatedAt) FROM Room r")
+    List<Object[]> findCatalogVersion();
 }
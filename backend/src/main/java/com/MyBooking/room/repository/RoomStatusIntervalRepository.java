@@ -0,0 +1,42 @@
+package com.MyBooking.room.repository;
+
+import com.MyBooking.room.domain.RoomStatusInterval;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoomStatusIntervalRepository extends JpaRepository<RoomStatusInterval, Long> {
+
+    // ==================== TIMELINE QUERIES ====================
+
+    // Current (open) interval of a room
+    Optional<RoomStatusInterval> findByRoomIdAndValidToIsNull(Long roomId);
+
+    // Interval containing a point in time: one probe of the (room_id, valid_from) index
+    Optional<RoomStatusInterval> findFirstByRoomIdAndValidFromLessThanEqualOrderByValidFromDesc(Long roomId, LocalDateTime at);
+
+    // Intervals starting in [start, end), oldest first
+    @Query("SELECT i FROM RoomStatusInterval i WHERE i.roomId = :roomId AND i.validFrom >= :start AND i.validFrom < :end " +
+           "ORDER BY i.validFrom")
+    List<RoomStatusInterval> findStartingBetween(@Param("roomId") Long roomId, @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+
+    boolean existsByRoomId(Long roomId);
+
+    // ==================== COMPACTION QUERIES ====================
+
+    // Rooms with no timeline yet (created before it existed, or never changed status)
+    @Query("SELECT r.id FROM Room r WHERE NOT EXISTS (SELECT 1 FROM RoomStatusInterval i WHERE i.roomId = r.id) ORDER BY r.id")
+    List<Long> findUntrackedRoomIds(Pageable pageable);
+
+    // Rooms whose open interval disagrees with room.status (changed outside RoomService)
+    @Query("SELECT i.roomId FROM RoomStatusInterval i, Room r WHERE r.id = i.roomId AND i.validTo IS NULL AND i.status <> r.status")
+    List<Long> findDriftedRoomIds();
+}
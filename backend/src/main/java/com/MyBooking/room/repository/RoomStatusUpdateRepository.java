@@ -7,6 +7,7 @@ import com.MyBooking.room.domain.RoomStatusUpdate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -212,4 +213,16 @@ public interface RoomStatusUpdateRepository extends JpaRepository<RoomStatusUpda
     // Get automatic vs manual update statistics
     @Query("SELECT rsu.isAutomatic, COUNT(rsu) FROM RoomStatusUpdate rsu GROUP BY rsu.isAutomatic")
     List<Object[]> getAutomaticVsManualStatistics();
+
+    // ==================== COMPACTION QUERIES ====================
+
+    // Automatic updates that did not change the status, oldest first (idx_room_status_update_redundant)
+    @Query("SELECT rsu.id FROM RoomStatusUpdate rsu WHERE rsu.isAutomatic = true AND rsu.previousStatus = rsu.newStatus " +
+           "AND rsu.updatedAt < :cutoff ORDER BY rsu.updatedAt")
+    List<Long> findRedundantAutomaticIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // The updated_at bound lets the partitioned table prune to the old months
+    @Modifying
+    @Query("DELETE FROM RoomStatusUpdate rsu WHERE rsu.id IN :ids AND rsu.updatedAt < :cutoff")
+    int deleteByIdsBefore(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -2,7 +2,7 @@
 //Availability Calculation - Check room availability for dates
 //Status Management - Update room status (clean, dirty, out of service)
 //Equipment Management - Manage room equipment
-//Photo Management - Handle room photos
+//Photo Management - Handle room photos (URLs or uploaded assets) and the listing thumbnail of the primary photo
 //Search & Filtering - Find rooms by criteria
 
 package com.MyBooking.room.service;
@@ -15,9 +15,16 @@ import com.MyBooking.reservation.repository.ReservationRepository;
 import com.MyBooking.auth.domain.User;
 import com.MyBooking.auth.domain.Role;
 import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.common.events.DomainEvent;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.common.web.CatalogResponseCache;
+import com.MyBooking.photo.domain.PhotoAsset;
+import com.MyBooking.photo.service.PhotoAssetService;
+import com.MyBooking.room.dto.RoomPhotoDto;
+import com.MyBooking.room.dto.RoomSummaryDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,7 +33,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -51,6 +61,15 @@ public class RoomService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RoomStatusTimelineService roomStatusTimelineService;
+
+    @Autowired
+    private PhotoAssetService photoAssetService;
+
     // ========== ROOM MANAGEMENT ==========
 
     /**
@@ -75,6 +94,14 @@ public class RoomService {
         return roomRepository.save(room);
     }
 
+    /**
+     * Version of the room catalog (row count + latest update), used for response ETags
+     */
+    @Transactional(readOnly = true)
+    public String getCatalogVersion() {
+        return CatalogResponseCache.versionOf(roomRepository.findCatalogVersion());
+    }
+
     /**
      * Get room by ID
      */
@@ -201,6 +228,7 @@ public class RoomService {
         
         // Temporarily disable logging to test
         // logRoomStatusUpdate(room, oldStatus, newStatus, "Status updated", updatedBy);
+        afterStatusChange(savedRoom, oldStatus, "Status updated");
         
         return savedRoom;
     }
@@ -217,6 +245,7 @@ public class RoomService {
         
         // Log status change with user context, notes, and reason
         logRoomStatusUpdateWithDetails(room, oldStatus, newStatus, updateReason, updatedBy, notes);
+        afterStatusChange(savedRoom, oldStatus, updateReason);
         
         return savedRoom;
     }
@@ -247,6 +276,7 @@ public class RoomService {
         
         // Log status change with reason and user context
         logRoomStatusUpdate(room, oldStatus, RoomStatus.OUT_OF_SERVICE, reason, updatedBy);
+        afterStatusChange(savedRoom, oldStatus, reason);
         
         return savedRoom;
     }
@@ -266,6 +296,7 @@ public class RoomService {
         
         // Log automatic status change
         logAutomaticStatusUpdate(room, oldStatus, newStatus, reason);
+        afterStatusChange(savedRoom, oldStatus, reason);
         
         return savedRoom;
     }
@@ -345,27 +376,22 @@ public class RoomService {
      */
     public RoomPhoto addRoomPhoto(Long roomId, String imageUrl, String caption, boolean isPrimary) {
         Room room = getRoomById(roomId);
-        
-        // If this is set as primary, unset other primary photos
-        if (isPrimary) {
-            Optional<RoomPhoto> existingPrimary = roomPhotoRepository.findByRoomAndIsPrimaryTrue(room);
-            if (existingPrimary.isPresent()) {
-                RoomPhoto primaryPhoto = existingPrimary.get();
-                primaryPhoto.setIsPrimary(false);
-                roomPhotoRepository.save(primaryPhoto);
-            }
-        }
-        
-        // Get next display order
-        Integer nextOrder = roomPhotoRepository.findNextDisplayOrderForRoom(room);
-        if (nextOrder == null) {
-            nextOrder = 1;
+        return attachPhoto(room, new RoomPhoto(imageUrl, room, null, caption), isPrimary);
+    }
+
+    /**
+     * Add an uploaded photo asset to a room; it is served by /api/photos with generated thumbnails
+     */
+    public RoomPhoto addUploadedRoomPhoto(Long roomId, PhotoAsset asset, String fileName, String caption, boolean isPrimary) {
+        Room room = getRoomById(roomId);
+        RoomPhoto photo = new RoomPhoto(photoAssetService.originalUrl(asset.getHash()), room, null, caption);
+        photo.setAssetHash(asset.getHash());
+        photo.setPhotoType(asset.getContentType());
+        photo.setFileSize(asset.getFileSize());
+        if (fileName != null) {
+            photo.setFileName(fileName.length() > 100 ? fileName.substring(fileName.length() - 100) : fileName);
         }
-        
-        RoomPhoto photo = new RoomPhoto(imageUrl, room, nextOrder, caption);
-        photo.setIsPrimary(isPrimary);
-        
-        return roomPhotoRepository.save(photo);
+        return attachPhoto(room, photo, isPrimary);
     }
 
     /**
@@ -377,6 +403,14 @@ public class RoomService {
         return roomPhotoRepository.findByRoomOrderByDisplayOrderAsc(room);
     }
 
+    /**
+     * Get room photos with their full-size and thumbnail URLs
+     */
+    @Transactional(readOnly = true)
+    public List<RoomPhotoDto> getRoomPhotoDtos(Long roomId) {
+        return getRoomPhotos(roomId).stream().map(this::toPhotoDto).toList();
+    }
+
     /**
      * Set primary photo
      */
@@ -394,7 +428,9 @@ public class RoomService {
         
         // Set this photo as primary
         photo.setIsPrimary(true);
-        return roomPhotoRepository.save(photo);
+        RoomPhoto savedPhoto = roomPhotoRepository.save(photo);
+        updateRoomThumbnail(photo.getRoom(), photo);
+        return savedPhoto;
     }
 
     /**
@@ -405,10 +441,32 @@ public class RoomService {
             .orElseThrow(() -> new NotFoundException("Photo not found with ID: " + photoId));
         
         roomPhotoRepository.delete(photo);
+        if (photo.isPrimaryPhoto()) {
+            updateRoomThumbnail(photo.getRoom(), null);
+        }
+    }
+
+    /**
+     * Map a photo to its DTO (uploaded photos get one URL per thumbnail width)
+     */
+    public RoomPhotoDto toPhotoDto(RoomPhoto photo) {
+        Map<Integer, String> thumbnailUrls = photo.isUploaded()
+            ? photoAssetService.thumbnailUrls(photo.getAssetHash()) : Map.of();
+        return new RoomPhotoDto(photo.getId(), photo.getRoom().getId(), photo.getPhotoUrl(), thumbnailUrls,
+            photo.getCaption(), photo.getDisplayOrder(), photo.isPrimaryPhoto(), photo.getPhotoType(), photo.getFileSize());
     }
 
     // ========== SEARCH AND FILTERING ==========
 
+    /**
+     * Map a room to its list row (what room lists serialize instead of the entity)
+     */
+    public RoomSummaryDto toSummaryDto(Room room) {
+        return new RoomSummaryDto(room.getId(), room.getNumber(), room.getRoomType(), room.getCapacity(),
+            room.getPrice(), room.getCurrency(), room.getStatus(), room.getThumbnailUrl(), room.getDescription(),
+            room.getEquipment());
+    }
+
     /**
      * Search rooms by criteria
      */
@@ -458,7 +516,7 @@ public class RoomService {
     }
 
     /**
-     * Get room status history
+     * Get room status history (every raw update; status at a time and durations: RoomStatusTimelineService)
      */
     @Transactional(readOnly = true)
     public List<RoomStatusUpdate> getRoomStatusHistory(Long roomId) {
@@ -466,8 +524,60 @@ public class RoomService {
         return roomStatusUpdateRepository.findByRoomOrderByUpdatedAtDesc(room);
     }
 
+    /**
+     * Get room status history within a period (bounded on updated_at so only those partitions are scanned)
+     */
+    @Transactional(readOnly = true)
+    public List<RoomStatusUpdate> getRoomStatusHistory(Long roomId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BusinessRuleException("A valid period is required");
+        }
+        Room room = getRoomById(roomId);
+        return roomStatusUpdateRepository.findStatusChangesInPeriod(room, from, to);
+    }
+
     // ========== PRIVATE HELPER METHODS ==========
 
+    private RoomPhoto attachPhoto(Room room, RoomPhoto photo, boolean isPrimary) {
+        // If this is set as primary, unset other primary photos
+        if (isPrimary) {
+            Optional<RoomPhoto> existingPrimary = roomPhotoRepository.findByRoomAndIsPrimaryTrue(room);
+            if (existingPrimary.isPresent()) {
+                RoomPhoto primaryPhoto = existingPrimary.get();
+                primaryPhoto.setIsPrimary(false);
+                roomPhotoRepository.save(primaryPhoto);
+            }
+        }
+        
+        // Get next display order
+        Integer nextOrder = roomPhotoRepository.findNextDisplayOrderForRoom(room);
+        if (nextOrder == null) {
+            nextOrder = 1;
+        }
+        
+        photo.setDisplayOrder(nextOrder);
+        photo.setIsPrimary(isPrimary);
+        
+        RoomPhoto savedPhoto = roomPhotoRepository.save(photo);
+        if (isPrimary) {
+            updateRoomThumbnail(room, photo);
+        }
+        return savedPhoto;
+    }
+
+    /**
+     * Keep the room's listing thumbnail in line with its primary photo; the room update also
+     * bumps the catalog version, so cached room lists pick it up
+     */
+    private void updateRoomThumbnail(Room room, RoomPhoto primary) {
+        String thumbnailUrl = primary == null ? null
+            : primary.isUploaded() ? photoAssetService.listingUrl(primary.getAssetHash()) : primary.getPhotoUrl();
+        if (!Objects.equals(room.getThumbnailUrl(), thumbnailUrl)) {
+            room.setThumbnailUrl(thumbnailUrl);
+            roomRepository.save(room);
+        }
+    }
+
     /**
      * Log room status update with user context
      */
@@ -500,6 +610,11 @@ public class RoomService {
      * Log automatic room status update (system-triggered)
      */
     private void logAutomaticStatusUpdate(Room room, RoomStatus oldStatus, RoomStatus newStatus, String reason) {
+        // A no-op (e.g. booking an already occupied room) only bumps the timeline's transition count
+        if (oldStatus == newStatus) {
+            return;
+        }
+        
         // Get or create system user for automatic updates
         User systemUser = getSystemUser();
         
@@ -514,6 +629,32 @@ public class RoomService {
         roomStatusUpdateRepository.save(statusUpdate);
     }
 
+    /**
+     * Fold the transition into the status timeline, then tell live screens about an actual change
+     */
+    private void afterStatusChange(Room room, RoomStatus oldStatus, String reason) {
+        if (room == null) {
+            return;
+        }
+        roomStatusTimelineService.recordTransition(room, oldStatus, LocalDateTime.now());
+        if (room.getStatus() != oldStatus) {
+            publishStatusChange(room, oldStatus, reason);
+        }
+    }
+
+    /**
+     * Tell live front-desk and housekeeping screens about a status change (delivered after commit)
+     */
+    private void publishStatusChange(Room room, RoomStatus oldStatus, String reason) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("roomId", room.getId());
+        data.put("number", room.getNumber());
+        data.put("status", room.getStatus());
+        data.put("previousStatus", oldStatus);
+        data.put("reason", reason);
+        eventPublisher.publishEvent(new DomainEvent(DomainEvent.ROOMS, "ROOM_STATUS_CHANGED", room.getId(), data));
+    }
+
     /**
      * Get or create system user for automatic updates
      */
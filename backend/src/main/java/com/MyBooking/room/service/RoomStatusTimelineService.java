@@ -0,0 +1,310 @@
+//Status Timeline - Compacted (status, from, to) intervals per room, maintained on every status transition
+//Point-in-time - "Status of room X at T" and "time spent per status over a period" from index range reads
+//Compaction - Nightly backfill of untracked rooms from the raw log, drift repair, purge of no-op automatic updates
+
+package com.MyBooking.room.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.room.domain.Room;
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomStatusInterval;
+import com.MyBooking.room.domain.RoomStatusUpdate;
+import com.MyBooking.room.dto.RoomStatusDurationDto;
+import com.MyBooking.room.dto.RoomStatusIntervalDto;
+import com.MyBooking.room.dto.RoomTimelineCompactionResultDto;
+import com.MyBooking.room.repository.RoomRepository;
+import com.MyBooking.room.repository.RoomStatusIntervalRepository;
+import com.MyBooking.room.repository.RoomStatusUpdateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class RoomStatusTimelineService {
+
+    @Autowired
+    private RoomStatusIntervalRepository intervalRepository;
+
+    @Autowired
+    private RoomStatusUpdateRepository roomStatusUpdateRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${room.timeline.raw-retention-days:30}")
+    private int rawRetentionDays = 30;
+
+    @Value("${room.timeline.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${room.timeline.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    // ==================== TRANSITIONS ====================
+
+    /**
+     * Fold the room's new status into its timeline, in the caller's transaction.
+     * A room without a timeline yet is rebuilt from the raw log first.
+     * The room row stays locked until commit, so concurrent transitions, backfill and
+     * reconciliation of one room never read the same open interval.
+     */
+    @Transactional
+    public void recordTransition(Room room, RoomStatus oldStatus, LocalDateTime at) {
+        roomRepository.findByIdForUpdate(room.getId());
+        RoomStatusInterval current = intervalRepository.findByRoomIdAndValidToIsNull(room.getId()).orElse(null);
+        if (current == null) {
+            intervalRepository.saveAll(rebuild(room, oldStatus, at));
+            return;
+        }
+        apply(current, room.getStatus(), at);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Status of a room at a point in time: the interval starting last at or before it
+     */
+    public RoomStatusIntervalDto getStatusAt(Long roomId, LocalDateTime at) {
+        if (at == null) {
+            throw new BusinessRuleException("A point in time is required");
+        }
+        ensureTracked(roomId);
+        return intervalRepository.findFirstByRoomIdAndValidFromLessThanEqualOrderByValidFromDesc(roomId, at)
+            .map(this::toDto)
+            .orElseThrow(() -> new NotFoundException("No status recorded for room " + roomId + " at " + at));
+    }
+
+    /**
+     * Seconds spent in each status over [from, to); the current status counts until now
+     */
+    public RoomStatusDurationDto getStatusDurations(Long roomId, LocalDateTime from, LocalDateTime to) {
+        List<RoomStatusInterval> intervals = loadPeriod(roomId, from, to);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime end = to.isAfter(now) ? now : to;
+
+        Map<RoomStatus, Long> secondsByStatus = new EnumMap<>(RoomStatus.class);
+        for (RoomStatus status : RoomStatus.values()) {
+            secondsByStatus.put(status, 0L);
+        }
+        long trackedSeconds = 0;
+        int transitions = 0;
+        for (RoomStatusInterval interval : intervals) {
+            long seconds = interval.overlapSeconds(from, end);
+            secondsByStatus.merge(interval.getStatus(), seconds, Long::sum);
+            trackedSeconds += seconds;
+            if (!interval.getValidFrom().isBefore(from)) {
+                transitions += interval.getTransitions();
+            }
+        }
+        long periodSeconds = end.isAfter(from) ? Duration.between(from, end).getSeconds() : 0;
+        return new RoomStatusDurationDto(roomId, from, to, secondsByStatus,
+            Math.max(0, periodSeconds - trackedSeconds), transitions);
+    }
+
+    /**
+     * Intervals overlapping [from, to), oldest first
+     */
+    public List<RoomStatusIntervalDto> getTimeline(Long roomId, LocalDateTime from, LocalDateTime to) {
+        return loadPeriod(roomId, from, to).stream().map(this::toDto).toList();
+    }
+
+    // ==================== COMPACTION ====================
+
+    /**
+     * Nightly run: backfill rooms without a timeline, repair drifted ones, purge no-op raw updates
+     */
+    @Scheduled(cron = "${room.timeline.compaction-cron:0 0 5 * * *}")
+    public void runScheduledCompaction() {
+        try {
+            RoomTimelineCompactionResultDto result = compact();
+            if (result.getRoomsBackfilled() > 0 || result.getRoomsReconciled() > 0 || result.getRawUpdatesPurged() > 0) {
+                System.out.println("Room timeline compaction: " + result.getRoomsBackfilled() + " rooms backfilled, " +
+                    result.getRoomsReconciled() + " reconciled, " + result.getRawUpdatesPurged() + " raw updates purged");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Room timeline compaction failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * One compaction pass; every room and every purge batch is its own transaction
+     */
+    public RoomTimelineCompactionResultDto compact() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int backfilled = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> roomIds = transaction.execute(status ->
+                intervalRepository.findUntrackedRoomIds(PageRequest.of(0, batchSize)));
+            if (roomIds == null || roomIds.isEmpty()) {
+                break;
+            }
+            for (Long roomId : roomIds) {
+                if (backfill(roomId)) {
+                    backfilled++;
+                }
+            }
+        }
+
+        int reconciled = 0;
+        List<Long> drifted = transaction.execute(status -> intervalRepository.findDriftedRoomIds());
+        for (Long roomId : drifted != null ? drifted : List.<Long>of()) {
+            transaction.executeWithoutResult(status -> roomRepository.findByIdForUpdate(roomId).ifPresent(room ->
+                intervalRepository.findByRoomIdAndValidToIsNull(roomId)
+                    .ifPresent(current -> apply(current, room.getStatus(), LocalDateTime.now()))));
+            reconciled++;
+        }
+
+        long purged = 0;
+        LocalDateTime cutoff = rawRetentionDays > 0 ? startedAt.minusDays(rawRetentionDays) : null;
+        for (int batch = 0; cutoff != null && batch < maxBatchesPerRun; batch++) {
+            Integer deleted = transaction.execute(status -> {
+                List<Long> ids = roomStatusUpdateRepository.findRedundantAutomaticIds(cutoff, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : roomStatusUpdateRepository.deleteByIdsBefore(ids, cutoff);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+        }
+
+        return new RoomTimelineCompactionResultDto(backfilled, reconciled, purged, cutoff, startedAt, LocalDateTime.now());
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private List<RoomStatusInterval> loadPeriod(Long roomId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new BusinessRuleException("A valid period is required");
+        }
+        ensureTracked(roomId);
+        // Start from the interval containing "from" so the range read stays on the (room_id, valid_from) index
+        LocalDateTime start = intervalRepository.findFirstByRoomIdAndValidFromLessThanEqualOrderByValidFromDesc(roomId, from)
+            .map(RoomStatusInterval::getValidFrom)
+            .orElse(from);
+        return intervalRepository.findStartingBetween(roomId, start, to);
+    }
+
+    private void ensureTracked(Long roomId) {
+        if (!intervalRepository.existsByRoomId(roomId)) {
+            backfill(roomId);
+        }
+    }
+
+    /**
+     * Build a room's timeline from the raw log in its own transaction
+     * @return false if another thread got there first
+     */
+    private boolean backfill(Long roomId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return Boolean.TRUE.equals(transaction.execute(status -> {
+                Room room = roomRepository.findByIdForUpdate(roomId)
+                    .orElseThrow(() -> new NotFoundException("Room not found with id: " + roomId));
+                if (intervalRepository.existsByRoomId(roomId)) {
+                    return false;
+                }
+                intervalRepository.saveAll(rebuild(room, room.getStatus(), LocalDateTime.now()));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Replay the raw updates of a room into intervals, ending with its current status
+     * @param initialStatus status since creation when the raw log is empty
+     */
+    List<RoomStatusInterval> rebuild(Room room, RoomStatus initialStatus, LocalDateTime now) {
+        List<RoomStatusUpdate> updates = roomStatusUpdateRepository.findByRoomIdOrderByUpdatedAtAsc(room.getId());
+        LocalDateTime start = room.getCreatedAt() != null && room.getCreatedAt().isBefore(now) ? room.getCreatedAt() : now;
+        RoomStatus firstStatus = initialStatus;
+        if (!updates.isEmpty()) {
+            RoomStatusUpdate first = updates.get(0);
+            firstStatus = first.getPreviousStatus();
+            if (first.getUpdatedAt() != null && first.getUpdatedAt().isBefore(start)) {
+                start = first.getUpdatedAt();
+            }
+        }
+
+        List<RoomStatusInterval> intervals = new ArrayList<>();
+        intervals.add(new RoomStatusInterval(room.getId(), firstStatus, start, 0));
+        for (RoomStatusUpdate update : updates) {
+            fold(intervals, update.getNewStatus(), update.getUpdatedAt() != null ? update.getUpdatedAt() : now);
+        }
+        // A change that never reached the raw log (or the one being recorded now)
+        if (intervals.get(intervals.size() - 1).getStatus() != room.getStatus()) {
+            fold(intervals, room.getStatus(), now);
+        }
+        return intervals;
+    }
+
+    /**
+     * Append a transition to an in-memory timeline, merging no-op and same-instant changes
+     */
+    private static void fold(List<RoomStatusInterval> intervals, RoomStatus status, LocalDateTime at) {
+        RoomStatusInterval current = intervals.get(intervals.size() - 1);
+        if (current.getStatus() == status) {
+            current.setTransitions(current.getTransitions() + 1);
+            return;
+        }
+        if (!at.isAfter(current.getValidFrom())) {
+            // Zero-length interval: the new status replaces it, and may extend the previous one
+            intervals.remove(intervals.size() - 1);
+            RoomStatusInterval previous = intervals.isEmpty() ? null : intervals.get(intervals.size() - 1);
+            if (previous != null && previous.getStatus() == status) {
+                previous.setValidTo(null);
+                previous.setTransitions(previous.getTransitions() + current.getTransitions() + 1);
+            } else {
+                current.setStatus(status);
+                current.setTransitions(current.getTransitions() + 1);
+                intervals.add(current);
+            }
+            return;
+        }
+        current.setValidTo(at);
+        intervals.add(new RoomStatusInterval(current.getRoomId(), status, at, 1));
+    }
+
+    /**
+     * Persist a transition on the room's open interval
+     */
+    private void apply(RoomStatusInterval current, RoomStatus status, LocalDateTime at) {
+        if (current.getStatus() == status || !at.isAfter(current.getValidFrom())) {
+            current.setStatus(status);
+            current.setTransitions(current.getTransitions() + 1);
+            intervalRepository.save(current);
+            return;
+        }
+        current.setValidTo(at);
+        // Closed before the insert: at most one open interval per room (uq_room_status_interval_open)
+        intervalRepository.saveAndFlush(current);
+        intervalRepository.save(new RoomStatusInterval(current.getRoomId(), status, at, 1));
+    }
+
+    private RoomStatusIntervalDto toDto(RoomStatusInterval interval) {
+        return new RoomStatusIntervalDto(interval.getRoomId(), interval.getStatus(), interval.getValidFrom(),
+            interval.getValidTo(), interval.getTransitions());
+    }
+}
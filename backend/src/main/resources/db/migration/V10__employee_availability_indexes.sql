@@ -0,0 +1,20 @@
+-- Indexes for set-based employee availability (calendar, roster planning)
+
+-- Per-employee leave lookups by status and date range
+CREATE INDEX IF NOT EXISTS idx_leave_employee_status_dates
+    ON leave_request(employee_user_id, status, from_date, to_date);
+
+-- Bulk "approved leave overlapping [D1, D2]" across all employees
+CREATE INDEX IF NOT EXISTS idx_leave_approved_dates
+    ON leave_request(from_date, to_date, employee_user_id)
+    WHERE status = 'APPROVED';
+
+-- Trainings by status, joined to training dates (the primary key leads with employee_user_id)
+CREATE INDEX IF NOT EXISTS idx_employee_training_status_training
+    ON employee_training(status, training_id, employee_user_id);
+
+CREATE INDEX IF NOT EXISTS idx_employee_training_employee_status
+    ON employee_training(employee_user_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_training_dates
+    ON training(start_date, end_date);
@@ -0,0 +1,25 @@
+-- Task dispatch queue
+-- Queued tasks live in employee_task with no employee until claimed or auto-assigned.
+
+ALTER TABLE employee_task ALTER COLUMN employee_user_id DROP NOT NULL;
+
+ALTER TABLE employee_task ADD COLUMN IF NOT EXISTS queue VARCHAR(64);
+ALTER TABLE employee_task ADD COLUMN IF NOT EXISTS priority VARCHAR(16) NOT NULL DEFAULT 'NORMAL'
+    CHECK (priority IN ('URGENT','HIGH','NORMAL','LOW'));
+ALTER TABLE employee_task ADD COLUMN IF NOT EXISTS due_at TIMESTAMPTZ;
+ALTER TABLE employee_task ADD COLUMN IF NOT EXISTS assigned_at TIMESTAMPTZ;
+ALTER TABLE employee_task ADD COLUMN IF NOT EXISTS sla_breached_at TIMESTAMPTZ;
+
+-- Head of each queue: unassigned TODO tasks in deadline order (claims use FOR UPDATE SKIP LOCKED on it)
+CREATE INDEX IF NOT EXISTS idx_employee_task_queue_head
+    ON employee_task(queue, due_at, id)
+    WHERE status = 'TODO' AND employee_user_id IS NULL;
+
+-- SLA scan over open tasks not yet flagged
+CREATE INDEX IF NOT EXISTS idx_employee_task_sla_open
+    ON employee_task(due_at)
+    WHERE status <> 'DONE' AND sla_breached_at IS NULL;
+
+-- Open task load per employee for auto-assignment
+CREATE INDEX IF NOT EXISTS idx_employee_task_user_status
+    ON employee_task(employee_user_id, status);
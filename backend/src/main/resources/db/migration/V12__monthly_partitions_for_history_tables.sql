@@ -0,0 +1,119 @@
+-- Monthly range partitions for the append-only history tables
+-- room_status_update (by updated_at) and loyalty_transaction (by created_at) are rebuilt as
+-- declarative partitioned tables; rows are copied over and ids keep their sequences.
+-- The primary key must contain the partition key, hence (id, <timestamp>); nothing references
+-- these tables by foreign key. Future partitions are created by create_monthly_partitions(),
+-- called here and by PartitionMaintenanceService; cold partitions are detached into "archive".
+--
+-- reservation stays a regular table: feedback, loyalty_transaction and event_booking reference
+-- reservation(id), which a partitioned table cannot back with a unique constraint on id alone.
+-- A BRIN index keeps its created_at range scans cheap (rows arrive in created_at order).
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+-- Creates the missing <parent>_pYYYYMM partitions for every month from from_month to to_month; returns how many were new
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent TEXT, from_month DATE, to_month DATE)
+RETURNS INT
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        partition_name := format('%s_p%s', parent, to_char(month_start, 'YYYYMM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, parent, month_start, (month_start + INTERVAL '1 month')::DATE);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- ==================== room_status_update ====================
+
+ALTER TABLE room_status_update RENAME TO room_status_update_legacy;
+ALTER INDEX room_status_update_pkey RENAME TO room_status_update_legacy_pkey;
+ALTER INDEX idx_room_status_update_room RENAME TO idx_room_status_update_legacy_room;
+ALTER INDEX idx_room_status_update_user RENAME TO idx_room_status_update_legacy_user;
+ALTER INDEX idx_room_status_update_date RENAME TO idx_room_status_update_legacy_date;
+ALTER SEQUENCE room_status_update_id_seq OWNED BY NONE;
+
+CREATE TABLE room_status_update (
+    id BIGINT NOT NULL DEFAULT nextval('room_status_update_id_seq'),
+    room_id BIGINT NOT NULL REFERENCES room(id) ON DELETE CASCADE,
+    previous_status VARCHAR(16) NOT NULL CHECK (previous_status IN ('AVAILABLE','OCCUPIED','OUT_OF_SERVICE')),
+    new_status VARCHAR(16) NOT NULL CHECK (new_status IN ('AVAILABLE','OCCUPIED','OUT_OF_SERVICE')),
+    updated_by_user_id BIGINT NOT NULL REFERENCES app_user(id) ON DELETE RESTRICT,
+    notes VARCHAR(500),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    update_reason VARCHAR(100),
+    is_automatic BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, updated_at)
+) PARTITION BY RANGE (updated_at);
+
+ALTER SEQUENCE room_status_update_id_seq OWNED BY room_status_update.id;
+
+-- Catches rows outside the created months (kept empty by the maintenance job)
+CREATE TABLE room_status_update_default PARTITION OF room_status_update DEFAULT;
+
+-- Every month present in the old table, up to three months ahead
+SELECT create_monthly_partitions('room_status_update',
+    LEAST(COALESCE((SELECT MIN(updated_at) FROM room_status_update_legacy)::DATE, CURRENT_DATE), CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO room_status_update (id, room_id, previous_status, new_status, updated_by_user_id, notes,
+                                updated_at, update_reason, is_automatic)
+SELECT id, room_id, previous_status, new_status, updated_by_user_id, notes,
+       updated_at, update_reason, is_automatic
+FROM room_status_update_legacy;
+
+DROP TABLE room_status_update_legacy;
+
+-- Latest status / history per room: one index range per partition, newest first
+CREATE INDEX idx_room_status_update_room ON room_status_update(room_id, updated_at DESC);
+CREATE INDEX idx_room_status_update_user ON room_status_update(updated_by_user_id);
+
+-- ==================== loyalty_transaction ====================
+
+ALTER TABLE loyalty_transaction RENAME TO loyalty_transaction_legacy;
+ALTER INDEX loyalty_transaction_pkey RENAME TO loyalty_transaction_legacy_pkey;
+ALTER INDEX idx_loyalty_tx_account RENAME TO idx_loyalty_tx_legacy_account;
+ALTER INDEX idx_loyalty_tx_account_type_created RENAME TO idx_loyalty_tx_legacy_account_type_created;
+ALTER SEQUENCE loyalty_transaction_id_seq OWNED BY NONE;
+
+CREATE TABLE loyalty_transaction (
+    id BIGINT NOT NULL DEFAULT nextval('loyalty_transaction_id_seq'),
+    account_id BIGINT NOT NULL REFERENCES loyalty_account(id) ON DELETE CASCADE,
+    type VARCHAR(10) NOT NULL CONSTRAINT loyalty_transaction_type_check CHECK (type IN ('EARN','REDEEM','EXPIRE')),
+    points INT NOT NULL CHECK (points > 0),
+    reservation_id BIGINT REFERENCES reservation(id) ON DELETE SET NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE loyalty_transaction_id_seq OWNED BY loyalty_transaction.id;
+
+CREATE TABLE loyalty_transaction_default PARTITION OF loyalty_transaction DEFAULT;
+
+-- Every month present in the old table, up to three months ahead
+SELECT create_monthly_partitions('loyalty_transaction',
+    LEAST(COALESCE((SELECT MIN(created_at) FROM loyalty_transaction_legacy)::DATE, CURRENT_DATE), CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO loyalty_transaction (id, account_id, type, points, reservation_id, created_at)
+SELECT id, account_id, type, points, reservation_id, created_at
+FROM loyalty_transaction_legacy;
+
+DROP TABLE loyalty_transaction_legacy;
+
+CREATE INDEX idx_loyalty_tx_account ON loyalty_transaction(account_id, created_at DESC);
+-- Covers the per-chunk aggregate of the expiry/tier batch (account range + type + age)
+CREATE INDEX idx_loyalty_tx_account_type_created ON loyalty_transaction(account_id, type, created_at);
+
+-- ==================== reservation ====================
+
+CREATE INDEX IF NOT EXISTS idx_reservation_created_brin ON reservation USING brin(created_at);
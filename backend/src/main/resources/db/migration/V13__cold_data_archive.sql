@@ -0,0 +1,117 @@
+-- Cold-data archive for closed reservations and finished events
+-- ArchivalService moves rows past their retention from the hot tables into the "archive" schema
+-- (created by V12), in id-ordered chunks, one transaction per chunk:
+--   reservation (check_out older than archive.reservation-retention-months) with its feedback and replies;
+--   event (end_at older than archive.event-retention-months) with its bookings.
+-- Each chunk first adds its totals to history_rollup, so monthly statistics survive the move.
+--
+-- Archive tables carry no foreign keys: users and rooms may be deleted later without touching history.
+-- loyalty_transaction and event_booking keep ON DELETE SET NULL towards reservation; the links they
+-- lose are recorded in archive.reservation_link. event_notification rows cascade with their event.
+
+-- ==================== archive tables ====================
+
+CREATE TABLE archive.reservation (
+    id BIGINT PRIMARY KEY,
+    client_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    check_in DATE NOT NULL,
+    check_out DATE NOT NULL,
+    number_of_guests INT NOT NULL,
+    total_price NUMERIC(12,2) NOT NULL,
+    currency CHAR(3) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    points_used INT,
+    points_discount NUMERIC(12,2),
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_archive_reservation_client ON archive.reservation(client_id, check_in DESC);
+CREATE INDEX idx_archive_reservation_room ON archive.reservation(room_id, check_in DESC);
+
+CREATE TABLE archive.feedback (
+    id BIGINT PRIMARY KEY,
+    reservation_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    rating INT NOT NULL,
+    comment TEXT,
+    created_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_archive_feedback_reservation ON archive.feedback(reservation_id);
+
+CREATE TABLE archive.feedback_reply (
+    id BIGINT PRIMARY KEY,
+    feedback_id BIGINT NOT NULL,
+    admin_user_id BIGINT NOT NULL,
+    message TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_archive_feedback_reply_feedback ON archive.feedback_reply(feedback_id);
+
+-- Rows that referenced an archived reservation before ON DELETE SET NULL cleared the column
+CREATE TABLE archive.reservation_link (
+    reservation_id BIGINT NOT NULL,
+    source_table VARCHAR(32) NOT NULL,
+    source_id BIGINT NOT NULL,
+    PRIMARY KEY (reservation_id, source_table, source_id)
+);
+
+CREATE TABLE archive.event (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    event_type VARCHAR(32) NOT NULL,
+    start_at TIMESTAMPTZ NOT NULL,
+    end_at TIMESTAMPTZ NOT NULL,
+    capacity INT NOT NULL,
+    price NUMERIC(12,2) NOT NULL,
+    currency CHAR(3) NOT NULL,
+    installation_id BIGINT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_archive_event_time ON archive.event(start_at);
+
+CREATE TABLE archive.event_booking (
+    id BIGINT PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    client_user_id BIGINT NOT NULL,
+    reservation_id BIGINT,
+    event_date_time TIMESTAMPTZ NOT NULL,
+    duration_hours INTEGER NOT NULL,
+    booking_date TIMESTAMPTZ NOT NULL,
+    number_of_participants INTEGER NOT NULL,
+    total_price NUMERIC(12,2) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_archive_event_booking_event ON archive.event_booking(event_id);
+CREATE INDEX idx_archive_event_booking_client ON archive.event_booking(client_user_id);
+
+-- ==================== rollups ====================
+
+-- Monthly totals of archived rows: reservations by check-in month (quantity = nights),
+-- event bookings by event start month (quantity = participants)
+CREATE TABLE history_rollup (
+    period_month DATE NOT NULL,
+    record_type VARCHAR(20) NOT NULL CHECK (record_type IN ('RESERVATION','EVENT_BOOKING')),
+    status VARCHAR(20) NOT NULL,
+    currency CHAR(3) NOT NULL,
+    record_count BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    revenue NUMERIC(16,2) NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (period_month, record_type, status, currency)
+);
+
+-- ==================== hot-table indexes ====================
+
+-- Chunk selection scans the oldest rows first
+CREATE INDEX IF NOT EXISTS idx_reservation_check_out ON reservation(check_out, id);
+CREATE INDEX IF NOT EXISTS idx_event_end_at ON event(end_at, id);
@@ -0,0 +1,25 @@
+-- Announcement inbox
+-- priority_rank mirrors priority (URGENT = 1 .. LOW = 4) so the feed orders by a plain column
+-- instead of a CASE expression. Read state is one watermark row per user, not one row per delivery.
+
+ALTER TABLE announcement ADD COLUMN IF NOT EXISTS priority_rank INT;
+UPDATE announcement SET priority_rank = CASE priority
+    WHEN 'URGENT' THEN 1 WHEN 'HIGH' THEN 2 WHEN 'MEDIUM' THEN 3 ELSE 4 END;
+ALTER TABLE announcement ALTER COLUMN priority_rank SET NOT NULL;
+
+-- Employee feed in display order
+CREATE INDEX IF NOT EXISTS idx_announcement_feed
+    ON announcement(priority_rank, created_at DESC, id DESC)
+    WHERE status = 'PUBLISHED';
+
+-- Unread counts: published announcements above a watermark, minus the reader's own
+CREATE INDEX IF NOT EXISTS idx_announcement_published_id
+    ON announcement(id, created_by_user_id)
+    WHERE status = 'PUBLISHED';
+
+CREATE TABLE IF NOT EXISTS announcement_read_marker (
+    user_id BIGINT PRIMARY KEY REFERENCES app_user(id) ON DELETE CASCADE,
+    last_seen_announcement_id BIGINT NOT NULL DEFAULT 0,
+    unread_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
@@ -0,0 +1,23 @@
+-- Compacted room status timeline: one row per (room, status) interval, maintained on every transition
+-- by RoomStatusTimelineService. Rooms are backfilled from room_status_update by the compaction job (or
+-- on first use), so the raw log can keep its partition retention while the timeline stays complete.
+
+CREATE TABLE room_status_interval (
+    id BIGSERIAL PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES room(id) ON DELETE CASCADE,
+    status VARCHAR(32) NOT NULL CHECK (status IN ('AVAILABLE','OCCUPIED','OUT_OF_SERVICE')),
+    valid_from TIMESTAMPTZ NOT NULL,
+    valid_to TIMESTAMPTZ,
+    transitions INT NOT NULL DEFAULT 1,
+    CONSTRAINT uq_room_status_interval_from UNIQUE (room_id, valid_from),
+    CONSTRAINT chk_room_status_interval_range CHECK (valid_to IS NULL OR valid_to > valid_from)
+);
+
+-- "Status at T": the last interval starting at or before T, one descent of the unique index above.
+-- At most one open interval per room.
+CREATE UNIQUE INDEX uq_room_status_interval_open ON room_status_interval(room_id) WHERE valid_to IS NULL;
+
+-- Automatic updates that did not change the status (e.g. every booking of an occupied room) carry no
+-- timeline information; the compaction job purges the old ones by this index.
+CREATE INDEX idx_room_status_update_redundant ON room_status_update(updated_at)
+    WHERE is_automatic AND previous_status = new_status;
@@ -0,0 +1,35 @@
+-- Room photo assets
+-- room_photo still had the V1 shape (id, room_id, url); bring it in line with the entity and link
+-- uploaded photos to a content-addressed asset. Files live on disk under photos.storage-dir.
+
+ALTER TABLE room_photo RENAME COLUMN url TO photo_url;
+ALTER TABLE room_photo ALTER COLUMN photo_url TYPE VARCHAR(500);
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS caption VARCHAR(200);
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS display_order INT NOT NULL DEFAULT 1;
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS is_primary BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS is_active BOOLEAN NOT NULL DEFAULT TRUE;
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS photo_type VARCHAR(50);
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS file_size BIGINT;
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS file_name VARCHAR(100);
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS asset_hash VARCHAR(64);
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS created_at TIMESTAMPTZ NOT NULL DEFAULT now();
+ALTER TABLE room_photo ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS idx_room_photo_room_order ON room_photo(room_id, display_order);
+
+CREATE TABLE IF NOT EXISTS photo_asset (
+    hash VARCHAR(64) PRIMARY KEY,
+    content_type VARCHAR(50) NOT NULL,
+    file_size BIGINT NOT NULL,
+    width INT NOT NULL,
+    height INT NOT NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING','READY','FAILED')),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    processed_at TIMESTAMPTZ
+);
+
+-- Recovery sweep for assets whose thumbnails were never generated
+CREATE INDEX IF NOT EXISTS idx_photo_asset_pending ON photo_asset(created_at) WHERE status = 'PENDING';
+
+-- Listing thumbnail of the primary photo, denormalized so room lists need no join
+ALTER TABLE room ADD COLUMN IF NOT EXISTS thumbnail_url VARCHAR(500);
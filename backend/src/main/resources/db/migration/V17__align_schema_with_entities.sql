@@ -0,0 +1,72 @@
+-- Align the tables that drifted from their JPA mappings, so Hibernate can validate the schema
+-- (dev profile, ddl-auto validate). Databases patched earlier by ddl-auto update may already have
+-- some of the added columns, hence IF NOT EXISTS.
+
+-- ==================== training ====================
+
+-- Training ids are Long in the mapping
+ALTER TABLE training ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE training_id_seq AS BIGINT;
+ALTER TABLE employee_training ALTER COLUMN training_id TYPE BIGINT;
+
+-- ==================== equipment ====================
+
+ALTER TABLE equipment ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE equipment_id_seq AS BIGINT;
+ALTER TABLE room_equipment ALTER COLUMN equipment_id TYPE BIGINT;
+
+ALTER TABLE equipment
+    ADD COLUMN IF NOT EXISTS description VARCHAR(500),
+    ADD COLUMN IF NOT EXISTS equipment_type VARCHAR(32) NOT NULL DEFAULT 'OTHER',
+    ADD COLUMN IF NOT EXISTS quantity INT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS available_quantity INT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS brand VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS model VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    ADD COLUMN IF NOT EXISTS created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW();
+
+-- ==================== currency ====================
+
+-- Mapped as VARCHAR(3); validation does not accept CHAR for it
+ALTER TABLE room ALTER COLUMN currency TYPE VARCHAR(3);
+ALTER TABLE reservation ALTER COLUMN currency TYPE VARCHAR(3);
+ALTER TABLE installation ALTER COLUMN currency TYPE VARCHAR(3);
+ALTER TABLE event ALTER COLUMN currency TYPE VARCHAR(3);
+
+-- ==================== audit columns ====================
+
+ALTER TABLE feedback ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ;
+ALTER TABLE feedback_reply ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ;
+ALTER TABLE loyalty_account ADD COLUMN IF NOT EXISTS created_at TIMESTAMPTZ NOT NULL DEFAULT NOW();
+ALTER TABLE loyalty_account ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW();
+
+-- ==================== event_notification ====================
+
+-- V1 modelled one broadcast per event (channel, subject, body); EventNotification is one message per
+-- booking and recipient. The table is rebuilt on the same id sequence, and any old broadcast
+-- becomes an EVENT_UPDATE for each booking of its event. Rows now cascade with their booking.
+ALTER TABLE event_notification RENAME TO event_notification_v1;
+ALTER TABLE event_notification_v1 RENAME CONSTRAINT event_notification_pkey TO event_notification_v1_pkey;
+
+CREATE TABLE event_notification (
+    id BIGINT PRIMARY KEY DEFAULT nextval('event_notification_id_seq'),
+    event_booking_id BIGINT NOT NULL REFERENCES event_booking(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES app_user(id) ON DELETE RESTRICT,
+    message VARCHAR(500) NOT NULL,
+    type VARCHAR(20) NOT NULL CHECK (type IN ('BOOKING_CONFIRMATION','BOOKING_CANCELLATION','EVENT_UPDATE')),
+    sent_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+ALTER SEQUENCE event_notification_id_seq OWNED BY event_notification.id;
+
+INSERT INTO event_notification (event_booking_id, user_id, message, type, sent_at, created_at)
+SELECT b.id, b.client_user_id, LEFT(o.subject || ': ' || o.body, 500), 'EVENT_UPDATE', o.created_at, o.created_at
+FROM event_notification_v1 o
+JOIN event_booking b ON b.event_id = o.event_id
+WHERE o.event_id IS NOT NULL;
+
+DROP TABLE event_notification_v1;
+
+CREATE INDEX idx_event_notification_booking ON event_notification(event_booking_id, created_at);
+CREATE INDEX idx_event_notification_created_at ON event_notification(created_at);
@@ -0,0 +1,30 @@
+-- Pooled id sequences
+-- Entities now take ids from their table's sequence with allocationSize = 50 (Hibernate's pooled
+-- optimizer) instead of IDENTITY, so inserts can be JDBC-batched. Each nextval reserves the block
+-- (value - 49 .. value); raw SQL inserts that still use the column default take one value, which is
+-- the top of its own block, so they never collide with ids handed out by Hibernate.
+-- The increment must match allocationSize: Hibernate reads it on boot and refuses a mismatch.
+-- announcement_id_seq stays at INCREMENT BY 1 (allocationSize = 1): announcements are never batch-inserted
+-- and their ids should keep rising in insert order across nodes.
+
+ALTER SEQUENCE announcement_reply_id_seq INCREMENT BY 50;
+ALTER SEQUENCE app_user_id_seq INCREMENT BY 50;
+ALTER SEQUENCE employee_task_id_seq INCREMENT BY 50;
+ALTER SEQUENCE equipment_id_seq INCREMENT BY 50;
+ALTER SEQUENCE event_booking_id_seq INCREMENT BY 50;
+ALTER SEQUENCE event_id_seq INCREMENT BY 50;
+ALTER SEQUENCE event_notification_id_seq INCREMENT BY 50;
+ALTER SEQUENCE feedback_id_seq INCREMENT BY 50;
+ALTER SEQUENCE feedback_reply_id_seq INCREMENT BY 50;
+ALTER SEQUENCE installation_id_seq INCREMENT BY 50;
+ALTER SEQUENCE leave_request_id_seq INCREMENT BY 50;
+ALTER SEQUENCE loyalty_account_id_seq INCREMENT BY 50;
+ALTER SEQUENCE loyalty_transaction_id_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_preference_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reservation_id_seq INCREMENT BY 50;
+ALTER SEQUENCE room_id_seq INCREMENT BY 50;
+ALTER SEQUENCE room_photo_id_seq INCREMENT BY 50;
+ALTER SEQUENCE room_status_interval_id_seq INCREMENT BY 50;
+ALTER SEQUENCE room_status_update_id_seq INCREMENT BY 50;
+ALTER SEQUENCE shift_id_seq INCREMENT BY 50;
+ALTER SEQUENCE training_id_seq INCREMENT BY 50;
@@ -0,0 +1,82 @@
+-- Rows in the _default partitions of the monthly history tables (V12)
+-- A row lands in <parent>_default when its month has no partition yet (missed maintenance runs,
+-- backdated imports). Postgres then refuses to create that month's partition, because the default
+-- partition would hold rows matching its bounds. create_monthly_partitions() now moves those rows:
+-- it detaches the default partition, creates the month, moves the matching rows into it and attaches
+-- the default partition back. drain_default_partition() does this for every month found in the
+-- default partition; PartitionMaintenanceService runs it before creating future partitions.
+
+-- Creates the missing <parent>_pYYYYMM partitions for every month from from_month to to_month; returns how many were new
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent TEXT, from_month DATE, to_month DATE)
+RETURNS INT
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    month_end DATE;
+    partition_name TEXT;
+    default_name TEXT;
+    key_column TEXT;
+    has_rows BOOLEAN;
+    created INT := 0;
+BEGIN
+    SELECT c.relname INTO default_name
+    FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = to_regclass(parent) AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT';
+    -- pg_get_partkeydef gives e.g. "RANGE (updated_at)"
+    key_column := substring(pg_get_partkeydef(to_regclass(parent)) FROM '^RANGE \((\w+)\)$');
+
+    WHILE month_start <= to_month LOOP
+        partition_name := format('%s_p%s', parent, to_char(month_start, 'YYYYMM'));
+        month_end := (month_start + INTERVAL '1 month')::DATE;
+        IF to_regclass(partition_name) IS NULL THEN
+            has_rows := FALSE;
+            IF default_name IS NOT NULL THEN
+                EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= %L AND %I < %L)',
+                    default_name, key_column, month_start, key_column, month_end) INTO has_rows;
+            END IF;
+
+            IF has_rows THEN
+                EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, default_name);
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, parent, month_start, month_end);
+                EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) ' ||
+                               'INSERT INTO %I SELECT * FROM moved',
+                    default_name, key_column, month_start, key_column, month_end, partition_name);
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', parent, default_name);
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, parent, month_start, month_end);
+            END IF;
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Creates the partition of every month that has rows in <parent>_default, which leaves it empty; returns how many were new
+CREATE OR REPLACE FUNCTION drain_default_partition(parent TEXT)
+RETURNS INT
+LANGUAGE plpgsql AS $$
+DECLARE
+    default_name TEXT;
+    key_column TEXT;
+    month_start DATE;
+    created INT := 0;
+BEGIN
+    SELECT c.relname INTO default_name
+    FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = to_regclass(parent) AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT';
+    IF default_name IS NULL THEN
+        RETURN 0;
+    END IF;
+    key_column := substring(pg_get_partkeydef(to_regclass(parent)) FROM '^RANGE \((\w+)\)$');
+
+    FOR month_start IN EXECUTE format('SELECT DISTINCT date_trunc(''month'', %I)::DATE FROM %I ORDER BY 1',
+            key_column, default_name) LOOP
+        created := created + create_monthly_partitions(parent, month_start, month_start);
+    END LOOP;
+    RETURN created;
+END;
+$$;
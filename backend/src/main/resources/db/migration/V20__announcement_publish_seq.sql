@@ -0,0 +1,29 @@
+-- Announcement publish sequence (V14 read watermarks)
+-- The inbox watermark compared announcement ids, which only works while id order is commit order.
+-- publish_seq is taken from a single counter row that the publishing transaction keeps locked
+-- until commit, so a reader can never move past a sequence that commits later.
+
+ALTER TABLE announcement ADD COLUMN IF NOT EXISTS publish_seq BIGINT;
+UPDATE announcement a SET publish_seq = s.seq
+FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY created_at, id) AS seq FROM announcement) s
+WHERE a.id = s.id;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_announcement_publish_seq ON announcement(publish_seq);
+
+-- Unread counts: published announcements above a watermark, minus the reader's own
+DROP INDEX IF EXISTS idx_announcement_published_id;
+CREATE INDEX IF NOT EXISTS idx_announcement_published_seq
+    ON announcement(publish_seq, created_by_user_id)
+    WHERE status = 'PUBLISHED';
+
+CREATE TABLE IF NOT EXISTS announcement_publish_counter (
+    id INT PRIMARY KEY CHECK (id = 1),
+    last_seq BIGINT NOT NULL
+);
+INSERT INTO announcement_publish_counter (id, last_seq)
+SELECT 1, COALESCE(MAX(publish_seq), 0) FROM announcement
+ON CONFLICT (id) DO NOTHING;
+
+-- Existing watermarks hold an announcement id: keep everything up to that id read
+ALTER TABLE announcement_read_marker RENAME COLUMN last_seen_announcement_id TO last_seen_publish_seq;
+UPDATE announcement_read_marker m SET last_seen_publish_seq = COALESCE(
+    (SELECT MAX(a.publish_seq) FROM announcement a WHERE a.id <= m.last_seen_publish_seq), 0);
@@ -0,0 +1,24 @@
+-- Loyalty points expiry and member tiers
+-- Adds the EXPIRE ledger type, a tier column on loyalty_account and the
+-- checkpoint table used by the batched expiry/tier job to resume a run.
+
+ALTER TABLE loyalty_transaction DROP CONSTRAINT IF EXISTS loyalty_transaction_type_check;
+ALTER TABLE loyalty_transaction ADD CONSTRAINT loyalty_transaction_type_check
+    CHECK (type IN ('EARN','REDEEM','EXPIRE'));
+
+ALTER TABLE loyalty_account ADD COLUMN IF NOT EXISTS tier VARCHAR(16) NOT NULL DEFAULT 'SILVER'
+    CHECK (tier IN ('SILVER','GOLD','PLATINUM'));
+
+-- Covers the per-chunk aggregate (account range + type + age)
+CREATE INDEX IF NOT EXISTS idx_loyalty_tx_account_type_created
+    ON loyalty_transaction(account_id, type, created_at);
+
+CREATE TABLE loyalty_batch_checkpoint (
+    run_key VARCHAR(64) NOT NULL,
+    range_start BIGINT NOT NULL,
+    range_end BIGINT NOT NULL,
+    accounts_processed INTEGER NOT NULL,
+    points_expired BIGINT NOT NULL,
+    completed_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (run_key, range_start)
+);
@@ -0,0 +1,203 @@
+package com.MyBooking.announcement.service;
+
+import com.MyBooking.announcement.domain.Announcement;
+import com.MyBooking.announcement.domain.AnnouncementPriority;
+import com.MyBooking.announcement.domain.AnnouncementPublishCounter;
+import com.MyBooking.announcement.domain.AnnouncementReadMarker;
+import com.MyBooking.announcement.domain.AnnouncementStatus;
+import com.MyBooking.announcement.dto.AnnouncementFeedItemDto;
+import com.MyBooking.announcement.dto.AnnouncementUnreadDto;
+import com.MyBooking.announcement.repository.AnnouncementPublishCounterRepository;
+import com.MyBooking.announcement.repository.AnnouncementReadMarkerRepository;
+import com.MyBooking.announcement.repository.AnnouncementRepository;
+import com.MyBooking.auth.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AnnouncementInboxServiceTest {
+
+    @Mock
+    private AnnouncementRepository announcementRepository;
+
+    @Mock
+    private AnnouncementReadMarkerRepository readMarkerRepository;
+
+    @Mock
+    private AnnouncementPublishCounterRepository publishCounterRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private AnnouncementInboxService inboxService;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = new User();
+        admin.setId(1L);
+        admin.setFirstName("Admin");
+        admin.setLastName("User");
+        when(readMarkerRepository.saveAndFlush(any(AnnouncementReadMarker.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void getUnread_ShouldReadMarkerOnceThenServeFromMemory() {
+        // Given
+        when(readMarkerRepository.findById(5L)).thenReturn(Optional.of(new AnnouncementReadMarker(5L, 10L, 3)));
+
+        // When
+        AnnouncementUnreadDto first = inboxService.getUnread(5L);
+        AnnouncementUnreadDto second = inboxService.getUnread(5L);
+
+        // Then
+        assertThat(first.getUnreadCount()).isEqualTo(3);
+        assertThat(second.getUnreadCount()).isEqualTo(3);
+        assertThat(second.getLastSeenPublishSeq()).isEqualTo(10L);
+        verify(readMarkerRepository, times(1)).findById(5L);
+        verify(announcementRepository, never()).countUnread(anyLong(), anyLong());
+    }
+
+    @Test
+    void getUnread_OnFirstPoll_ShouldCreateMarkerWithCountedUnread() {
+        // Given
+        when(readMarkerRepository.findById(5L)).thenReturn(Optional.empty());
+        when(announcementRepository.countUnread(5L, 0L)).thenReturn(4L);
+
+        // When
+        AnnouncementUnreadDto result = inboxService.getUnread(5L);
+
+        // Then
+        assertThat(result.getUnreadCount()).isEqualTo(4);
+        verify(readMarkerRepository).saveAndFlush(argThat(marker ->
+            marker.getUserId().equals(5L) && marker.getUnreadCount() == 4 && marker.getLastSeenPublishSeq() == 0L));
+    }
+
+    @Test
+    void onPublished_ShouldBumpPersistedAndCachedCountersExceptAuthor() {
+        // Given
+        when(readMarkerRepository.findById(5L)).thenReturn(Optional.of(new AnnouncementReadMarker(5L, 10L, 0)));
+        when(readMarkerRepository.findById(1L)).thenReturn(Optional.of(new AnnouncementReadMarker(1L, 10L, 0)));
+        inboxService.getUnread(5L);
+        inboxService.getUnread(1L);
+
+        // When
+        inboxService.onPublished(announcement(11L, 11L, AnnouncementPriority.HIGH));
+
+        // Then
+        verify(readMarkerRepository).incrementUnread(1L, 11L);
+        assertThat(inboxService.getUnread(5L).getUnreadCount()).isEqualTo(1);
+        assertThat(inboxService.getUnread(1L).getUnreadCount()).isZero();
+    }
+
+    @Test
+    void markRead_ShouldMoveWatermarkToLatestAndRecount() {
+        // Given
+        when(announcementRepository.findLatestPublishSeq()).thenReturn(20L);
+        when(readMarkerRepository.findById(5L)).thenReturn(Optional.of(new AnnouncementReadMarker(5L, 10L, 6)));
+        when(announcementRepository.countUnread(5L, 20L)).thenReturn(0L);
+
+        // When
+        AnnouncementUnreadDto result = inboxService.markRead(5L, null);
+
+        // Then
+        assertThat(result.getUnreadCount()).isZero();
+        assertThat(result.getLastSeenPublishSeq()).isEqualTo(20L);
+        verify(readMarkerRepository).save(argThat(marker -> marker.getLastSeenPublishSeq() == 20L && marker.getUnreadCount() == 0));
+        assertThat(inboxService.getUnread(5L).getUnreadCount()).isZero();
+    }
+
+    @Test
+    void getFeed_ShouldUseFixedOrderAndFlagUnreadAboveWatermark() {
+        // Given
+        when(readMarkerRepository.findById(5L)).thenReturn(Optional.of(new AnnouncementReadMarker(5L, 10L, 1)));
+        Page<Announcement> page = new PageImpl<>(List.of(announcement(12L, 12L, AnnouncementPriority.URGENT),
+            announcement(8L, 8L, AnnouncementPriority.LOW)));
+        when(announcementRepository.findPublishedFeed(PageRequest.of(0, 20))).thenReturn(page);
+
+        // When
+        Page<AnnouncementFeedItemDto> feed = inboxService.getFeed(5L, PageRequest.of(0, 20, Sort.by("title")));
+
+        // Then
+        assertThat(feed.getContent()).extracting(AnnouncementFeedItemDto::getId).containsExactly(12L, 8L);
+        assertThat(feed.getContent()).extracting(AnnouncementFeedItemDto::isUnread).containsExactly(true, false);
+        assertThat(feed.getContent().get(0).getCreatedByName()).isEqualTo("Admin User");
+    }
+
+    @Test
+    void onPublished_LowerIdPublishedAfterHigherIdWasRead_ShouldCountAsUnread() {
+        // Given: id 12 (sequence 7) was published and read before id 11 committed
+        when(announcementRepository.findPublishSeqById(12L)).thenReturn(Optional.of(7L));
+        when(readMarkerRepository.findById(5L)).thenReturn(Optional.of(new AnnouncementReadMarker(5L, 6L, 1)));
+        when(announcementRepository.countUnread(5L, 7L)).thenReturn(0L);
+        inboxService.markRead(5L, 12L);
+        Announcement late = announcement(11L, 8L, AnnouncementPriority.HIGH);
+
+        // When
+        inboxService.onPublished(late);
+
+        // Then
+        verify(readMarkerRepository).incrementUnread(1L, 8L);
+        assertThat(inboxService.getUnread(5L).getUnreadCount()).isEqualTo(1);
+        when(announcementRepository.findPublishedFeed(PageRequest.of(0, 20)))
+            .thenReturn(new PageImpl<>(List.of(announcement(12L, 7L, AnnouncementPriority.HIGH), late)));
+        Page<AnnouncementFeedItemDto> feed = inboxService.getFeed(5L, PageRequest.of(0, 20));
+        assertThat(feed.getContent()).extracting(AnnouncementFeedItemDto::getId).containsExactly(12L, 11L);
+        assertThat(feed.getContent()).extracting(AnnouncementFeedItemDto::isUnread).containsExactly(false, true);
+    }
+
+    @Test
+    void nextPublishSeq_ShouldIncrementLockedCounter() {
+        // Given
+        when(publishCounterRepository.findByIdForUpdate(AnnouncementPublishCounter.SINGLETON_ID))
+            .thenReturn(Optional.of(new AnnouncementPublishCounter(AnnouncementPublishCounter.SINGLETON_ID, 41L)));
+
+        // When
+        long result = inboxService.nextPublishSeq();
+
+        // Then
+        assertThat(result).isEqualTo(42L);
+        verify(publishCounterRepository).save(argThat(counter -> counter.getLastSeq() == 42L));
+    }
+
+    @Test
+    void nextPublishSeq_WithoutCounterRow_ShouldSeedFromHighestSequence() {
+        // Given
+        when(publishCounterRepository.findByIdForUpdate(AnnouncementPublishCounter.SINGLETON_ID)).thenReturn(Optional.empty());
+        when(announcementRepository.findMaxPublishSeq()).thenReturn(9L);
+
+        // When
+        long result = inboxService.nextPublishSeq();
+
+        // Then
+        assertThat(result).isEqualTo(10L);
+    }
+
+    private Announcement announcement(Long id, Long publishSeq, AnnouncementPriority priority) {
+        Announcement announcement = new Announcement("Title " + id, "Content", admin, priority, AnnouncementStatus.PUBLISHED);
+        announcement.setId(id);
+        announcement.setPublishSeq(publishSeq);
+        return announcement;
+    }
+}
@@ -7,6 +7,7 @@ import com.MyBooking.auth.domain.User;
 import com.MyBooking.auth.repository.UserRepository;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.notification.service.NotificationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +40,12 @@ class AnnouncementServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private AnnouncementInboxService announcementInboxService;
+
     @InjectMocks
     private AnnouncementService announcementService;
 
@@ -121,6 +128,8 @@ class AnnouncementServiceTest {
 
         verify(userRepository).findById(1L);
         verify(announcementRepository).save(any(Announcement.class));
+        verify(announcementInboxService).onPublished(result);
+        verify(notificationService).notifyAnnouncement(result, false);
     }
 
     @Test
@@ -156,6 +165,7 @@ class AnnouncementServiceTest {
 
         verify(announcementRepository).findById(1L);
         verify(announcementRepository).save(testAnnouncement);
+        verify(notificationService).notifyAnnouncement(testAnnouncement, true);
     }
 
     @Test
@@ -203,6 +213,7 @@ class AnnouncementServiceTest {
 
         verify(announcementRepository).findById(1L);
         verify(announcementRepository).save(testAnnouncement);
+        verify(announcementInboxService).onVisibilityChanged();
     }
 
     @Test
@@ -263,6 +274,7 @@ class AnnouncementServiceTest {
         verify(announcementRepository).findById(1L);
         verify(announcementReplyRepository).existsByAnnouncement(testAnnouncement);
         verify(announcementRepository).delete(testAnnouncement);
+        verify(announcementInboxService).onVisibilityChanged();
     }
 
     @Test
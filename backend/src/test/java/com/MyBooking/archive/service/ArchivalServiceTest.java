@@ -0,0 +1,153 @@
+package com.MyBooking.archive.service;
+
+import com.MyBooking.archive.dto.ArchiveRunResultDto;
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.web.CatalogResponseCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ArchivalServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 5, 17);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CatalogResponseCache catalogResponseCache;
+
+    @InjectMocks
+    private ArchivalService archivalService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        ReflectionTestUtils.setField(archivalService, "batchSize", 2);
+        when(namedParameterJdbcTemplate.queryForList(contains("FROM reservation"), anyMap(), eq(Long.class)))
+            .thenReturn(List.of());
+        when(namedParameterJdbcTemplate.queryForList(contains("FROM event"), anyMap(), eq(Long.class)))
+            .thenReturn(List.of());
+    }
+
+    @Test
+    void archiveReservationChunk_ShouldRollUpCopyThenDelete() {
+        // Given
+        when(namedParameterJdbcTemplate.queryForList(contains("FROM reservation"), anyMap(), eq(Long.class)))
+            .thenReturn(List.of(7L, 9L));
+
+        // When
+        int archived = archivalService.archiveReservationChunk(LocalDate.of(2023, 5, 17));
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        verify(namedParameterJdbcTemplate).queryForList(anyString(),
+            eq(Map.of("cutoff", Date.valueOf(LocalDate.of(2023, 5, 17)), "limit", 2)), eq(Long.class));
+        Map<String, Object> chunk = Map.of("ids", List.of(7L, 9L));
+        InOrder inOrder = inOrder(namedParameterJdbcTemplate);
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO history_rollup"), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO archive.reservation "), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO archive.feedback "), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO archive.feedback_reply"), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO archive.reservation_link"), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update("DELETE FROM reservation WHERE id IN (:ids)", chunk);
+    }
+
+    @Test
+    void runArchival_ShouldDrainChunksUntilOneComesBackShort() {
+        // Given
+        when(namedParameterJdbcTemplate.queryForList(contains("FROM reservation"), anyMap(), eq(Long.class)))
+            .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        // When
+        ArchiveRunResultDto result = archivalService.runArchival(TODAY);
+
+        // Then
+        assertThat(result.getReservationCutoff()).isEqualTo(LocalDate.of(2023, 5, 17));
+        assertThat(result.getEventCutoff()).isEqualTo(LocalDate.of(2024, 5, 17));
+        assertThat(result.getReservationsArchived()).isEqualTo(3);
+        assertThat(result.getEventsArchived()).isZero();
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(result.isComplete()).isTrue();
+        verify(namedParameterJdbcTemplate, never()).update(startsWith("DELETE FROM event"), anyMap());
+        verify(catalogResponseCache, never()).invalidate(anyString());
+    }
+
+    @Test
+    void runArchival_AtChunkLimit_ShouldStopIncompleteAndInvalidateEventCatalog() {
+        // Given
+        ReflectionTestUtils.setField(archivalService, "maxChunksPerRun", 1);
+        when(namedParameterJdbcTemplate.queryForList(contains("FROM event"), anyMap(), eq(Long.class)))
+            .thenReturn(List.of(10L, 11L));
+
+        // When
+        ArchiveRunResultDto result = archivalService.runArchival(TODAY);
+
+        // Then
+        assertThat(result.getEventsArchived()).isEqualTo(2);
+        assertThat(result.isComplete()).isFalse();
+        Map<String, Object> chunk = Map.of("ids", List.of(10L, 11L));
+        InOrder inOrder = inOrder(namedParameterJdbcTemplate);
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO history_rollup"), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO archive.event "), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update(startsWith("INSERT INTO archive.event_booking"), eq(chunk));
+        inOrder.verify(namedParameterJdbcTemplate).update("DELETE FROM event_booking WHERE event_id IN (:ids)", chunk);
+        inOrder.verify(namedParameterJdbcTemplate).update("DELETE FROM event WHERE id IN (:ids)", chunk);
+        verify(catalogResponseCache).invalidate(CatalogResponseCache.EVENTS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onNonPostgresDatabase_ShouldSkipScheduledRunAndRejectManualRun() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // When
+        archivalService.runScheduledArchival();
+
+        // Then
+        verify(namedParameterJdbcTemplate, never()).queryForList(anyString(), anyMap(), eq(Long.class));
+        assertThatThrownBy(() -> archivalService.runArchival(TODAY))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("PostgreSQL");
+    }
+
+    @Test
+    void runArchival_WithFutureAsOfDate_ShouldBeRejectedBeforeTouchingTables() {
+        // When / Then
+        assertThatThrownBy(() -> archivalService.runArchival(LocalDate.now().plusDays(1)))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("future");
+        verify(namedParameterJdbcTemplate, never()).queryForList(anyString(), anyMap(), eq(Long.class));
+        verify(namedParameterJdbcTemplate, never()).update(anyString(), anyMap());
+    }
+}
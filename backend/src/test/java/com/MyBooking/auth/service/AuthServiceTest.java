@@ -8,6 +8,7 @@ import com.MyBooking.auth.repository.UserRepository;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
 import com.MyBooking.common.security.JwtService;
+import com.MyBooking.notification.service.NotificationPreferenceCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +41,9 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
     
+    @Mock
+    private NotificationPreferenceCache notificationPreferenceCache;
+    
     @InjectMocks
     private AuthService authService;
     
@@ -0,0 +1,47 @@
+package com.MyBooking.common.config;
+
+import com.MyBooking.auth.domain.Role;
+import com.MyBooking.auth.domain.User;
+import com.MyBooking.common.metrics.SqlStatementInspector;
+import com.MyBooking.room.dto.RoomSummaryDto;
+import com.MyBooking.room.service.RoomService;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NativeHintsConfigTest {
+
+    @Test
+    void modelTypes_ShouldIncludeEntitiesAndDtosButNotComponents() {
+        // When
+        List<String> types = NativeHintsConfig.modelTypes(getClass().getClassLoader());
+
+        // Then
+        assertThat(types).contains(User.class.getName(), Role.class.getName(), RoomSummaryDto.class.getName(),
+            SqlStatementInspector.class.getName());
+        assertThat(types).doesNotContain(RoomService.class.getName(), NativeHintsConfig.class.getName());
+    }
+
+    @Test
+    void registerHints_ShouldCoverEntitiesJjwtProxiesAndSwaggerUi() {
+        // Given
+        RuntimeHints hints = new RuntimeHints();
+
+        // When
+        new NativeHintsConfig.ApplicationHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertThat(RuntimeHintsPredicates.reflection().onType(User.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+            .forResource("META-INF/resources/webjars/swagger-ui/5.21.0/index.html")).accepts(hints);
+    }
+}
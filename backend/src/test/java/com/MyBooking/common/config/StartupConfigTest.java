@@ -0,0 +1,58 @@
+package com.MyBooking.common.config;
+
+import com.MyBooking.analytics.service.AnalyticsService;
+import com.MyBooking.archive.controller.AdminArchiveController;
+import com.MyBooking.archive.service.ArchivalService;
+import com.MyBooking.notification.controller.AdminNotificationController;
+import com.MyBooking.room.controller.RoomController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StartupConfigTest {
+
+    @Test
+    void adminLazyInitialization_ShouldDeferAdminBeansButKeepScheduledOnes() {
+        // Given
+        DefaultListableBeanFactory beanFactory = beanFactory();
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("startup.lazy-admin.enabled", "true")
+            .withProperty("startup.lazy-packages", "com.MyBooking.analytics, com.MyBooking.archive");
+
+        // When
+        StartupConfig.adminLazyInitialization(environment).postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertThat(beanFactory.getBeanDefinition("analyticsService").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("adminArchiveController").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("adminNotificationController").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("archivalService").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("roomController").isLazyInit()).isFalse();
+    }
+
+    @Test
+    void adminLazyInitialization_WhenDisabled_ShouldLeaveDefinitionsAlone() {
+        // Given
+        DefaultListableBeanFactory beanFactory = beanFactory();
+
+        // When
+        StartupConfig.adminLazyInitialization(new MockEnvironment()).postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertThat(beanFactory.getBeanDefinitionNames())
+            .allSatisfy(name -> assertThat(beanFactory.getBeanDefinition(name).isLazyInit()).isFalse());
+    }
+
+    private static DefaultListableBeanFactory beanFactory() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("analyticsService", new RootBeanDefinition(AnalyticsService.class));
+        beanFactory.registerBeanDefinition("adminArchiveController", new RootBeanDefinition(AdminArchiveController.class));
+        beanFactory.registerBeanDefinition("adminNotificationController", new RootBeanDefinition(AdminNotificationController.class));
+        beanFactory.registerBeanDefinition("archivalService", new RootBeanDefinition(ArchivalService.class));
+        beanFactory.registerBeanDefinition("roomController", new RootBeanDefinition(RoomController.class));
+        return beanFactory;
+    }
+}
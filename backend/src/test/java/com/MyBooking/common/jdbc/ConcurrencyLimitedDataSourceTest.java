@@ -0,0 +1,74 @@
+package com.MyBooking.common.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void getConnection_ShouldHoldPermitUntilClose() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+
+        // When
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // Then
+        assertThat(dataSource.getActive()).isEqualTo(2);
+        first.close();
+        first.close();
+        assertThat(dataSource.getActive()).isEqualTo(1);
+        second.close();
+        assertThat(dataSource.getActive()).isZero();
+        verify(connection, times(3)).close();
+    }
+
+    @Test
+    void getConnection_AtLimit_ShouldFailAfterTimeout() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 20);
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class)
+            .hasMessageContaining("JDBC concurrency limit of 1 reached");
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenPoolFails_ShouldReleasePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 20);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool down");
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    void connectionProxy_ShouldDelegateOtherCalls() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 20);
+
+        assertThat(dataSource.getConnection().getAutoCommit()).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+package com.MyBooking.common.jdbc;
+
+import com.MyBooking.common.metrics.SqlStatementInspector;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hibernate over a private in-memory H2 database, without a Spring context: real sessions, row locks and
+ * the {@link SqlStatementInspector}, for tests that mocks cannot cover. The schema is generated from the
+ * entity mappings; repositories share one transaction-bound EntityManager, so call them inside
+ * {@link #transaction()}.
+ */
+public final class H2JpaTestDatabase implements AutoCloseable {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final JpaTransactionManager transactionManager;
+    private final JpaRepositoryFactory repositoryFactory;
+
+    public H2JpaTestDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.MyBooking");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+            "hibernate.hbm2ddl.auto", "create-drop",
+            "hibernate.session_factory.statement_inspector", SqlStatementInspector.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionManager = new JpaTransactionManager(entityManagerFactory);
+        repositoryFactory = new JpaRepositoryFactory(entityManager);
+    }
+
+    public <R> R repository(Class<R> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    public TransactionTemplate transaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    public EntityManager getEntityManager() { return entityManager; }
+    public JpaTransactionManager getTransactionManager() { return transactionManager; }
+
+    @Override
+    public void close() {
+        entityManagerFactory.close();
+    }
+}
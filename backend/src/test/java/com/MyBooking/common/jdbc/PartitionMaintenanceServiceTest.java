@@ -0,0 +1,126 @@
+package com.MyBooking.common.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PartitionMaintenanceServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 5, 17);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PartitionMaintenanceService partitionMaintenanceService;
+
+    @Test
+    void createFuturePartitions_ShouldCoverCurrentMonthToMonthsAhead() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("create_monthly_partitions"), eq(Integer.class),
+            eq("room_status_update"), any(), any())).thenReturn(1);
+        when(jdbcTemplate.queryForObject(contains("create_monthly_partitions"), eq(Integer.class),
+            eq("loyalty_transaction"), any(), any())).thenReturn(0);
+
+        // When
+        int created = partitionMaintenanceService.createFuturePartitions(TODAY);
+
+        // Then
+        assertThat(created).isEqualTo(1);
+        Date from = Date.valueOf(LocalDate.of(2030, 5, 1));
+        Date to = Date.valueOf(LocalDate.of(2030, 8, 1));
+        verify(jdbcTemplate).queryForObject(anyString(), eq(Integer.class), eq("room_status_update"), eq(from), eq(to));
+        verify(jdbcTemplate).queryForObject(anyString(), eq(Integer.class), eq("loyalty_transaction"), eq(from), eq(to));
+    }
+
+    @Test
+    void drainDefaultPartitions_ShouldDrainEveryPartitionedTable() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("drain_default_partition"), eq(Integer.class), eq("room_status_update")))
+            .thenReturn(2);
+        when(jdbcTemplate.queryForObject(contains("drain_default_partition"), eq(Integer.class), eq("loyalty_transaction")))
+            .thenReturn(null);
+
+        // When
+        int created = partitionMaintenanceService.drainDefaultPartitions();
+
+        // Then
+        assertThat(created).isEqualTo(2);
+        verify(jdbcTemplate).queryForObject("SELECT drain_default_partition(?)", Integer.class, "room_status_update");
+        verify(jdbcTemplate).queryForObject("SELECT drain_default_partition(?)", Integer.class, "loyalty_transaction");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void runScheduledMaintenance_ShouldDrainDefaultPartitionsBeforeCreatingMonths() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+
+        // When
+        partitionMaintenanceService.runScheduledMaintenance();
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForObject(contains("drain_default_partition"), eq(Integer.class), eq("room_status_update"));
+        inOrder.verify(jdbcTemplate).queryForObject(contains("create_monthly_partitions"), eq(Integer.class),
+            eq("room_status_update"), any(), any());
+    }
+
+    @Test
+    void detachColdPartitions_ShouldArchiveOnlyPartitionsPastRetention() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), eq("room_status_update")))
+            .thenReturn(List.of("room_status_update_default", "room_status_update_p202804",
+                "room_status_update_p202805", "room_status_update_p203005"));
+
+        // When
+        List<String> detached = partitionMaintenanceService.detachColdPartitions(TODAY);
+
+        // Then
+        assertThat(detached).containsExactly("room_status_update_p202804");
+        verify(jdbcTemplate).execute("ALTER TABLE \"room_status_update\" DETACH PARTITION \"room_status_update_p202804\"");
+        verify(jdbcTemplate).execute("ALTER TABLE \"room_status_update_p202804\" SET SCHEMA archive");
+        // The loyalty ledger has no retention by default
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), eq("loyalty_transaction"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void runScheduledMaintenance_OnNonPostgresDatabase_ShouldDoNothing() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // When
+        partitionMaintenanceService.runScheduledMaintenance();
+
+        // Then
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Integer.class), any(), any(), any());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), any());
+    }
+
+    @Test
+    void partitionMonth_ShouldParseOnlyMonthlyPartitionsOfTheTable() {
+        assertThat(PartitionMaintenanceService.partitionMonth("loyalty_transaction", "loyalty_transaction_p202512"))
+            .isEqualTo(YearMonth.of(2025, 12));
+        assertThat(PartitionMaintenanceService.partitionMonth("loyalty_transaction", "loyalty_transaction_default")).isNull();
+        assertThat(PartitionMaintenanceService.partitionMonth("loyalty_transaction", "room_status_update_p202512")).isNull();
+    }
+}
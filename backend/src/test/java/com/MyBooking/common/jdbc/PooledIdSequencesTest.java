@@ -0,0 +1,91 @@
+package com.MyBooking.common.jdbc;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Guards the pooled id generators: every generated id comes from its table's sequence, and the
+ * sequence increment set by the Flyway migrations matches the allocationSize (Hibernate refuses to
+ * boot on a mismatch, and a smaller increment would hand out duplicate ids). A sequence the migration
+ * does not alter keeps INCREMENT BY 1.
+ */
+class PooledIdSequencesTest {
+
+    private static final Pattern INCREMENT = Pattern.compile("ALTER SEQUENCE (\\w+) INCREMENT BY (\\d+);");
+
+    @Test
+    void entities_ShouldUseTableSequencesWithMigratedIncrement() throws Exception {
+        // Given
+        String migration = new ClassPathResource("db/migration/V18__pooled_id_sequences.sql")
+            .getContentAsString(StandardCharsets.UTF_8);
+        List<String> checked = new ArrayList<>();
+
+        // When
+        for (Class<?> entity : entities()) {
+            Field id = idField(entity);
+            if (id == null) {
+                continue;
+            }
+            GeneratedValue generatedValue = id.getAnnotation(GeneratedValue.class);
+            SequenceGenerator generator = id.getAnnotation(SequenceGenerator.class);
+            String table = entity.getAnnotation(Table.class).name();
+
+            // Then
+            assertThat(generatedValue.strategy()).as(entity.getSimpleName()).isEqualTo(GenerationType.SEQUENCE);
+            assertThat(generator).as(entity.getSimpleName()).isNotNull();
+            assertThat(generator.sequenceName()).as(entity.getSimpleName()).isEqualTo(table + "_id_seq");
+            assertThat(increment(migration, generator.sequenceName())).as(entity.getSimpleName())
+                .isEqualTo(generator.allocationSize());
+            checked.add(entity.getSimpleName());
+        }
+        assertThat(checked).contains("Reservation", "EventNotification", "User", "Announcement");
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static List<Class<?>> entities() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        List<Class<?>> entities = new ArrayList<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents("com.MyBooking")) {
+            entities.add(ClassUtils.forName(definition.getBeanClassName(), PooledIdSequencesTest.class.getClassLoader()));
+        }
+        return entities;
+    }
+
+    private static Field idField(Class<?> entity) {
+        List<Field> fields = new ArrayList<>();
+        ReflectionUtils.doWithFields(entity, fields::add, field -> field.isAnnotationPresent(GeneratedValue.class));
+        return fields.isEmpty() ? null : fields.get(0);
+    }
+
+    private static Integer increment(String migration, String sequence) throws IOException {
+        Matcher matcher = INCREMENT.matcher(migration);
+        while (matcher.find()) {
+            if (matcher.group(1).equals(sequence)) {
+                return Integer.valueOf(matcher.group(2));
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,135 @@
+package com.MyBooking.common.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate replicaJdbc;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), 1000L, 60_000L,
+            "SELECT lag_ms FROM replica_lag");
+        routing.refreshReplicaLag();
+        DataSource lazy = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(lazy);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(lazy);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldUseReplicaAndOthersThePrimary() {
+        // When / Then
+        assertThat(nodeIn(readOnly)).isEqualTo("replica");
+        assertThat(nodeIn(readWrite)).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+        assertThat(routing.getReplicaReads()).isEqualTo(1);
+    }
+
+    @Test
+    void afterWrite_ShouldKeepThatUsersReadsOnPrimary() {
+        // Given
+        authenticate("alice@hotel.com");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        // When
+        String aliceReads = nodeIn(readOnly);
+        authenticate("bob@hotel.com");
+        String bobReads = nodeIn(readOnly);
+
+        // Then
+        assertThat(aliceReads).isEqualTo("primary");
+        assertThat(bobReads).isEqualTo("replica");
+        assertThat(routing.getStickyReads()).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackWrite_ShouldNotMakeUserSticky() {
+        // Given
+        authenticate("alice@hotel.com");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // When / Then
+        assertThat(routing.isSticky("alice@hotel.com")).isFalse();
+        assertThat(nodeIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingOrUnreachableReplica_ShouldFallBackToPrimary() {
+        // Given
+        replicaJdbc.update("UPDATE replica_lag SET lag_ms = 5000");
+        routing.refreshReplicaLag();
+
+        // When / Then
+        assertThat(nodeIn(readOnly)).isEqualTo("primary");
+        assertThat(routing.getReplicas().get(0).getLagMillis()).isEqualTo(5000);
+
+        replicaJdbc.update("UPDATE replica_lag SET lag_ms = 10");
+        routing.refreshReplicaLag();
+        assertThat(nodeIn(readOnly)).isEqualTo("replica");
+
+        replicaJdbc.execute("DROP TABLE replica_lag");
+        routing.refreshReplicaLag();
+        assertThat(nodeIn(readOnly)).isEqualTo("primary");
+        assertThat(routing.getPrimaryReads()).isEqualTo(2);
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            email, null, List.of(new SimpleGrantedAuthority("ROLE_CLIENT"))));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,130 @@
+package com.MyBooking.common.metrics;
+
+import com.MyBooking.common.config.MetricsConfig;
+import com.MyBooking.common.exception.BusinessRuleException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ServiceMetricsAspectTest {
+
+    private MeterRegistry meterRegistry;
+    private ReservationService reservationService;
+    private ServiceLatencySummary summary;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(MetricsConfig.serviceTimerHistogram());
+
+        ServiceMetricsAspect aspect = new ServiceMetricsAspect();
+        ReflectionTestUtils.setField(aspect, "meterRegistry", meterRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ReservationService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        reservationService = factory.getProxy();
+
+        summary = new ServiceLatencySummary();
+        ReflectionTestUtils.setField(summary, "meterRegistry", meterRegistry);
+    }
+
+    // ========== ASPECT TESTS ==========
+
+    @Test
+    void serviceCall_ShouldBeTimedWithOutcomeTag() {
+        // When
+        reservationService.createReservation(1L);
+        assertThatThrownBy(() -> reservationService.createReservation(-1L)).isInstanceOf(BusinessRuleException.class);
+        assertThatThrownBy(() -> reservationService.createReservation(null)).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(timer("createReservation", "success").count()).isEqualTo(1);
+        assertThat(timer("createReservation", "rejected").count()).isEqualTo(1);
+        assertThat(timer("createReservation", "error").count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.BOOKINGS_COUNTER).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void bookingSuccessRate_ShouldCountRejectionsAsFailures() {
+        reservationService.createReservation(1L);
+        reservationService.createReservation(2L);
+        reservationService.createReservation(3L);
+        assertThatThrownBy(() -> reservationService.createReservation(-1L)).isInstanceOf(BusinessRuleException.class);
+
+        assertThat(summary.bookingSuccessRate()).isEqualTo(75.0);
+    }
+
+    @Test
+    void bookingSuccessRate_WithNoAttempts_ShouldBeFullRate() {
+        assertThat(summary.bookingSuccessRate()).isEqualTo(100.0);
+    }
+
+    // ========== SUMMARY TESTS ==========
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void summarize_ShouldMergeHistogramsAcrossTimers() {
+        // Given: 98 fast calls and 2 slow ones spread over two timers
+        Timer fast = Timer.builder(ServiceMetricsAspect.SERVICE_TIMER)
+            .tags("service", "RoomService", "method", "isRoomAvailable", "outcome", "success").register(meterRegistry);
+        Timer slow = Timer.builder(ServiceMetricsAspect.SERVICE_TIMER)
+            .tags("service", "AnalyticsService", "method", "getDashboardData", "outcome", "error").register(meterRegistry);
+        for (int i = 0; i < 98; i++) {
+            fast.record(2, TimeUnit.MILLISECONDS);
+        }
+        slow.record(800, TimeUnit.MILLISECONDS);
+        slow.record(900, TimeUnit.MILLISECONDS);
+
+        // When
+        Map<String, Object> metrics = summary.summarize();
+
+        // Then
+        assertThat(metrics.get("totalCalls")).isEqualTo(100L);
+        assertThat((Double) metrics.get("responseTime50thPercentile")).isBetween(2.0, 3.0);
+        assertThat((Double) metrics.get("responseTime99thPercentile")).isBetween(800.0, 1000.0);
+        assertThat(metrics.get("errorRate")).isEqualTo(2.0);
+        assertThat(metrics.get("serviceAvailability")).isEqualTo(98.0);
+        List<Map<String, Object>> slowest = (List<Map<String, Object>>) metrics.get("slowestOperations");
+        assertThat(slowest.get(0).get("operation")).isEqualTo("AnalyticsService.getDashboardData");
+    }
+
+    @Test
+    void summarize_WithNoCalls_ShouldReturnZeros() {
+        Map<String, Object> metrics = summary.summarize();
+
+        assertThat(metrics.get("totalCalls")).isEqualTo(0L);
+        assertThat(metrics.get("responseTime99thPercentile")).isEqualTo(0.0);
+        assertThat(metrics.get("serviceAvailability")).isEqualTo(100.0);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(ServiceMetricsAspect.SERVICE_TIMER)
+            .tags("service", "ReservationService", "method", method, "outcome", outcome).timer();
+    }
+
+    /**
+     * Stand-in named like a real service so the pointcut and business counter map apply
+     */
+    static class ReservationService {
+        public Long createReservation(Long roomId) {
+            if (roomId == null) {
+                throw new IllegalStateException("boom");
+            }
+            if (roomId < 0) {
+                throw new BusinessRuleException("Room is not available");
+            }
+            return roomId;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.MyBooking.common.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Statement budget for repository and integration tests (anything that reaches Hibernate):
+ * <pre>
+ * List&lt;Reservation&gt; result = SqlStatementAssertions.assertMaxStatements(2,
+ *     () -&gt; reservationRepository.findByClientId(clientId));
+ * </pre>
+ * Call {@code entityManager.flush()} before the operation so pending inserts are not counted.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {}
+
+    /**
+     * Run the operation and fail if it prepared more than {@code max} statements
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> operation) {
+        SqlStatementCounter.Scope previous = SqlStatementCounter.start();
+        T result;
+        SqlStatementCounter.Stats stats;
+        try {
+            result = operation.get();
+        } finally {
+            stats = SqlStatementCounter.stop(previous);
+        }
+        if (stats.getTotal() > max) {
+            fail("Expected at most " + max + " SQL statements but " + stats.getTotal() + " were executed:" + describe(stats.getShapes()));
+        }
+        return result;
+    }
+
+    public static void assertMaxStatements(int max, Runnable operation) {
+        assertMaxStatements(max, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run the operation and fail if any statement shape repeats {@code threshold} times or more (N+1)
+     */
+    public static <T> T assertNoRepeatedStatements(int threshold, Supplier<T> operation) {
+        SqlStatementCounter.Scope previous = SqlStatementCounter.start();
+        T result;
+        SqlStatementCounter.Stats stats;
+        try {
+            result = operation.get();
+        } finally {
+            stats = SqlStatementCounter.stop(previous);
+        }
+        Map<String, Integer> repeated = stats.repeatedShapes(threshold);
+        if (!repeated.isEmpty()) {
+            fail("Statements repeated " + threshold + "+ times (N+1):" + describe(repeated));
+        }
+        return result;
+    }
+
+    private static String describe(Map<String, Integer> shapes) {
+        StringBuilder description = new StringBuilder();
+        shapes.forEach((shape, count) -> description.append("\n  ").append(count).append("x ").append(shape));
+        return description.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.MyBooking.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @Test
+    void inspector_ShouldCountOnlyInsideScope() {
+        // Given
+        inspector.inspect("select 1");
+
+        // When
+        SqlStatementCounter.Scope previous = SqlStatementCounter.start();
+        inspector.inspect("select r1_0.id from room r1_0 where r1_0.id=?");
+        inspector.inspect("select r1_0.id from room r1_0 where r1_0.id=?");
+        SqlStatementCounter.Stats stats = SqlStatementCounter.stop(previous);
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getShapes()).containsEntry("select r1_0.id from room r1_0 where r1_0.id=?", 2);
+        assertThat(inspector.inspect("select 2")).isEqualTo("select 2");
+    }
+
+    @Test
+    void shape_ShouldCollapseParameterListsAndWhitespace() {
+        assertThat(SqlStatementCounter.shape("select * from room\n  where id in (?, ?,?)"))
+            .isEqualTo(SqlStatementCounter.shape("select * from room where id in (?)"));
+        assertThat(SqlStatementCounter.shape("insert into room (a,b) values (?,?), (?,?)"))
+            .isEqualTo("insert into room (a,b) values (?)");
+    }
+
+    @Test
+    void repeatedShapes_ShouldFlagNPlusOne() {
+        // Given: one list query and one lazy load per row
+        SqlStatementCounter.Scope previous = SqlStatementCounter.start();
+        inspector.inspect("select r1_0.id from reservation r1_0");
+        for (int i = 0; i < 6; i++) {
+            inspector.inspect("select u1_0.id from app_user u1_0 where u1_0.id=?");
+        }
+        SqlStatementCounter.Stats stats = SqlStatementCounter.stop(previous);
+
+        // Then
+        assertThat(stats.repeatedShapes(5)).containsOnlyKeys("select u1_0.id from app_user u1_0 where u1_0.id=?");
+    }
+
+    @Test
+    void nestedScope_ShouldAddToEnclosingScope() {
+        SqlStatementCounter.Scope outer = SqlStatementCounter.start();
+        inspector.inspect("select 1");
+        SqlStatementCounter.Scope inner = SqlStatementCounter.start();
+        inspector.inspect("select 2");
+        assertThat(SqlStatementCounter.stop(inner).getTotal()).isEqualTo(1);
+
+        assertThat(SqlStatementCounter.stop(outer).getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void assertMaxStatements_OverBudget_ShouldFailWithShapes() {
+        assertThatThrownBy(() -> SqlStatementAssertions.assertMaxStatements(1, () -> {
+            inspector.inspect("select a from t where id=?");
+            inspector.inspect("select a from t where id=?");
+        }))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("at most 1 SQL statements but 2")
+            .hasMessageContaining("2x select a from t where id=?");
+    }
+
+    @Test
+    void assertNoRepeatedStatements_WithinThreshold_ShouldReturnResult() {
+        Integer result = SqlStatementAssertions.assertNoRepeatedStatements(3, () -> {
+            inspector.inspect("select a from t where id=?");
+            inspector.inspect("select a from t where id=?");
+            return 42;
+        });
+
+        assertThat(result).isEqualTo(42);
+    }
+}
@@ -0,0 +1,194 @@
+package com.MyBooking.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger versionLoads = new AtomicInteger();
+    private final AtomicInteger bodyLoads = new AtomicInteger();
+    private CatalogResponseCache cache;
+    private String version;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CatalogResponseCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(cache, "versionTtlMillis", 60_000L);
+        version = "v1";
+    }
+
+    @Test
+    void respond_ShouldCacheSerializedBodyUntilVersionChanges() {
+        // Given
+        respond(request("/api/rooms", null));
+
+        // When
+        ResponseEntity<?> second = respond(request("/api/rooms", null));
+        version = "v2";
+        cache.invalidate(CatalogResponseCache.ROOMS);
+        ResponseEntity<?> third = respond(request("/api/rooms", null));
+
+        // Then
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String((byte[]) second.getBody())).isEqualTo("{\"name\":\"Deluxe\"}");
+        assertThat(third.getHeaders().getETag()).isNotEqualTo(second.getHeaders().getETag());
+        assertThat(bodyLoads).hasValue(2);
+        assertThat(versionLoads).hasValue(2);
+        assertThat(meterRegistry.get("mybooking.catalog.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void respond_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutLoadingBody() {
+        // Given
+        String etag = respond(request("/api/rooms/1", null)).getHeaders().getETag();
+        bodyLoads.set(0);
+
+        // When
+        ResponseEntity<?> response = respond(request("/api/rooms/1", "\"other\", " + etag));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(bodyLoads).hasValue(0);
+    }
+
+    @Test
+    void respond_ShouldKeyByPathAndSortedQueryParameters() {
+        // Given
+        MockHttpServletRequest first = request("/api/rooms", null);
+        first.addParameter("size", "10");
+        first.addParameter("page", "0");
+        MockHttpServletRequest reordered = request("/api/rooms", null);
+        reordered.addParameter("page", "0");
+        reordered.addParameter("size", "10");
+        MockHttpServletRequest otherPage = request("/api/rooms", null);
+        otherPage.addParameter("page", "1");
+
+        // When
+        String etag = respond(first).getHeaders().getETag();
+
+        // Then
+        assertThat(respond(reordered).getHeaders().getETag()).isEqualTo(etag);
+        assertThat(respond(otherPage).getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void respond_WhenClientAcceptsGzip_ShouldServeCompressedCopyMadeOnce() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(cache, "gzipMinBytes", 1);
+        MockHttpServletRequest gzipRequest = request("/api/rooms", null);
+        gzipRequest.addHeader("Accept-Encoding", "br, gzip;q=0.8");
+        MockHttpServletRequest refusingRequest = request("/api/rooms", null);
+        refusingRequest.addHeader("Accept-Encoding", "gzip;q=0, identity");
+
+        // When
+        ResponseEntity<?> compressed = respond(gzipRequest);
+        ResponseEntity<?> again = respond(gzipRequest);
+        ResponseEntity<?> plain = respond(refusingRequest);
+
+        // Then
+        assertThat(compressed.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(compressed.getHeaders().getVary()).contains("Accept-Encoding");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream((byte[]) compressed.getBody()))) {
+            assertThat(new String(in.readAllBytes())).isEqualTo("{\"name\":\"Deluxe\"}");
+        }
+        assertThat(again.getBody()).isSameAs(compressed.getBody());
+        assertThat(plain.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(new String((byte[]) plain.getBody())).isEqualTo("{\"name\":\"Deluxe\"}");
+        assertThat(compressed.getHeaders().getETag()).isEqualTo(CatalogResponseCache.gzipEtag(plain.getHeaders().getETag()));
+        assertThat(compressed.getHeaders().getETag()).endsWith("-gz\"");
+        assertThat(bodyLoads).hasValue(1);
+    }
+
+    @Test
+    void respond_WithGzipVariantEtag_ShouldReturnNotModifiedWithThatEtagAndVary() {
+        // Given
+        ReflectionTestUtils.setField(cache, "gzipMinBytes", 1);
+        MockHttpServletRequest gzipRequest = request("/api/rooms", null);
+        gzipRequest.addHeader("Accept-Encoding", "gzip");
+        String gzipEtag = respond(gzipRequest).getHeaders().getETag();
+        bodyLoads.set(0);
+
+        // When
+        MockHttpServletRequest revalidation = request("/api/rooms", "W/" + gzipEtag);
+        revalidation.addHeader("Accept-Encoding", "gzip");
+        ResponseEntity<?> response = respond(revalidation);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(gzipEtag);
+        assertThat(response.getHeaders().getVary()).contains("Accept-Encoding");
+        assertThat(bodyLoads).hasValue(0);
+    }
+
+    @Test
+    void respond_WithSmallBody_ShouldNotCompress() {
+        // Given
+        MockHttpServletRequest request = request("/api/rooms", null);
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+
+        // When
+        ResponseEntity<?> response = respond(request);
+
+        // Then
+        assertThat(response.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(new String((byte[]) response.getBody())).isEqualTo("{\"name\":\"Deluxe\"}");
+    }
+
+    @Test
+    void versionOf_ShouldEncodeCountsAndTimestamps() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        // When
+        String first = CatalogResponseCache.versionOf(List.<Object[]>of(new Object[] { 12L, updatedAt, null }));
+        String touched = CatalogResponseCache.versionOf(List.<Object[]>of(new Object[] { 12L, updatedAt.plusSeconds(1), null }));
+
+        // Then
+        assertThat(first).startsWith("c.").endsWith(".0");
+        assertThat(touched).isNotEqualTo(first);
+        assertThat(CatalogResponseCache.versionOf(List.of())).isEqualTo("0");
+    }
+
+    private ResponseEntity<?> respond(MockHttpServletRequest request) {
+        Supplier<String> versionLoader = () -> {
+            versionLoads.incrementAndGet();
+            return version;
+        };
+        return cache.respond(request, CatalogResponseCache.ROOMS, CacheControl.noCache(), versionLoader, () -> {
+            bodyLoads.incrementAndGet();
+            return Map.of("name", "Deluxe");
+        });
+    }
+
+    private MockHttpServletRequest request(String uri, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -235,6 +235,19 @@ class LeaveRequestRepositoryTest {
         assertThat(overlappingRequests).containsExactly(leaveRequest11);
     }
 
+    @Test
+    void testFindLeaveRangesByStatusOverlapping() {
+        LocalDate startDate = baseDate.plusDays(12);
+        LocalDate endDate = baseDate.plusDays(14);
+        List<Object[]> ranges = leaveRequestRepository.findLeaveRangesByStatusOverlapping(LeaveRequestStatus.APPROVED, startDate, endDate);
+        
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges).extracting(row -> row[0])
+            .containsExactlyInAnyOrder(employee1.getId(), employee2.getId(), employee4.getId());
+        assertThat(ranges).extracting(row -> row[1])
+            .containsExactlyInAnyOrder(baseDate.plusDays(10), baseDate.plusDays(12), baseDate.plusDays(13));
+    }
+
     // ==================== STATUS AND EMPLOYEE COMBINATIONS TESTS ====================
 
     @Test
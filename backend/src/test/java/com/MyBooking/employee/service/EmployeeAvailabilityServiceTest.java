@@ -0,0 +1,131 @@
+package com.MyBooking.employee.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.employee.domain.*;
+import com.MyBooking.employee.dto.EmployeeAvailabilityCalendarDto;
+import com.MyBooking.employee.dto.EmployeeDayAvailabilityDto;
+import com.MyBooking.employee.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EmployeeAvailabilityServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 3, 1);
+    private static final LocalDate END = START.plusDays(6);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Mock
+    private EmployeeTrainingRepository employeeTrainingRepository;
+
+    @InjectMocks
+    private EmployeeAvailabilityService employeeAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE))
+            .thenReturn(List.of(employee(1L, "Waiter"), employee(2L, "Cook"), employee(3L, "Waiter")));
+        // Employee 1: leave from before the range until day 1
+        when(leaveRequestRepository.findLeaveRangesByStatusOverlapping(LeaveRequestStatus.APPROVED, START, END))
+            .thenReturn(List.<Object[]>of(new Object[] { 1L, START.minusDays(5), START.plusDays(1) }));
+        // Employee 2: training on days 5 to 8 (clipped to day 6)
+        when(employeeTrainingRepository.findTrainingRangesByStatusesOverlapping(any(), eq(START), eq(END)))
+            .thenReturn(List.<Object[]>of(new Object[] { 2L, START.plusDays(5), START.plusDays(8) }));
+    }
+
+    @Test
+    void getAvailability_ShouldReturnDayBitmapPerEmployee() {
+        // When
+        EmployeeAvailabilityCalendarDto result = employeeAvailabilityService.getAvailability(START, END, null);
+
+        // Then
+        assertThat(result.getDayCount()).isEqualTo(7);
+        assertThat(result.getEmployees()).extracting(EmployeeDayAvailabilityDto::getDayBitmap)
+            .containsExactly("0011111", "1111100", "1111111");
+        assertThat(result.getEmployees()).extracting(EmployeeDayAvailabilityDto::getAvailableDayCount)
+            .containsExactly(5, 5, 7);
+    }
+
+    @Test
+    void getAvailability_ShouldQueryOncePerSourceRegardlessOfHeadcount() {
+        // When
+        employeeAvailabilityService.getAvailability(START, END, null);
+
+        // Then
+        verify(employeeRepository, times(1)).findByStatus(EmployeeStatus.ACTIVE);
+        verify(leaveRequestRepository, times(1)).findLeaveRangesByStatusOverlapping(any(), any(), any());
+        verify(employeeTrainingRepository, times(1)).findTrainingRangesByStatusesOverlapping(
+            eq(List.of(TrainingStatus.ASSIGNED, TrainingStatus.IN_PROGRESS)), any(), any());
+        verifyNoMoreInteractions(leaveRequestRepository, employeeTrainingRepository);
+    }
+
+    @Test
+    void getAvailability_WithJobTitle_ShouldFilterIgnoringCase() {
+        // When
+        EmployeeAvailabilityCalendarDto result = employeeAvailabilityService.getAvailability(START, END, " waiter");
+
+        // Then
+        assertThat(result.getEmployees()).extracting(EmployeeDayAvailabilityDto::getEmployeeId)
+            .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void getEmployeesAvailableBetween_ShouldReturnEmployeesFreeOnEveryDay() {
+        assertThat(employeeAvailabilityService.getEmployeesAvailableBetween(START, END)).containsExactly(3L);
+    }
+
+    @Test
+    void loadCalendar_ShouldAnswerPointInTimeQueries() {
+        // When
+        EmployeeAvailabilityCalendar calendar = employeeAvailabilityService.loadCalendar(START, END);
+
+        // Then
+        assertThat(calendar.isAvailable(1L, START)).isFalse();
+        assertThat(calendar.isAvailable(1L, START.plusDays(2))).isTrue();
+        assertThat(calendar.isAvailable(2L, START.plusDays(6))).isFalse();
+        assertThat(calendar.isAvailable(99L, START)).isFalse();
+        assertThat(calendar.availableThroughout(START.plusDays(2), START.plusDays(4))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void loadCalendar_WithNoActiveEmployees_ShouldReturnEmptyCalendar() {
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE)).thenReturn(Collections.emptyList());
+
+        assertThat(employeeAvailabilityService.loadCalendar(START, END).getEmployees()).isEmpty();
+    }
+
+    @Test
+    void loadCalendar_WithEndBeforeStart_ShouldThrowBusinessRuleException() {
+        assertThatThrownBy(() -> employeeAvailabilityService.loadCalendar(END, START))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("End date cannot be before start date");
+    }
+
+    private Employee employee(Long id, String jobTitle) {
+        Employee employee = new Employee();
+        employee.setUserId(id);
+        employee.setJobTitle(jobTitle);
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        return employee;
+    }
+}
@@ -0,0 +1,289 @@
+package com.MyBooking.employee.service;
+
+import com.MyBooking.auth.domain.User;
+import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.employee.domain.*;
+import com.MyBooking.employee.dto.RosterAssignmentDto;
+import com.MyBooking.employee.dto.RosterPlanRequestDto;
+import com.MyBooking.employee.dto.RosterPlanResponseDto;
+import com.MyBooking.employee.dto.RosterRequirementDto;
+import com.MyBooking.employee.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ShiftRosterServiceTest {
+
+    // A Monday, so the planned period starts on a week boundary
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Mock
+    private EmployeeTrainingRepository employeeTrainingRepository;
+
+    @Mock
+    private ShiftRepository shiftRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ShiftRosterService shiftRosterService;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeAvailabilityService employeeAvailabilityService = new EmployeeAvailabilityService();
+        ReflectionTestUtils.setField(employeeAvailabilityService, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(employeeAvailabilityService, "leaveRequestRepository", leaveRequestRepository);
+        ReflectionTestUtils.setField(employeeAvailabilityService, "employeeTrainingRepository", employeeTrainingRepository);
+        ReflectionTestUtils.setField(shiftRosterService, "employeeAvailabilityService", employeeAvailabilityService);
+
+        when(leaveRequestRepository.findLeaveRangesByStatusOverlapping(any(), any(), any())).thenReturn(Collections.emptyList());
+        when(employeeTrainingRepository.findTrainingRangesByStatusesOverlapping(any(), any(), any())).thenReturn(Collections.emptyList());
+        when(shiftRepository.findShiftWindowsOverlapping(any(), any())).thenReturn(Collections.emptyList());
+    }
+
+    // ========== PLANNING TESTS ==========
+
+    @Test
+    void planRoster_ShouldSkipDaysOnApprovedLeave() {
+        // Given
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE))
+            .thenReturn(List.of(employee(1L, "Waiter"), employee(2L, "Waiter")));
+        when(leaveRequestRepository.findLeaveRangesByStatusOverlapping(LeaveRequestStatus.APPROVED, MONDAY, MONDAY.plusDays(1)))
+            .thenReturn(rows(new Object[] { 1L, MONDAY.minusDays(3), MONDAY }));
+
+        // When
+        RosterPlanResponseDto result = shiftRosterService.planRoster(request(MONDAY, MONDAY.plusDays(1), null,
+            requirement("Waiter", 2)));
+
+        // Then
+        assertThat(result.getRequiredShifts()).isEqualTo(4);
+        assertThat(result.getAssignedShifts()).isEqualTo(3);
+        assertThat(result.getShortages()).hasSize(1);
+        assertThat(result.getShortages().get(0).getStartAt()).isEqualTo(MONDAY.atTime(8, 0));
+        assertThat(result.getShortages().get(0).getAssigned()).isEqualTo(1);
+        assertThat(result.getAssignments())
+            .filteredOn(a -> a.getStartAt().toLocalDate().equals(MONDAY))
+            .extracting(RosterAssignmentDto::getEmployeeId)
+            .containsExactly(2L);
+        assertThat(result.isPersisted()).isFalse();
+    }
+
+    @Test
+    void planRoster_ShouldSkipDaysCoveredByTraining() {
+        // Given
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE)).thenReturn(List.of(employee(1L, "Cook")));
+        when(employeeTrainingRepository.findTrainingRangesByStatusesOverlapping(any(), any(), any()))
+            .thenReturn(rows(new Object[] { 1L, MONDAY.plusDays(1), MONDAY.plusDays(1) }));
+
+        // When
+        RosterPlanResponseDto result = shiftRosterService.planRoster(request(MONDAY, MONDAY.plusDays(2), null,
+            requirement("Cook", 1)));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(a -> a.getStartAt().toLocalDate())
+            .containsExactly(MONDAY, MONDAY.plusDays(2));
+        assertThat(result.getShortages()).hasSize(1);
+    }
+
+    @Test
+    void planRoster_ShouldRespectMaxHoursPerWeekIncludingExistingShifts() {
+        // Given - 8h already scheduled on Monday
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE)).thenReturn(List.of(employee(1L, "Waiter")));
+        when(shiftRepository.findShiftWindowsOverlapping(any(), any()))
+            .thenReturn(rows(new Object[] { 1L, MONDAY.atTime(8, 0), MONDAY.atTime(16, 0) }));
+
+        // When
+        RosterPlanResponseDto result = shiftRosterService.planRoster(request(MONDAY, MONDAY.plusDays(3), 24,
+            requirement("Waiter", 1)));
+
+        // Then - Monday is taken, and only two more 8h shifts fit into 24h
+        assertThat(result.getAssignedShifts()).isEqualTo(2);
+        assertThat(result.getAssignments()).extracting(a -> a.getStartAt().toLocalDate())
+            .doesNotContain(MONDAY);
+        assertThat(result.getShortages()).hasSize(2);
+    }
+
+    @Test
+    void planRoster_ShouldOnlyAssignMatchingJobTitle() {
+        // Given
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE))
+            .thenReturn(List.of(employee(1L, "Waiter"), employee(2L, "cook ")));
+
+        // When
+        RosterPlanResponseDto result = shiftRosterService.planRoster(request(MONDAY, MONDAY, null,
+            requirement("Cook", 1), requirement("Receptionist", 1)));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(RosterAssignmentDto::getEmployeeId).containsExactly(2L);
+        assertThat(result.getShortages()).extracting(s -> s.getJobTitle()).containsExactly("Receptionist");
+    }
+
+    @Test
+    void planRoster_ShouldOnlyPlanRequestedDaysOfWeek() {
+        // Given
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE)).thenReturn(List.of(employee(1L, "Waiter")));
+        RosterRequirementDto weekend = requirement("Waiter", 1);
+        weekend.setDaysOfWeek(Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+        // When
+        RosterPlanResponseDto result = shiftRosterService.planRoster(request(MONDAY, MONDAY.plusDays(6), null, weekend));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(a -> a.getStartAt().toLocalDate())
+            .containsExactly(MONDAY.plusDays(5), MONDAY.plusDays(6));
+    }
+
+    @Test
+    void planRoster_WithLargeMonth_ShouldSpreadLoadAndFillCoverage() {
+        // Given - 200 employees over 4 job titles, 31 days
+        List<Employee> employees = new ArrayList<>();
+        String[] titles = { "Waiter", "Cook", "Housekeeper", "Receptionist" };
+        for (long id = 1; id <= 200; id++) {
+            employees.add(employee(id, titles[(int) (id % titles.length)]));
+        }
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE)).thenReturn(employees);
+
+        // When
+        RosterPlanResponseDto result = shiftRosterService.planRoster(request(MONDAY, MONDAY.plusDays(30), 40,
+            requirement("Waiter", 20), requirement("Cook", 20), requirement("Housekeeper", 20), requirement("Receptionist", 20)));
+
+        // Then - 50 per title, 8h shifts, max 5 per week: 20 per day fits
+        assertThat(result.getEmployeesConsidered()).isEqualTo(200);
+        assertThat(result.getShortages()).isEmpty();
+        assertThat(result.getAssignedShifts()).isEqualTo(31 * 80);
+    }
+
+    // ========== APPLY TESTS ==========
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyRoster_ShouldSaveAllAssignmentsAsShifts() {
+        // Given
+        LocalDate start = LocalDate.now().plusDays(7);
+        when(employeeRepository.findByStatus(EmployeeStatus.ACTIVE)).thenReturn(List.of(employee(1L, "Waiter")));
+        when(userRepository.getReferenceById(1L)).thenReturn(user(1L));
+
+        // When
+        RosterPlanResponseDto result = shiftRosterService.applyRoster(request(start, start.plusDays(1), null,
+            requirement("Waiter", 1)));
+
+        // Then
+        ArgumentCaptor<List<Shift>> captor = ArgumentCaptor.forClass(List.class);
+        verify(shiftRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0).getEndAt()).isEqualTo(captor.getValue().get(0).getStartAt().plusHours(8));
+        assertThat(result.isPersisted()).isTrue();
+    }
+
+    @Test
+    void applyRoster_StartingInThePast_ShouldThrowBusinessRuleException() {
+        LocalDate start = LocalDate.now().minusDays(1);
+
+        assertThatThrownBy(() -> shiftRosterService.applyRoster(request(start, start.plusDays(1), null,
+                requirement("Waiter", 1))))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Cannot apply a roster starting in the past");
+        verify(shiftRepository, never()).saveAll(any());
+    }
+
+    // ========== VALIDATION TESTS ==========
+
+    @Test
+    void planRoster_WithEndBeforeStart_ShouldThrowBusinessRuleException() {
+        assertThatThrownBy(() -> shiftRosterService.planRoster(request(MONDAY, MONDAY.minusDays(1), null,
+                requirement("Waiter", 1))))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Roster end date cannot be before start date");
+    }
+
+    @Test
+    void planRoster_WithTooLongPeriod_ShouldThrowBusinessRuleException() {
+        assertThatThrownBy(() -> shiftRosterService.planRoster(request(MONDAY, MONDAY.plusDays(100), null,
+                requirement("Waiter", 1))))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Roster period cannot exceed 93 days");
+    }
+
+    // ========== SOLVER TESTS ==========
+
+    @Test
+    void solvePartition_ShouldFillScarcestSlotFirst() {
+        // Candidate 0 is only free on day 0, candidate 1 on both days; day 0 and day 1 need one each
+        BitSet onlyDayZero = new BitSet();
+        onlyDayZero.set(1);
+        List<ShiftRosterSolver.Candidate> candidates = List.of(
+            new ShiftRosterSolver.Candidate(10L, "Waiter", onlyDayZero, new int[1]),
+            new ShiftRosterSolver.Candidate(11L, "Waiter", new BitSet(), new int[1]));
+        List<ShiftRosterSolver.Slot> slots = List.of(
+            new ShiftRosterSolver.Slot(0, 0, "Waiter", 8, 1),
+            new ShiftRosterSolver.Slot(1, 1, "Waiter", 8, 1));
+
+        ShiftRosterSolver.Result result = new ShiftRosterSolver(1).solve(candidates, slots, 2, 0, 40);
+
+        assertThat(result.getShortages()).isEmpty();
+        assertThat(result.getAssignments()).hasSize(2);
+        assertThat(result.getAssignments())
+            .filteredOn(a -> a.getSlot().getDay() == 1)
+            .extracting(ShiftRosterSolver.Assignment::getEmployeeId)
+            .containsExactly(11L);
+    }
+
+    // ========== HELPERS ==========
+
+    private Employee employee(Long id, String jobTitle) {
+        Employee employee = new Employee();
+        employee.setUserId(id);
+        employee.setUser(user(id));
+        employee.setJobTitle(jobTitle);
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        return employee;
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private RosterRequirementDto requirement(String jobTitle, int count) {
+        return new RosterRequirementDto(jobTitle, LocalTime.of(8, 0), 8, count, null);
+    }
+
+    private RosterPlanRequestDto request(LocalDate start, LocalDate end, Integer maxHours, RosterRequirementDto... requirements) {
+        return new RosterPlanRequestDto(start, end, maxHours, List.of(requirements));
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
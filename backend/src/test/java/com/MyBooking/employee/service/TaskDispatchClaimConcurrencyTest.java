@@ -0,0 +1,111 @@
+package com.MyBooking.employee.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.employee.domain.Employee;
+import com.MyBooking.employee.domain.EmployeeStatus;
+import com.MyBooking.employee.domain.EmployeeTask;
+import com.MyBooking.employee.repository.EmployeeTaskRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Concurrent claims by one employee against a real (H2) database: the open-task limit must hold
+ */
+class TaskDispatchClaimConcurrencyTest {
+
+    private static final int LIMIT = 3;
+    private static final int CLAIMERS = 8;
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskDispatchService taskDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE employee (user_id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE employee_task (id BIGINT PRIMARY KEY, status VARCHAR(16), queue VARCHAR(100), " +
+            "due_at TIMESTAMP, employee_user_id BIGINT, assigned_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO employee VALUES (1)");
+        for (long id = 1; id <= 10; id++) {
+            jdbcTemplate.update("INSERT INTO employee_task (id, status, queue, due_at) VALUES (?, 'TODO', 'Housekeeper', " +
+                "DATEADD('MINUTE', ?, CURRENT_TIMESTAMP))", id, id);
+        }
+
+        Employee employee = new Employee();
+        employee.setUserId(1L);
+        employee.setJobTitle("Housekeeper");
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        EmployeeService employeeService = mock(EmployeeService.class);
+        when(employeeService.getEmployeeByUserId(1L)).thenReturn(employee);
+        when(employeeService.isEmployeeAvailableForTask(1L)).thenReturn(true);
+        EmployeeTaskRepository employeeTaskRepository = mock(EmployeeTaskRepository.class);
+        when(employeeTaskRepository.findById(anyLong())).thenAnswer(invocation -> {
+            EmployeeTask task = new EmployeeTask();
+            task.setId(invocation.getArgument(0));
+            return Optional.of(task);
+        });
+
+        taskDispatchService = new TaskDispatchService();
+        ReflectionTestUtils.setField(taskDispatchService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(taskDispatchService, "transactionManager", new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(taskDispatchService, "employeeService", employeeService);
+        ReflectionTestUtils.setField(taskDispatchService, "employeeTaskRepository", employeeTaskRepository);
+        ReflectionTestUtils.setField(taskDispatchService, "maxOpenTasksPerEmployee", LIMIT);
+    }
+
+    @Test
+    void claimNextTask_ConcurrentClaimsBySameEmployee_ShouldStayWithinOpenTaskLimit() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EmployeeTask>> claims = new ArrayList<>();
+        for (int i = 0; i < CLAIMERS; i++) {
+            claims.add(executor.submit(() -> {
+                start.await();
+                return taskDispatchService.claimNextTask(1L, "Housekeeper");
+            }));
+        }
+
+        // When
+        start.countDown();
+        int claimed = 0;
+        int refused = 0;
+        for (Future<EmployeeTask> claim : claims) {
+            try {
+                claim.get(30, TimeUnit.SECONDS);
+                claimed++;
+            } catch (java.util.concurrent.ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(BusinessRuleException.class)
+                    .hasMessage("Employee already has " + LIMIT + " open tasks");
+                refused++;
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(claimed).isEqualTo(LIMIT);
+        assertThat(refused).isEqualTo(CLAIMERS - LIMIT);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_task WHERE employee_user_id = 1", Long.class))
+            .isEqualTo(LIMIT);
+    }
+}
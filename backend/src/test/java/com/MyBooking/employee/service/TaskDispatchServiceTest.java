@@ -0,0 +1,244 @@
+package com.MyBooking.employee.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.employee.domain.Employee;
+import com.MyBooking.employee.domain.EmployeeStatus;
+import com.MyBooking.employee.domain.EmployeeTask;
+import com.MyBooking.employee.domain.TaskPriority;
+import com.MyBooking.employee.dto.TaskDispatchResultDto;
+import com.MyBooking.employee.dto.TaskEnqueueItemDto;
+import com.MyBooking.employee.dto.TaskEnqueueRequestDto;
+import com.MyBooking.employee.repository.EmployeeTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskDispatchServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeAvailabilityService employeeAvailabilityService;
+
+    @Mock
+    private EmployeeTaskRepository employeeTaskRepository;
+
+    @InjectMocks
+    private TaskDispatchService taskDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    // ========== BUFFER TESTS ==========
+
+    @Test
+    void dispatchQueue_ShouldPollByDeadlineThenId() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        TaskDispatchQueue queue = new TaskDispatchQueue("Housekeeper");
+        queue.offer(3L, now.plusMinutes(240));
+        queue.offer(2L, now.plusMinutes(30));
+        queue.offer(1L, now.plusMinutes(240));
+        queue.offer(2L, now.plusMinutes(30));
+
+        // When / Then
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll().getTaskId()).isEqualTo(2L);
+        assertThat(queue.poll().getTaskId()).isEqualTo(1L);
+        assertThat(queue.poll().getTaskId()).isEqualTo(3L);
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    void dispatchQueue_RemoveAll_ShouldDropClaimedTasks() {
+        TaskDispatchQueue queue = new TaskDispatchQueue("Housekeeper");
+        queue.offer(1L, LocalDateTime.now());
+        queue.offer(2L, LocalDateTime.now());
+
+        queue.removeAll(List.of(1L));
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.poll().getTaskId()).isEqualTo(2L);
+    }
+
+    // ========== ENQUEUE TESTS ==========
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueTasks_ShouldBatchInsertWithPrioritySlaDeadline() {
+        // Given
+        TaskEnqueueRequestDto request = new TaskEnqueueRequestDto(" Housekeeper@Floor-3 ", TaskPriority.URGENT,
+            List.of(new TaskEnqueueItemDto("Clean room 301", null), new TaskEnqueueItemDto("Clean room 302", "Late checkout")));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        TaskDispatchResultDto result = taskDispatchService.enqueueTasks(request);
+
+        // Then
+        assertThat(result.getEnqueued()).isEqualTo(2);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO employee_task"), rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        Object[] first = rows.getValue().get(0);
+        assertThat(first[2]).isEqualTo("Housekeeper@Floor-3");
+        assertThat(first[3]).isEqualTo("URGENT");
+        assertThat(((Timestamp) first[4]).toLocalDateTime()).isAfterOrEqualTo(before.plusMinutes(30));
+        verify(jdbcTemplate).query(contains("ORDER BY due_at, id LIMIT ?"), any(RowCallbackHandler.class),
+            eq("Housekeeper@Floor-3"), eq(200));
+    }
+
+    @Test
+    void enqueueTasks_WithBlankQueue_ShouldThrowBusinessRuleException() {
+        TaskEnqueueRequestDto request = new TaskEnqueueRequestDto(" ", null, List.of(new TaskEnqueueItemDto("Task", null)));
+
+        assertThatThrownBy(() -> taskDispatchService.enqueueTasks(request))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Queue is required");
+    }
+
+    // ========== CLAIM TESTS ==========
+
+    @Test
+    void claimNextTask_ShouldSkipTasksClaimedElsewhere() {
+        // Given
+        givenEmployee(1L, "Housekeeper");
+        when(jdbcTemplate.queryForObject(contains("COUNT(*)"), eq(Long.class), eq(1L))).thenReturn(0L);
+        taskDispatchService.buffer("Housekeeper").offer(10L, LocalDateTime.now().plusMinutes(30));
+        taskDispatchService.buffer("Housekeeper").offer(11L, LocalDateTime.now().plusMinutes(60));
+        when(jdbcTemplate.update(startsWith("UPDATE employee_task SET employee_user_id"), eq(1L), any(), any(), eq(10L)))
+            .thenReturn(0);
+        when(jdbcTemplate.update(startsWith("UPDATE employee_task SET employee_user_id"), eq(1L), any(), any(), eq(11L)))
+            .thenReturn(1);
+        EmployeeTask task = new EmployeeTask();
+        task.setId(11L);
+        when(employeeTaskRepository.findById(11L)).thenReturn(Optional.of(task));
+
+        // When
+        EmployeeTask claimed = taskDispatchService.claimNextTask(1L, "Housekeeper");
+
+        // Then
+        assertThat(claimed.getId()).isEqualTo(11L);
+        assertThat(taskDispatchService.buffer("Housekeeper").isEmpty()).isTrue();
+    }
+
+    @Test
+    void claimNextTask_WithOtherSkill_ShouldThrowBusinessRuleException() {
+        givenEmployee(1L, "Cook");
+
+        assertThatThrownBy(() -> taskDispatchService.claimNextTask(1L, "Housekeeper@Floor-3"))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Employee cannot take tasks from queue Housekeeper@Floor-3");
+    }
+
+    @Test
+    void claimNextTask_AtOpenTaskLimit_ShouldThrowBusinessRuleException() {
+        givenEmployee(1L, "Housekeeper");
+        when(jdbcTemplate.queryForObject(contains("COUNT(*)"), eq(Long.class), eq(1L))).thenReturn(8L);
+
+        assertThatThrownBy(() -> taskDispatchService.claimNextTask(1L, "Housekeeper"))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Employee already has 8 open tasks");
+    }
+
+    @Test
+    void claimNextTask_WithEmptyQueue_ShouldThrowNotFoundException() {
+        givenEmployee(1L, "Housekeeper");
+        when(jdbcTemplate.queryForObject(contains("COUNT(*)"), eq(Long.class), eq(1L))).thenReturn(0L);
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"), eq(Long.class), any(), any())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> taskDispatchService.claimNextTask(1L, "Housekeeper"))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("No waiting tasks in queue Housekeeper");
+    }
+
+    // ========== AUTO-ASSIGNMENT TESTS ==========
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void assignQueue_ShouldSpreadTasksOverLeastLoadedAvailableEmployees() {
+        // Given
+        LocalDate today = LocalDate.now();
+        EmployeeAvailabilityCalendar calendar = new EmployeeAvailabilityCalendar(today, today);
+        calendar.addEmployee(1L, "Housekeeper");
+        calendar.addEmployee(2L, "housekeeper ");
+        calendar.addEmployee(3L, "Housekeeper");
+        calendar.addEmployee(4L, "Cook");
+        calendar.markLeave(3L, today, today);
+        Map<Long, Integer> openLoad = new HashMap<>(Map.of(1L, 7, 2L, 5));
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"), eq(Long.class), eq("Housekeeper@Floor-3"), eq(4)))
+            .thenReturn(List.of(100L, 101L, 102L, 103L));
+
+        // When
+        int assigned = taskDispatchService.assignQueue("Housekeeper@Floor-3", calendar, today, openLoad);
+
+        // Then
+        assertThat(assigned).isEqualTo(4);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE employee_task SET employee_user_id"), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[0]).containsExactly(2L, 2L, 1L, 2L);
+        assertThat(openLoad).containsEntry(1L, 8).containsEntry(2L, 8).doesNotContainKey(3L);
+    }
+
+    @Test
+    void autoAssign_WithNoWaitingQueues_ShouldNotLoadCalendar() {
+        when(jdbcTemplate.queryForList(contains("DISTINCT queue"), eq(String.class))).thenReturn(List.of());
+
+        TaskDispatchResultDto result = taskDispatchService.autoAssign();
+
+        assertThat(result.getAssigned()).isZero();
+        verifyNoInteractions(employeeAvailabilityService);
+    }
+
+    // ========== SLA TESTS ==========
+
+    @Test
+    void markSlaBreaches_ShouldReportStampedTasks() {
+        when(jdbcTemplate.update(startsWith("UPDATE employee_task SET sla_breached_at"), (Object) any(), (Object) any()))
+            .thenReturn(3);
+
+        assertThat(taskDispatchService.markSlaBreaches().getSlaBreached()).isEqualTo(3);
+    }
+
+    private void givenEmployee(Long id, String jobTitle) {
+        Employee employee = new Employee();
+        employee.setUserId(id);
+        employee.setJobTitle(jobTitle);
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        when(employeeService.getEmployeeByUserId(id)).thenReturn(employee);
+        when(employeeService.isEmployeeAvailableForTask(id)).thenReturn(true);
+    }
+}
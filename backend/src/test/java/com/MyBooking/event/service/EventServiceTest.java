@@ -26,6 +26,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -276,7 +278,7 @@ class EventServiceTest {
             .hasMessageContaining("Event not found with ID: 999");
 
         verify(eventRepository).findById(999L);
-        verify(eventRepository, never()).delete(any());
+        verify(eventRepository, never()).delete(any(Event.class));
     }
 
     @Test
@@ -294,7 +296,7 @@ class EventServiceTest {
             .hasMessageContaining("Cannot delete events that start within 24 hours");
 
         verify(eventRepository).findById(1L);
-        verify(eventRepository, never()).delete(any());
+        verify(eventRepository, never()).delete(any(Event.class));
     }
 
     @Test
@@ -331,31 +333,42 @@ class EventServiceTest {
     @Test
     void isInstallationAvailable_WithNoConflicts_ShouldReturnTrue() {
         // Given
-        when(eventRepository.findByInstallationId(1L)).thenReturn(Collections.emptyList());
+        when(eventRepository.existsOverlappingEvent(1L, testStartTime, testEndTime)).thenReturn(false);
 
         // When
         boolean result = eventService.isInstallationAvailable(1L, testStartTime, testEndTime);
 
         // Then
         assertThat(result).isTrue();
-        verify(eventRepository).findByInstallationId(1L);
+        verify(eventRepository).existsOverlappingEvent(1L, testStartTime, testEndTime);
     }
 
     @Test
     void isInstallationAvailable_WithConflicts_ShouldReturnFalse() {
         // Given
-        Event conflictingEvent = new Event();
-        conflictingEvent.setStartAt(testStartTime.plusMinutes(30));
-        conflictingEvent.setEndAt(testEndTime.plusMinutes(30));
-
-        when(eventRepository.findByInstallationId(1L)).thenReturn(Arrays.asList(conflictingEvent));
+        when(eventRepository.existsOverlappingEvent(1L, testStartTime, testEndTime)).thenReturn(true);
 
         // When
         boolean result = eventService.isInstallationAvailable(1L, testStartTime, testEndTime);
 
         // Then
         assertThat(result).isFalse();
-        verify(eventRepository).findByInstallationId(1L);
+        verify(eventRepository, never()).findByInstallationId(anyLong());
+    }
+
+    @Test
+    void getAvailableInstallations_ShouldDelegateToSingleQuery() {
+        // Given
+        when(installationRepository.findAvailableForWindow(testStartTime, testEndTime, 50, InstallationType.CONFERENCE_ROOM))
+            .thenReturn(List.of(testInstallation));
+
+        // When
+        List<Installation> result = eventService.getAvailableInstallations(testStartTime, testEndTime, 50, InstallationType.CONFERENCE_ROOM);
+
+        // Then
+        assertThat(result).containsExactly(testInstallation);
+        verify(installationRepository, never()).findAll();
+        verify(eventRepository, never()).findByInstallationId(anyLong());
     }
 
     // ========== SEARCH & FILTERING TESTS ==========
@@ -366,9 +379,7 @@ class EventServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Event> expectedPage = new PageImpl<>(Arrays.asList(testEvent), pageable, 1);
 
-        when(eventRepository.findByCriteria("Team", EventType.CONFERENCE, 1L,
-            new BigDecimal("200.00"), new BigDecimal("300.00"), 15, "USD", pageable))
-            .thenReturn(expectedPage);
+        when(eventRepository.findAll(anyEventSpec(), eq(pageable))).thenReturn(expectedPage);
 
         // When
         Page<Event> result = eventService.searchEvents("Team", EventType.CONFERENCE, 1L,
@@ -379,8 +390,38 @@ class EventServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getName()).isEqualTo("Team Meeting");
 
-        verify(eventRepository).findByCriteria("Team", EventType.CONFERENCE, 1L,
-            new BigDecimal("200.00"), new BigDecimal("300.00"), 15, "USD", pageable);
+        verify(eventRepository).findAll(anyEventSpec(), eq(pageable));
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    void getEventsByDateRange_ShouldQueryByStartTimeOrderedByStart() {
+        // Given
+        when(eventRepository.findAll(anyEventSpec(), any(Sort.class))).thenReturn(List.of(testEvent));
+
+        // When
+        List<Event> result = eventService.getEventsByDateRange(testStartTime.minusDays(1), testStartTime.plusDays(1));
+
+        // Then
+        assertThat(result).containsExactly(testEvent);
+        verify(eventRepository).findAll(anyEventSpec(), eq(Sort.by("startAt").and(Sort.by("id"))));
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    void getEventsByInstallationType_WithPageable_ShouldPageInDatabase() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 5);
+        when(eventRepository.findAll(anyEventSpec(), eq(pageable)))
+            .thenReturn(new PageImpl<>(List.of(testEvent), pageable, 11));
+
+        // When
+        Page<Event> result = eventService.getEventsByInstallationType(InstallationType.CONFERENCE_ROOM, pageable);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(11);
+        assertThat(result.getContent()).containsExactly(testEvent);
+        verify(eventRepository, never()).findAll();
     }
 
     @Test
@@ -421,16 +462,30 @@ class EventServiceTest {
         Event futureEvent = new Event();
         futureEvent.setStartAt(LocalDateTime.now().plusDays(1));
 
-        when(eventRepository.findAll()).thenReturn(Arrays.asList(pastEvent, futureEvent, testEvent));
+        when(eventRepository.findAll(anyEventSpec(), any(Sort.class))).thenReturn(Arrays.asList(futureEvent, testEvent));
 
         // When
         List<Event> result = eventService.getUpcomingEvents();
 
         // Then
-        assertThat(result).hasSize(2); // Only future events
-        assertThat(result).allMatch(event -> !event.getStartAt().isBefore(LocalDateTime.now()));
+        assertThat(result).containsExactly(futureEvent, testEvent);
+        verify(eventRepository).findAll(anyEventSpec(), any(Sort.class));
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    void getUpcomingEvents_WithUnsortedPageable_ShouldSortByStartTime() {
+        // Given
+        when(eventRepository.findAll(anyEventSpec(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testEvent)));
 
-        verify(eventRepository).findAll();
+        // When
+        Page<Event> result = eventService.getUpcomingEvents(PageRequest.of(1, 20));
+
+        // Then
+        assertThat(result.getContent()).containsExactly(testEvent);
+        verify(eventRepository).findAll(anyEventSpec(),
+            eq(PageRequest.of(1, 20, Sort.by("startAt").and(Sort.by("id")))));
     }
 
     // ========== STATISTICS & ANALYTICS TESTS ==========
@@ -446,7 +501,10 @@ class EventServiceTest {
         futureEvent.setStartAt(LocalDateTime.now().plusDays(1));
         futureEvent.setPrice(new BigDecimal("200.00"));
 
-        when(eventRepository.findAll()).thenReturn(Arrays.asList(pastEvent, futureEvent, testEvent));
+        // [count, upcoming count, sum(price)] for pastEvent, futureEvent and testEvent
+        List<Object[]> summary = new java.util.ArrayList<>();
+        summary.add(new Object[] { 3L, 2L, new BigDecimal("530.00") });
+        when(eventRepository.getEventStatisticsSummary(any(LocalDateTime.class))).thenReturn(summary);
 
         // When
         EventService.EventStatistics result = eventService.getEventStatistics();
@@ -458,7 +516,7 @@ class EventServiceTest {
         assertThat(result.getTotalRevenue()).isEqualTo(new BigDecimal("530.00")); // 100 + 200 + 230
         assertThat(result.getAveragePrice()).isEqualTo(new BigDecimal("176.67"));
 
-        verify(eventRepository).findAll();
+        verify(eventRepository, never()).findAll();
     }
 
     @Test
@@ -472,7 +530,7 @@ class EventServiceTest {
         usdEvent2.setCurrency("USD");
         usdEvent2.setPrice(new BigDecimal("200.00"));
 
-        when(eventRepository.findByCurrency("USD")).thenReturn(Arrays.asList(usdEvent1, usdEvent2));
+        when(eventRepository.sumPriceByCurrency("USD")).thenReturn(usdEvent1.getPrice().add(usdEvent2.getPrice()));
 
         // When
         BigDecimal result = eventService.getRevenueByCurrency("USD");
@@ -480,7 +538,8 @@ class EventServiceTest {
         // Then
         assertThat(result).isEqualTo(new BigDecimal("300.00"));
 
-        verify(eventRepository).findByCurrency("USD");
+        verify(eventRepository).sumPriceByCurrency("USD");
+        verify(eventRepository, never()).findByCurrency("USD");
     }
 
     // ========== BUSINESS OPERATIONS TESTS ==========
@@ -511,4 +570,9 @@ class EventServiceTest {
         // Then
         assertThat(result).isEqualTo(new BigDecimal("0.00"));
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private static Specification<Event> anyEventSpec() {
+        return any(Specification.class);
+    }
+}
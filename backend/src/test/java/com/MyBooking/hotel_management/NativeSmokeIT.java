@@ -0,0 +1,224 @@
+package com.MyBooking.hotel_management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Smoke suite for the native executable, run by failsafe in the native profile (mvn -Pnative verify).
+ * <p>
+ * Starts the command in {@code smoke.command} on a free port with the startup and native profiles,
+ * against the database in {@code smoke.datasource.url} (default: the local Postgres of application.yml,
+ * already migrated or migrated by Flyway on boot), and exercises what depends on runtime hints: entity
+ * binding and persistence, BCrypt and jjwt, DTO serialization, springdoc. Prints the time until the
+ * first healthy response and the resident memory. With {@code smoke.command} set to
+ * {@code java -jar target/hotel-management-0.0.1-SNAPSHOT-exec.jar} it measures the JVM build instead.
+ * Skipped when {@code smoke.command} is not set.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeSmokeIT {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    private static final String EMAIL = "smoke-" + System.currentTimeMillis() + "@example.com";
+
+    private static final String PASSWORD = "Smoke123@";
+
+    private static Process process;
+
+    private static String baseUrl;
+
+    private static String token;
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        String command = System.getProperty("smoke.command", "");
+        assumeTrue(!command.isBlank(), "smoke.command not set");
+
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        List<String> arguments = new ArrayList<>(List.of(command.trim().split("\\s+")));
+        arguments.add("--server.port=" + port);
+        arguments.add("--spring.profiles.active=" + System.getProperty("smoke.profiles", "startup,native"));
+        for (String property : List.of("url", "username", "password")) {
+            String value = System.getProperty("smoke.datasource." + property);
+            if (value != null) {
+                arguments.add("--spring.datasource." + property + "=" + value);
+            }
+        }
+        File log = new File(System.getProperty("smoke.log", "target/native-smoke.log"));
+
+        long started = System.nanoTime();
+        process = new ProcessBuilder(arguments).redirectErrorStream(true).redirectOutput(log).start();
+        long deadline = started + TimeUnit.SECONDS.toNanos(Long.getLong("smoke.timeout-seconds", 180));
+        while (!isHealthy()) {
+            if (!process.isAlive() || System.nanoTime() > deadline) {
+                fail("Application did not become healthy, see " + log.getAbsolutePath());
+            }
+            Thread.sleep(20);
+        }
+        long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        System.out.println("Smoke: healthy after " + readyMillis + " ms, RSS " + residentMegabytes(process.pid())
+            + " MB (" + arguments.get(0) + ")");
+    }
+
+    @AfterAll
+    static void stopApplication() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    @Order(1)
+    void health_ShouldBeUp() throws Exception {
+        // When
+        HttpResponse<String> response = get("/actuator/health", null);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).path("status").asText()).isEqualTo("UP");
+    }
+
+    @Test
+    @Order(2)
+    void registerAndLogin_ShouldPersistUserAndIssueJwt() throws Exception {
+        // Given
+        String user = objectMapper.writeValueAsString(objectMapper.createObjectNode()
+            .put("firstName", "Smoke").put("lastName", "Test").put("email", EMAIL).put("password", PASSWORD)
+            .put("phone", "+33600000000").put("address", "1 Smoke Street").put("birthDate", "1990-01-01"));
+        String login = objectMapper.writeValueAsString(objectMapper.createObjectNode()
+            .put("email", EMAIL).put("password", PASSWORD));
+
+        // When
+        HttpResponse<String> registered = post("/api/auth/register", user);
+        HttpResponse<String> loggedIn = post("/api/auth/login", login);
+
+        // Then
+        assertThat(registered.statusCode()).isEqualTo(201);
+        assertThat(json(registered).path("email").asText()).isEqualTo(EMAIL);
+        assertThat(loggedIn.statusCode()).isEqualTo(200);
+        token = json(loggedIn).path("token").asText();
+        assertThat(token.split("\\.")).hasSize(3);
+    }
+
+    @Test
+    @Order(3)
+    void profile_WithToken_ShouldReturnUserDto() throws Exception {
+        // When
+        HttpResponse<String> response = get("/api/auth/profile", token);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).path("email").asText()).isEqualTo(EMAIL);
+        assertThat(json(response).has("password")).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    void rooms_ShouldReturnPageOfSummaries() throws Exception {
+        // When
+        HttpResponse<String> response = get("/api/rooms?page=0&size=5", token);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).path("content").isArray()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    void apiDocs_ShouldRequireAuthenticationAndDescribeTheApi() throws Exception {
+        // When
+        HttpResponse<String> anonymous = get("/v3/api-docs", null);
+        HttpResponse<String> authenticated = get("/v3/api-docs", token);
+        HttpResponse<String> swaggerUi = get("/swagger-ui/index.html", token);
+
+        // Then
+        assertThat(anonymous.statusCode()).isIn(401, 403);
+        assertThat(authenticated.statusCode()).isEqualTo(200);
+        assertThat(json(authenticated).path("paths").has("/api/rooms")).isTrue();
+        assertThat(swaggerUi.statusCode()).isEqualTo(200);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static HttpResponse<String> get(String path, String bearer) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        return http.send(request.GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static boolean isHealthy() {
+        try {
+            return get("/actuator/health", null).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * VmRSS from /proc (Linux); -1 elsewhere
+     */
+    private static long residentMegabytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux
+        }
+        return -1;
+    }
+}
@@ -235,17 +235,16 @@ class InstallationServiceTest {
         LocalDateTime startDateTime = LocalDateTime.of(2024, 6, 16, 10, 0);
         LocalDateTime endDateTime = LocalDateTime.of(2024, 6, 16, 12, 0);
 
-        when(installationRepository.findById(installationId)).thenReturn(Optional.of(testInstallation));
-        when(eventRepository.findByInstallation(testInstallation)).thenReturn(Collections.emptyList());
-        when(eventRepository.checkEventAvailability(startDateTime, endDateTime)).thenReturn(Collections.emptyList());
+        when(installationRepository.findByIdWithoutEvents(installationId)).thenReturn(Optional.of(testInstallation));
+        when(eventRepository.existsOverlappingEvent(installationId, startDateTime, endDateTime)).thenReturn(false);
 
         // When
         boolean result = installationService.isInstallationAvailable(installationId, startDateTime, endDateTime);
 
         // Then
         assertThat(result).isTrue();
-        verify(installationRepository).findById(installationId);
-        verify(eventRepository).checkEventAvailability(startDateTime, endDateTime);
+        verify(installationRepository).findByIdWithoutEvents(installationId);
+        verify(eventRepository).existsOverlappingEvent(installationId, startDateTime, endDateTime);
     }
 
     @Test
@@ -255,17 +254,16 @@ class InstallationServiceTest {
         LocalDateTime startDateTime = LocalDateTime.of(2024, 6, 15, 10, 0);
         LocalDateTime endDateTime = LocalDateTime.of(2024, 6, 15, 12, 0);
 
-        when(installationRepository.findById(installationId)).thenReturn(Optional.of(testInstallation));
-        when(eventRepository.findByInstallation(testInstallation)).thenReturn(Arrays.asList(testEvent));
-        when(eventRepository.checkEventAvailability(startDateTime, endDateTime)).thenReturn(Arrays.asList(testEvent));
+        when(installationRepository.findByIdWithoutEvents(installationId)).thenReturn(Optional.of(testInstallation));
+        when(eventRepository.existsOverlappingEvent(installationId, startDateTime, endDateTime)).thenReturn(true);
 
         // When
         boolean result = installationService.isInstallationAvailable(installationId, startDateTime, endDateTime);
 
         // Then
         assertThat(result).isFalse();
-        verify(installationRepository).findById(installationId);
-        verify(eventRepository).checkEventAvailability(startDateTime, endDateTime);
+        verify(installationRepository).findByIdWithoutEvents(installationId);
+        verify(eventRepository).existsOverlappingEvent(installationId, startDateTime, endDateTime);
     }
 
     @Test
@@ -306,11 +304,8 @@ class InstallationServiceTest {
         Integer participants = 50;
         InstallationType installationType = InstallationType.CONFERENCE_ROOM;
 
-        List<Installation> suitableInstallations = Arrays.asList(testInstallation);
-        when(installationRepository.findSuitableForParticipants(participants)).thenReturn(suitableInstallations);
-        when(installationRepository.findById(testInstallation.getId())).thenReturn(Optional.of(testInstallation));
-        when(eventRepository.findByInstallation(testInstallation)).thenReturn(Collections.emptyList());
-        when(eventRepository.checkEventAvailability(startDateTime, endDateTime)).thenReturn(Collections.emptyList());
+        when(installationRepository.findAvailableForWindow(startDateTime, endDateTime, participants, installationType))
+                .thenReturn(Arrays.asList(testInstallation));
 
         // When
         List<Installation> result = installationService.findAvailableInstallations(startDateTime, endDateTime, participants, installationType);
@@ -319,7 +314,9 @@ class InstallationServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Grand Ballroom");
-        verify(installationRepository).findSuitableForParticipants(participants);
+        verify(installationRepository).findAvailableForWindow(startDateTime, endDateTime, participants, installationType);
+        verify(installationRepository, never()).findById(any());
+        verify(eventRepository, never()).checkEventAvailability(any(), any());
     }
 
     // ==================== PRICING & COST CALCULATION TESTS ====================
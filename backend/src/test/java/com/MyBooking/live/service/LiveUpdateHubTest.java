@@ -0,0 +1,165 @@
+package com.MyBooking.live.service;
+
+import com.MyBooking.common.events.DomainEvent;
+import com.MyBooking.live.dto.LiveStatsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LiveUpdateHubTest {
+
+    private LiveUpdateHub hub;
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    private boolean runInline = true;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LiveUpdateHub() {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return new RecordingEmitter();
+            }
+        };
+        Executor executor = task -> {
+            if (runInline) {
+                task.run();
+            } else {
+                pendingTasks.add(task);
+            }
+        };
+        ReflectionTestUtils.setField(hub, "objectMapper", new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(hub, "executor", executor);
+        ReflectionTestUtils.setField(hub, "bufferSize", 3);
+        ReflectionTestUtils.setField(hub, "replaySize", 5);
+    }
+
+    @Test
+    void onDomainEvent_ShouldReachOnlySubscribersOfThatTopic() {
+        // Given
+        RecordingEmitter rooms = (RecordingEmitter) hub.subscribe(1L, Set.of(DomainEvent.ROOMS), null);
+        RecordingEmitter reservations = (RecordingEmitter) hub.subscribe(2L, Set.of(DomainEvent.RESERVATIONS), null);
+
+        // When
+        hub.onDomainEvent(roomEvent(101L));
+
+        // Then
+        assertThat(rooms.names()).containsExactly(LiveUpdateHub.READY, "ROOM_STATUS_CHANGED");
+        assertThat(rooms.frames.get(1)).contains("\"roomId\":101").contains("\"topic\":\"rooms\"");
+        assertThat(reservations.names()).containsExactly(LiveUpdateHub.READY);
+        assertThat(hub.getStats().getPublished()).isEqualTo(1);
+        assertThat(hub.getStats().getDelivered()).isEqualTo(3);
+    }
+
+    @Test
+    void onDomainEvent_WhenClientFallsBehind_ShouldDropBacklogForOneResync() {
+        // Given
+        RecordingEmitter slow = (RecordingEmitter) hub.subscribe(1L, Set.of(DomainEvent.ROOMS), null);
+        runInline = false;
+
+        // When
+        for (long roomId = 1; roomId <= 5; roomId++) {
+            hub.onDomainEvent(roomEvent(roomId));
+        }
+        new ArrayList<>(pendingTasks).forEach(Runnable::run);
+
+        // Then
+        assertThat(slow.names()).containsExactly(LiveUpdateHub.READY, LiveUpdateHub.RESYNC, "ROOM_STATUS_CHANGED");
+        assertThat(slow.frames.get(2)).contains("\"roomId\":5");
+        LiveStatsDto stats = hub.getStats();
+        assertThat(stats.getOverflows()).isEqualTo(1);
+        assertThat(stats.getBuffered()).isZero();
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayMissedEventsOrAskForResync() {
+        // Given
+        RecordingEmitter first = (RecordingEmitter) hub.subscribe(1L, Set.of(DomainEvent.ROOMS), null);
+        hub.onDomainEvent(roomEvent(1L));
+        long seen = first.ids.get(1);
+        hub.onDomainEvent(roomEvent(2L));
+        hub.onDomainEvent(new DomainEvent(DomainEvent.RESERVATIONS, "RESERVATION_CREATED", 9L, Map.of("reservationId", 9L)));
+        hub.onDomainEvent(roomEvent(3L));
+
+        // When
+        RecordingEmitter reconnected = (RecordingEmitter) hub.subscribe(1L, Set.of(DomainEvent.ROOMS), seen);
+        RecordingEmitter stale = (RecordingEmitter) hub.subscribe(1L, Set.of(DomainEvent.ROOMS), seen - 100);
+
+        // Then
+        assertThat(reconnected.names()).containsExactly(LiveUpdateHub.READY, "ROOM_STATUS_CHANGED", "ROOM_STATUS_CHANGED");
+        assertThat(reconnected.frames.get(1)).contains("\"roomId\":2");
+        assertThat(reconnected.frames.get(2)).contains("\"roomId\":3");
+        assertThat(stale.names()).containsExactly(LiveUpdateHub.READY, LiveUpdateHub.RESYNC);
+    }
+
+    @Test
+    void drain_WhenClientIsGone_ShouldUnsubscribeIt() {
+        // Given
+        RecordingEmitter gone = (RecordingEmitter) hub.subscribe(1L, Set.of(DomainEvent.ROOMS), null);
+        gone.failing = true;
+
+        // When
+        hub.onDomainEvent(roomEvent(1L));
+        hub.onDomainEvent(roomEvent(2L));
+
+        // Then
+        assertThat(hub.getStats().getSubscribers()).isZero();
+        assertThat(gone.completed).isTrue();
+    }
+
+    private static DomainEvent roomEvent(Long roomId) {
+        return new DomainEvent(DomainEvent.ROOMS, "ROOM_STATUS_CHANGED", roomId, Map.of("roomId", roomId, "status", "OCCUPIED"));
+    }
+
+    /**
+     * Emitter that records what would be written to the response
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new ArrayList<>();
+        private final List<Long> ids = new ArrayList<>();
+        private boolean failing;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder frame = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                frame.append(part.getData());
+            }
+            String text = frame.toString();
+            frames.add(text);
+            ids.add(text.startsWith("id:") ? Long.parseLong(text.substring(3, text.indexOf('\n'))) : null);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (String frame : frames) {
+                int start = frame.indexOf("event:");
+                names.add(start < 0 ? null : frame.substring(start + 6, frame.indexOf('\n', start)));
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.MyBooking.loyalty.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.loyalty.domain.LoyaltyTier;
+import com.MyBooking.loyalty.dto.LoyaltyBatchResultDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoyaltyBatchServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private LoyaltySnapshotCache loyaltySnapshotCache;
+
+    @InjectMocks
+    private LoyaltyBatchService loyaltyBatchService;
+
+    // ========== BUSINESS RULE TESTS ==========
+
+    @Test
+    void calculateExpiredPoints_WithUnconsumedOldEarns_ShouldExpireRemainder() {
+        // 1000 earned before cutoff, 300 redeemed since -> 700 still expirable
+        assertThat(loyaltyBatchService.calculateExpiredPoints(900, 1000, 300)).isEqualTo(700);
+    }
+
+    @Test
+    void calculateExpiredPoints_WhenConsumptionCoversOldEarns_ShouldExpireNothing() {
+        assertThat(loyaltyBatchService.calculateExpiredPoints(500, 1000, 1000)).isZero();
+        assertThat(loyaltyBatchService.calculateExpiredPoints(500, 1000, 1500)).isZero();
+    }
+
+    @Test
+    void calculateExpiredPoints_ShouldNeverExceedBalance() {
+        assertThat(loyaltyBatchService.calculateExpiredPoints(200, 1000, 0)).isEqualTo(200);
+        assertThat(loyaltyBatchService.calculateExpiredPoints(0, 1000, 0)).isZero();
+    }
+
+    @Test
+    void resolveTier_ShouldUseConfiguredThresholds() {
+        assertThat(loyaltyBatchService.resolveTier(0)).isEqualTo(LoyaltyTier.SILVER);
+        assertThat(loyaltyBatchService.resolveTier(4999)).isEqualTo(LoyaltyTier.SILVER);
+        assertThat(loyaltyBatchService.resolveTier(5000)).isEqualTo(LoyaltyTier.GOLD);
+        assertThat(loyaltyBatchService.resolveTier(20000)).isEqualTo(LoyaltyTier.PLATINUM);
+    }
+
+    // ========== PLANNING TESTS ==========
+
+    @Test
+    void planRanges_ShouldSplitAccountIdSpaceIntoHalfOpenChunks() {
+        // Given
+        ReflectionTestUtils.setField(loyaltyBatchService, "chunkSize", 10);
+        when(jdbcTemplate.queryForObject("SELECT MIN(id) FROM loyalty_account", Long.class)).thenReturn(1L);
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM loyalty_account", Long.class)).thenReturn(25L);
+
+        // When
+        List<long[]> ranges = loyaltyBatchService.planRanges();
+
+        // Then
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0)).containsExactly(1L, 11L);
+        assertThat(ranges.get(1)).containsExactly(11L, 21L);
+        assertThat(ranges.get(2)).containsExactly(21L, 26L);
+    }
+
+    @Test
+    void planRanges_WithNoAccounts_ShouldReturnEmpty() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(null);
+
+        assertThat(loyaltyBatchService.planRanges()).isEmpty();
+    }
+
+    // ========== RUN TESTS ==========
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void runExpiryAndTiering_ShouldSkipChunksAlreadyCheckpointed() {
+        // Given
+        ReflectionTestUtils.setField(loyaltyBatchService, "chunkSize", 10);
+        when(jdbcTemplate.queryForObject("SELECT MIN(id) FROM loyalty_account", Long.class)).thenReturn(1L);
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM loyalty_account", Long.class)).thenReturn(20L);
+        when(jdbcTemplate.query(contains("loyalty_batch_checkpoint"), any(RowMapper.class), eq("expiry-tier:2026-01-01")))
+            .thenReturn(List.of(new long[] { 1L, 11L }));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any()))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        LoyaltyBatchResultDto result = loyaltyBatchService.runExpiryAndTiering(LocalDate.of(2026, 1, 1));
+
+        // Then
+        assertThat(result.getRunKey()).isEqualTo("expiry-tier:2026-01-01");
+        assertThat(result.getTotalChunks()).isEqualTo(2);
+        assertThat(result.getSkippedChunks()).isEqualTo(1);
+        assertThat(result.getProcessedChunks()).isEqualTo(1);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), any(), any(), eq(11L), eq(21L));
+        verify(jdbcTemplate).update(contains("loyalty_batch_checkpoint"),
+            eq("expiry-tier:2026-01-01"), eq(11L), eq(21L), eq(0L), eq(0L), any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(loyaltySnapshotCache).invalidateAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void runExpiryAndTiering_WhenLastRangeGrewSinceFailedRun_ShouldProcessOnlyTheNewAccounts() {
+        // Given - the failed run checkpointed [1, 6) while MAX(id) was 5; accounts up to 8 were created since
+        ReflectionTestUtils.setField(loyaltyBatchService, "chunkSize", 10);
+        when(jdbcTemplate.queryForObject("SELECT MIN(id) FROM loyalty_account", Long.class)).thenReturn(1L);
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM loyalty_account", Long.class)).thenReturn(8L);
+        when(jdbcTemplate.query(contains("loyalty_batch_checkpoint"), any(RowMapper.class), eq("expiry-tier:2026-01-01")))
+            .thenReturn(List.of(new long[] { 1L, 6L }));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any()))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        LoyaltyBatchResultDto result = loyaltyBatchService.runExpiryAndTiering(LocalDate.of(2026, 1, 1));
+
+        // Then
+        assertThat(result.getSkippedChunks()).isZero();
+        assertThat(result.getProcessedChunks()).isEqualTo(1);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), any(), any(), eq(6L), eq(9L));
+        verify(jdbcTemplate).update(contains("loyalty_batch_checkpoint"),
+            eq("expiry-tier:2026-01-01"), eq(6L), eq(9L), eq(0L), eq(0L), any());
+    }
+
+    @Test
+    void pendingRanges_ShouldSkipIdsCoveredByCheckpointsFromShiftedRanges() {
+        // Given - checkpoints planned from MIN(id) = 1, resumed after MIN(id) moved to 3
+        NavigableMap<Long, Long> completed = new TreeMap<>(Map.of(1L, 11L, 21L, 25L));
+
+        // When
+        List<long[]> firstRange = loyaltyBatchService.pendingRanges(new long[] { 3L, 13L }, completed);
+        List<long[]> secondRange = loyaltyBatchService.pendingRanges(new long[] { 13L, 23L }, completed);
+
+        // Then
+        assertThat(firstRange).containsExactly(new long[] { 11L, 13L });
+        assertThat(secondRange).containsExactly(new long[] { 13L, 21L });
+    }
+
+    @Test
+    void runExpiryAndTiering_WithNullDate_ShouldThrowBusinessRuleException() {
+        assertThatThrownBy(() -> loyaltyBatchService.runExpiryAndTiering(null))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("As-of date is required");
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -51,6 +52,9 @@ class LoyaltyServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Spy
+    private LoyaltySnapshotCache loyaltySnapshotCache = new LoyaltySnapshotCache();
+
     @InjectMocks
     private LoyaltyService loyaltyService;
 
@@ -414,6 +418,46 @@ class LoyaltyServiceTest {
         assertThat(result).isEqualTo(5000);
     }
 
+    // ========== CHECKOUT SNAPSHOT TESTS ==========
+
+    @Test
+    void getLoyaltySnapshot_CalledRepeatedly_ShouldLoadAccountOnce() {
+        // Given
+        testAccount.setBalance(8000);
+        when(loyaltyAccountRepository.findByUserId(1L)).thenReturn(Optional.of(testAccount));
+
+        // When
+        Integer maxPoints = loyaltyService.calculateMaxRedeemablePoints(1L, new BigDecimal("50.00"));
+        loyaltyService.validateReservationPointsRedemption(1L, 500, new BigDecimal("50.00"));
+        LoyaltySnapshotCache.LoyaltySnapshot snapshot = loyaltyService.getLoyaltySnapshot(1L);
+
+        // Then
+        assertThat(maxPoints).isEqualTo(5000);
+        assertThat(snapshot.getBalance()).isEqualTo(8000);
+        assertThat(snapshot.getAccountId()).isEqualTo(1L);
+        assertThat(snapshot.getRedeemableCap()).isEqualTo(8000);
+        verify(loyaltyAccountRepository, times(1)).findByUserId(1L);
+    }
+
+    @Test
+    void redeemPoints_AfterSnapshot_ShouldLoadByIdAndInvalidateSnapshot() {
+        // Given
+        when(loyaltyAccountRepository.findByUserId(1L)).thenReturn(Optional.of(testAccount));
+        when(loyaltyAccountRepository.findById(1L)).thenReturn(Optional.of(testAccount));
+        when(loyaltyTransactionRepository.save(any(LoyaltyTransaction.class))).thenReturn(testTransaction);
+        when(loyaltyAccountRepository.save(any(LoyaltyAccount.class))).thenReturn(testAccount);
+        loyaltyService.getLoyaltySnapshot(1L);
+
+        // When
+        loyaltyService.redeemPoints(1L, 100, "Test redemption");
+
+        // Then
+        assertThat(loyaltySnapshotCache.get(1L)).isNull();
+        assertThat(loyaltySnapshotCache.getAccountId(1L)).isEqualTo(1L);
+        verify(loyaltyAccountRepository, times(1)).findByUserId(1L);
+        verify(loyaltyAccountRepository).findById(1L);
+    }
+
     // ========== RESERVATION INTEGRATION TESTS ==========
 
     @Test
@@ -0,0 +1,188 @@
+package com.MyBooking.notification.service;
+
+import com.MyBooking.notification.domain.NotificationChannelType;
+import com.MyBooking.notification.dto.NotificationDispatchStatsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationPreferenceCache preferenceCache;
+
+    @Mock
+    private NotificationChannel channel;
+
+    private NotificationDispatcher dispatcher;
+
+    private final Map<Long, NotificationPreferenceCache.UserChannels> preferences = new HashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        dispatcher = new NotificationDispatcher(20000);
+        ReflectionTestUtils.setField(dispatcher, "preferenceCache", preferenceCache);
+        ReflectionTestUtils.setField(dispatcher, "channels", List.of(channel));
+        ReflectionTestUtils.setField(dispatcher, "backoffMs", 0L);
+        when(channel.supports(any())).thenReturn(true);
+        when(preferenceCache.getAll(anyCollection())).thenAnswer(invocation -> {
+            Map<Long, NotificationPreferenceCache.UserChannels> result = new HashMap<>();
+            for (Long userId : (Collection<Long>) invocation.getArgument(0)) {
+                result.put(userId, preferences.getOrDefault(userId, new NotificationPreferenceCache.UserChannels(Map.of())));
+            }
+            return result;
+        });
+    }
+
+    @Test
+    void coalesce_ShouldMergeBurstIntoDigestAndKeepLatestOfSameReference() {
+        // Given
+        List<NotificationMessage> burst = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            burst.add(announcement(1L, i, "Notice " + i));
+        }
+        burst.add(announcement(1L, 3, "Notice 3 (edited)"));
+        burst.add(announcement(2L, 1, "Notice 1"));
+
+        // When
+        List<NotificationMessage> result = dispatcher.coalesce(burst);
+
+        // Then
+        assertThat(result).hasSize(2);
+        NotificationMessage digest = result.get(0);
+        assertThat(digest.getUserId()).isEqualTo(1L);
+        assertThat(digest.isDigest()).isTrue();
+        assertThat(digest.getSourceCount()).isEqualTo(5);
+        assertThat(digest.getTitle()).isEqualTo("5 new announcement notifications");
+        assertThat(digest.getBody()).contains("- Notice 3 (edited)").doesNotContain("- Notice 3\n");
+        assertThat(result.get(1).isDigest()).isFalse();
+        assertThat(dispatcher.getStats().getCoalesced()).isEqualTo(5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldDeliverPerEnabledChannelAndSkipUsersWhoOptedOut() throws Exception {
+        // Given
+        preferences.put(1L, channels(EnumSet.of(NotificationChannelType.EMAIL, NotificationChannelType.PUSH)));
+        preferences.put(2L, channels(EnumSet.noneOf(NotificationChannelType.class)));
+        dispatcher.submitAll(List.of(announcement(1L, 1, "A"), announcement(2L, 1, "A"), announcement(3L, 1, "A")));
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        ArgumentCaptor<List<NotificationMessage>> pushBatch = ArgumentCaptor.forClass(List.class);
+        verify(channel).deliver(eq(NotificationChannelType.PUSH), pushBatch.capture());
+        assertThat(pushBatch.getValue()).extracting(NotificationMessage::getUserId).containsExactly(1L, 3L);
+        verify(channel).deliver(eq(NotificationChannelType.EMAIL), argThat(batch -> batch.size() == 1));
+        verify(channel, never()).deliver(eq(NotificationChannelType.SMS), anyList());
+        NotificationDispatchStatsDto stats = dispatcher.getStats();
+        assertThat(stats.getDelivered()).isEqualTo(3);
+        assertThat(stats.getSkipped()).isEqualTo(1);
+        assertThat(stats.getQueued()).isZero();
+    }
+
+    @Test
+    void flush_WithLargeFanOut_ShouldResolvePreferencesPerChunkAndDeliverInBatches() throws Exception {
+        // Given
+        List<NotificationMessage> fanOut = new ArrayList<>();
+        for (long userId = 1; userId <= 10000; userId++) {
+            fanOut.add(announcement(userId, 7, "All hands"));
+        }
+
+        // When
+        int accepted = dispatcher.submitAll(fanOut);
+        dispatcher.flush();
+
+        // Then
+        assertThat(accepted).isEqualTo(10000);
+        verify(preferenceCache, times(2)).getAll(anyCollection());
+        verify(channel, times(20)).deliver(eq(NotificationChannelType.PUSH), argThat(batch -> batch.size() == 500));
+        assertThat(dispatcher.getStats().getDelivered()).isEqualTo(10000);
+    }
+
+    @Test
+    void submitAll_WhenQueueIsFull_ShouldRejectOverflowWithoutBlocking() {
+        // Given
+        dispatcher = new NotificationDispatcher(4);
+        ReflectionTestUtils.setField(dispatcher, "offerTimeoutMs", 0L);
+        List<NotificationMessage> messages = new ArrayList<>();
+        for (long userId = 1; userId <= 6; userId++) {
+            messages.add(announcement(userId, 1, "A"));
+        }
+
+        // When
+        int accepted = dispatcher.submitAll(messages);
+
+        // Then
+        assertThat(accepted).isEqualTo(4);
+        NotificationDispatchStatsDto stats = dispatcher.getStats();
+        assertThat(stats.getQueued()).isEqualTo(4);
+        assertThat(stats.getSubmitted()).isEqualTo(4);
+        assertThat(stats.getRejected()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_WhenChannelFails_ShouldRetryBatchThenDropAfterMaxAttempts() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("provider down"))
+            .doNothing()
+            .when(channel).deliver(eq(NotificationChannelType.PUSH), anyList());
+        dispatcher.submit(announcement(1L, 1, "A"));
+
+        // When
+        dispatcher.flush();
+        int pendingAfterFailure = dispatcher.getStats().getPendingRetryBatches();
+        dispatcher.flush();
+
+        // Then
+        assertThat(pendingAfterFailure).isEqualTo(1);
+        verify(channel, times(2)).deliver(eq(NotificationChannelType.PUSH), anyList());
+        assertThat(dispatcher.getStats().getDelivered()).isEqualTo(1);
+        assertThat(dispatcher.getStats().getRetried()).isEqualTo(1);
+
+        // Given
+        doThrow(new IllegalStateException("provider down")).when(channel).deliver(eq(NotificationChannelType.PUSH), anyList());
+        dispatcher.submit(announcement(2L, 1, "B"));
+
+        // When
+        dispatcher.flush();
+        dispatcher.flush();
+        dispatcher.flush();
+
+        // Then
+        NotificationDispatchStatsDto stats = dispatcher.getStats();
+        assertThat(stats.getFailed()).isEqualTo(1);
+        assertThat(stats.getPendingRetryBatches()).isZero();
+    }
+
+    private static NotificationMessage announcement(Long userId, int announcementId, String title) {
+        return new NotificationMessage(userId, NotificationService.ANNOUNCEMENT, "announcement:" + announcementId,
+            title, "Body of " + title);
+    }
+
+    private static NotificationPreferenceCache.UserChannels channels(Set<NotificationChannelType> enabled) {
+        return new NotificationPreferenceCache.UserChannels(Map.of(NotificationService.ANNOUNCEMENT, enabled));
+    }
+}
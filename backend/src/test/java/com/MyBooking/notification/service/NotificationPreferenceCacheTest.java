@@ -0,0 +1,87 @@
+package com.MyBooking.notification.service;
+
+import com.MyBooking.auth.repository.NotificationPreferenceRepository;
+import com.MyBooking.notification.domain.NotificationChannelType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationPreferenceCacheTest {
+
+    @Mock
+    private NotificationPreferenceRepository notificationPreferenceRepository;
+
+    @InjectMocks
+    private NotificationPreferenceCache preferenceCache;
+
+    @Test
+    void getAll_ShouldLoadMissesInOneQueryAndServeRepeatsFromCache() {
+        // Given
+        when(notificationPreferenceRepository.findChannelFlagsByUserIds(anyCollection())).thenReturn(List.of(
+            new Object[] { 1L, "ANNOUNCEMENT", true, false, true, true },
+            new Object[] { 2L, "ANNOUNCEMENT", true, true, true, false }));
+
+        // When
+        Map<Long, NotificationPreferenceCache.UserChannels> first = preferenceCache.getAll(List.of(1L, 2L, 3L));
+        Map<Long, NotificationPreferenceCache.UserChannels> second = preferenceCache.getAll(List.of(1L, 2L, 3L));
+
+        // Then
+        verify(notificationPreferenceRepository, times(1)).findChannelFlagsByUserIds(anyCollection());
+        assertThat(second).isEqualTo(first);
+        assertThat(first.get(1L).channelsFor("ANNOUNCEMENT"))
+            .containsExactlyInAnyOrder(NotificationChannelType.EMAIL, NotificationChannelType.PUSH);
+        assertThat(first.get(2L).channelsFor("ANNOUNCEMENT")).isEmpty();
+        assertThat(first.get(3L).channelsFor("ANNOUNCEMENT")).containsExactly(NotificationChannelType.PUSH);
+    }
+
+    @Test
+    void invalidate_ShouldReloadOnlyThatUser() {
+        // Given
+        when(notificationPreferenceRepository.findChannelFlagsByUserIds(anyCollection())).thenReturn(List.of());
+        preferenceCache.getAll(List.of(1L, 2L));
+
+        // When
+        preferenceCache.invalidate(1L);
+        preferenceCache.getAll(List.of(1L, 2L));
+
+        // Then
+        verify(notificationPreferenceRepository).findChannelFlagsByUserIds(List.of(1L, 2L));
+        verify(notificationPreferenceRepository).findChannelFlagsByUserIds(List.of(1L));
+    }
+
+    @Test
+    void invalidate_InTransaction_ShouldEvictOnlyAfterCommit() {
+        // Given
+        when(notificationPreferenceRepository.findChannelFlagsByUserIds(anyCollection())).thenReturn(List.of());
+        preferenceCache.getAll(List.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            preferenceCache.invalidate(1L);
+            preferenceCache.getAll(List.of(1L));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // Then: a batch before commit still reads the cached entry, the commit evicts it
+            verify(notificationPreferenceRepository, times(1)).findChannelFlagsByUserIds(anyCollection());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            assertThat(preferenceCache.size()).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
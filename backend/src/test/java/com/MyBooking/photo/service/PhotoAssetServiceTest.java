@@ -0,0 +1,174 @@
+package com.MyBooking.photo.service;
+
+import com.MyBooking.common.exception.BusinessRuleException;
+import com.MyBooking.photo.domain.PhotoAsset;
+import com.MyBooking.photo.domain.PhotoAssetStatus;
+import com.MyBooking.photo.repository.PhotoAssetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PhotoAssetServiceTest {
+
+    @Mock
+    private PhotoAssetRepository photoAssetRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PhotoAssetService photoAssetService;
+
+    @TempDir
+    Path storageDir;
+
+    private PhotoStorage photoStorage;
+
+    @BeforeEach
+    void setUp() {
+        photoStorage = new PhotoStorage();
+        ReflectionTestUtils.setField(photoStorage, "storageDir", storageDir.toString());
+        ReflectionTestUtils.setField(photoAssetService, "photoStorage", photoStorage);
+        ReflectionTestUtils.setField(photoAssetService, "executor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(photoAssetService, "thumbnailWidths", List.of(160, 480));
+        when(photoAssetRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(photoAssetRepository.saveAndFlush(any(PhotoAsset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void ingest_ShouldStoreOriginalByHashAndGenerateThumbnails() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "room.png", "image/png", png(800, 600));
+
+        // When
+        PhotoAsset asset = photoAssetService.ingest(file);
+
+        // Then
+        assertThat(asset.getHash()).hasSize(64);
+        assertThat(asset.getContentType()).isEqualTo("image/png");
+        assertThat(asset.getWidth()).isEqualTo(800);
+        assertThat(asset.getHeight()).isEqualTo(600);
+        assertThat(photoStorage.original(asset.getHash())).exists().hasFileName("original.png");
+        BufferedImage small = ImageIO.read(photoStorage.thumbnail(asset.getHash(), 160).toFile());
+        assertThat(small.getWidth()).isEqualTo(160);
+        assertThat(small.getHeight()).isEqualTo(120);
+        assertThat(photoStorage.thumbnail(asset.getHash(), 480)).exists();
+        verify(photoAssetRepository).updateStatus(eq(asset.getHash()), eq(PhotoAssetStatus.READY), any());
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void ingest_WithAlreadyStoredFile_ShouldReuseTheAsset() throws IOException {
+        // Given
+        byte[] bytes = png(300, 200);
+        PhotoAsset first = photoAssetService.ingest(new MockMultipartFile("file", "a.png", "image/png", bytes));
+        first.setStatus(PhotoAssetStatus.READY);
+        when(photoAssetRepository.findById(first.getHash())).thenReturn(Optional.of(first));
+        clearInvocations(photoAssetRepository);
+
+        // When
+        PhotoAsset second = photoAssetService.ingest(new MockMultipartFile("file", "b.png", "image/png", bytes));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(photoAssetRepository, never()).saveAndFlush(any());
+        verify(photoAssetRepository, never()).updateStatus(any(), any(), any());
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void ingest_WithNonImage_ShouldRejectAndLeaveNothingOnDisk() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "notes.txt", "image/png", "not an image".getBytes());
+
+        // When / Then
+        assertThatThrownBy(() -> photoAssetService.ingest(file))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("JPEG or PNG");
+        verify(photoAssetRepository, never()).saveAndFlush(any());
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void ingest_WhenOverMaxSize_ShouldReject() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(photoAssetService, "maxUploadBytes", 100L);
+        MockMultipartFile file = new MockMultipartFile("file", "room.png", "image/png", png(400, 400));
+
+        // When / Then
+        assertThatThrownBy(() -> photoAssetService.ingest(file))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("maximum size");
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void resolve_ShouldFallBackToOriginalUntilThumbnailExists() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(photoAssetService, "executor", (Executor) task -> { });
+        PhotoAsset asset = photoAssetService.ingest(new MockMultipartFile("file", "room.png", "image/png", png(640, 480)));
+
+        // When
+        PhotoAssetService.PhotoFile pending = photoAssetService.resolve(asset.getHash(), 160);
+        photoAssetService.generateThumbnails(asset.getHash());
+        PhotoAssetService.PhotoFile ready = photoAssetService.resolve(asset.getHash(), 160);
+
+        // Then
+        assertThat(pending.getPath().getFileName().toString()).isEqualTo("original.png");
+        assertThat(pending.isImmutable()).isFalse();
+        assertThat(ready.getPath().getFileName().toString()).isEqualTo("w160.jpg");
+        assertThat(ready.getContentType()).isEqualTo("image/jpeg");
+        assertThat(ready.isImmutable()).isTrue();
+        assertThatThrownBy(() -> photoAssetService.resolve(asset.getHash(), 333))
+            .isInstanceOf(BusinessRuleException.class);
+    }
+
+    private List<Path> tempFiles() throws IOException {
+        Path temp = storageDir.resolve("tmp");
+        if (!Files.isDirectory(temp)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(temp)) {
+            return files.toList();
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.BLUE);
+        g.fillRect(0, 0, width / 2, height);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
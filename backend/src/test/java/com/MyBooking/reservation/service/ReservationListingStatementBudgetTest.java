@@ -0,0 +1,103 @@
+package com.MyBooking.reservation.service;
+
+import com.MyBooking.auth.domain.Role;
+import com.MyBooking.auth.domain.User;
+import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.common.jdbc.H2JpaTestDatabase;
+import com.MyBooking.reservation.domain.Reservation;
+import com.MyBooking.reservation.domain.ReservationStatus;
+import com.MyBooking.reservation.dto.ReservationResponseDto;
+import com.MyBooking.reservation.dto.ReservationSearchCriteriaDto;
+import com.MyBooking.reservation.repository.ReservationRepository;
+import com.MyBooking.room.domain.Room;
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomType;
+import com.MyBooking.room.repository.RoomRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.MyBooking.common.metrics.SqlStatementAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Statement budget of the reservation listings, counted by the Hibernate statement inspector on a real (H2) session.
+ * Every reservation has its own client and room, so a lazy load per row would blow the budget.
+ */
+class ReservationListingStatementBudgetTest {
+
+    private static final int RESERVATIONS = 12;
+
+    private static H2JpaTestDatabase database;
+    private static ReservationService reservationService;
+    private static Long firstClientId;
+
+    @BeforeAll
+    static void setUp() {
+        database = new H2JpaTestDatabase();
+        ReservationRepository reservationRepository = database.repository(ReservationRepository.class);
+        UserRepository userRepository = database.repository(UserRepository.class);
+        RoomRepository roomRepository = database.repository(RoomRepository.class);
+
+        reservationService = new ReservationService();
+        ReflectionTestUtils.setField(reservationService, "reservationRepository", reservationRepository);
+
+        firstClientId = database.transaction().execute(status -> {
+            Long clientId = null;
+            for (int i = 0; i < RESERVATIONS; i++) {
+                User client = userRepository.save(new User("Client", "N" + i, "client" + i + "@example.com", "password123",
+                    "+3360000000" + i, i + " rue de Paris", LocalDate.of(1990, 1, 1), Role.CLIENT));
+                Room room = roomRepository.save(new Room("R" + i, RoomType.DOUBLE, 2, new BigDecimal("100.00"), "EUR",
+                    RoomStatus.AVAILABLE));
+                reservationRepository.save(new Reservation(LocalDate.of(2026, 11, 1).plusDays(i), LocalDate.of(2026, 11, 3).plusDays(i),
+                    2, new BigDecimal("200.00"), "EUR", ReservationStatus.CONFIRMED, client, room));
+                if (clientId == null) {
+                    clientId = client.getId();
+                }
+            }
+            return clientId;
+        });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void getAllReservationsAsDto_ShouldLoadClientsAndRoomsWithThePage() {
+        Page<ReservationResponseDto> page = database.transaction().execute(status ->
+            assertMaxStatements(2, () -> reservationService.getAllReservationsAsDto(PageRequest.of(0, 10))));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(RESERVATIONS);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getRoomNumber()).startsWith("R"));
+    }
+
+    @Test
+    void searchAllReservationsAsDto_ShouldStayWithinBudget() {
+        ReservationSearchCriteriaDto criteria = new ReservationSearchCriteriaDto();
+        criteria.setStatus(ReservationStatus.CONFIRMED);
+
+        Page<ReservationResponseDto> page = database.transaction().execute(status ->
+            assertMaxStatements(2, () -> reservationService.searchAllReservationsAsDto(criteria, PageRequest.of(0, 20))));
+
+        assertThat(page.getContent()).hasSize(RESERVATIONS);
+        assertThat(page.getContent()).extracting(ReservationResponseDto::getClientEmail).doesNotContainNull();
+    }
+
+    @Test
+    void getReservationsByClientId_ShouldStayWithinBudget() {
+        Page<ReservationResponseDto> page = database.transaction().execute(status ->
+            assertMaxStatements(2, () -> reservationService.getReservationsByClientId(firstClientId, PageRequest.of(0, 20))));
+
+        assertThat(page.getContent()).singleElement()
+            .satisfies(dto -> assertThat(dto.getClientEmail()).isEqualTo("client0@example.com"));
+    }
+}
@@ -11,6 +11,7 @@ import com.MyBooking.room.service.RoomService;
 import com.MyBooking.auth.domain.User;
 import com.MyBooking.auth.domain.Role;
 import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.common.events.DomainEvent;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -50,6 +52,9 @@ class ReservationServiceTest {
     @Mock
     private RoomService roomService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private ReservationService reservationService;
     
@@ -317,6 +322,8 @@ class ReservationServiceTest {
         verify(reservationRepository).findById(1L);
         verify(reservationRepository).save(testReservation);
         verify(roomService).updateRoomStatusAutomatically(eq(1L), eq(RoomStatus.AVAILABLE), anyString());
+        verify(eventPublisher).publishEvent(argThat((DomainEvent event) -> "RESERVATION_CANCELLED".equals(event.getType())
+            && event.getEntityId().equals(testReservation.getId())));
     }
 
     @Test
@@ -0,0 +1,99 @@
+package com.MyBooking.room.service;
+
+import com.MyBooking.auth.domain.Role;
+import com.MyBooking.auth.domain.User;
+import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.common.jdbc.H2JpaTestDatabase;
+import com.MyBooking.common.mapper.PageResponse;
+import com.MyBooking.reservation.domain.Reservation;
+import com.MyBooking.reservation.domain.ReservationStatus;
+import com.MyBooking.reservation.repository.ReservationRepository;
+import com.MyBooking.room.domain.Room;
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomType;
+import com.MyBooking.room.dto.RoomSummaryDto;
+import com.MyBooking.room.repository.RoomRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.MyBooking.common.metrics.SqlStatementAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Statement budget of the room listings behind GET /api/rooms, counted by the Hibernate statement inspector
+ * on a real (H2) session: one page query and one count, however many rooms are booked.
+ */
+class RoomListingStatementBudgetTest {
+
+    private static final int ROOMS = 15;
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 12, 1);
+
+    private static H2JpaTestDatabase database;
+    private static RoomService roomService;
+
+    @BeforeAll
+    static void setUp() {
+        database = new H2JpaTestDatabase();
+        RoomRepository roomRepository = database.repository(RoomRepository.class);
+        ReservationRepository reservationRepository = database.repository(ReservationRepository.class);
+        UserRepository userRepository = database.repository(UserRepository.class);
+
+        roomService = new RoomService();
+        ReflectionTestUtils.setField(roomService, "roomRepository", roomRepository);
+
+        // Every third room is booked over the searched stay
+        database.transaction().executeWithoutResult(status -> {
+            User client = userRepository.save(new User("Client", "Budget", "budget@example.com", "password123",
+                "+33600000000", "1 rue de Paris", LocalDate.of(1990, 1, 1), Role.CLIENT));
+            for (int i = 0; i < ROOMS; i++) {
+                Room room = roomRepository.save(new Room("R" + i, i % 2 == 0 ? RoomType.DOUBLE : RoomType.SINGLE, 2,
+                    new BigDecimal("100.00").add(BigDecimal.valueOf(i)), "EUR", RoomStatus.AVAILABLE));
+                if (i % 3 == 0) {
+                    reservationRepository.save(new Reservation(CHECK_IN, CHECK_IN.plusDays(2), 2, new BigDecimal("200.00"),
+                        "EUR", ReservationStatus.CONFIRMED, client, room));
+                }
+            }
+        });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void getRoomsByCriteria_MappedToSummaries_ShouldStayWithinBudget() {
+        PageResponse<RoomSummaryDto> page = database.transaction().execute(status -> assertMaxStatements(2, () ->
+            PageResponse.from(roomService.getRoomsByCriteria(null, 2, new BigDecimal("500.00"), RoomStatus.AVAILABLE,
+                PageRequest.of(0, 10)), roomService::toSummaryDto)));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(ROOMS);
+    }
+
+    @Test
+    void getAvailableRoomsForDateRange_ShouldExcludeBookedRoomsInOneQuery() {
+        PageResponse<RoomSummaryDto> page = database.transaction().execute(status -> assertMaxStatements(2, () ->
+            PageResponse.from(roomService.getAvailableRoomsForDateRange(CHECK_IN, CHECK_IN.plusDays(1), PageRequest.of(0, 20)),
+                roomService::toSummaryDto)));
+
+        assertThat(page.getContent()).hasSize(ROOMS - 5);
+        assertThat(page.getContent()).extracting(RoomSummaryDto::getNumber).doesNotContain("R0", "R3", "R6", "R9", "R12");
+    }
+
+    @Test
+    void getAvailableRoomsForDateRangeWithFilters_ShouldStayWithinBudget() {
+        PageResponse<RoomSummaryDto> page = database.transaction().execute(status -> assertMaxStatements(2, () ->
+            PageResponse.from(roomService.getAvailableRoomsForDateRangeWithFilters(CHECK_IN, CHECK_IN.plusDays(1),
+                RoomType.DOUBLE, 2, PageRequest.of(0, 5)), roomService::toSummaryDto)));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).extracting(RoomSummaryDto::getRoomType).containsOnly(RoomType.DOUBLE);
+    }
+}
@@ -8,14 +8,20 @@ import com.MyBooking.reservation.repository.ReservationRepository;
 import com.MyBooking.auth.domain.User;
 import com.MyBooking.auth.domain.Role;
 import com.MyBooking.auth.repository.UserRepository;
+import com.MyBooking.common.events.DomainEvent;
 import com.MyBooking.common.exception.BusinessRuleException;
 import com.MyBooking.common.exception.NotFoundException;
+import com.MyBooking.common.mapper.PageResponse;
+import com.MyBooking.photo.domain.PhotoAsset;
+import com.MyBooking.photo.service.PhotoAssetService;
+import com.MyBooking.room.dto.RoomSummaryDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -53,6 +59,15 @@ class RoomServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RoomStatusTimelineService roomStatusTimelineService;
+
+    @Mock
+    private PhotoAssetService photoAssetService;
+    
     @InjectMocks
     private RoomService roomService;
     
@@ -317,6 +332,8 @@ class RoomServiceTest {
         verify(roomRepository).findById(roomId);
         verify(roomRepository).save(testRoom);
         verify(roomStatusUpdateRepository).save(any(RoomStatusUpdate.class));
+        verify(eventPublisher).publishEvent(argThat((DomainEvent event) -> DomainEvent.ROOMS.equals(event.getTopic())
+            && event.getData().get("status") == RoomStatus.OUT_OF_SERVICE));
     }
 
     // ========== AUTOMATIC STATUS UPDATE TESTS ==========
@@ -374,6 +391,7 @@ class RoomServiceTest {
         // Given
         Long roomId = 1L;
         String reason = "Guest checked out - Reservation ID: 123";
+        testRoom.setStatus(RoomStatus.OCCUPIED);
         
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
         when(roomRepository.save(any(Room.class))).thenReturn(testRoom);
@@ -389,6 +407,24 @@ class RoomServiceTest {
         verify(roomStatusUpdateRepository).save(any(RoomStatusUpdate.class));
     }
 
+    @Test
+    void markRoomAsOccupiedAutomatically_WhenAlreadyOccupied_ShouldOnlyRecordTimelineTransition() {
+        // Given
+        Long roomId = 1L;
+        testRoom.setStatus(RoomStatus.OCCUPIED);
+        
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
+        when(roomRepository.save(any(Room.class))).thenReturn(testRoom);
+        
+        // When
+        roomService.markRoomAsOccupiedAutomatically(roomId, "Reservation created");
+        
+        // Then
+        verify(roomStatusUpdateRepository, never()).save(any(RoomStatusUpdate.class));
+        verify(roomStatusTimelineService).recordTransition(eq(testRoom), eq(RoomStatus.OCCUPIED), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
     // ========== EQUIPMENT MANAGEMENT TESTS ==========
     
     @Test
@@ -474,8 +510,58 @@ class RoomServiceTest {
         verify(roomPhotoRepository, times(2)).save(any(RoomPhoto.class)); // Unset old + set new
     }
 
+    @Test
+    void addUploadedRoomPhoto_AsPrimary_ShouldPointRoomListingAtThumbnail() {
+        // Given
+        Long roomId = 1L;
+        String hash = "ab".repeat(32);
+        PhotoAsset asset = new PhotoAsset(hash, "image/jpeg", 2_500_000L, 4000, 3000);
+
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
+        when(roomPhotoRepository.findByRoomAndIsPrimaryTrue(testRoom)).thenReturn(Optional.empty());
+        when(roomPhotoRepository.findNextDisplayOrderForRoom(testRoom)).thenReturn(3);
+        when(roomPhotoRepository.save(any(RoomPhoto.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(photoAssetService.originalUrl(hash)).thenReturn("/api/photos/" + hash);
+        when(photoAssetService.listingUrl(hash)).thenReturn("/api/photos/" + hash + "?w=480");
+
+        // When
+        RoomPhoto result = roomService.addUploadedRoomPhoto(roomId, asset, "lobby.jpg", "Lobby", true);
+
+        // Then
+        assertThat(result.getAssetHash()).isEqualTo(hash);
+        assertThat(result.getPhotoUrl()).isEqualTo("/api/photos/" + hash);
+        assertThat(result.getDisplayOrder()).isEqualTo(3);
+        assertThat(result.getFileSize()).isEqualTo(2_500_000L);
+        assertThat(testRoom.getThumbnailUrl()).isEqualTo("/api/photos/" + hash + "?w=480");
+        verify(roomRepository).save(testRoom);
+    }
+
     // ========== SEARCH AND FILTERING TESTS ==========
     
+    @Test
+    void getRoomsByCriteria_MappedToSummaries_ShouldKeepListFieldsAndPaging() {
+        // Given
+        testRoom.setThumbnailUrl("/api/photos/abc?w=480");
+        Pageable pageable = PageRequest.of(1, 1);
+        when(roomRepository.findByCriteria(RoomType.DELUXE, null, null, null, pageable))
+            .thenReturn(new PageImpl<>(List.of(testRoom), pageable, 3));
+
+        // When
+        PageResponse<RoomSummaryDto> page = PageResponse.from(
+            roomService.getRoomsByCriteria(RoomType.DELUXE, null, null, null, pageable), roomService::toSummaryDto);
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getNumber()).isEqualTo(1);
+        RoomSummaryDto summary = page.getContent().get(0);
+        assertThat(summary.getId()).isEqualTo(1L);
+        assertThat(summary.getNumber()).isEqualTo("101");
+        assertThat(summary.getPrice()).isEqualByComparingTo("150.00");
+        assertThat(summary.getDescription()).isEqualTo("Deluxe room with ocean view");
+        assertThat(summary.getThumbnailUrl()).isEqualTo("/api/photos/abc?w=480");
+    }
+
     @Test
     void getRoomsByType_ShouldReturnRoomsOfSpecifiedType() {
         // Given
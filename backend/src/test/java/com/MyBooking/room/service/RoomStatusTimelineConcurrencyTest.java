@@ -0,0 +1,102 @@
+package com.MyBooking.room.service;
+
+import com.MyBooking.common.jdbc.H2JpaTestDatabase;
+import com.MyBooking.room.domain.Room;
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomStatusInterval;
+import com.MyBooking.room.domain.RoomType;
+import com.MyBooking.room.repository.RoomRepository;
+import com.MyBooking.room.repository.RoomStatusIntervalRepository;
+import com.MyBooking.room.repository.RoomStatusUpdateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Concurrent status transitions of one room against a real (H2) database: the timeline must stay one chain
+ */
+class RoomStatusTimelineConcurrencyTest {
+
+    private static final int WRITERS = 8;
+
+    private H2JpaTestDatabase database;
+    private RoomRepository roomRepository;
+    private RoomStatusIntervalRepository intervalRepository;
+    private RoomStatusTimelineService timelineService;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        database = new H2JpaTestDatabase();
+        roomRepository = database.repository(RoomRepository.class);
+        intervalRepository = database.repository(RoomStatusIntervalRepository.class);
+
+        timelineService = new RoomStatusTimelineService();
+        ReflectionTestUtils.setField(timelineService, "intervalRepository", intervalRepository);
+        ReflectionTestUtils.setField(timelineService, "roomStatusUpdateRepository", database.repository(RoomStatusUpdateRepository.class));
+        ReflectionTestUtils.setField(timelineService, "roomRepository", roomRepository);
+        ReflectionTestUtils.setField(timelineService, "transactionManager", database.getTransactionManager());
+
+        roomId = database.transaction().execute(status -> roomRepository.save(
+            new Room("101", RoomType.DOUBLE, 2, new BigDecimal("120.00"), "EUR", RoomStatus.AVAILABLE)).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void recordTransition_ConcurrentTransitionsOfSameRoom_ShouldKeepOneOpenIntervalAndCountEveryTransition() throws Exception {
+        // Given: the room has no timeline yet, so the first writer rebuilds it
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            RoomStatus target = i % 2 == 0 ? RoomStatus.OCCUPIED : RoomStatus.OUT_OF_SERVICE;
+            writers.add(executor.submit(() -> {
+                start.await();
+                database.transaction().executeWithoutResult(status -> {
+                    Room room = roomRepository.findById(roomId).orElseThrow();
+                    RoomStatus oldStatus = room.getStatus();
+                    room.setStatus(target);
+                    timelineService.recordTransition(room, oldStatus, LocalDateTime.now());
+                });
+                return null;
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        List<RoomStatusInterval> intervals = database.transaction().execute(status -> intervalRepository.findAll());
+        intervals.sort(Comparator.comparing(RoomStatusInterval::getValidFrom));
+        assertThat(intervals).filteredOn(RoomStatusInterval::isOpen).hasSize(1);
+        assertThat(intervals.get(intervals.size() - 1).isOpen()).isTrue();
+        for (int i = 1; i < intervals.size(); i++) {
+            assertThat(intervals.get(i).getValidFrom()).isEqualTo(intervals.get(i - 1).getValidTo());
+        }
+        assertThat(intervals.stream().mapToInt(RoomStatusInterval::getTransitions).sum()).isEqualTo(WRITERS);
+        RoomStatus finalStatus = database.transaction().execute(status -> roomRepository.findById(roomId).orElseThrow().getStatus());
+        assertThat(intervals.get(intervals.size() - 1).getStatus()).isEqualTo(finalStatus);
+    }
+}
@@ -0,0 +1,174 @@
+package com.MyBooking.room.service;
+
+import com.MyBooking.room.domain.Room;
+import com.MyBooking.room.domain.RoomStatus;
+import com.MyBooking.room.domain.RoomStatusInterval;
+import com.MyBooking.room.domain.RoomStatusUpdate;
+import com.MyBooking.room.dto.RoomStatusDurationDto;
+import com.MyBooking.room.dto.RoomStatusIntervalDto;
+import com.MyBooking.room.repository.RoomRepository;
+import com.MyBooking.room.repository.RoomStatusIntervalRepository;
+import com.MyBooking.room.repository.RoomStatusUpdateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RoomStatusTimelineServiceTest {
+
+    @Mock
+    private RoomStatusIntervalRepository intervalRepository;
+
+    @Mock
+    private RoomStatusUpdateRepository roomStatusUpdateRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RoomStatusTimelineService timelineService;
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room();
+        room.setId(1L);
+        room.setCreatedAt(T0);
+        room.setStatus(RoomStatus.AVAILABLE);
+        when(intervalRepository.existsByRoomId(1L)).thenReturn(true);
+    }
+
+    @Test
+    void rebuild_ShouldFoldRawLogIntoIntervalsAndMergeNoOpUpdates() {
+        // Given
+        room.setStatus(RoomStatus.OUT_OF_SERVICE);
+        when(roomStatusUpdateRepository.findByRoomIdOrderByUpdatedAtAsc(1L)).thenReturn(List.of(
+            update(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED, T0.plusDays(1)),
+            update(RoomStatus.OCCUPIED, RoomStatus.OCCUPIED, T0.plusDays(2)),
+            update(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE, T0.plusDays(3)),
+            update(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED, T0.plusDays(3))));
+
+        // When
+        List<RoomStatusInterval> intervals = timelineService.rebuild(room, RoomStatus.AVAILABLE, T0.plusDays(5));
+
+        // Then
+        assertThat(intervals).extracting(RoomStatusInterval::getStatus)
+            .containsExactly(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED, RoomStatus.OUT_OF_SERVICE);
+        assertThat(intervals).extracting(RoomStatusInterval::getValidFrom)
+            .containsExactly(T0, T0.plusDays(1), T0.plusDays(5));
+        assertThat(intervals.get(1).getValidTo()).isEqualTo(T0.plusDays(5));
+        assertThat(intervals.get(1).getTransitions()).isEqualTo(4);
+        assertThat(intervals.get(2).isOpen()).isTrue();
+    }
+
+    @Test
+    void recordTransition_ShouldCloseOpenIntervalBeforeOpeningTheNextOne() {
+        // Given
+        RoomStatusInterval open = interval(RoomStatus.AVAILABLE, T0, null);
+        when(intervalRepository.findByRoomIdAndValidToIsNull(1L)).thenReturn(Optional.of(open));
+        room.setStatus(RoomStatus.OCCUPIED);
+
+        // When
+        timelineService.recordTransition(room, RoomStatus.AVAILABLE, T0.plusHours(3));
+
+        // Then
+        var inOrder = inOrder(intervalRepository);
+        inOrder.verify(intervalRepository).saveAndFlush(argThat(closed -> T0.plusHours(3).equals(closed.getValidTo())));
+        ArgumentCaptor<RoomStatusInterval> opened = ArgumentCaptor.forClass(RoomStatusInterval.class);
+        inOrder.verify(intervalRepository).save(opened.capture());
+        assertThat(opened.getValue().getStatus()).isEqualTo(RoomStatus.OCCUPIED);
+        assertThat(opened.getValue().getValidFrom()).isEqualTo(T0.plusHours(3));
+        assertThat(opened.getValue().isOpen()).isTrue();
+    }
+
+    @Test
+    void recordTransition_WithUnchangedStatus_ShouldOnlyCountIt() {
+        // Given
+        RoomStatusInterval open = interval(RoomStatus.AVAILABLE, T0, null);
+        when(intervalRepository.findByRoomIdAndValidToIsNull(1L)).thenReturn(Optional.of(open));
+
+        // When
+        timelineService.recordTransition(room, RoomStatus.AVAILABLE, T0.plusHours(3));
+
+        // Then
+        assertThat(open.getTransitions()).isEqualTo(2);
+        assertThat(open.isOpen()).isTrue();
+        verify(intervalRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void getStatusDurations_ShouldClipIntervalsToThePeriod() {
+        // Given
+        LocalDateTime from = T0.plusDays(1);
+        LocalDateTime to = T0.plusDays(4);
+        when(intervalRepository.findFirstByRoomIdAndValidFromLessThanEqualOrderByValidFromDesc(1L, from))
+            .thenReturn(Optional.of(interval(RoomStatus.AVAILABLE, T0, T0.plusDays(2))));
+        when(intervalRepository.findStartingBetween(1L, T0, to)).thenReturn(List.of(
+            interval(RoomStatus.AVAILABLE, T0, T0.plusDays(2)),
+            interval(RoomStatus.OUT_OF_SERVICE, T0.plusDays(2), T0.plusDays(3)),
+            interval(RoomStatus.AVAILABLE, T0.plusDays(3), null)));
+
+        // When
+        RoomStatusDurationDto result = timelineService.getStatusDurations(1L, from, to);
+
+        // Then
+        assertThat(result.getSecondsByStatus().get(RoomStatus.AVAILABLE)).isEqualTo(2 * 86400L);
+        assertThat(result.getSecondsByStatus().get(RoomStatus.OUT_OF_SERVICE)).isEqualTo(86400L);
+        assertThat(result.getSecondsByStatus().get(RoomStatus.OCCUPIED)).isZero();
+        assertThat(result.getUntrackedSeconds()).isZero();
+        assertThat(result.getTransitions()).isEqualTo(2);
+    }
+
+    @Test
+    void getStatusAt_ShouldReturnIntervalStartingLastBeforeThatTime() {
+        // Given
+        LocalDateTime at = T0.plusDays(2).plusHours(5);
+        when(intervalRepository.findFirstByRoomIdAndValidFromLessThanEqualOrderByValidFromDesc(1L, at))
+            .thenReturn(Optional.of(interval(RoomStatus.OUT_OF_SERVICE, T0.plusDays(2), T0.plusDays(3))));
+
+        // When
+        RoomStatusIntervalDto result = timelineService.getStatusAt(1L, at);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(RoomStatus.OUT_OF_SERVICE);
+        assertThat(result.getValidTo()).isEqualTo(T0.plusDays(3));
+        verify(roomStatusUpdateRepository, never()).findByRoomIdOrderByUpdatedAtAsc(anyLong());
+    }
+
+    private RoomStatusUpdate update(RoomStatus previous, RoomStatus next, LocalDateTime at) {
+        RoomStatusUpdate update = new RoomStatusUpdate();
+        update.setRoom(room);
+        update.setPreviousStatus(previous);
+        update.setNewStatus(next);
+        update.setUpdatedAt(at);
+        return update;
+    }
+
+    private static RoomStatusInterval interval(RoomStatus status, LocalDateTime from, LocalDateTime to) {
+        RoomStatusInterval interval = new RoomStatusInterval(1L, status, from, 1);
+        interval.setValidTo(to);
+        return interval;
+    }
+}
@@ -1,13 +0,0 @@
-package com.MyBooking.hotel_management;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication
-public class HotelManagementApplication {
-
-	public static void main(String[] args) {
-		SpringApplication.run(HotelManagementApplication.class, args);
-	}
-
-}
@@ -1,13 +0,0 @@
-package com.MyBooking.hotel_management;
-
-import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-
-@SpringBootTest
-class HotelManagementApplicationTests {
-
-	@Test
-	void contextLoads() {
-	}
-
-}